@@ -5,13 +5,27 @@ import dev.langchain4j.agent.tool.Tool;
 import dev.langchain4j.code.CodeExecutionEngine;
 import dev.langchain4j.code.graalvm.GraalVmJavaScriptExecutionEngine;
 
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
 /**
  * A tool that executes provided JavaScript code using GraalVM Polyglot/Truffle.
  * Attention! It might be dangerous to execute the code, see {@link GraalVmJavaScriptExecutionEngine} for more details.
  */
 public class GraalVmJavaScriptExecutionTool {
 
-    private final CodeExecutionEngine engine = new GraalVmJavaScriptExecutionEngine();
+    private final CodeExecutionEngine engine;
+
+    public GraalVmJavaScriptExecutionTool() {
+        this(new GraalVmJavaScriptExecutionEngine());
+    }
+
+    /**
+     * @param engine the engine executing the code, e.g. one sharing its contexts between executions,
+     *               see {@link GraalVmJavaScriptExecutionEngine#builder()}.
+     */
+    public GraalVmJavaScriptExecutionTool(GraalVmJavaScriptExecutionEngine engine) {
+        this.engine = ensureNotNull(engine, "engine");
+    }
 
     @Tool("MUST be used for accurate calculations: math, sorting, filtering, aggregating, string processing, etc")
     public String executeJavaScriptCode(@P("JavaScript code to execute, result MUST be returned by the code") String code) {
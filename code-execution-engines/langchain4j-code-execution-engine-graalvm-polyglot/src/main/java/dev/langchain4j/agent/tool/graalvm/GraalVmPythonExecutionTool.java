@@ -5,13 +5,27 @@ import dev.langchain4j.agent.tool.Tool;
 import dev.langchain4j.code.CodeExecutionEngine;
 import dev.langchain4j.code.graalvm.GraalVmPythonExecutionEngine;
 
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
 /**
  * A tool that executes provided Python code using GraalVM Polyglot/Truffle.
  * Attention! It might be dangerous to execute the code, see {@link GraalVmPythonExecutionEngine} for more details.
  */
 public class GraalVmPythonExecutionTool {
 
-    private final CodeExecutionEngine engine = new GraalVmPythonExecutionEngine();
+    private final CodeExecutionEngine engine;
+
+    public GraalVmPythonExecutionTool() {
+        this(new GraalVmPythonExecutionEngine());
+    }
+
+    /**
+     * @param engine the engine executing the code, e.g. one sharing its contexts between executions,
+     *               see {@link GraalVmPythonExecutionEngine#builder()}.
+     */
+    public GraalVmPythonExecutionTool(GraalVmPythonExecutionEngine engine) {
+        this.engine = ensureNotNull(engine, "engine");
+    }
 
     @Tool("MUST be used for accurate calculations: math, sorting, filtering, aggregating, string processing, etc")
     public String executePythonCode(@P("Python code to execute, result MUST be returned by the code") String code) {
@@ -0,0 +1,218 @@
+package dev.langchain4j.code.graalvm;
+
+import dev.langchain4j.exception.TimeoutException;
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
+import org.graalvm.polyglot.HostAccess;
+import org.graalvm.polyglot.PolyglotException;
+import org.graalvm.polyglot.ResourceLimits;
+import org.graalvm.polyglot.SandboxPolicy;
+import org.graalvm.polyglot.Value;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Creates, limits and recycles the {@link Context}s in which the code of a GraalVM execution engine is evaluated.
+ * <p>
+ * When no {@link Engine} is shared and pooling is disabled, a fresh context (with its own engine) is created
+ * for each execution, which is the most isolated, but also the slowest, option.
+ * When an {@link Engine} is shared, the code parsed and compiled by one context is reused by the next ones.
+ * When pooling is enabled, up to {@code maxPoolSize} idle contexts are kept and reused, saving the initialization
+ * of the language. Between two executions, the global bindings created by the code are removed, and a context
+ * that cannot be reset this way, was cancelled, or exceeded its limits, is closed instead of being returned to the pool.
+ * <p>
+ * A pooled context is therefore less isolated than a fresh one: only the new global bindings are removed,
+ * so changes to built-in objects (e.g. JavaScript prototypes), to the values of the initial global bindings,
+ * and to imported modules (e.g. {@code sys} in Python) remain visible to the next executions in that context.
+ * Pooling must only be used when the code of an execution cannot harm the next ones; sharing an {@link Engine}
+ * without pooling still gives each execution a fresh context, while reusing the compiled code.
+ */
+class GraalVmContextPool implements AutoCloseable {
+
+    private static final ScheduledExecutorService TIMEOUT_SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "graalvm-code-execution-timeout");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final String languageId;
+    private final SandboxPolicy sandboxPolicy;
+    private final Engine engine;
+    private final boolean ownsEngine;
+    private final BlockingQueue<PooledContext> idleContexts;
+    private final Long statementLimit;
+    private final Duration timeout;
+    private final Map<String, String> options;
+
+    GraalVmContextPool(String languageId,
+                       SandboxPolicy sandboxPolicy,
+                       Engine engine,
+                       Boolean shareEngine,
+                       Integer maxPoolSize,
+                       Boolean warmUp,
+                       Long statementLimit,
+                       Duration timeout,
+                       Map<String, String> options) {
+        this.languageId = languageId;
+        this.sandboxPolicy = sandboxPolicy;
+        int poolSize = ensureBetween(getOrDefault(maxPoolSize, 0), 0, Integer.MAX_VALUE, "maxPoolSize");
+        this.statementLimit = statementLimit == null
+                ? null
+                : ensureBetween(statementLimit, 1, Long.MAX_VALUE, "statementLimit");
+        this.timeout = timeout;
+        this.options = getOrDefault(options, Map.of());
+        if (engine != null) {
+            this.engine = engine;
+            this.ownsEngine = false;
+        } else if (poolSize > 0 || Boolean.TRUE.equals(shareEngine)) {
+            this.engine = Engine.newBuilder(languageId)
+                    .sandbox(sandboxPolicy)
+                    .out(OutputStream.nullOutputStream())
+                    .err(OutputStream.nullOutputStream())
+                    .build();
+            this.ownsEngine = true;
+        } else {
+            this.engine = null;
+            this.ownsEngine = false;
+        }
+        this.idleContexts = poolSize > 0 ? new ArrayBlockingQueue<>(poolSize) : null;
+        if (idleContexts != null && Boolean.TRUE.equals(warmUp)) {
+            for (int i = 0; i < poolSize; i++) {
+                idleContexts.add(newContext());
+            }
+        }
+    }
+
+    String execute(String code) {
+        PooledContext pooledContext = acquire();
+        ScheduledFuture<?> cancellation = timeout == null
+                ? null
+                : TIMEOUT_SCHEDULER.schedule(() -> pooledContext.context.close(true), timeout.toMillis(), MILLISECONDS);
+        boolean reusable = false;
+        try {
+            Object result = pooledContext.context.eval(languageId, code).as(Object.class);
+            // the result may be backed by the context, so it is converted before the context is reused
+            String output = String.valueOf(result);
+            reusable = true;
+            return output;
+        } catch (PolyglotException e) {
+            if (e.isCancelled() && timeout != null) {
+                throw new TimeoutException("Code execution did not complete within " + timeout, e);
+            }
+            reusable = !e.isCancelled() && !e.isResourceExhausted() && !e.isExit() && !e.isInternalError();
+            throw e;
+        } finally {
+            if (cancellation != null && !cancellation.cancel(false)) {
+                reusable = false;
+            }
+            release(pooledContext, reusable);
+        }
+    }
+
+    private PooledContext acquire() {
+        PooledContext pooledContext = idleContexts == null ? null : idleContexts.poll();
+        return pooledContext != null ? pooledContext : newContext();
+    }
+
+    private void release(PooledContext pooledContext, boolean reusable) {
+        if (reusable && idleContexts != null && pooledContext.reset() && idleContexts.offer(pooledContext)) {
+            return;
+        }
+        pooledContext.close();
+    }
+
+    private PooledContext newContext() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Context.Builder builder = Context.newBuilder(languageId)
+                .sandbox(sandboxPolicy)
+                .allowHostAccess(HostAccess.UNTRUSTED)
+                .out(outputStream)
+                .err(outputStream)
+                .options(options);
+        if (engine != null) {
+            builder.engine(engine);
+        }
+        if (statementLimit != null) {
+            builder.resourceLimits(ResourceLimits.newBuilder()
+                    .statementLimit(statementLimit, null)
+                    .build());
+        }
+        Context context = builder.build();
+        Set<String> initialBindings = idleContexts == null
+                ? Set.of()
+                : new HashSet<>(context.getBindings(languageId).getMemberKeys());
+        return new PooledContext(context, outputStream, initialBindings);
+    }
+
+    @Override
+    public void close() {
+        if (idleContexts != null) {
+            PooledContext pooledContext;
+            while ((pooledContext = idleContexts.poll()) != null) {
+                pooledContext.close();
+            }
+        }
+        if (ownsEngine) {
+            engine.close();
+        }
+    }
+
+    private class PooledContext {
+
+        private final Context context;
+        private final ByteArrayOutputStream outputStream;
+        private final Set<String> initialBindings;
+
+        private PooledContext(Context context, ByteArrayOutputStream outputStream, Set<String> initialBindings) {
+            this.context = context;
+            this.outputStream = outputStream;
+            this.initialBindings = initialBindings;
+        }
+
+        /**
+         * Removes the global bindings created by the last execution, and resets the limits and the output.
+         * Other changes to the state of the context are kept, see {@link GraalVmContextPool}.
+         *
+         * @return {@code false} if the context could not be reset, and must not be reused.
+         */
+        private boolean reset() {
+            try {
+                Value bindings = context.getBindings(languageId);
+                for (String key : new HashSet<>(bindings.getMemberKeys())) {
+                    if (!initialBindings.contains(key) && !bindings.removeMember(key)) {
+                        return false;
+                    }
+                }
+                if (statementLimit != null) {
+                    context.resetLimits();
+                }
+                outputStream.reset();
+                return true;
+            } catch (RuntimeException e) {
+                return false;
+            }
+        }
+
+        private void close() {
+            try {
+                context.close(true);
+            } catch (RuntimeException ignored) {
+                // already closed or cancelled
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package dev.langchain4j.code.graalvm;
+
+import org.graalvm.polyglot.Engine;
+import org.graalvm.polyglot.SandboxPolicy;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * The settings shared by the builders of {@link GraalVmJavaScriptExecutionEngine}
+ * and {@link GraalVmPythonExecutionEngine}.
+ *
+ * @param <T> the type of the builder.
+ */
+public abstract class GraalVmExecutionEngineBuilder<T extends GraalVmExecutionEngineBuilder<T>> {
+
+    private Engine engine;
+    private Boolean shareEngine;
+    private Integer maxPoolSize;
+    private Boolean warmUp;
+    private Long statementLimit;
+    private Duration timeout;
+    private Map<String, String> options;
+
+    GraalVmExecutionEngineBuilder() {}
+
+    /**
+     * @param engine the engine shared by all the contexts. It must have been created with the sandbox policy
+     *               of the execution engine, and is not closed when the execution engine is closed.
+     * @return {@code this}
+     */
+    public T engine(Engine engine) {
+        this.engine = engine;
+        return self();
+    }
+
+    /**
+     * @param shareEngine whether to create an engine shared by all the contexts, when none is provided with
+     *                    {@link #engine(Engine)}, so that code compiled by one execution is reused by the next ones.
+     *                    An engine is always shared when pooling is enabled. Default value: false.
+     * @return {@code this}
+     */
+    public T shareEngine(Boolean shareEngine) {
+        this.shareEngine = shareEngine;
+        return self();
+    }
+
+    /**
+     * @param maxPoolSize the maximum number of idle contexts kept for reuse. Default value: 0 (no pooling).
+     *                    A pooled context is only cleared of the global bindings created by the last execution,
+     *                    see {@link GraalVmContextPool} for what an execution can leave to the next ones.
+     * @return {@code this}
+     */
+    public T maxPoolSize(Integer maxPoolSize) {
+        this.maxPoolSize = maxPoolSize;
+        return self();
+    }
+
+    /**
+     * @param warmUp whether to create the {@code maxPoolSize} pooled contexts upfront. Default value: false.
+     * @return {@code this}
+     */
+    public T warmUp(Boolean warmUp) {
+        this.warmUp = warmUp;
+        return self();
+    }
+
+    /**
+     * @param statementLimit the maximum number of statements an execution can run. By default, there is no limit.
+     * @return {@code this}
+     */
+    public T statementLimit(Long statementLimit) {
+        this.statementLimit = statementLimit;
+        return self();
+    }
+
+    /**
+     * @param timeout the time after which an execution is cancelled, and a
+     *                {@link dev.langchain4j.exception.TimeoutException} is thrown. By default, there is no timeout.
+     * @return {@code this}
+     */
+    public T timeout(Duration timeout) {
+        this.timeout = timeout;
+        return self();
+    }
+
+    /**
+     * @param options additional options of the contexts, e.g. {@code sandbox.MaxHeapMemory}
+     *                or {@code sandbox.MaxCPUTime} on Oracle GraalVM.
+     * @return {@code this}
+     */
+    public T options(Map<String, String> options) {
+        this.options = options;
+        return self();
+    }
+
+    @SuppressWarnings("unchecked")
+    private T self() {
+        return (T) this;
+    }
+
+    GraalVmContextPool contextPool(String languageId, SandboxPolicy sandboxPolicy) {
+        return new GraalVmContextPool(
+                languageId,
+                sandboxPolicy,
+                engine,
+                shareEngine,
+                maxPoolSize,
+                warmUp,
+                statementLimit,
+                timeout,
+                options);
+    }
+}
@@ -1,34 +1,54 @@
 package dev.langchain4j.code.graalvm;
 
 import dev.langchain4j.code.CodeExecutionEngine;
-import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
 import org.graalvm.polyglot.HostAccess;
 import org.graalvm.polyglot.SandboxPolicy;
 
-import java.io.ByteArrayOutputStream;
-import java.io.OutputStream;
-
-import static org.graalvm.polyglot.HostAccess.UNTRUSTED;
 import static org.graalvm.polyglot.SandboxPolicy.CONSTRAINED;
 
 /**
  * {@link CodeExecutionEngine} that uses GraalVM Polyglot/Truffle to execute provided JavaScript code.
  * Attention! It might be dangerous to execute the code, see {@link SandboxPolicy#CONSTRAINED}
  * and {@link HostAccess#UNTRUSTED} for more details.
+ * <p>
+ * By default, each execution runs in a fresh context. To reduce the latency of executions,
+ * an {@link Engine} can be shared between them, and idle contexts can be pooled, see {@link #builder()}.
+ * An engine created with a pool or a shared engine should be {@link #close() closed} when no longer used.
  */
-public class GraalVmJavaScriptExecutionEngine implements CodeExecutionEngine {
+public class GraalVmJavaScriptExecutionEngine implements CodeExecutionEngine, AutoCloseable {
+
+    private final GraalVmContextPool contextPool;
+
+    public GraalVmJavaScriptExecutionEngine() {
+        this(builder());
+    }
+
+    public GraalVmJavaScriptExecutionEngine(Builder builder) {
+        this.contextPool = builder.contextPool("js", CONSTRAINED);
+    }
 
     @Override
     public String execute(String code) {
-        OutputStream outputStream = new ByteArrayOutputStream();
-        try (Context context = Context.newBuilder("js")
-            .sandbox(CONSTRAINED)
-            .allowHostAccess(UNTRUSTED)
-            .out(outputStream)
-            .err(outputStream)
-            .build()) {
-            Object result = context.eval("js", code).as(Object.class);
-            return String.valueOf(result);
+        return contextPool.execute(code);
+    }
+
+    /**
+     * Closes the pooled contexts and the engine, unless it was provided with {@link Builder#engine(Engine)}.
+     */
+    @Override
+    public void close() {
+        contextPool.close();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder extends GraalVmExecutionEngineBuilder<Builder> {
+
+        public GraalVmJavaScriptExecutionEngine build() {
+            return new GraalVmJavaScriptExecutionEngine(this);
         }
     }
 }
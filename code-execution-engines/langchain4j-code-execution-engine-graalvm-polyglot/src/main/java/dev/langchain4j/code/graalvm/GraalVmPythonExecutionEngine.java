@@ -1,34 +1,54 @@
 package dev.langchain4j.code.graalvm;
 
 import dev.langchain4j.code.CodeExecutionEngine;
-import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
 import org.graalvm.polyglot.HostAccess;
 import org.graalvm.polyglot.SandboxPolicy;
 
-import java.io.ByteArrayOutputStream;
-import java.io.OutputStream;
-
-import static org.graalvm.polyglot.HostAccess.UNTRUSTED;
 import static org.graalvm.polyglot.SandboxPolicy.TRUSTED;
 
 /**
  * {@link CodeExecutionEngine} that uses GraalVM Polyglot/Truffle to execute provided Python code.
  * Attention! It might be dangerous to execute the code, see {@link SandboxPolicy#TRUSTED}
  * and {@link HostAccess#UNTRUSTED} for more details.
+ * <p>
+ * By default, each execution runs in a fresh context. To reduce the latency of executions,
+ * an {@link Engine} can be shared between them, and idle contexts can be pooled, see {@link #builder()}.
+ * An engine created with a pool or a shared engine should be {@link #close() closed} when no longer used.
  */
-public class GraalVmPythonExecutionEngine implements CodeExecutionEngine {
+public class GraalVmPythonExecutionEngine implements CodeExecutionEngine, AutoCloseable {
+
+    private final GraalVmContextPool contextPool;
+
+    public GraalVmPythonExecutionEngine() {
+        this(builder());
+    }
+
+    public GraalVmPythonExecutionEngine(Builder builder) {
+        this.contextPool = builder.contextPool("python", TRUSTED);
+    }
 
     @Override
     public String execute(String code) {
-        OutputStream outputStream = new ByteArrayOutputStream();
-        try (Context context = Context.newBuilder("python")
-            .sandbox(TRUSTED)
-            .allowHostAccess(UNTRUSTED)
-            .out(outputStream)
-            .err(outputStream)
-            .build()) {
-            Object result = context.eval("python", code).as(Object.class);
-            return String.valueOf(result);
+        return contextPool.execute(code);
+    }
+
+    /**
+     * Closes the pooled contexts and the engine, unless it was provided with {@link Builder#engine(Engine)}.
+     */
+    @Override
+    public void close() {
+        contextPool.close();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder extends GraalVmExecutionEngineBuilder<Builder> {
+
+        public GraalVmPythonExecutionEngine build() {
+            return new GraalVmPythonExecutionEngine(this);
         }
     }
 }
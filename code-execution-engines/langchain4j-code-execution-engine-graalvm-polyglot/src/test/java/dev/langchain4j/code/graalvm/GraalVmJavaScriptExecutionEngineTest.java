@@ -1,9 +1,13 @@
 package dev.langchain4j.code.graalvm;
 
 import dev.langchain4j.code.CodeExecutionEngine;
+import dev.langchain4j.exception.TimeoutException;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class GraalVmJavaScriptExecutionEngineTest {
 
@@ -25,4 +29,31 @@ class GraalVmJavaScriptExecutionEngineTest {
 
         assertThat(result).isEqualTo("55");
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_reuse_pooled_context_without_leaking_globals() {
+
+        try (GraalVmJavaScriptExecutionEngine pooledEngine = GraalVmJavaScriptExecutionEngine.builder()
+                .maxPoolSize(1)
+                .warmUp(true)
+                .build()) {
+
+            assertThat(pooledEngine.execute("globalThis.counter = 41; counter + 1")).isEqualTo("42");
+            assertThat(pooledEngine.execute("typeof counter")).isEqualTo("undefined");
+        }
+    }
+
+    @Test
+    void should_cancel_execution_after_timeout() {
+
+        try (GraalVmJavaScriptExecutionEngine pooledEngine = GraalVmJavaScriptExecutionEngine.builder()
+                .maxPoolSize(1)
+                .timeout(Duration.ofMillis(500))
+                .build()) {
+
+            assertThatThrownBy(() -> pooledEngine.execute("while (true) {}"))
+                    .isExactlyInstanceOf(TimeoutException.class);
+            assertThat(pooledEngine.execute("1 + 1")).isEqualTo("2");
+        }
+    }
+}
@@ -26,4 +26,16 @@ class GraalVmPythonExecutionEngineTest {
 
         assertThat(result).isEqualTo("55");
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_reuse_pooled_context_without_leaking_globals() {
+
+        try (GraalVmPythonExecutionEngine pooledEngine = GraalVmPythonExecutionEngine.builder()
+                .maxPoolSize(1)
+                .build()) {
+
+            assertThat(pooledEngine.execute("counter = 41\ncounter + 1")).isEqualTo("42");
+            assertThat(pooledEngine.execute("'counter' in globals()")).isEqualTo("false");
+        }
+    }
+}
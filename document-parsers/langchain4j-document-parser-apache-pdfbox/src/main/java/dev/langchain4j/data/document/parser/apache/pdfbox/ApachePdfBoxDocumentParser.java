@@ -4,33 +4,91 @@ import dev.langchain4j.data.document.BlankDocumentException;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentParser;
 import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.internal.DefaultExecutorProvider;
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDDocumentInformation;
 import org.apache.pdfbox.text.PDFTextStripper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.Utils.isNullOrBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 
 /**
  * Parses PDF file into a {@link Document} using Apache PDFBox library
+ * <p>
+ * Besides {@link #parse(InputStream)}, which returns the whole PDF as a single {@link Document},
+ * {@link #parsePages(InputStream)} returns one {@link Document} per page (or per window of
+ * {@code pagesPerDocument} pages) as a lazily populated {@link Stream}, so that large PDFs can be
+ * split and embedded while the remaining pages are still being extracted.
  */
 public class ApachePdfBoxDocumentParser implements DocumentParser {
 
+    /**
+     * Metadata key of the number (starting from 1) of the first page of a document returned by {@link #parsePages(InputStream)}.
+     */
+    public static final String PAGE_NUMBER = "page_number";
+
+    /**
+     * Metadata key of the number of the last page of a document returned by {@link #parsePages(InputStream)}.
+     */
+    public static final String END_PAGE_NUMBER = "end_page_number";
+
+    /**
+     * Metadata key of the total number of pages of the PDF, set on the documents returned by {@link #parsePages(InputStream)}.
+     */
+    public static final String TOTAL_PAGES = "total_pages";
+
+    private static final Logger log = LoggerFactory.getLogger(ApachePdfBoxDocumentParser.class);
+
     private final boolean includeMetadata;
+    private final int pagesPerDocument;
+    private final MemoryUsageSetting memoryUsageSetting;
+    private final int parallelism;
+    private final Executor executor;
 
     public ApachePdfBoxDocumentParser() {
         this(false);
     }
 
     public ApachePdfBoxDocumentParser(boolean includeMetadata) {
-        this.includeMetadata = includeMetadata;
+        this(builder().includeMetadata(includeMetadata));
+    }
+
+    public ApachePdfBoxDocumentParser(Builder builder) {
+        this.includeMetadata = getOrDefault(builder.includeMetadata, false);
+        this.pagesPerDocument = ensureGreaterThanZero(getOrDefault(builder.pagesPerDocument, 1), "pagesPerDocument");
+        this.memoryUsageSetting = builder.memoryUsageSetting;
+        this.parallelism = ensureGreaterThanZero(getOrDefault(builder.parallelism, 1), "parallelism");
+        this.executor = builder.executor;
     }
 
     @Override
     public Document parse(InputStream inputStream) {
-        try (PDDocument pdfDocument = PDDocument.load(inputStream)) {
+        try (PDDocument pdfDocument = PDDocument.load(inputStream, memoryUsageSetting())) {
             PDFTextStripper stripper = new PDFTextStripper();
             String text = stripper.getText(pdfDocument);
             if (isNullOrBlank(text)) {
@@ -44,6 +102,36 @@ public class ApachePdfBoxDocumentParser implements DocumentParser {
         }
     }
 
+    /**
+     * Parses the PDF into one {@link Document} per window of {@code pagesPerDocument} pages.
+     * <p>
+     * Pages are extracted lazily, as the returned stream is consumed, and blank pages are skipped.
+     * Each document has the {@value #PAGE_NUMBER}, {@value #END_PAGE_NUMBER} and {@value #TOTAL_PAGES} metadata entries,
+     * in addition to the PDF metadata when {@code includeMetadata} is enabled.
+     * <p>
+     * When {@code parallelism} is greater than 1, the PDF is first copied to a temporary file,
+     * and up to {@code parallelism} windows are extracted concurrently, each from its own {@link PDDocument}
+     * (as a {@link PDDocument} cannot be used by several threads). Documents are still returned in page order.
+     * <p>
+     * The returned stream holds the PDF open and must be closed, preferably with a try-with-resources.
+     * This method does not close the provided {@link InputStream}.
+     *
+     * @param inputStream The {@link InputStream} that contains the PDF.
+     * @return a stream of documents, one per window of pages, which must be closed once consumed.
+     */
+    public Stream<Document> parsePages(InputStream inputStream) {
+        PageWindowIterator pages = parallelism > 1
+                ? new ParallelPageWindowIterator(inputStream)
+                : new SequentialPageWindowIterator(inputStream);
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(pages::close);
+    }
+
+    private MemoryUsageSetting memoryUsageSetting() {
+        return memoryUsageSetting != null ? memoryUsageSetting : MemoryUsageSetting.setupMainMemoryOnly();
+    }
+
     private Metadata toMetadata(PDDocument pdDocument) {
         PDDocumentInformation documentInformation = pdDocument.getDocumentInformation();
         Metadata metadata = new Metadata();
@@ -53,4 +141,323 @@ public class ApachePdfBoxDocumentParser implements DocumentParser {
         }
         return metadata;
     }
+
+    /**
+     * Extracts the pages {@code startPage} to {@code endPage} (inclusive, starting from 1),
+     * returning {@code null} if they contain no text.
+     */
+    private Document extract(PDDocument pdfDocument, PDFTextStripper stripper,
+                             int startPage, int endPage, int totalPages, Metadata documentMetadata) throws IOException {
+        stripper.setStartPage(startPage);
+        stripper.setEndPage(endPage);
+        String text = stripper.getText(pdfDocument);
+        if (isNullOrBlank(text)) {
+            return null;
+        }
+        Metadata metadata = documentMetadata == null ? new Metadata() : documentMetadata.copy();
+        metadata.put(PAGE_NUMBER, startPage);
+        metadata.put(END_PAGE_NUMBER, endPage);
+        metadata.put(TOTAL_PAGES, totalPages);
+        return Document.from(text, metadata);
+    }
+
+    private abstract class PageWindowIterator implements Iterator<Document> {
+
+        int totalPages;
+        Metadata documentMetadata;
+        int nextStartPage = 1;
+        private Document next;
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                if (!hasMoreWindows()) {
+                    return false;
+                }
+                next = nextWindow();
+            }
+            return true;
+        }
+
+        @Override
+        public Document next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Document document = next;
+            next = null;
+            return document;
+        }
+
+        int endPage(int startPage) {
+            return Math.min(startPage + pagesPerDocument - 1, totalPages);
+        }
+
+        abstract boolean hasMoreWindows();
+
+        /**
+         * Returns the next window of pages, or {@code null} if it is blank.
+         */
+        abstract Document nextWindow();
+
+        abstract void close();
+    }
+
+    private class SequentialPageWindowIterator extends PageWindowIterator {
+
+        private final PDDocument pdfDocument;
+        private final PDFTextStripper stripper;
+
+        private SequentialPageWindowIterator(InputStream inputStream) {
+            try {
+                this.pdfDocument = PDDocument.load(inputStream, memoryUsageSetting());
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            try {
+                this.stripper = new PDFTextStripper();
+                this.totalPages = pdfDocument.getNumberOfPages();
+                this.documentMetadata = includeMetadata ? toMetadata(pdfDocument) : null;
+            } catch (IOException | RuntimeException e) {
+                close();
+                throw e instanceof IOException ? new RuntimeException(e) : (RuntimeException) e;
+            }
+        }
+
+        @Override
+        boolean hasMoreWindows() {
+            return nextStartPage <= totalPages;
+        }
+
+        @Override
+        Document nextWindow() {
+            int startPage = nextStartPage;
+            int endPage = endPage(startPage);
+            nextStartPage = endPage + 1;
+            try {
+                return extract(pdfDocument, stripper, startPage, endPage, totalPages, documentMetadata);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        @Override
+        void close() {
+            try {
+                pdfDocument.close();
+            } catch (IOException e) {
+                log.warn("Failed to close PDF document", e);
+            }
+        }
+    }
+
+    private class ParallelPageWindowIterator extends PageWindowIterator {
+
+        private final Executor executor;
+        private final Path file;
+        private final MemoryUsageSetting partitionedMemoryUsageSetting;
+        private final ConcurrentLinkedQueue<PDDocument> idleDocuments = new ConcurrentLinkedQueue<>();
+        private final List<PDDocument> openedDocuments = new ArrayList<>();
+        private final Deque<CompletableFuture<Document>> inFlight = new ArrayDeque<>();
+        private volatile boolean closed;
+
+        private ParallelPageWindowIterator(InputStream inputStream) {
+            this.executor = getOrDefault(ApachePdfBoxDocumentParser.this.executor,
+                    DefaultExecutorProvider::getDefaultExecutorService);
+            this.partitionedMemoryUsageSetting = memoryUsageSetting().getPartitionedCopy(parallelism);
+            try {
+                this.file = Files.createTempFile("langchain4j-pdfbox-", ".pdf");
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            try {
+                Files.copy(inputStream, file, REPLACE_EXISTING);
+                PDDocument pdfDocument = open();
+                this.totalPages = pdfDocument.getNumberOfPages();
+                this.documentMetadata = includeMetadata ? toMetadata(pdfDocument) : null;
+                idleDocuments.add(pdfDocument);
+            } catch (IOException | RuntimeException e) {
+                close();
+                throw e instanceof IOException ? new RuntimeException(e) : (RuntimeException) e;
+            }
+        }
+
+        @Override
+        boolean hasMoreWindows() {
+            return !inFlight.isEmpty() || nextStartPage <= totalPages;
+        }
+
+        @Override
+        Document nextWindow() {
+            while (inFlight.size() < parallelism && nextStartPage <= totalPages) {
+                int startPage = nextStartPage;
+                int endPage = endPage(startPage);
+                nextStartPage = endPage + 1;
+                inFlight.add(CompletableFuture.supplyAsync(() -> extractWindow(startPage, endPage), executor));
+            }
+            try {
+                return inFlight.poll().join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException re ? re : e;
+            }
+        }
+
+        /**
+         * Runs on the executor, with at most {@code parallelism} windows being extracted at any time,
+         * so that at most {@code parallelism} {@link PDDocument}s are opened.
+         */
+        private Document extractWindow(int startPage, int endPage) {
+            PDDocument pdfDocument = idleDocuments.poll();
+            try {
+                if (pdfDocument == null) {
+                    pdfDocument = open();
+                }
+                return extract(pdfDocument, new PDFTextStripper(), startPage, endPage, totalPages, documentMetadata);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                if (pdfDocument != null) {
+                    release(pdfDocument);
+                }
+            }
+        }
+
+        /**
+         * Returns a document to the pool once a worker is done with it, or closes it if the iterator was closed
+         * in the meantime: a document in use is never closed by {@link #close()}, only by the worker using it.
+         */
+        private void release(PDDocument pdfDocument) {
+            synchronized (openedDocuments) {
+                if (!closed) {
+                    idleDocuments.add(pdfDocument);
+                    return;
+                }
+                openedDocuments.remove(pdfDocument);
+            }
+            closeQuietly(pdfDocument);
+            deleteFileIfUnused();
+        }
+
+        private PDDocument open() throws IOException {
+            synchronized (openedDocuments) {
+                if (closed) {
+                    throw new IllegalStateException("The stream of pages is closed");
+                }
+                PDDocument pdfDocument = PDDocument.load(file.toFile(), partitionedMemoryUsageSetting);
+                openedDocuments.add(pdfDocument);
+                return pdfDocument;
+            }
+        }
+
+        @Override
+        void close() {
+            // windows not started yet will not run, the running ones close their document when they finish
+            inFlight.forEach(future -> future.cancel(false));
+            inFlight.clear();
+            List<PDDocument> idle = new ArrayList<>();
+            synchronized (openedDocuments) {
+                closed = true;
+                PDDocument pdfDocument;
+                while ((pdfDocument = idleDocuments.poll()) != null) {
+                    openedDocuments.remove(pdfDocument);
+                    idle.add(pdfDocument);
+                }
+            }
+            idle.forEach(this::closeQuietly);
+            deleteFileIfUnused();
+        }
+
+        private void closeQuietly(PDDocument pdfDocument) {
+            try {
+                pdfDocument.close();
+            } catch (IOException e) {
+                log.warn("Failed to close PDF document", e);
+            }
+        }
+
+        /**
+         * Deletes the temporary file once the iterator is closed and the last document opened on it is closed.
+         */
+        private void deleteFileIfUnused() {
+            synchronized (openedDocuments) {
+                if (!closed || !openedDocuments.isEmpty()) {
+                    return;
+                }
+            }
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Failed to delete temporary file '{}'", file, e);
+            }
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Boolean includeMetadata;
+        private Integer pagesPerDocument;
+        private MemoryUsageSetting memoryUsageSetting;
+        private Integer parallelism;
+        private Executor executor;
+
+        /**
+         * @param includeMetadata Whether the PDF metadata should be added to the parsed documents.
+         *                        Default value: {@code false}.
+         * @return {@code this}
+         */
+        public Builder includeMetadata(Boolean includeMetadata) {
+            this.includeMetadata = includeMetadata;
+            return this;
+        }
+
+        /**
+         * @param pagesPerDocument The number of pages of each document returned by {@link #parsePages(InputStream)}.
+         *                         Default value: 1.
+         * @return {@code this}
+         */
+        public Builder pagesPerDocument(Integer pagesPerDocument) {
+            this.pagesPerDocument = pagesPerDocument;
+            return this;
+        }
+
+        /**
+         * @param memoryUsageSetting How much main memory PDFBox may use before spilling to a scratch file,
+         *                           e.g. {@link MemoryUsageSetting#setupMixed(long)} or
+         *                           {@link MemoryUsageSetting#setupTempFileOnly()}.
+         *                           By default, only main memory is used.
+         * @return {@code this}
+         */
+        public Builder memoryUsageSetting(MemoryUsageSetting memoryUsageSetting) {
+            this.memoryUsageSetting = memoryUsageSetting;
+            return this;
+        }
+
+        /**
+         * @param parallelism The maximum number of windows of pages extracted concurrently by
+         *                    {@link #parsePages(InputStream)}. Default value: 1 (pages are extracted sequentially).
+         * @return {@code this}
+         */
+        public Builder parallelism(Integer parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * @param executor The executor on which pages are extracted when {@code parallelism} is greater than 1.
+         *                 By default, a cached thread pool (or virtual threads, when available) is used.
+         * @return {@code this}
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public ApachePdfBoxDocumentParser build() {
+            return new ApachePdfBoxDocumentParser(this);
+        }
+    }
 }
@@ -3,10 +3,13 @@ package dev.langchain4j.data.document.parser.apache.pdfbox;
 import dev.langchain4j.data.document.BlankDocumentException;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.DocumentParser;
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -53,4 +56,51 @@ class ApachePdfBoxDocumentParserTest {
             throw new RuntimeException(e);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_parse_pdf_file_page_by_page() throws IOException {
+        ApachePdfBoxDocumentParser parser = ApachePdfBoxDocumentParser.builder()
+                .includeMetadata(true)
+                .build();
+
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream("test-file.pdf");
+             Stream<Document> pages = parser.parsePages(inputStream)) {
+            List<Document> documents = pages.toList();
+
+            assertThat(documents).hasSize(1);
+            assertThat(documents.get(0).text()).isEqualToIgnoringWhitespace("test content");
+            assertThat(documents.get(0).metadata().getInteger(ApachePdfBoxDocumentParser.PAGE_NUMBER)).isEqualTo(1);
+            assertThat(documents.get(0).metadata().getInteger(ApachePdfBoxDocumentParser.END_PAGE_NUMBER)).isEqualTo(1);
+            assertThat(documents.get(0).metadata().getInteger(ApachePdfBoxDocumentParser.TOTAL_PAGES)).isEqualTo(1);
+            assertThat(documents.get(0).metadata().getString("Author")).isEqualTo("ljuba");
+        }
+    }
+
+    @Test
+    void should_parse_pdf_file_page_by_page_in_parallel() throws IOException {
+        ApachePdfBoxDocumentParser parser = ApachePdfBoxDocumentParser.builder()
+                .parallelism(4)
+                .memoryUsageSetting(MemoryUsageSetting.setupMixed(1024 * 1024))
+                .build();
+
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream("test-file.pdf");
+             Stream<Document> pages = parser.parsePages(inputStream)) {
+            assertThat(pages)
+                    .singleElement()
+                    .satisfies(document -> {
+                        assertThat(document.text()).isEqualToIgnoringWhitespace("test content");
+                        assertThat(document.metadata().getInteger(ApachePdfBoxDocumentParser.PAGE_NUMBER)).isEqualTo(1);
+                    });
+        }
+    }
+
+    @Test
+    void should_skip_blank_pages() throws IOException {
+        ApachePdfBoxDocumentParser parser = new ApachePdfBoxDocumentParser();
+
+        try (InputStream inputStream = getClass().getClassLoader().getResourceAsStream("blank-file.pdf");
+             Stream<Document> pages = parser.parsePages(inputStream)) {
+            assertThat(pages).isEmpty();
+        }
+    }
+}
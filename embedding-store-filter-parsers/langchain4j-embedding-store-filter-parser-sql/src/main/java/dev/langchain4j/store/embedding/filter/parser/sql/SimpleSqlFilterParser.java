@@ -0,0 +1,283 @@
+package dev.langchain4j.store.embedding.filter.parser.sql;
+
+import dev.langchain4j.store.embedding.filter.Filter;
+import dev.langchain4j.store.embedding.filter.comparison.IsEqualTo;
+import dev.langchain4j.store.embedding.filter.comparison.IsGreaterThan;
+import dev.langchain4j.store.embedding.filter.comparison.IsGreaterThanOrEqualTo;
+import dev.langchain4j.store.embedding.filter.comparison.IsIn;
+import dev.langchain4j.store.embedding.filter.comparison.IsLessThan;
+import dev.langchain4j.store.embedding.filter.comparison.IsLessThanOrEqualTo;
+import dev.langchain4j.store.embedding.filter.comparison.IsNotEqualTo;
+import dev.langchain4j.store.embedding.filter.comparison.IsNotIn;
+import dev.langchain4j.store.embedding.filter.logical.And;
+import dev.langchain4j.store.embedding.filter.logical.Not;
+import dev.langchain4j.store.embedding.filter.logical.Or;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A hand-written parser for the most common subset of SQL "WHERE" clauses:
+ * comparisons ({@code =}, {@code !=}, {@code <>}, {@code >}, {@code >=}, {@code <}, {@code <=})
+ * and {@code IN}/{@code NOT IN} lists of a column with string or number literals, combined with
+ * {@code AND}, {@code OR}, {@code NOT} and parentheses.
+ * <br>
+ * It produces the same {@link Filter}s as JSqlParser for this subset, without building a syntax tree.
+ * Anything else (functions, arithmetic, {@code BETWEEN}, escaped quotes, qualified or quoted column names, etc.)
+ * is reported as unsupported, so that the expression can be parsed by JSqlParser instead.
+ */
+class SimpleSqlFilterParser {
+
+    private static final Set<String> KEYWORDS = Set.of(
+            "AND", "OR", "NOT", "IN", "BETWEEN", "LIKE", "IS", "NULL", "TRUE", "FALSE", "SELECT", "EXISTS");
+
+    private final String sql;
+    private int position;
+
+    private SimpleSqlFilterParser(String sql) {
+        this.sql = sql;
+    }
+
+    /**
+     * @param sql the contents of a "WHERE" clause.
+     * @return the parsed {@link Filter}, or {@code null} if the expression is not supported by this parser.
+     */
+    static Filter tryParse(String sql) {
+        SimpleSqlFilterParser parser = new SimpleSqlFilterParser(sql);
+        Filter filter = parser.parseOr();
+        if (filter == null) {
+            return null;
+        }
+        parser.skipWhitespace();
+        return parser.position == sql.length() ? filter : null;
+    }
+
+    private Filter parseOr() {
+        Filter left = parseAnd();
+        while (left != null && consumeKeyword("OR")) {
+            Filter right = parseAnd();
+            left = right == null ? null : new Or(left, right);
+        }
+        return left;
+    }
+
+    private Filter parseAnd() {
+        Filter left = parseNot();
+        while (left != null && consumeKeyword("AND")) {
+            Filter right = parseNot();
+            left = right == null ? null : new And(left, right);
+        }
+        return left;
+    }
+
+    private Filter parseNot() {
+        if (consumeKeyword("NOT")) {
+            Filter filter = parseNot();
+            return filter == null ? null : new Not(filter);
+        }
+        return parsePrimary();
+    }
+
+    private Filter parsePrimary() {
+        if (consume('(')) {
+            Filter filter = parseOr();
+            return filter != null && consume(')') ? filter : null;
+        }
+
+        String key = parseKey();
+        if (key == null) {
+            return null;
+        }
+
+        skipWhitespace();
+        if (consume('=')) {
+            Comparable<?> value = parseValue();
+            return value == null ? null : new IsEqualTo(key, value);
+        } else if (consume('!')) {
+            if (!consume('=')) {
+                return null;
+            }
+            Comparable<?> value = parseValue();
+            return value == null ? null : new IsNotEqualTo(key, value);
+        } else if (consume('<')) {
+            if (consume('>')) {
+                Comparable<?> value = parseValue();
+                return value == null ? null : new IsNotEqualTo(key, value);
+            } else if (consume('=')) {
+                Comparable<?> value = parseValue();
+                return value == null ? null : new IsLessThanOrEqualTo(key, value);
+            }
+            Comparable<?> value = parseValue();
+            return value == null ? null : new IsLessThan(key, value);
+        } else if (consume('>')) {
+            if (consume('=')) {
+                Comparable<?> value = parseValue();
+                return value == null ? null : new IsGreaterThanOrEqualTo(key, value);
+            }
+            Comparable<?> value = parseValue();
+            return value == null ? null : new IsGreaterThan(key, value);
+        } else if (consumeKeyword("NOT")) {
+            if (!consumeKeyword("IN")) {
+                return null;
+            }
+            List<Object> values = parseValueList();
+            return values == null ? null : new IsNotIn(key, values);
+        } else if (consumeKeyword("IN")) {
+            List<Object> values = parseValueList();
+            return values == null ? null : new IsIn(key, values);
+        }
+        return null;
+    }
+
+    private List<Object> parseValueList() {
+        if (!consume('(')) {
+            return null;
+        }
+        List<Object> values = new ArrayList<>();
+        do {
+            skipWhitespace();
+            // negative numbers are parsed differently by JSqlParser in lists, leave them to it
+            if (position < sql.length() && sql.charAt(position) == '-') {
+                return null;
+            }
+            Comparable<?> value = parseValue();
+            if (value == null) {
+                return null;
+            }
+            values.add(value);
+        } while (consume(','));
+        return consume(')') ? values : null;
+    }
+
+    private String parseKey() {
+        skipWhitespace();
+        int start = position;
+        if (start >= sql.length() || !isIdentifierStart(sql.charAt(start))) {
+            return null;
+        }
+        position++;
+        while (position < sql.length() && isIdentifierPart(sql.charAt(position))) {
+            position++;
+        }
+        // qualified names, function calls and prefixed strings are left to JSqlParser
+        if (position < sql.length() && (sql.charAt(position) == '.'
+                || sql.charAt(position) == '('
+                || sql.charAt(position) == '\'')) {
+            return null;
+        }
+        String key = sql.substring(start, position);
+        return isKeyword(key) ? null : key;
+    }
+
+    private Comparable<?> parseValue() {
+        skipWhitespace();
+        if (position >= sql.length()) {
+            return null;
+        }
+        char c = sql.charAt(position);
+        if (c == '\'') {
+            return parseString();
+        } else if (c == '-' || isDigit(c)) {
+            return parseNumber();
+        }
+        return null;
+    }
+
+    private String parseString() {
+        int end = sql.indexOf('\'', position + 1);
+        if (end < 0) {
+            return null;
+        }
+        String value = sql.substring(position + 1, end);
+        // escaped quotes and backslashes are dialect-specific
+        if (value.indexOf('\\') >= 0 || (end + 1 < sql.length() && sql.charAt(end + 1) == '\'')) {
+            return null;
+        }
+        position = end + 1;
+        return value;
+    }
+
+    private Comparable<?> parseNumber() {
+        int start = position;
+        if (sql.charAt(position) == '-') {
+            position++;
+        }
+        int digitsStart = position;
+        while (position < sql.length() && isDigit(sql.charAt(position))) {
+            position++;
+        }
+        if (position == digitsStart) {
+            return null;
+        }
+        boolean decimal = false;
+        if (position < sql.length() && sql.charAt(position) == '.') {
+            decimal = true;
+            position++;
+            int fractionStart = position;
+            while (position < sql.length() && isDigit(sql.charAt(position))) {
+                position++;
+            }
+            if (position == fractionStart) {
+                return null;
+            }
+        }
+        // exponents, arithmetic and trailing identifiers are left to JSqlParser
+        if (position < sql.length() && !isDelimiter(sql.charAt(position))) {
+            return null;
+        }
+        String number = sql.substring(start, position);
+        try {
+            return decimal ? (Comparable<?>) Double.parseDouble(number) : (Comparable<?>) Long.parseLong(number);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private boolean consume(char expected) {
+        skipWhitespace();
+        if (position < sql.length() && sql.charAt(position) == expected) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean consumeKeyword(String keyword) {
+        skipWhitespace();
+        int end = position + keyword.length();
+        if (end <= sql.length()
+                && sql.regionMatches(true, position, keyword, 0, keyword.length())
+                && (end == sql.length() || !isIdentifierPart(sql.charAt(end)))) {
+            position = end;
+            return true;
+        }
+        return false;
+    }
+
+    private void skipWhitespace() {
+        while (position < sql.length() && Character.isWhitespace(sql.charAt(position))) {
+            position++;
+        }
+    }
+
+    private static boolean isKeyword(String identifier) {
+        return KEYWORDS.contains(identifier.toUpperCase());
+    }
+
+    private static boolean isDelimiter(char c) {
+        return Character.isWhitespace(c) || c == ')' || c == ',';
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isIdentifierStart(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return isIdentifierStart(c) || isDigit(c);
+    }
+}
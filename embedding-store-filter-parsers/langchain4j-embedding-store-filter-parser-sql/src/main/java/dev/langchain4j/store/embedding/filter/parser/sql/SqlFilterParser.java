@@ -25,8 +25,11 @@ import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static java.time.temporal.IsoFields.WEEK_OF_WEEK_BASED_YEAR;
 
@@ -74,11 +77,19 @@ import static java.time.temporal.IsoFields.WEEK_OF_WEEK_BASED_YEAR;
  * {@code name = 'Klaus'} -&gt; {@code key("name").eq("Klaus")}
  * {@code name = 'Klaus' AND age >= 18} -&gt; {@code key("name").eq("Klaus").and(key("age").gte(18))}
  * </pre>
+ * <br>
+ * Simple expressions (comparisons and {@code IN} lists of string or number literals,
+ * combined with {@code AND}, {@code OR}, {@code NOT} and parentheses) are parsed without JSqlParser,
+ * which is only used for the other ones.
+ * Parsed {@link Filter}s are cached, so parsing the same expression again is cheap.
  */
 @Experimental
 public class SqlFilterParser implements FilterParser {
 
+    private static final int DEFAULT_CACHE_SIZE = 1000;
+
     private final LocalDateTime localDateTime;
+    private final Map<String, Filter> cache;
 
     /**
      * Creates an instance of {@code SqlFilterParser}.
@@ -101,13 +112,57 @@ public class SqlFilterParser implements FilterParser {
      *              the provided {@link Clock} will be used to resolve {@code CURRENT_DATE}.
      */
     public SqlFilterParser(Clock clock) {
+        this(clock, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Creates an instance of {@code SqlFilterParser}.
+     *
+     * @param clock     A {@link Clock} to be used to get the current date and/or time when required.
+     *                  See {@link #SqlFilterParser(Clock)} for more details.
+     * @param cacheSize The maximum number of parsed {@link Filter}s to cache, the least recently used ones being
+     *                  evicted first. Use 0 to disable caching. Default: 1000.
+     */
+    public SqlFilterParser(Clock clock, int cacheSize) {
         this.localDateTime = LocalDateTime.now(ensureNotNull(clock, "clock"));
+        ensureBetween(cacheSize, 0, Integer.MAX_VALUE, "cacheSize");
+        this.cache = cacheSize == 0 ? null : new LinkedHashMap<>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Filter> eldest) {
+                return size() > cacheSize;
+            }
+        };
     }
 
     @Override
     public Filter parse(String sql) {
+        if (cache == null) {
+            return doParse(sql);
+        }
 
-        if (!sql.toUpperCase().startsWith("SELECT")) {
+        Filter filter;
+        synchronized (cache) {
+            filter = cache.get(sql);
+        }
+        if (filter == null) {
+            // filters are immutable, so they can be shared between callers
+            filter = doParse(sql);
+            synchronized (cache) {
+                cache.put(sql, filter);
+            }
+        }
+        return filter;
+    }
+
+    private Filter doParse(String sql) {
+
+        boolean isSelect = sql.regionMatches(true, 0, "SELECT", 0, 6);
+        if (!isSelect) {
+            Filter filter = SimpleSqlFilterParser.tryParse(sql);
+            if (filter != null) {
+                return filter;
+            }
             sql = "SELECT * FROM fake_table WHERE " + sql;
         }
 
@@ -1689,5 +1689,48 @@ class SqlFilterParserTest {
         assertThat(filter).isEqualTo(metadataKey("year").isGreaterThanOrEqualTo(1990L).and(metadataKey("year").isLessThanOrEqualTo(1999L)));
     }
 
+    @ParameterizedTest
+    @MethodSource("should_parse")
+    void simple_parser_should_parse_like_jsqlparser(String sqlWhereExpression, Filter expectedFilter) {
+
+        // given
+        String sql = sqlWhereExpression.regionMatches(true, 0, "SELECT", 0, 6)
+                ? sqlWhereExpression
+                : "SELECT * FROM fake_table WHERE " + sqlWhereExpression;
+
+        // when
+        Filter filter = SimpleSqlFilterParser.tryParse(sqlWhereExpression);
+
+        // then
+        if (filter != null) {
+            // a statement is always parsed by JSqlParser
+            assertThat(filter).isEqualTo(new SqlFilterParser(clock, 0).parse(sql));
+        }
+    }
+
+    @Test
+    void simple_parser_should_leave_complex_expressions_to_jsqlparser() {
+
+        assertThat(SimpleSqlFilterParser.tryParse("year = YEAR(CURDATE()) - 1")).isNull();
+        assertThat(SimpleSqlFilterParser.tryParse("year BETWEEN 1990 AND 1999")).isNull();
+        assertThat(SimpleSqlFilterParser.tryParse("name = 'O''Brien'")).isNull();
+        assertThat(SimpleSqlFilterParser.tryParse("movies.year = 1990")).isNull();
+        assertThat(SimpleSqlFilterParser.tryParse("id IN (-1, 2)")).isNull();
+    }
+
+    @Test
+    void should_cache_parsed_filters() {
+
+        // given
+        SqlFilterParser cachingParser = new SqlFilterParser(clock, 2);
+
+        // when
+        Filter first = cachingParser.parse("year = EXTRACT(YEAR FROM CURRENT_DATE)");
+        Filter second = cachingParser.parse("year = EXTRACT(YEAR FROM CURRENT_DATE)");
+
+        // then
+        assertThat(second).isSameAs(first);
+    }
+
     // TODO SELECT * FROM movies WHERE YEAR(year) = 2024 AND genre IN ('comedy', 'drama') ORDER BY RAND() LIMIT 1
 }
\ No newline at end of file
@@ -5,12 +5,16 @@ import dev.langchain4j.data.message.AiMessage;
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.SystemMessage;
 import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.input.Prompt;
 import dev.langchain4j.model.input.PromptTemplate;
 import dev.langchain4j.rag.content.Content;
 import dev.langchain4j.rag.content.retriever.ContentRetriever;
 import dev.langchain4j.rag.query.Query;
+import dev.langchain4j.store.embedding.CosineSimilarity;
 import net.sf.jsqlparser.JSQLParserException;
 import net.sf.jsqlparser.parser.CCJSqlParserUtil;
 import net.sf.jsqlparser.statement.select.Select;
@@ -21,12 +25,19 @@ import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
@@ -47,6 +58,15 @@ import static java.util.Collections.singletonList;
  * to customize the behavior. See the javadoc of the constructor for more details.
  * Most methods can be overridden to customize the behavior further.
  * <br>
+ * When the database structure is generated from the {@code DataSource}, it is cached, and regenerated
+ * after {@link SqlDatabaseContentRetrieverBuilder#databaseStructureTtl(Duration)}
+ * or on {@link #refreshDatabaseStructure()}. With an {@link EmbeddingModel} and
+ * {@link SqlDatabaseContentRetrieverBuilder#maxTables(Integer)}, only the tables most similar to the query
+ * (and the tables they reference) are described to the LLM.
+ * <br>
+ * Query results are read with a JDBC fetch size, and truncated after {@code maxResultLength} characters
+ * or, if specified, {@code maxRows} rows.
+ * <br>
  * The default prompt template is not highly optimized,
  * so it is advised to experiment with it and see what works best for your use case.
  */
@@ -64,11 +84,19 @@ public class SqlDatabaseContentRetriever implements ContentRetriever {
     private final DataSource dataSource;
     private final String sqlDialect;
     private final String databaseStructure;
+    private final Duration databaseStructureTtl;
+    private final EmbeddingModel embeddingModel;
+    private final Integer maxTables;
 
     private final PromptTemplate promptTemplate;
     private final ChatModel chatModel;
 
     private final int maxRetries;
+    private final int fetchSize;
+    private final int maxRows;
+    private final int maxResultLength;
+
+    private volatile DatabaseSchema databaseSchema;
 
     /**
      * Creates an instance of a {@code SqlDatabaseContentRetriever}.
@@ -101,12 +129,42 @@ public class SqlDatabaseContentRetriever implements ContentRetriever {
                                        PromptTemplate promptTemplate,
                                        ChatModel chatModel,
                                        Integer maxRetries) {
-        this.dataSource = ensureNotNull(dataSource, "dataSource");
-        this.sqlDialect = getOrDefault(sqlDialect, () -> getSqlDialect(dataSource));
-        this.databaseStructure = getOrDefault(databaseStructure, () -> generateDDL(dataSource));
-        this.promptTemplate = getOrDefault(promptTemplate, DEFAULT_PROMPT_TEMPLATE);
-        this.chatModel = ensureNotNull(chatModel, "chatModel");
-        this.maxRetries = getOrDefault(maxRetries, 0);
+        this(builder()
+                .dataSource(dataSource)
+                .sqlDialect(sqlDialect)
+                .databaseStructure(databaseStructure)
+                .promptTemplate(promptTemplate)
+                .chatModel(chatModel)
+                .maxRetries(maxRetries));
+    }
+
+    @Experimental
+    public SqlDatabaseContentRetriever(SqlDatabaseContentRetrieverBuilder builder) {
+        this.dataSource = ensureNotNull(builder.dataSource, "dataSource");
+        this.sqlDialect = getOrDefault(builder.sqlDialect, () -> getSqlDialect(dataSource));
+        this.databaseStructure = builder.databaseStructure;
+        this.databaseStructureTtl = builder.databaseStructureTtl;
+        this.embeddingModel = builder.embeddingModel;
+        this.maxTables = builder.maxTables == null ? null : ensureGreaterThanZero(builder.maxTables, "maxTables");
+        this.promptTemplate = getOrDefault(builder.promptTemplate, DEFAULT_PROMPT_TEMPLATE);
+        this.chatModel = ensureNotNull(builder.chatModel, "chatModel");
+        this.maxRetries = getOrDefault(builder.maxRetries, 0);
+        this.fetchSize = ensureGreaterThanZero(getOrDefault(builder.fetchSize, 100), "fetchSize");
+        this.maxRows = builder.maxRows == null ? Integer.MAX_VALUE : ensureGreaterThanZero(builder.maxRows, "maxRows");
+        this.maxResultLength = ensureGreaterThanZero(getOrDefault(builder.maxResultLength, 100_000), "maxResultLength");
+        if (databaseStructure == null) {
+            this.databaseSchema = loadDatabaseSchema();
+        }
+    }
+
+    /**
+     * Regenerates the database structure from the {@code DataSource}, e.g. after a migration.
+     * Does nothing if the database structure was specified explicitly.
+     */
+    public void refreshDatabaseStructure() {
+        if (databaseStructure == null) {
+            this.databaseSchema = loadDatabaseSchema();
+        }
     }
 
     // TODO (for v2)
@@ -122,27 +180,42 @@ public class SqlDatabaseContentRetriever implements ContentRetriever {
         }
     }
 
-    private static String generateDDL(DataSource dataSource) {
-        StringBuilder ddl = new StringBuilder();
+    private DatabaseSchema loadDatabaseSchema() {
+        Map<String, TableStructure> tables = new LinkedHashMap<>();
 
         try (Connection connection = dataSource.getConnection()) {
             DatabaseMetaData metaData = connection.getMetaData();
 
-            ResultSet tables = metaData.getTables(null, null, "%", new String[]{"TABLE"});
-
-            while (tables.next()) {
-                String tableName = tables.getString("TABLE_NAME");
-                String createTableStatement = generateCreateTableStatement(tableName, metaData);
-                ddl.append(createTableStatement).append("\n");
+            try (ResultSet tableNames = metaData.getTables(null, null, "%", new String[]{"TABLE"})) {
+                while (tableNames.next()) {
+                    String tableName = tableNames.getString("TABLE_NAME");
+                    Set<String> referencedTables = new LinkedHashSet<>();
+                    String createTableStatement = generateCreateTableStatement(tableName, metaData, referencedTables);
+                    tables.put(tableName, new TableStructure(createTableStatement, referencedTables));
+                }
             }
         } catch (SQLException e) {
             throw new RuntimeException(e);
         }
 
-        return ddl.toString();
+        Map<String, Embedding> tableEmbeddings = new HashMap<>();
+        if (embeddingModel != null && maxTables != null && tables.size() > maxTables) {
+            List<String> tableNames = new ArrayList<>(tables.keySet());
+            List<TextSegment> segments = tableNames.stream()
+                    .map(tableName -> TextSegment.from(tables.get(tableName).createTableStatement()))
+                    .toList();
+            List<Embedding> embeddings = embeddingModel.embedAll(segments).content();
+            for (int i = 0; i < tableNames.size(); i++) {
+                tableEmbeddings.put(tableNames.get(i), embeddings.get(i));
+            }
+        }
+
+        return new DatabaseSchema(tables, tableEmbeddings, Instant.now());
     }
 
-    private static String generateCreateTableStatement(String tableName, DatabaseMetaData metaData) {
+    private static String generateCreateTableStatement(String tableName,
+                                                       DatabaseMetaData metaData,
+                                                       Set<String> referencedTables) {
         StringBuilder createTableStatement = new StringBuilder();
 
         try {
@@ -200,6 +273,7 @@ public class SqlDatabaseContentRetriever implements ContentRetriever {
             while (fks.next()) {
                 String fkColumnName = fks.getString("FKCOLUMN_NAME");
                 String pkTableName = fks.getString("PKTABLE_NAME");
+                referencedTables.add(pkTableName);
                 String pkColumnName = fks.getString("PKCOLUMN_NAME");
                 createTableStatement
                         .append("  FOREIGN KEY (")
@@ -264,6 +338,9 @@ public class SqlDatabaseContentRetriever implements ContentRetriever {
                 try (Connection connection = dataSource.getConnection();
                      Statement statement = connection.createStatement()) {
 
+                    statement.setFetchSize(fetchSize);
+                    // one more row than needed, to know whether the result is truncated
+                    statement.setMaxRows(maxRows == Integer.MAX_VALUE ? 0 : maxRows + 1);
                     String result = execute(sqlQuery, statement);
                     Content content = format(result, sqlQuery);
                     return singletonList(content);
@@ -279,7 +356,7 @@ public class SqlDatabaseContentRetriever implements ContentRetriever {
     protected String generateSqlQuery(Query naturalLanguageQuery, String previousSqlQuery, String previousErrorMessage) {
 
         List<ChatMessage> messages = new ArrayList<>();
-        messages.add(createSystemPrompt().toSystemMessage());
+        messages.add(createSystemPrompt(naturalLanguageQuery).toSystemMessage());
         messages.add(UserMessage.from(naturalLanguageQuery.text()));
 
         if (previousSqlQuery != null && previousErrorMessage != null) {
@@ -291,12 +368,90 @@ public class SqlDatabaseContentRetriever implements ContentRetriever {
     }
 
     protected Prompt createSystemPrompt() {
+        return applyPromptTemplate(databaseStructure(null));
+    }
+
+    /**
+     * Creates the {@link SystemMessage} describing the database structure relevant to the query.
+     * Unless an {@link EmbeddingModel} and {@code maxTables} are specified to select the relevant tables,
+     * this calls {@link #createSystemPrompt()}.
+     *
+     * @param naturalLanguageQuery the query, or {@code null} to describe the complete database structure.
+     */
+    protected Prompt createSystemPrompt(Query naturalLanguageQuery) {
+        if (naturalLanguageQuery == null || embeddingModel == null || maxTables == null) {
+            return createSystemPrompt();
+        }
+        return applyPromptTemplate(databaseStructure(naturalLanguageQuery));
+    }
+
+    private Prompt applyPromptTemplate(String databaseStructure) {
         Map<String, Object> variables = new HashMap<>();
         variables.put("sqlDialect", sqlDialect);
         variables.put("databaseStructure", databaseStructure);
         return promptTemplate.apply(variables);
     }
 
+    private String databaseStructure(Query naturalLanguageQuery) {
+        if (databaseStructure != null) {
+            return databaseStructure;
+        }
+
+        DatabaseSchema schema = currentDatabaseSchema();
+        Set<String> tableNames = naturalLanguageQuery == null || schema.tableEmbeddings().isEmpty()
+                ? schema.tables().keySet()
+                : relevantTables(schema, naturalLanguageQuery);
+
+        StringBuilder ddl = new StringBuilder();
+        for (String tableName : tableNames) {
+            ddl.append(schema.tables().get(tableName).createTableStatement()).append("\n");
+        }
+        return ddl.toString();
+    }
+
+    private DatabaseSchema currentDatabaseSchema() {
+        DatabaseSchema schema = databaseSchema;
+        if (databaseStructureTtl != null && schema.isOlderThan(databaseStructureTtl)) {
+            synchronized (this) {
+                schema = databaseSchema;
+                if (schema.isOlderThan(databaseStructureTtl)) {
+                    schema = loadDatabaseSchema();
+                    databaseSchema = schema;
+                }
+            }
+        }
+        return schema;
+    }
+
+    /**
+     * Selects the {@code maxTables} tables most similar to the query, and the tables they reference,
+     * so that the LLM can join them.
+     */
+    private Set<String> relevantTables(DatabaseSchema schema, Query naturalLanguageQuery) {
+        Embedding queryEmbedding = embeddingModel.embed(naturalLanguageQuery.text()).content();
+
+        List<String> mostSimilar = schema.tableEmbeddings().entrySet().stream()
+                .sorted(Comparator.comparingDouble((Map.Entry<String, Embedding> entry) ->
+                        CosineSimilarity.between(entry.getValue(), queryEmbedding)).reversed())
+                .limit(maxTables)
+                .map(Map.Entry::getKey)
+                .toList();
+
+        Set<String> selected = new LinkedHashSet<>(mostSimilar);
+        for (String tableName : mostSimilar) {
+            for (String referencedTable : schema.tables().get(tableName).referencedTables()) {
+                if (schema.tables().containsKey(referencedTable)) {
+                    selected.add(referencedTable);
+                }
+            }
+        }
+
+        // keep the order of the database
+        Set<String> relevantTables = new LinkedHashSet<>(schema.tables().keySet());
+        relevantTables.retainAll(selected);
+        return relevantTables;
+    }
+
     protected String clean(String sqlQuery) {
         if (sqlQuery.contains("```sql")) {
             return sqlQuery.substring(sqlQuery.indexOf("```sql") + 6, sqlQuery.lastIndexOf("```"));
@@ -319,8 +474,12 @@ public class SqlDatabaseContentRetriever implements ContentRetriever {
         }
     }
 
+    /**
+     * Executes the query and formats its result as CSV, reading rows as they are fetched,
+     * and truncating the result after {@code maxRows} rows or {@code maxResultLength} characters.
+     */
     protected String execute(String sqlQuery, Statement statement) throws SQLException {
-        List<String> resultRows = new ArrayList<>();
+        StringBuilder result = new StringBuilder();
 
         try (ResultSet resultSet = statement.executeQuery(sqlQuery)) {
             int columnCount = resultSet.getMetaData().getColumnCount();
@@ -330,31 +489,57 @@ public class SqlDatabaseContentRetriever implements ContentRetriever {
             for (int i = 1; i <= columnCount; i++) {
                 columnNames.add(resultSet.getMetaData().getColumnName(i));
             }
-            resultRows.add(String.join(",", columnNames));
+            result.append(String.join(",", columnNames));
 
             // rows
+            int rowCount = 0;
             while (resultSet.next()) {
+                if (rowCount == maxRows) {
+                    result.append("\n... (truncated: more than ").append(maxRows).append(" rows)");
+                    break;
+                }
+
                 List<String> columnValues = new ArrayList<>();
                 for (int i = 1; i <= columnCount; i++) {
 
-                    String columnValue = resultSet.getObject(i) == null ? "" : resultSet.getObject(i).toString();
+                    Object value = resultSet.getObject(i);
+                    String columnValue = value == null ? "" : value.toString();
 
                     if (columnValue.contains(",")) {
                         columnValue = "\"" + columnValue + "\"";
                     }
                     columnValues.add(columnValue);
                 }
-                resultRows.add(String.join(",", columnValues));
+                String row = String.join(",", columnValues);
+
+                if (result.length() + 1 + row.length() > maxResultLength) {
+                    result.append("\n... (truncated after ").append(rowCount).append(" rows: result too long)");
+                    break;
+                }
+                result.append("\n").append(row);
+                rowCount++;
             }
         }
 
-        return String.join("\n", resultRows);
+        return result.toString();
     }
 
     private static Content format(String result, String sqlQuery) {
         return Content.from(String.format("Result of executing '%s':\n%s", sqlQuery, result));
     }
 
+    private record TableStructure(String createTableStatement, Set<String> referencedTables) {
+    }
+
+    private record DatabaseSchema(Map<String, TableStructure> tables,
+                                  Map<String, Embedding> tableEmbeddings,
+                                  Instant loadedAt) {
+
+        boolean isOlderThan(Duration ttl) {
+            return Instant.now().isAfter(loadedAt.plus(ttl));
+        }
+    }
+
     public static class SqlDatabaseContentRetrieverBuilder {
         private DataSource dataSource;
         private String sqlDialect;
@@ -362,6 +547,12 @@ public class SqlDatabaseContentRetriever implements ContentRetriever {
         private PromptTemplate promptTemplate;
         private ChatModel chatModel;
         private Integer maxRetries;
+        private Duration databaseStructureTtl;
+        private EmbeddingModel embeddingModel;
+        private Integer maxTables;
+        private Integer fetchSize;
+        private Integer maxRows;
+        private Integer maxResultLength;
 
         SqlDatabaseContentRetrieverBuilder() {
         }
@@ -396,12 +587,73 @@ public class SqlDatabaseContentRetriever implements ContentRetriever {
             return this;
         }
 
+        /**
+         * @param databaseStructureTtl how long the database structure generated from the {@code DataSource}
+         *                             is cached before being regenerated. By default, it is never regenerated,
+         *                             unless {@link SqlDatabaseContentRetriever#refreshDatabaseStructure()} is called.
+         * @return {@code this}
+         */
+        public SqlDatabaseContentRetrieverBuilder databaseStructureTtl(Duration databaseStructureTtl) {
+            this.databaseStructureTtl = databaseStructureTtl;
+            return this;
+        }
+
+        /**
+         * @param embeddingModel the model used to select the tables relevant to a query,
+         *                       see {@link #maxTables(Integer)}.
+         * @return {@code this}
+         */
+        public SqlDatabaseContentRetrieverBuilder embeddingModel(EmbeddingModel embeddingModel) {
+            this.embeddingModel = embeddingModel;
+            return this;
+        }
+
+        /**
+         * @param maxTables the maximum number of tables, most similar to the query, described to the LLM
+         *                  (in addition to the tables they reference). Requires an {@link EmbeddingModel}
+         *                  and a database structure generated from the {@code DataSource}.
+         *                  By default, all tables are described.
+         * @return {@code this}
+         */
+        public SqlDatabaseContentRetrieverBuilder maxTables(Integer maxTables) {
+            this.maxTables = maxTables;
+            return this;
+        }
+
+        /**
+         * @param fetchSize the number of rows fetched from the database at once. Default: 100.
+         *                  Some drivers (e.g. PostgreSQL) only honor it when auto-commit is disabled.
+         * @return {@code this}
+         */
+        public SqlDatabaseContentRetrieverBuilder fetchSize(Integer fetchSize) {
+            this.fetchSize = fetchSize;
+            return this;
+        }
+
+        /**
+         * @param maxRows the maximum number of rows included in the content. By default, there is no limit.
+         * @return {@code this}
+         */
+        public SqlDatabaseContentRetrieverBuilder maxRows(Integer maxRows) {
+            this.maxRows = maxRows;
+            return this;
+        }
+
+        /**
+         * @param maxResultLength the maximum number of characters of the formatted result. Default: 100,000.
+         * @return {@code this}
+         */
+        public SqlDatabaseContentRetrieverBuilder maxResultLength(Integer maxResultLength) {
+            this.maxResultLength = maxResultLength;
+            return this;
+        }
+
         public SqlDatabaseContentRetriever build() {
-            return new SqlDatabaseContentRetriever(this.dataSource, this.sqlDialect, this.databaseStructure, this.promptTemplate, this.chatModel, this.maxRetries);
+            return new SqlDatabaseContentRetriever(this);
         }
 
         public String toString() {
-            return "SqlDatabaseContentRetriever.SqlDatabaseContentRetrieverBuilder(dataSource=" + this.dataSource + ", sqlDialect=" + this.sqlDialect + ", databaseStructure=" + this.databaseStructure + ", promptTemplate=" + this.promptTemplate + ", chatModel=" + this.chatModel + ", maxRetries=" + this.maxRetries + ")";
+            return "SqlDatabaseContentRetriever.SqlDatabaseContentRetrieverBuilder(dataSource=" + this.dataSource + ", sqlDialect=" + this.sqlDialect + ", databaseStructure=" + this.databaseStructure + ", promptTemplate=" + this.promptTemplate + ", chatModel=" + this.chatModel + ", maxRetries=" + this.maxRetries + ", databaseStructureTtl=" + this.databaseStructureTtl + ", embeddingModel=" + this.embeddingModel + ", maxTables=" + this.maxTables + ", fetchSize=" + this.fetchSize + ", maxRows=" + this.maxRows + ", maxResultLength=" + this.maxResultLength + ")";
         }
     }
 }
@@ -3,11 +3,13 @@ package dev.langchain4j.experimental.rag.content.retriever.sql;
 import dev.langchain4j.model.chat.ChatModel;
 import dev.langchain4j.model.mistralai.MistralAiChatModel;
 import dev.langchain4j.model.openai.OpenAiChatModel;
+import dev.langchain4j.model.openai.OpenAiEmbeddingModel;
 import dev.langchain4j.rag.content.Content;
 import dev.langchain4j.rag.content.retriever.ContentRetriever;
 import dev.langchain4j.rag.query.Query;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.postgresql.ds.PGSimpleDataSource;
@@ -29,6 +31,7 @@ import java.util.stream.Stream;
 
 import static dev.langchain4j.model.mistralai.MistralAiChatModelName.MISTRAL_SMALL_LATEST;
 import static dev.langchain4j.model.openai.OpenAiChatModelName.GPT_4_1_NANO;
+import static dev.langchain4j.model.openai.OpenAiEmbeddingModelName.TEXT_EMBEDDING_3_SMALL;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 
@@ -261,6 +264,27 @@ class SqlDatabaseContentRetrieverIT {
         assertThat(getTableHash(dataSource, "orders")).isEqualTo(ordersHash);
     }
 
+    @Test
+    void should_truncate_result_to_max_rows() {
+
+        // given
+        ContentRetriever contentRetriever = SqlDatabaseContentRetriever.builder()
+                .dataSource(dataSource)
+                .chatModel(openAiChatModel)
+                .maxRows(2)
+                .build();
+
+        // when
+        List<Content> retrieved = contentRetriever.retrieve(Query.from("List the first names of all customers"));
+
+        // then
+        assertThat(retrieved).hasSize(1);
+
+        String text = retrieved.get(0).textSegment().text();
+        assertThat(text.lines().filter(line -> !line.isBlank()).count()).isLessThanOrEqualTo(5);
+        assertThat(text).contains("truncated: more than 2 rows");
+    }
+
     private static void execute(String sql, DataSource dataSource) {
         try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
             for (String sqlStatement : sql.split(";")) {
@@ -303,6 +327,17 @@ class SqlDatabaseContentRetrieverIT {
                         .dataSource(dataSource)
                         .chatModel(openAiChatModel)
                         .build(),
+                dataSource -> SqlDatabaseContentRetriever.builder()
+                        .dataSource(dataSource)
+                        .chatModel(openAiChatModel)
+                        .embeddingModel(OpenAiEmbeddingModel.builder()
+                                .baseUrl(System.getenv("OPENAI_BASE_URL"))
+                                .apiKey(System.getenv("OPENAI_API_KEY"))
+                                .organizationId(System.getenv("OPENAI_ORGANIZATION_ID"))
+                                .modelName(TEXT_EMBEDDING_3_SMALL)
+                                .build())
+                        .maxTables(2)
+                        .build(),
 
                 // Mistral
                 dataSource -> SqlDatabaseContentRetriever.builder()
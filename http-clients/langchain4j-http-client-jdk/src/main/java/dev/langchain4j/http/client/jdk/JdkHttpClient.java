@@ -50,7 +50,7 @@ public class JdkHttpClient implements HttpClient {
             java.net.http.HttpResponse<String> jdkResponse = delegate.send(jdkRequest, BodyHandlers.ofString());
 
             if (!isSuccessful(jdkResponse)) {
-                throw new HttpException(jdkResponse.statusCode(), jdkResponse.body());
+                throw new HttpException(jdkResponse.statusCode(), jdkResponse.body(), retryAfter(jdkResponse));
             }
 
             return fromJdkResponse(jdkResponse, jdkResponse.body());
@@ -69,7 +69,8 @@ public class JdkHttpClient implements HttpClient {
                 .thenAccept(jdkResponse -> {
 
                     if (!isSuccessful(jdkResponse)) {
-                        HttpException exception = new HttpException(jdkResponse.statusCode(), readBody(jdkResponse));
+                        HttpException exception = new HttpException(
+                                jdkResponse.statusCode(), readBody(jdkResponse), retryAfter(jdkResponse));
                         ignoringExceptions(() -> listener.onError(exception));
                         return;
                     }
@@ -132,6 +133,11 @@ public class JdkHttpClient implements HttpClient {
         return statusCode >= 200 && statusCode < 300;
     }
 
+    private static Duration retryAfter(java.net.http.HttpResponse<?> response) {
+        return HttpException.parseRetryAfter(
+                response.headers().firstValue("Retry-After").orElse(null));
+    }
+
     private static String readBody(java.net.http.HttpResponse<InputStream> response) {
         try (InputStream inputStream = response.body();
              BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
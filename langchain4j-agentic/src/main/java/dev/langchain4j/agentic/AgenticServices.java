@@ -59,6 +59,7 @@ import dev.langchain4j.memory.chat.ChatMemoryProvider;
 import dev.langchain4j.model.chat.ChatModel;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -442,7 +443,12 @@ public class AgenticServices {
             Consumer<DeclarativeAgentCreationContext> agentConfigurator) {
         ParallelAgent parallelAgent = agentMethod.getAnnotation(ParallelAgent.class);
         var builder = parallelBuilder(agentServiceClass)
-                .subAgents(createSubagents(parallelAgent.subAgents(), chatModel, agentConfigurator));
+                .subAgents(createSubagents(parallelAgent.subAgents(), chatModel, agentConfigurator))
+                .maxConcurrency(parallelAgent.maxConcurrency())
+                .cancelOnFailure(parallelAgent.cancelOnFailure());
+        if (parallelAgent.agentTimeoutMillis() > 0) {
+            builder.agentTimeout(Duration.ofMillis(parallelAgent.agentTimeoutMillis()));
+        }
 
         buildAgentSpecs(
                 agentServiceClass,
@@ -58,4 +58,26 @@ public @interface ParallelAgent {
      * @return array of sub-agents.
      */
     SubAgent[] subAgents();
+
+    /**
+     * Maximum number of sub-agents running at the same time. A value lower than or equal to zero means no limit.
+     *
+     * @return maximum number of sub-agents running at the same time.
+     */
+    int maxConcurrency() default 0;
+
+    /**
+     * Maximum duration, in milliseconds, of the execution of each sub-agent. A value lower than or equal to zero
+     * means no timeout.
+     *
+     * @return maximum duration of the execution of each sub-agent in milliseconds.
+     */
+    long agentTimeoutMillis() default 0;
+
+    /**
+     * Whether the first failing sub-agent should cancel the other ones instead of waiting for their completion.
+     *
+     * @return true if the sub-agents should be cancelled on the first failure.
+     */
+    boolean cancelOnFailure() default false;
 }
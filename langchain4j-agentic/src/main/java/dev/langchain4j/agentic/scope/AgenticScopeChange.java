@@ -0,0 +1,27 @@
+package dev.langchain4j.agentic.scope;
+
+import dev.langchain4j.agentic.internal.AgentInvocation;
+import dev.langchain4j.agentic.scope.DefaultAgenticScope.AgentMessage;
+
+/**
+ * A single mutation of a {@link DefaultAgenticScope}. The changes recorded by a persistent AgenticScope
+ * since its last checkpoint are handed to {@link AgenticScopeStore#saveChanges}, so that a store can persist
+ * them incrementally and later rebuild the AgenticScope with {@link DefaultAgenticScope#applyChanges}.
+ */
+public sealed interface AgenticScopeChange {
+
+    /**
+     * A state variable was written. A {@code null} value means that the variable was removed.
+     */
+    record StateWritten(String key, Object value) implements AgenticScopeChange {}
+
+    /**
+     * An agent was invoked.
+     */
+    record AgentInvoked(AgentInvocation invocation) implements AgenticScopeChange {}
+
+    /**
+     * A message was added to the context of the AgenticScope.
+     */
+    record ContextMessageAdded(AgentMessage message) implements AgenticScopeChange {}
+}
@@ -1,6 +1,7 @@
 package dev.langchain4j.agentic.scope;
 
 import dev.langchain4j.Internal;
+import java.util.List;
 
 /**
  * A codec for serializing and deserializing {@link DefaultAgenticScope} objects to and from JSON.
@@ -21,4 +22,18 @@ public interface AgenticScopeJsonCodec {
      * @return the serialized JSON string.
      */
     String toJson(DefaultAgenticScope agenticScope);
+
+    /**
+     * Deserializes a JSON string to a list of {@link AgenticScopeChange}s.
+     * @param json the JSON string.
+     * @return the deserialized changes.
+     */
+    List<AgenticScopeChange> changesFromJson(String json);
+
+    /**
+     * Serializes a list of {@link AgenticScopeChange}s to a JSON string.
+     * @param changes the changes.
+     * @return the serialized JSON string.
+     */
+    String changesToJson(List<AgenticScopeChange> changes);
 }
@@ -30,6 +30,14 @@ public class AgenticScopeRegistry {
 
     public void update(DefaultAgenticScope agenticScope) {
         if (hasStore()) {
+            AgenticScopeKey key = new AgenticScopeKey(agentId, agenticScope.memoryId());
+            store.saveChanges(key, agenticScope, agenticScope.drainChanges());
+        }
+    }
+
+    private void checkpoint(DefaultAgenticScope agenticScope) {
+        if (hasStore()) {
+            agenticScope.drainChanges();
             store.save(new AgenticScopeKey(agentId, agenticScope.memoryId()), agenticScope);
         }
     }
@@ -64,7 +72,7 @@ public class AgenticScopeRegistry {
 
     private void register(DefaultAgenticScope agenticScope) {
         inMemoryAgenticScope.put(new AgenticScopeKey(agentId, agenticScope.memoryId()), agenticScope);
-        update(agenticScope);
+        checkpoint(agenticScope);
     }
 
     public boolean evict(Object memoryId) {
@@ -1,5 +1,6 @@
 package dev.langchain4j.agentic.scope;
 
+import java.util.List;
 import java.util.ServiceLoader;
 
 /**
@@ -39,4 +40,24 @@ public class AgenticScopeSerializer {
     public static DefaultAgenticScope fromJson(String json) {
         return CODEC.fromJson(json);
     }
+
+    /**
+     * Serializes the changes applied to a AgenticScope into a JSON string.
+     *
+     * @param changes the changes to be serialized, as returned by {@link DefaultAgenticScope#drainChanges()}.
+     * @return A JSON string with the changes.
+     */
+    public static String changesToJson(List<AgenticScopeChange> changes) {
+        return CODEC.changesToJson(changes);
+    }
+
+    /**
+     * Deserializes a JSON string into a list of changes to be applied with {@link DefaultAgenticScope#applyChanges}.
+     *
+     * @param json JSON string to be deserialized.
+     * @return the changes.
+     */
+    public static List<AgenticScopeChange> changesFromJson(String json) {
+        return CODEC.changesFromJson(json);
+    }
 }
@@ -0,0 +1,23 @@
+package dev.langchain4j.agentic.scope;
+
+import dev.langchain4j.agentic.internal.AgentInvocation;
+import dev.langchain4j.agentic.scope.DefaultAgenticScope.AgentMessage;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable, point-in-time view of a {@link DefaultAgenticScope}.
+ * It can be read without any synchronization while agents keep modifying the AgenticScope.
+ *
+ * @param memoryId         the memory ID of the AgenticScope
+ * @param version          the number of changes applied to the AgenticScope when the snapshot was taken
+ * @param state            the state variables
+ * @param agentInvocations the invocations of each agent, keyed by agent name
+ * @param context          the messages exchanged by the agents
+ */
+public record AgenticScopeSnapshot(
+        Object memoryId,
+        long version,
+        Map<String, Object> state,
+        Map<String, List<AgentInvocation>> agentInvocations,
+        List<AgentMessage> context) {}
@@ -1,5 +1,6 @@
 package dev.langchain4j.agentic.scope;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -17,6 +18,24 @@ public interface AgenticScopeStore {
      */
     boolean save(AgenticScopeKey key, DefaultAgenticScope agenticScope);
 
+    /**
+     * Persists the changes applied to a AgenticScope since it was last saved.
+     * <p>
+     * The default implementation saves the whole AgenticScope. Stores able to append the changes to what they
+     * previously saved should override this method, so that persisting a AgenticScope takes a time proportional
+     * to the size of the changes rather than to the size of the AgenticScope. Such stores must then rebuild
+     * the AgenticScope when loading it, by applying the stored changes with {@link DefaultAgenticScope#applyChanges}
+     * to the last fully saved AgenticScope.
+     *
+     * @param key the ID of the AgenticScope
+     * @param agenticScope the AgenticScope to persist
+     * @param changes the changes applied to the AgenticScope since it was last saved, in the order in which they were applied
+     * @return true if the operation was successful
+     */
+    default boolean saveChanges(AgenticScopeKey key, DefaultAgenticScope agenticScope, List<AgenticScopeChange> changes) {
+        return save(key, agenticScope);
+    }
+
     /**
      * Loads a AgenticScope by its ID.
      *
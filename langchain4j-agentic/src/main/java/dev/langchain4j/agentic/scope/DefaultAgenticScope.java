@@ -20,9 +20,13 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Function;
@@ -42,6 +46,15 @@ public class DefaultAgenticScope implements AgenticScope {
 
     private final transient Map<String, Object> agents = new ConcurrentHashMap<>();
 
+    /**
+     * The changes applied since the last checkpoint, recorded only for persistent AgenticScopes. Each change is
+     * appended while holding the lock of the data structure it modifies, so that changes to the same state variable
+     * or list are recorded in the same order in which they were applied.
+     */
+    private final transient Queue<AgenticScopeChange> pendingChanges = new ConcurrentLinkedQueue<>();
+    private final transient AtomicLong version = new AtomicLong();
+    private transient volatile AgenticScopeSnapshot lastSnapshot;
+
     private static final Function<ErrorContext, ErrorRecoveryResult> DEFAULT_ERROR_RECOVERY =
             errorContext -> ErrorRecoveryResult.throwException();
 
@@ -78,18 +91,20 @@ public class DefaultAgenticScope implements AgenticScope {
 
     @Override
     public void writeState(String key, Object value) {
-        withReadLock(() -> {
-            if (value == null) {
-                state.remove(key);
-            } else {
-                state.put(key, value);
-            }
-        });
+        withReadLock(() -> internalWriteState(key, value));
     }
 
     @Override
     public void writeStates(Map<String, Object> newState) {
-        withReadLock(() -> state.putAll(newState));
+        withReadLock(() -> newState.forEach(this::internalWriteState));
+    }
+
+    private void internalWriteState(String key, Object value) {
+        state.compute(key, (k, oldValue) -> {
+            recordChange(new AgenticScopeChange.StateWritten(key, value));
+            return value;
+        });
+        incrementVersion();
     }
 
     @Override
@@ -130,12 +145,105 @@ public class DefaultAgenticScope implements AgenticScope {
 
     public void registerAgentCall(AgentSpecification agentSpec, Object agent, AgentInvocationArguments input, Object output) {
         withReadLock(() -> {
-            agentInvocations.computeIfAbsent(agentSpec.name(), name -> new ArrayList<>())
-                            .add(new AgentInvocation(agentSpec.name(), input.namedArgs(), output));
+            addAgentInvocation(new AgentInvocation(agentSpec.name(), input.namedArgs(), output));
             registerContext(agentSpec, agent, output);
         });
     }
 
+    private void addAgentInvocation(AgentInvocation invocation) {
+        // the lists of invocations are copied on write, so that they can be read and snapshotted without locking
+        agentInvocations.compute(invocation.agentName(), (name, invocations) -> {
+            List<AgentInvocation> updated = invocations == null ? new ArrayList<>(1) : new ArrayList<>(invocations);
+            updated.add(invocation);
+            recordChange(new AgenticScopeChange.AgentInvoked(invocation));
+            return Collections.unmodifiableList(updated);
+        });
+        incrementVersion();
+    }
+
+    private void addContextMessage(AgentMessage message) {
+        synchronized (context) {
+            context.add(message);
+            recordChange(new AgenticScopeChange.ContextMessageAdded(message));
+        }
+        incrementVersion();
+    }
+
+    private void recordChange(AgenticScopeChange change) {
+        if (kind == Kind.PERSISTENT) {
+            pendingChanges.add(change);
+        }
+    }
+
+    /**
+     * Must be called once a change is visible to readers: a snapshot taken at a given version then contains at least
+     * all the changes counted by this version, and a stale snapshot can never be cached under a newer version.
+     */
+    private void incrementVersion() {
+        version.incrementAndGet();
+    }
+
+    /**
+     * Returns an immutable view of the current content of this AgenticScope. The snapshot is cached and
+     * only rebuilt when the AgenticScope has been modified since it was taken, so repeated reads are cheap.
+     */
+    public AgenticScopeSnapshot snapshot() {
+        // the version is read before copying the content, so that the copy is at least as recent as the version
+        long currentVersion = version.get();
+        AgenticScopeSnapshot snapshot = lastSnapshot;
+        if (snapshot != null && snapshot.version() == currentVersion) {
+            return snapshot;
+        }
+        List<AgentMessage> contextCopy;
+        synchronized (context) {
+            contextCopy = List.copyOf(context);
+        }
+        snapshot = new AgenticScopeSnapshot(
+                memoryId, currentVersion, Map.copyOf(state), Map.copyOf(agentInvocations), contextCopy);
+        lastSnapshot = snapshot;
+        return snapshot;
+    }
+
+    /**
+     * Returns the changes applied to this AgenticScope since the last call of this method, and starts recording
+     * a new batch of changes. Successive writes of the same state variable are collapsed into the last one.
+     * Only persistent AgenticScopes record their changes.
+     */
+    public List<AgenticScopeChange> drainChanges() {
+        Map<String, AgenticScopeChange> stateChanges = new LinkedHashMap<>();
+        List<AgenticScopeChange> otherChanges = new ArrayList<>();
+        AgenticScopeChange change;
+        while ((change = pendingChanges.poll()) != null) {
+            if (change instanceof AgenticScopeChange.StateWritten stateWritten) {
+                stateChanges.remove(stateWritten.key());
+                stateChanges.put(stateWritten.key(), stateWritten);
+            } else {
+                otherChanges.add(change);
+            }
+        }
+        List<AgenticScopeChange> changes = new ArrayList<>(stateChanges.values());
+        changes.addAll(otherChanges);
+        return changes;
+    }
+
+    /**
+     * Applies changes previously obtained from {@link #drainChanges()}, typically to rebuild an AgenticScope
+     * from its last checkpoint and the changes persisted since then.
+     */
+    public void applyChanges(List<AgenticScopeChange> changes) {
+        withReadLock(() -> {
+            for (AgenticScopeChange change : changes) {
+                if (change instanceof AgenticScopeChange.StateWritten stateWritten) {
+                    internalWriteState(stateWritten.key(), stateWritten.value());
+                } else if (change instanceof AgenticScopeChange.AgentInvoked agentInvoked) {
+                    addAgentInvocation(agentInvoked.invocation());
+                } else if (change instanceof AgenticScopeChange.ContextMessageAdded contextMessageAdded) {
+                    addContextMessage(contextMessageAdded.message());
+                }
+            }
+        });
+    }
+
     public void rootCallStarted(AgenticScopeRegistry registry) {
     }
 
@@ -165,8 +273,8 @@ public class DefaultAgenticScope implements AgenticScope {
     	if (chatMemory != null) {
             registerContextFromChatMemory(agentSpec, chatMemory);
     	} else if (output != null && agent instanceof ChatMessagesAccess chatMessagesAccess) {
-            context.add(new AgentMessage(agentSpec.name(), agentSpec.uniqueName(), chatMessagesAccess.lastUserMessage()));
-            context.add(new AgentMessage(agentSpec.name(), agentSpec.uniqueName(), AiMessage.aiMessage(output.toString())));
+            addContextMessage(new AgentMessage(agentSpec.name(), agentSpec.uniqueName(), chatMessagesAccess.lastUserMessage()));
+            addContextMessage(new AgentMessage(agentSpec.name(), agentSpec.uniqueName(), AiMessage.aiMessage(output.toString())));
         }
     }
 
@@ -184,9 +292,9 @@ public class DefaultAgenticScope implements AgenticScope {
         for (int i = agentMessages.size() - 1; i >= 0; i--) {
         	if (agentMessages.get(i) instanceof UserMessage userMessage) {
         		// Only add to the agenticScope's context the last UserMessage ...
-        		context.add(new AgentMessage(agentSpec.name(), agentSpec.uniqueName(), userMessage));
+        		addContextMessage(new AgentMessage(agentSpec.name(), agentSpec.uniqueName(), userMessage));
         		// ... and last AiMessage response, all other messages are local to the invoked agent internals
-        		context.add(new AgentMessage(agentSpec.name(), agentSpec.uniqueName(), aiMessage));
+        		addContextMessage(new AgentMessage(agentSpec.name(), agentSpec.uniqueName(), aiMessage));
                 return;
         	}
         }
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DatabindContext;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -24,6 +25,7 @@ import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.JacksonChatMessageJsonCodec;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
@@ -52,6 +54,8 @@ class JacksonAgenticScopeJsonCodec implements AgenticScopeJsonCodec {
 
     private static final ObjectMapper MAPPER = agenticScopeJsonSerializer();
 
+    private static final TypeReference<List<AgenticScopeChange>> CHANGE_LIST_TYPE = new TypeReference<>() {};
+
     @Override
     public DefaultAgenticScope fromJson(String json) {
         try {
@@ -70,6 +74,24 @@ class JacksonAgenticScopeJsonCodec implements AgenticScopeJsonCodec {
         }
     }
 
+    @Override
+    public List<AgenticScopeChange> changesFromJson(String json) {
+        try {
+            return MAPPER.readValue(json, CHANGE_LIST_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to deserialize AgenticScope changes from JSON", e);
+        }
+    }
+
+    @Override
+    public String changesToJson(List<AgenticScopeChange> changes) {
+        try {
+            return MAPPER.writerFor(CHANGE_LIST_TYPE).writeValueAsString(changes);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Failed to serialize AgenticScope changes to JSON", e);
+        }
+    }
+
     @JsonInclude(NON_NULL)
     private static abstract class AgenticScopeMixin {
         @JsonCreator
@@ -1,8 +1,30 @@
 package dev.langchain4j.agentic.workflow;
 
+import java.time.Duration;
 import java.util.concurrent.Executor;
 
 public interface ParallelAgentService<T> extends WorkflowService<ParallelAgentService<T>, T> {
 
     ParallelAgentService<T> executor(Executor executor);
+
+    /**
+     * Limits the number of sub-agents running at the same time. The remaining sub-agents are started,
+     * in the order in which they were declared, as soon as the running ones complete.
+     * A value lower than or equal to zero, which is the default, means no limit.
+     */
+    ParallelAgentService<T> maxConcurrency(int maxConcurrency);
+
+    /**
+     * Sets the maximum duration of the execution of each sub-agent. A sub-agent exceeding it is interrupted
+     * and the parallel agent fails with a {@link java.util.concurrent.TimeoutException} as the root cause.
+     * By default, there is no timeout.
+     */
+    ParallelAgentService<T> agentTimeout(Duration agentTimeout);
+
+    /**
+     * When enabled, the first failing sub-agent causes the running sub-agents to be interrupted and
+     * the ones not yet started to be skipped, instead of waiting for all of them to complete before failing.
+     * Disabled by default.
+     */
+    ParallelAgentService<T> cancelOnFailure(boolean cancelOnFailure);
 }
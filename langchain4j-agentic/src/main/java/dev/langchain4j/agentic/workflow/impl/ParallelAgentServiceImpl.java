@@ -11,16 +11,19 @@ import dev.langchain4j.internal.DefaultExecutorProvider;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
-import java.util.concurrent.CompletableFuture;
+import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Future;
 
 import static dev.langchain4j.agentic.internal.AgentUtil.validateAgentClass;
 
 public class ParallelAgentServiceImpl<T> extends AbstractService<T, ParallelAgentService<T>> implements ParallelAgentService<T> {
 
     private Executor executor;
+    private int maxConcurrency;
+    private Duration agentTimeout;
+    private boolean cancelOnFailure;
 
     private ParallelAgentServiceImpl(Class<T> agentServiceClass, Method agenticMethod) {
         super(agentServiceClass, agenticMethod);
@@ -57,14 +60,15 @@ public class ParallelAgentServiceImpl<T> extends AbstractService<T, ParallelAgen
 
         private void parallelExecution(DefaultAgenticScope agenticScope) {
             Executor exec = executor != null ? executor : DefaultExecutorProvider.getDefaultExecutorService();
-            var tasks = agentExecutors().stream()
-                    .map(agentExecutor -> CompletableFuture.supplyAsync(() -> agentExecutor.execute(agenticScope), exec))
+            List<Runnable> actions = agentExecutors().stream()
+                    .<Runnable>map(agentExecutor -> () -> agentExecutor.execute(agenticScope))
                     .toList();
             try {
-                for (Future<?> future : tasks) {
-                    future.get();
-                }
-            } catch (InterruptedException | ExecutionException e) {
+                new ParallelExecution(actions, exec, maxConcurrency, agentTimeout, cancelOnFailure).run();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } catch (ExecutionException e) {
                 throw new RuntimeException(e);
             }
         }
@@ -82,4 +86,19 @@ public class ParallelAgentServiceImpl<T> extends AbstractService<T, ParallelAgen
         this.executor = executor;
         return this;
     }
+
+    public ParallelAgentServiceImpl<T> maxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
+
+    public ParallelAgentServiceImpl<T> agentTimeout(Duration agentTimeout) {
+        this.agentTimeout = agentTimeout;
+        return this;
+    }
+
+    public ParallelAgentServiceImpl<T> cancelOnFailure(boolean cancelOnFailure) {
+        this.cancelOnFailure = cancelOnFailure;
+        return this;
+    }
 }
@@ -0,0 +1,238 @@
+package dev.langchain4j.agentic.workflow.impl;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs a list of actions in parallel on a given {@link Executor}, optionally limiting how many of them run
+ * at the same time, enforcing a deadline on each of them and cancelling the remaining ones as soon as one fails.
+ * <p>
+ * Pending actions are only handed to the executor when a slot is free, so a bounded execution never
+ * occupies more than {@code maxConcurrency} threads of the executor. A slot is freed when the thread running
+ * an action leaves it: an action that times out or is cancelled is interrupted, but keeps its slot until it
+ * actually returns. For the same reason, {@link #run()} only returns once no action is running anymore.
+ * <p>
+ * The deadline of an action starts when the action starts running, not when it is handed to the executor.
+ */
+class ParallelExecution {
+
+    private static final ScheduledThreadPoolExecutor TIMER = createTimer();
+
+    private final List<Task> tasks;
+    private final Executor executor;
+    private final int maxConcurrency;
+    private final Duration taskTimeout;
+    private final boolean cancelOnFailure;
+    private final AtomicInteger nextTask = new AtomicInteger();
+    private final AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+    private final AtomicInteger remainingTasks;
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    private volatile boolean cancelled = false;
+
+    ParallelExecution(
+            List<Runnable> actions,
+            Executor executor,
+            int maxConcurrency,
+            Duration taskTimeout,
+            boolean cancelOnFailure) {
+        this.tasks = actions.stream().map(Task::new).toList();
+        this.executor = executor;
+        this.maxConcurrency = maxConcurrency > 0 ? Math.min(maxConcurrency, tasks.size()) : tasks.size();
+        this.taskTimeout = taskTimeout;
+        this.cancelOnFailure = cancelOnFailure;
+        this.remainingTasks = new AtomicInteger(tasks.size());
+        tasks.forEach(task -> {
+            task.future.whenComplete((result, error) -> onOutcome(error));
+            task.exited.thenRun(this::onExit);
+        });
+        if (tasks.isEmpty()) {
+            completion.complete(null);
+        }
+    }
+
+    /**
+     * Runs all the actions and waits for their completion.
+     *
+     * @throws ExecutionException if one of the actions failed or timed out; its cause is the first failure that occurred.
+     * @throws InterruptedException if the calling thread was interrupted while waiting. All the actions are cancelled,
+     * and the running ones are waited for before throwing.
+     */
+    void run() throws ExecutionException, InterruptedException {
+        for (int i = 0; i < maxConcurrency; i++) {
+            startNext();
+        }
+        try {
+            completion.get();
+        } catch (InterruptedException e) {
+            cancelAll();
+            awaitCompletionUninterruptibly();
+            throw e;
+        }
+        Throwable failure = firstFailure.get();
+        if (failure != null) {
+            throw new ExecutionException(failure);
+        }
+    }
+
+    private void awaitCompletionUninterruptibly() {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                completion.get();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            } catch (ExecutionException e) {
+                break;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void startNext() {
+        Task task;
+        do {
+            if (cancelled) {
+                return;
+            }
+            int index = nextTask.getAndIncrement();
+            if (index >= tasks.size()) {
+                return;
+            }
+            task = tasks.get(index);
+            // a task cancelled before it could start is skipped, to keep the slot busy
+        } while (!task.submit());
+        Task submitted = task;
+        try {
+            executor.execute(submitted::run);
+        } catch (RuntimeException e) {
+            submitted.future.completeExceptionally(e);
+            submitted.exited.complete(null);
+        }
+    }
+
+    private void onOutcome(Throwable error) {
+        if (error != null && !(error instanceof CancellationException)) {
+            if (firstFailure.compareAndSet(null, error) && cancelOnFailure) {
+                cancelAll();
+            }
+        }
+    }
+
+    private void onExit() {
+        if (remainingTasks.decrementAndGet() == 0) {
+            // only completed here, so that the caller is released once no action is running anymore
+            completion.complete(null);
+        } else {
+            startNext();
+        }
+    }
+
+    private void cancelAll() {
+        cancelled = true;
+        for (Task task : tasks) {
+            task.abort(new CancellationException("Cancelled because a parallel agent failed"));
+        }
+    }
+
+    private static ScheduledThreadPoolExecutor createTimer() {
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "langchain4j-parallel-agent-timeout");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // timeouts of actions completing in time are cancelled, they must not pile up in the queue
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+
+    private class Task {
+
+        private final Runnable action;
+        // the outcome of the action: completed when it returns, fails, times out or is cancelled
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        // completed once the task does not occupy a slot anymore: its thread left it, or it never started
+        private final CompletableFuture<Void> exited = new CompletableFuture<>();
+        private boolean submitted;
+        private Thread runner;
+
+        private Task(Runnable action) {
+            this.action = action;
+        }
+
+        /**
+         * @return {@code false} if the task was aborted before it could be submitted, and must be skipped.
+         */
+        synchronized boolean submit() {
+            if (future.isDone()) {
+                return false;
+            }
+            submitted = true;
+            return true;
+        }
+
+        void run() {
+            boolean abortedBeforeStart;
+            synchronized (this) {
+                abortedBeforeStart = future.isDone();
+                if (!abortedBeforeStart) {
+                    runner = Thread.currentThread();
+                }
+            }
+            if (abortedBeforeStart) {
+                exited.complete(null);
+                return;
+            }
+            ScheduledFuture<?> timeout = taskTimeout == null
+                    ? null
+                    : TIMER.schedule(
+                            () -> abort(new TimeoutException("Agent execution timed out after " + taskTimeout)),
+                            taskTimeout.toMillis(),
+                            TimeUnit.MILLISECONDS);
+            try {
+                action.run();
+                future.complete(null);
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            } finally {
+                if (timeout != null) {
+                    timeout.cancel(false);
+                }
+                synchronized (this) {
+                    runner = null;
+                    // clears a possible interruption caused by abort(), the thread may be reused by the executor
+                    Thread.interrupted();
+                }
+                exited.complete(null);
+            }
+        }
+
+        void abort(Throwable reason) {
+            // completion callbacks must not run while holding the lock, as they may abort other tasks
+            if (future.completeExceptionally(reason)) {
+                boolean neverStarted;
+                synchronized (this) {
+                    if (runner != null) {
+                        runner.interrupt();
+                    }
+                    neverStarted = !submitted;
+                }
+                if (neverStarted) {
+                    exited.complete(null);
+                }
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package dev.langchain4j.agentic;
 
+import dev.langchain4j.agentic.scope.AgenticScopeChange;
 import dev.langchain4j.agentic.scope.AgenticScopeKey;
 import dev.langchain4j.agentic.scope.AgenticScopeStore;
 import dev.langchain4j.agentic.scope.AgenticScopeSerializer;
@@ -14,11 +15,24 @@ import java.util.Set;
 public class JsonInMemoryAgenticScopeStore implements AgenticScopeStore {
 
     private final Map<AgenticScopeKey, String> jsonAgenticScopes = new HashMap<>();
+    private final Map<AgenticScopeKey, List<String>> jsonChanges = new HashMap<>();
     private final List<Object> loadedIds = new ArrayList<>();
 
     @Override
     public boolean save(AgenticScopeKey key, DefaultAgenticScope agenticScope) {
         jsonAgenticScopes.put(key, AgenticScopeSerializer.toJson(agenticScope));
+        jsonChanges.remove(key);
+        return true;
+    }
+
+    @Override
+    public boolean saveChanges(AgenticScopeKey key, DefaultAgenticScope agenticScope, List<AgenticScopeChange> changes) {
+        if (!jsonAgenticScopes.containsKey(key)) {
+            return save(key, agenticScope);
+        }
+        if (!changes.isEmpty()) {
+            jsonChanges.computeIfAbsent(key, k -> new ArrayList<>()).add(AgenticScopeSerializer.changesToJson(changes));
+        }
         return true;
     }
 
@@ -27,12 +41,17 @@ public class JsonInMemoryAgenticScopeStore implements AgenticScopeStore {
         return Optional.ofNullable(jsonAgenticScopes.get(key))
                 .map(s -> {
                     loadedIds.add(key.memoryId());
-                    return AgenticScopeSerializer.fromJson(s);
+                    DefaultAgenticScope agenticScope = AgenticScopeSerializer.fromJson(s);
+                    jsonChanges.getOrDefault(key, List.of())
+                            .forEach(changes -> agenticScope.applyChanges(AgenticScopeSerializer.changesFromJson(changes)));
+                    agenticScope.drainChanges();
+                    return agenticScope;
                 });
     }
 
     @Override
     public boolean delete(AgenticScopeKey key) {
+        jsonChanges.remove(key);
         return jsonAgenticScopes.remove(key) != null;
     }
 
@@ -0,0 +1,90 @@
+package dev.langchain4j.agentic.scope;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class AgenticScopeChangesTest {
+
+    @Test
+    void should_record_changes_of_persistent_scope_only() {
+        DefaultAgenticScope persistent = new DefaultAgenticScope(DefaultAgenticScope.Kind.PERSISTENT);
+        DefaultAgenticScope registered = new DefaultAgenticScope(DefaultAgenticScope.Kind.REGISTERED);
+
+        persistent.writeState("topic", "dragons");
+        registered.writeState("topic", "dragons");
+
+        assertThat(persistent.drainChanges())
+                .containsExactly(new AgenticScopeChange.StateWritten("topic", "dragons"));
+        assertThat(registered.drainChanges()).isEmpty();
+    }
+
+    @Test
+    void should_only_return_changes_since_last_drain() {
+        DefaultAgenticScope agenticScope = new DefaultAgenticScope(DefaultAgenticScope.Kind.PERSISTENT);
+
+        agenticScope.writeState("topic", "dragons");
+        agenticScope.drainChanges();
+        agenticScope.writeState("style", "comedy");
+
+        assertThat(agenticScope.drainChanges())
+                .containsExactly(new AgenticScopeChange.StateWritten("style", "comedy"));
+        assertThat(agenticScope.drainChanges()).isEmpty();
+    }
+
+    @Test
+    void should_collapse_successive_writes_of_same_key() {
+        DefaultAgenticScope agenticScope = new DefaultAgenticScope(DefaultAgenticScope.Kind.PERSISTENT);
+
+        agenticScope.writeState("score", 0.1);
+        agenticScope.writeState("story", "Once upon a time");
+        agenticScope.writeState("score", 0.5);
+        agenticScope.writeState("story", null);
+
+        assertThat(agenticScope.drainChanges())
+                .containsExactly(
+                        new AgenticScopeChange.StateWritten("score", 0.5),
+                        new AgenticScopeChange.StateWritten("story", null));
+    }
+
+    @Test
+    void should_rebuild_scope_from_checkpoint_and_json_changes() {
+        DefaultAgenticScope agenticScope = new DefaultAgenticScope("mem-1", DefaultAgenticScope.Kind.PERSISTENT);
+        agenticScope.writeState("topic", "dragons");
+        String checkpoint = AgenticScopeSerializer.toJson(agenticScope);
+        agenticScope.drainChanges();
+
+        Person person = new Person();
+        person.setName("Mario");
+        person.setAge(51);
+        agenticScope.writeState("person", person);
+        agenticScope.writeState("topic", null);
+        String changes = AgenticScopeSerializer.changesToJson(agenticScope.drainChanges());
+
+        DefaultAgenticScope restored = AgenticScopeSerializer.fromJson(checkpoint);
+        restored.applyChanges(AgenticScopeSerializer.changesFromJson(changes));
+
+        assertThat(restored.memoryId()).isEqualTo("mem-1");
+        assertThat(restored.hasState("topic")).isFalse();
+        assertThat(((Person) restored.readState("person")).getName()).isEqualTo("Mario");
+        assertThat(((Person) restored.readState("person")).getAge()).isEqualTo(51);
+    }
+
+    @Test
+    void should_reuse_snapshot_until_scope_changes() {
+        DefaultAgenticScope agenticScope = new DefaultAgenticScope(DefaultAgenticScope.Kind.REGISTERED);
+        agenticScope.writeState("topic", "dragons");
+
+        AgenticScopeSnapshot first = agenticScope.snapshot();
+        AgenticScopeSnapshot second = agenticScope.snapshot();
+        agenticScope.writeState("topic", "unicorns");
+        AgenticScopeSnapshot third = agenticScope.snapshot();
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.state()).containsEntry("topic", "dragons");
+        assertThat(third.state()).containsEntry("topic", "unicorns");
+        assertThat(third.version()).isGreaterThan(first.version());
+        assertThat(third.context()).isEqualTo(List.of());
+    }
+}
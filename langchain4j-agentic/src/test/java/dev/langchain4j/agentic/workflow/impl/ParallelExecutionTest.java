@@ -0,0 +1,173 @@
+package dev.langchain4j.agentic.workflow.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ParallelExecutionTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void should_run_all_actions() throws Exception {
+        AtomicInteger counter = new AtomicInteger();
+        List<Runnable> actions = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            actions.add(counter::incrementAndGet);
+        }
+
+        new ParallelExecution(actions, executor, 0, null, false).run();
+
+        assertThat(counter).hasValue(10);
+    }
+
+    @Test
+    void should_not_exceed_max_concurrency() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<Runnable> actions = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            actions.add(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(10);
+                running.decrementAndGet();
+            });
+        }
+
+        new ParallelExecution(actions, executor, 3, null, false).run();
+
+        assertThat(maxRunning.get()).isBetween(1, 3);
+    }
+
+    @Test
+    void should_cancel_siblings_on_failure() {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        AtomicInteger started = new AtomicInteger();
+        List<Runnable> actions = new ArrayList<>();
+        actions.add(() -> {
+            started.incrementAndGet();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        });
+        actions.add(() -> {
+            started.incrementAndGet();
+            sleep(50);
+            throw new IllegalStateException("boom");
+        });
+        for (int i = 0; i < 5; i++) {
+            actions.add(started::incrementAndGet);
+        }
+
+        assertThatThrownBy(() -> new ParallelExecution(actions, executor, 2, null, true).run())
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(started).hasValue(2);
+        assertThat(awaitQuietly(interrupted)).isTrue();
+    }
+
+    @Test
+    void should_wait_for_siblings_on_failure_by_default() {
+        AtomicInteger completed = new AtomicInteger();
+        List<Runnable> actions = List.of(
+                () -> {
+                    throw new IllegalStateException("boom");
+                },
+                () -> {
+                    sleep(50);
+                    completed.incrementAndGet();
+                });
+
+        assertThatThrownBy(() -> new ParallelExecution(actions, executor, 0, null, false).run())
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(completed).hasValue(1);
+    }
+
+    @Test
+    void should_time_out_slow_action() {
+        List<Runnable> actions = List.of(() -> sleep(10_000), () -> {});
+
+        assertThatThrownBy(() -> new ParallelExecution(actions, executor, 0, Duration.ofMillis(100), false).run())
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    void should_keep_slot_of_timed_out_action_until_it_returns() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicInteger completed = new AtomicInteger();
+        List<Runnable> actions = new ArrayList<>();
+        actions.add(() -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            // ignores the interruption caused by the timeout
+            long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(300);
+            while (System.nanoTime() < end) {
+                Thread.interrupted();
+            }
+            running.decrementAndGet();
+            completed.incrementAndGet();
+        });
+        actions.add(() -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            running.decrementAndGet();
+            completed.incrementAndGet();
+        });
+
+        assertThatThrownBy(() -> new ParallelExecution(actions, executor, 1, Duration.ofMillis(50), false).run())
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+        assertThat(maxRunning).hasValue(1);
+        // the timed out action has returned before run() did
+        assertThat(completed).hasValue(2);
+    }
+
+    @Test
+    void should_start_timeout_when_action_starts_running() throws Exception {
+        ExecutorService singleThread = Executors.newSingleThreadExecutor();
+        List<Runnable> actions = List.of(() -> sleep(100), () -> sleep(100), () -> sleep(100));
+
+        try {
+            // all actions are queued at once, but each of them runs for less than the timeout
+            new ParallelExecution(actions, singleThread, 0, Duration.ofMillis(250), false).run();
+        } finally {
+            singleThread.shutdownNow();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static boolean awaitQuietly(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package dev.langchain4j.benchmarks;
+
+import dev.langchain4j.agent.tool.Tool;
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.memory.chat.MessageWindowChatMemory;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.StreamingChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
+import dev.langchain4j.model.output.FinishReason;
+import dev.langchain4j.model.output.TokenUsage;
+import dev.langchain4j.service.AiServices;
+import dev.langchain4j.service.TokenStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * End-to-end benchmarks of {@link AiServices} backed by mock models answering instantly,
+ * so that only the overhead of the framework is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AiServicesBenchmark {
+
+    interface Assistant {
+
+        String chat(String userMessage);
+    }
+
+    interface TemplatedAssistant {
+
+        @dev.langchain4j.service.UserMessage("Answer the following question in {{language}}: {{question}}")
+        String chat(
+                @dev.langchain4j.service.V("question") String question,
+                @dev.langchain4j.service.V("language") String language);
+    }
+
+    interface StreamingAssistant {
+
+        TokenStream chat(String userMessage);
+    }
+
+    public static class WeatherTools {
+
+        @Tool("Returns the weather in the given city")
+        public String getWeather(String city) {
+            return "sunny";
+        }
+    }
+
+    static final String ANSWER = "The capital of France is Paris. It is also its most populous city.";
+
+    Assistant assistant;
+    Assistant assistantWithMemory;
+    Assistant assistantWithTools;
+    TemplatedAssistant templatedAssistant;
+    StreamingAssistant streamingAssistant;
+
+    @Setup
+    public void setUp() {
+        ChatModel chatModel = new MockChatModel();
+        assistant = AiServices.builder(Assistant.class).chatModel(chatModel).build();
+        assistantWithMemory = AiServices.builder(Assistant.class)
+                .chatModel(chatModel)
+                .chatMemory(MessageWindowChatMemory.withMaxMessages(20))
+                .build();
+        assistantWithTools = AiServices.builder(Assistant.class)
+                .chatModel(chatModel)
+                .tools(new WeatherTools())
+                .build();
+        templatedAssistant =
+                AiServices.builder(TemplatedAssistant.class).chatModel(chatModel).build();
+        streamingAssistant = AiServices.builder(StreamingAssistant.class)
+                .streamingChatModel(new MockStreamingChatModel())
+                .build();
+    }
+
+    @Benchmark
+    public String chat() {
+        return assistant.chat("What is the capital of France?");
+    }
+
+    @Benchmark
+    public String chatWithMemory() {
+        return assistantWithMemory.chat("What is the capital of France?");
+    }
+
+    @Benchmark
+    public String chatWithTemplate() {
+        return templatedAssistant.chat("What is the capital of France?", "English");
+    }
+
+    @Benchmark
+    public String chatWithToolCall() {
+        return assistantWithTools.chat("What is the weather in Paris?");
+    }
+
+    @Benchmark
+    public ChatResponse streamingChat() throws Exception {
+        CompletableFuture<ChatResponse> future = new CompletableFuture<>();
+        streamingAssistant
+                .chat("What is the capital of France?")
+                .onPartialResponse(partialResponse -> {})
+                .onCompleteResponse(future::complete)
+                .onError(future::completeExceptionally)
+                .start();
+        return future.get(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Requests a tool execution when tools are available and the last message is from the user,
+     * and answers {@value #ANSWER} otherwise.
+     */
+    static class MockChatModel implements ChatModel {
+
+        @Override
+        public ChatResponse doChat(ChatRequest chatRequest) {
+            List<ChatMessage> messages = chatRequest.messages();
+            boolean hasTools = !chatRequest.toolSpecifications().isEmpty();
+            AiMessage aiMessage = hasTools && messages.get(messages.size() - 1) instanceof UserMessage
+                    ? AiMessage.from(ToolExecutionRequest.builder()
+                            .id("call_1")
+                            .name("getWeather")
+                            .arguments("{\"arg0\":\"Paris\"}")
+                            .build())
+                    : AiMessage.from(ANSWER);
+            return ChatResponse.builder()
+                    .aiMessage(aiMessage)
+                    .tokenUsage(new TokenUsage(20, 15))
+                    .finishReason(aiMessage.hasToolExecutionRequests() ? FinishReason.TOOL_EXECUTION : FinishReason.STOP)
+                    .build();
+        }
+    }
+
+    /**
+     * Streams {@value #ANSWER} word by word, on the calling thread.
+     */
+    static class MockStreamingChatModel implements StreamingChatModel {
+
+        @Override
+        public void doChat(ChatRequest chatRequest, StreamingChatResponseHandler handler) {
+            for (String token : ANSWER.split("(?<= )")) {
+                handler.onPartialResponse(token);
+            }
+            handler.onCompleteResponse(ChatResponse.builder()
+                    .aiMessage(AiMessage.from(ANSWER))
+                    .tokenUsage(new TokenUsage(20, 15))
+                    .finishReason(FinishReason.STOP)
+                    .build());
+        }
+    }
+}
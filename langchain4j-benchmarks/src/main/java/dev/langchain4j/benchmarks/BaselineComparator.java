@@ -0,0 +1,105 @@
+package dev.langchain4j.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares JMH results to a baseline, both in the JSON format of JMH ({@code -rf json}),
+ * and fails if a benchmark regressed by more than a given percentage.
+ * <p>
+ * Usage: {@code java -cp target/benchmarks.jar dev.langchain4j.benchmarks.BaselineComparator
+ * <baseline.json> <results.json> [maxRegressionPercent]}, the default maximum regression being 10%.
+ * <p>
+ * Benchmarks are matched by name and parameters. A regression is a higher score in average time
+ * and sample time modes, and a lower score in throughput mode. Differences within the sum of the
+ * score errors of the baseline and of the results are not reported as regressions.
+ */
+public class BaselineComparator {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineComparator <baseline.json> <results.json> [maxRegressionPercent]");
+            System.exit(2);
+        }
+        double maxRegressionPercent = args.length > 2 ? Double.parseDouble(args[2]) : 10;
+
+        Map<String, Score> baseline = read(Path.of(args[0]));
+        Map<String, Score> results = read(Path.of(args[1]));
+
+        List<String> regressions = new ArrayList<>();
+        results.forEach((key, result) -> {
+            Score base = baseline.get(key);
+            if (base == null) {
+                System.out.printf("NEW        %s: %.3f %s%n", key, result.score, result.unit);
+                return;
+            }
+            double changePercent = result.changePercentFrom(base);
+            boolean significant = Math.abs(result.score - base.score) > base.error + result.error;
+            String status = significant && changePercent > maxRegressionPercent ? "REGRESSION" : "OK";
+            System.out.printf(
+                    "%-10s %s: %.3f -> %.3f %s (%+.1f%%)%n",
+                    status, key, base.score, result.score, result.unit, changePercent);
+            if (status.equals("REGRESSION")) {
+                regressions.add(key);
+            }
+        });
+        baseline.keySet().stream()
+                .filter(key -> !results.containsKey(key))
+                .forEach(key -> System.out.printf("MISSING    %s%n", key));
+
+        if (!regressions.isEmpty()) {
+            System.out.printf("%d benchmark(s) regressed by more than %.1f%%%n", regressions.size(), maxRegressionPercent);
+            System.exit(1);
+        }
+    }
+
+    static Map<String, Score> read(Path path) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode benchmark : new ObjectMapper().readTree(path.toFile())) {
+            JsonNode metric = benchmark.get("primaryMetric");
+            scores.put(
+                    key(benchmark),
+                    new Score(
+                            benchmark.get("mode").asText(),
+                            metric.get("score").asDouble(),
+                            errorOf(metric),
+                            metric.get("scoreUnit").asText()));
+        }
+        return scores;
+    }
+
+    private static double errorOf(JsonNode metric) {
+        // JMH reports "NaN" when there are not enough iterations to compute the error
+        double error = metric.path("scoreError").asDouble(0);
+        return Double.isNaN(error) ? 0 : error;
+    }
+
+    private static String key(JsonNode benchmark) {
+        String name = benchmark.get("benchmark").asText();
+        JsonNode params = benchmark.get("params");
+        if (params == null || params.isEmpty()) {
+            return name;
+        }
+        Map<String, String> sorted = new TreeMap<>();
+        params.properties().forEach(param -> sorted.put(param.getKey(), param.getValue().asText()));
+        return name + sorted;
+    }
+
+    record Score(String mode, double score, double error, String unit) {
+
+        /**
+         * @return how much worse (positive) or better (negative) this score is than the baseline, in percent.
+         */
+        double changePercentFrom(Score baseline) {
+            double change = (score - baseline.score) / baseline.score * 100;
+            return mode.equals("thrpt") ? -change : change;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package dev.langchain4j.benchmarks;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.ChatMessageDeserializer;
+import dev.langchain4j.data.message.ChatMessageSerializer;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.ToolExecutionResultMessage;
+import dev.langchain4j.data.message.UserMessage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the (de)serialization of a conversation, as done by persistent {@code ChatMemoryStore}s.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChatMessageJsonCodecBenchmark {
+
+    @Param({"10", "100"})
+    int turns;
+
+    List<ChatMessage> messages;
+    String json;
+
+    @Setup
+    public void setUp() {
+        messages = new ArrayList<>();
+        messages.add(SystemMessage.from("You are a helpful assistant."));
+        for (int i = 0; i < turns; i++) {
+            messages.add(UserMessage.from("What is the weather in city " + i + "?"));
+            ToolExecutionRequest request = ToolExecutionRequest.builder()
+                    .id("call_" + i)
+                    .name("getWeather")
+                    .arguments("{\"city\":\"city " + i + "\",\"unit\":\"CELSIUS\"}")
+                    .build();
+            messages.add(AiMessage.from(request));
+            messages.add(ToolExecutionResultMessage.from(request, "{\"temperature\":21,\"sky\":\"sunny\"}"));
+            messages.add(AiMessage.from("It is sunny and 21 degrees in city " + i + "."));
+        }
+        json = ChatMessageSerializer.messagesToJson(messages);
+    }
+
+    @Benchmark
+    public String messagesToJson() {
+        return ChatMessageSerializer.messagesToJson(messages);
+    }
+
+    @Benchmark
+    public List<ChatMessage> messagesFromJson() {
+        return ChatMessageDeserializer.messagesFromJson(json);
+    }
+}
@@ -0,0 +1,61 @@
+package dev.langchain4j.benchmarks;
+
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.DocumentSplitter;
+import dev.langchain4j.data.document.splitter.DocumentByParagraphSplitter;
+import dev.langchain4j.data.document.splitter.DocumentBySentenceSplitter;
+import dev.langchain4j.data.document.splitter.DocumentSplitters;
+import dev.langchain4j.data.segment.TextSegment;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DocumentSplitterBenchmark {
+
+    @Param({"10000", "100000"})
+    int documentSizeInChars;
+
+    Document document;
+    DocumentSplitter recursive;
+    DocumentSplitter byParagraph;
+    DocumentSplitter bySentence;
+
+    @Setup
+    public void setUp() {
+        document = Document.from(Fixtures.text(documentSizeInChars));
+        recursive = DocumentSplitters.recursive(500, 50);
+        byParagraph = new DocumentByParagraphSplitter(500, 50);
+        bySentence = new DocumentBySentenceSplitter(500, 50);
+    }
+
+    @Benchmark
+    public List<TextSegment> recursive() {
+        return recursive.split(document);
+    }
+
+    @Benchmark
+    public List<TextSegment> byParagraph() {
+        return byParagraph.split(document);
+    }
+
+    @Benchmark
+    public List<TextSegment> bySentence() {
+        return bySentence.split(document);
+    }
+}
@@ -0,0 +1,48 @@
+package dev.langchain4j.benchmarks;
+
+import dev.langchain4j.data.embedding.Embedding;
+import java.util.Random;
+
+/**
+ * Deterministic inputs shared by the benchmarks, so that results are comparable between runs.
+ */
+final class Fixtures {
+
+    private static final String[] WORDS = {
+        "the", "model", "retrieves", "relevant", "segments", "from", "an", "embedding", "store", "and",
+        "injects", "them", "into", "prompt", "before", "calling", "language", "with", "user", "question"
+    };
+
+    private Fixtures() {}
+
+    static Embedding randomEmbedding(int dimension, long seed) {
+        Random random = new Random(seed);
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = random.nextFloat() * 2 - 1;
+        }
+        return Embedding.from(vector);
+    }
+
+    /**
+     * @return a text of about {@code sizeInChars} characters, made of sentences of 8 to 20 words,
+     * grouped in paragraphs of 3 to 8 sentences.
+     */
+    static String text(int sizeInChars) {
+        Random random = new Random(42);
+        StringBuilder text = new StringBuilder(sizeInChars + 200);
+        while (text.length() < sizeInChars) {
+            int sentences = 3 + random.nextInt(6);
+            for (int s = 0; s < sentences; s++) {
+                int words = 8 + random.nextInt(13);
+                for (int w = 0; w < words; w++) {
+                    String word = WORDS[random.nextInt(WORDS.length)];
+                    text.append(w == 0 ? Character.toUpperCase(word.charAt(0)) + word.substring(1) : word);
+                    text.append(w == words - 1 ? ". " : " ");
+                }
+            }
+            text.append("\n\n");
+        }
+        return text.toString();
+    }
+}
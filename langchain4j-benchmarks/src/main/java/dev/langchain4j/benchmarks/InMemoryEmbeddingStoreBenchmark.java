@@ -0,0 +1,55 @@
+package dev.langchain4j.benchmarks;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InMemoryEmbeddingStoreBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    int size;
+
+    @Param({"384"})
+    int dimension;
+
+    InMemoryEmbeddingStore<TextSegment> store;
+    EmbeddingSearchRequest request;
+
+    @Setup
+    public void setUp() {
+        store = new InMemoryEmbeddingStore<>();
+        for (int i = 0; i < size; i++) {
+            store.add(Fixtures.randomEmbedding(dimension, i), TextSegment.from("segment " + i));
+        }
+        Embedding query = Fixtures.randomEmbedding(dimension, -1);
+        request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(query)
+                .maxResults(10)
+                .build();
+    }
+
+    @Benchmark
+    public EmbeddingSearchResult<TextSegment> search() {
+        return store.search(request);
+    }
+}
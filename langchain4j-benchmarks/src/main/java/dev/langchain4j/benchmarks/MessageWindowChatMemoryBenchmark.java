@@ -0,0 +1,58 @@
+package dev.langchain4j.benchmarks;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.memory.chat.MessageWindowChatMemory;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks a full {@link MessageWindowChatMemory}, where each added message evicts the oldest one,
+ * as happens on each turn of a long conversation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageWindowChatMemoryBenchmark {
+
+    @Param({"10", "100"})
+    int maxMessages;
+
+    MessageWindowChatMemory memory;
+    UserMessage userMessage;
+    AiMessage aiMessage;
+
+    @Setup
+    public void setUp() {
+        memory = MessageWindowChatMemory.withMaxMessages(maxMessages);
+        memory.add(SystemMessage.from("You are a helpful assistant."));
+        userMessage = UserMessage.from("What is the capital of France?");
+        aiMessage = AiMessage.from("The capital of France is Paris.");
+        for (int i = 0; i < maxMessages; i++) {
+            memory.add(i % 2 == 0 ? userMessage : aiMessage);
+        }
+    }
+
+    @Benchmark
+    public List<ChatMessage> turn() {
+        memory.add(userMessage);
+        memory.add(aiMessage);
+        return memory.messages();
+    }
+}
@@ -0,0 +1,56 @@
+package dev.langchain4j.benchmarks;
+
+import dev.langchain4j.model.input.Prompt;
+import dev.langchain4j.model.input.PromptTemplate;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the default {@code PromptTemplateFactory}, creating the template once or for each call,
+ * as {@code AiServices} does for each invocation of a method annotated with {@code @UserMessage}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PromptTemplateBenchmark {
+
+    static final String TEMPLATE = "Answer the question using only the information below.\n\n"
+            + "Question: {{question}}\n\nInformation:\n{{information}}\n\n"
+            + "Answer in {{language}}, in at most {{maxWords}} words.";
+
+    PromptTemplate promptTemplate;
+    Map<String, Object> variables;
+
+    @Setup
+    public void setUp() {
+        promptTemplate = PromptTemplate.from(TEMPLATE);
+        variables = Map.of(
+                "question", "What is the capital of France?",
+                "information", Fixtures.text(2_000),
+                "language", "English",
+                "maxWords", 50);
+    }
+
+    @Benchmark
+    public Prompt apply() {
+        return promptTemplate.apply(variables);
+    }
+
+    @Benchmark
+    public Prompt createAndApply() {
+        return PromptTemplate.from(TEMPLATE).apply(variables);
+    }
+}
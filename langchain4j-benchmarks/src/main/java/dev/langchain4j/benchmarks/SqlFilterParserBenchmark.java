@@ -0,0 +1,59 @@
+package dev.langchain4j.benchmarks;
+
+import dev.langchain4j.store.embedding.filter.Filter;
+import dev.langchain4j.store.embedding.filter.parser.sql.SqlFilterParser;
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the throughput of {@link SqlFilterParser} for a simple expression (handled by its hand-written parser)
+ * and a complex one (handled by JSqlParser), with and without caching the parsed filters.
+ * {@code statement} parses the simple expression as a complete statement, which always goes through JSqlParser.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SqlFilterParserBenchmark {
+
+    static final String SIMPLE = "genre IN ('comedy', 'drama') AND year >= 1990 AND (rating > 7.5 OR votes > 10000)";
+    static final String COMPLEX = "year BETWEEN EXTRACT(YEAR FROM CURRENT_DATE) - 10 AND EXTRACT(YEAR FROM CURRENT_DATE)";
+
+    @Param({"0", "1000"})
+    int cacheSize;
+
+    SqlFilterParser parser;
+
+    @Setup
+    public void setUp() {
+        parser = new SqlFilterParser(Clock.systemDefaultZone(), cacheSize);
+    }
+
+    @Benchmark
+    public Filter simple() {
+        return parser.parse(SIMPLE);
+    }
+
+    @Benchmark
+    public Filter complex() {
+        return parser.parse(COMPLEX);
+    }
+
+    @Benchmark
+    public Filter statement() {
+        return parser.parse("SELECT * FROM movies WHERE " + SIMPLE);
+    }
+}
@@ -0,0 +1,111 @@
+package dev.langchain4j.benchmarks;
+
+import dev.langchain4j.agent.tool.Tool;
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.service.tool.DefaultToolExecutor;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the parsing and coercion of the arguments of a tool call, followed by its (trivial) execution.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ToolExecutorBenchmark {
+
+    public enum Unit {
+        CELSIUS,
+        FAHRENHEIT
+    }
+
+    public record Address(String street, String city, int zipCode) {}
+
+    public static class Tools {
+
+        @Tool
+        public double primitives(int a, long b, double c, boolean d) {
+            return d ? a + b + c : 0;
+        }
+
+        @Tool
+        public String weather(String city, Unit unit) {
+            return city + unit;
+        }
+
+        @Tool
+        public String pojo(Address address, List<String> tags) {
+            return address.city() + tags.size();
+        }
+    }
+
+    DefaultToolExecutor primitivesExecutor;
+    DefaultToolExecutor weatherExecutor;
+    DefaultToolExecutor pojoExecutor;
+
+    ToolExecutionRequest primitivesRequest;
+    ToolExecutionRequest weatherRequest;
+    ToolExecutionRequest pojoRequest;
+
+    @Setup
+    public void setUp() {
+        Tools tools = new Tools();
+        primitivesExecutor = executor(tools, "primitives");
+        weatherExecutor = executor(tools, "weather");
+        pojoExecutor = executor(tools, "pojo");
+
+        // the module is compiled without -parameters, so parameters are named arg0, arg1...
+        primitivesRequest = request("primitives", "{\"arg0\":1,\"arg1\":2,\"arg2\":3.5,\"arg3\":true}");
+        weatherRequest = request("weather", "{\"arg0\":\"Paris\",\"arg1\":\"CELSIUS\"}");
+        pojoRequest = request(
+                "pojo",
+                "{\"arg0\":{\"street\":\"1 Main Street\",\"city\":\"Paris\",\"zipCode\":75001},"
+                        + "\"arg1\":[\"home\",\"work\",\"other\"]}");
+    }
+
+    @Benchmark
+    public String primitives() {
+        return primitivesExecutor.execute(primitivesRequest, "default");
+    }
+
+    @Benchmark
+    public String stringAndEnum() {
+        return weatherExecutor.execute(weatherRequest, "default");
+    }
+
+    @Benchmark
+    public String pojoAndList() {
+        return pojoExecutor.execute(pojoRequest, "default");
+    }
+
+    private static DefaultToolExecutor executor(Tools tools, String name) {
+        for (Method method : Tools.class.getMethods()) {
+            if (method.getName().equals(name)) {
+                return new DefaultToolExecutor(tools, method);
+            }
+        }
+        throw new IllegalArgumentException(name);
+    }
+
+    private static ToolExecutionRequest request(String name, String arguments) {
+        return ToolExecutionRequest.builder()
+                .id("call_1")
+                .name(name)
+                .arguments(arguments)
+                .build();
+    }
+}
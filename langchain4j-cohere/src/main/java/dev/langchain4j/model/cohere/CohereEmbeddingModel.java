@@ -3,13 +3,13 @@ package dev.langchain4j.model.cohere;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.DimensionAwareEmbeddingModel;
+import dev.langchain4j.model.embedding.EmbeddingBatcher;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
 import dev.langchain4j.model.output.TokenUsage;
 import org.slf4j.Logger;
 
 import java.time.Duration;
-import java.util.ArrayList;
 import java.util.List;
 
 import static dev.langchain4j.internal.Utils.getOrDefault;
@@ -30,7 +30,7 @@ public class CohereEmbeddingModel extends DimensionAwareEmbeddingModel {
     private final CohereClient client;
     private final String modelName;
     private final String inputType;
-    private final int maxSegmentsPerBatch;
+    private final EmbeddingBatcher batcher;
 
     @Deprecated(forRemoval = true, since = "1.4.0")
     public CohereEmbeddingModel(String baseUrl,
@@ -50,7 +50,9 @@ public class CohereEmbeddingModel extends DimensionAwareEmbeddingModel {
                 .build();
         this.modelName = modelName;
         this.inputType = inputType;
-        this.maxSegmentsPerBatch = getOrDefault(maxSegmentsPerBatch, DEFAULT_MAX_SEGMENTS_PER_BATCH);
+        this.batcher = EmbeddingBatcher.builder()
+                .maxSegmentsPerBatch(getOrDefault(maxSegmentsPerBatch, DEFAULT_MAX_SEGMENTS_PER_BATCH))
+                .build();
     }
 
     public CohereEmbeddingModel(CohereEmbeddingModelBuilder builder) {
@@ -64,7 +66,10 @@ public class CohereEmbeddingModel extends DimensionAwareEmbeddingModel {
                 .build();
         this.modelName = builder.modelName;
         this.inputType = builder.inputType;
-        this.maxSegmentsPerBatch = getOrDefault(builder.maxSegmentsPerBatch, DEFAULT_MAX_SEGMENTS_PER_BATCH);
+        this.batcher = EmbeddingBatcher.builder()
+                .maxSegmentsPerBatch(getOrDefault(builder.maxSegmentsPerBatch, DEFAULT_MAX_SEGMENTS_PER_BATCH))
+                .maxConcurrentBatches(builder.maxConcurrentBatches)
+                .build();
     }
 
     /**
@@ -82,41 +87,30 @@ public class CohereEmbeddingModel extends DimensionAwareEmbeddingModel {
 
     @Override
     public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+        if (textSegments.isEmpty()) {
+            return Response.from(List.of(), new TokenUsage(0, 0));
+        }
+        return batcher.embedAll(textSegments, this::embedBatch);
+    }
+
+    private Response<List<Embedding>> embedBatch(List<TextSegment> textSegments) {
 
         List<String> texts = textSegments.stream()
                 .map(TextSegment::text)
                 .collect(toList());
 
-        return embedTexts(texts);
-    }
-
-
-    private Response<List<Embedding>> embedTexts(List<String> texts) {
-
-        List<Embedding> embeddings = new ArrayList<>();
-        Integer totalTokenUsage = 0;
-
-        for (int i = 0; i < texts.size(); i += maxSegmentsPerBatch) {
-
-            List<String> batch = texts.subList(i, Math.min(i + maxSegmentsPerBatch, texts.size()));
-
-            EmbedRequest request = EmbedRequest.builder()
-                    .texts(batch)
-                    .inputType(inputType)
-                    .model(modelName)
-                    .build();
-
-            EmbedResponse response = this.client.embed(request);
+        EmbedRequest request = EmbedRequest.builder()
+                .texts(texts)
+                .inputType(inputType)
+                .model(modelName)
+                .build();
 
-            embeddings.addAll(getEmbeddings(response));
-            totalTokenUsage += getTokenUsage(response);
-        }
+        EmbedResponse response = this.client.embed(request);
 
         return Response.from(
-                embeddings,
-                new TokenUsage(totalTokenUsage, 0)
+                getEmbeddings(response),
+                new TokenUsage(getTokenUsage(response), 0)
         );
-
     }
 
     private static List<Embedding> getEmbeddings(EmbedResponse response) {
@@ -144,6 +138,7 @@ public class CohereEmbeddingModel extends DimensionAwareEmbeddingModel {
         private Boolean logResponses;
         private Logger logger;
         private Integer maxSegmentsPerBatch;
+        private Integer maxConcurrentBatches;
 
         CohereEmbeddingModelBuilder() {
         }
@@ -197,12 +192,23 @@ public class CohereEmbeddingModel extends DimensionAwareEmbeddingModel {
             return this;
         }
 
+        /**
+         * @param maxConcurrentBatches the maximum number of batches of {@code maxSegmentsPerBatch} segments
+         *                             sent concurrently by {@link CohereEmbeddingModel#embedAll(List)}.
+         *                             Default value: 1 (batches are sent one after another).
+         * @return {@code this}.
+         */
+        public CohereEmbeddingModelBuilder maxConcurrentBatches(Integer maxConcurrentBatches) {
+            this.maxConcurrentBatches = maxConcurrentBatches;
+            return this;
+        }
+
         public CohereEmbeddingModel build() {
             return new CohereEmbeddingModel(this);
         }
 
         public String toString() {
-            return "CohereEmbeddingModel.CohereEmbeddingModelBuilder(baseUrl=" + this.baseUrl + ", apiKey=" + this.apiKey + ", modelName=" + this.modelName + ", inputType=" + this.inputType + ", timeout=" + this.timeout + ", logRequests=" + this.logRequests + ", logResponses=" + this.logResponses + ", maxSegmentsPerBatch=" + this.maxSegmentsPerBatch + ")";
+            return "CohereEmbeddingModel.CohereEmbeddingModelBuilder(baseUrl=" + this.baseUrl + ", apiKey=" + this.apiKey + ", modelName=" + this.modelName + ", inputType=" + this.inputType + ", timeout=" + this.timeout + ", logRequests=" + this.logRequests + ", logResponses=" + this.logResponses + ", maxSegmentsPerBatch=" + this.maxSegmentsPerBatch + ", maxConcurrentBatches=" + this.maxConcurrentBatches + ")";
         }
     }
 }
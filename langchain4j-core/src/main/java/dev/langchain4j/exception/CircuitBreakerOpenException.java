@@ -0,0 +1,12 @@
+package dev.langchain4j.exception;
+
+/**
+ * Thrown when a call is rejected without being made, because the circuit breaker of its endpoint is open
+ * after too many consecutive failures.
+ */
+public class CircuitBreakerOpenException extends NonRetriableException {
+
+    public CircuitBreakerOpenException(String endpoint) {
+        super("The circuit breaker of '" + endpoint + "' is open, the call was not made");
+    }
+}
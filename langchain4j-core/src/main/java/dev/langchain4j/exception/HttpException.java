@@ -1,15 +1,65 @@
 package dev.langchain4j.exception;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
 public class HttpException extends LangChain4jException {
 
     private final int statusCode;
+    private final Duration retryAfter;
 
     public HttpException(int statusCode, String message) {
+        this(statusCode, message, null);
+    }
+
+    /**
+     * @param statusCode the HTTP status code.
+     * @param message    the error message, usually the body of the response.
+     * @param retryAfter how long the server asked to wait before retrying (the {@code Retry-After} header),
+     *                   or {@code null} if it did not.
+     */
+    public HttpException(int statusCode, String message, Duration retryAfter) {
         super(message);
         this.statusCode = statusCode;
+        this.retryAfter = retryAfter;
     }
 
     public int statusCode() {
         return statusCode;
     }
+
+    /**
+     * @return how long the server asked to wait before retrying, or {@code null} if it did not.
+     */
+    public Duration retryAfter() {
+        return retryAfter;
+    }
+
+    /**
+     * Parses the value of a {@code Retry-After} header, either a number of seconds or an HTTP date.
+     *
+     * @param headerValue the value of the header, can be {@code null}.
+     * @return the duration to wait, or {@code null} if the value is missing or malformed.
+     */
+    public static Duration parseRetryAfter(String headerValue) {
+        if (headerValue == null || headerValue.isBlank()) {
+            return null;
+        }
+        String value = headerValue.trim();
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value)));
+        } catch (NumberFormatException ignored) {
+            // not a number of seconds, might be a date
+        }
+        try {
+            Instant date = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            Duration duration = Duration.between(Instant.now(), date);
+            return duration.isNegative() ? Duration.ZERO : duration;
+        } catch (DateTimeParseException ignored) {
+            return null;
+        }
+    }
 }
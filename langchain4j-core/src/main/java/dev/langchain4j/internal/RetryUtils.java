@@ -1,10 +1,26 @@
 package dev.langchain4j.internal;
 
+import static dev.langchain4j.internal.Utils.getOrDefault;
+
 import dev.langchain4j.Internal;
+import dev.langchain4j.exception.CircuitBreakerOpenException;
+import dev.langchain4j.exception.HttpException;
 import dev.langchain4j.exception.LangChain4jException;
 import dev.langchain4j.exception.NonRetriableException;
+import java.time.Duration;
+import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,6 +59,12 @@ public final class RetryUtils {
             private int delayMillis = 1000;
             private double jitterScale = 0.2;
             private double backoffExp = 1.5;
+            private long maxRetryAfterMillis = 60_000;
+            private RetryBudget retryBudget;
+            private int circuitBreakerFailureThreshold;
+            private Duration circuitBreakerOpenDuration;
+            private ScheduledExecutorService scheduler;
+            private Executor executor;
 
             /**
              * Construct a RetryPolicy.Builder.
@@ -106,13 +128,83 @@ public final class RetryUtils {
                 return this;
             }
 
+            /**
+             * Sets the longest {@code Retry-After} the policy is willing to honour.
+             *
+             * <p>When a failure carries a {@code Retry-After} (see {@link HttpException#retryAfter()}),
+             * the next attempt is delayed by at least that duration. If the server asks to wait longer
+             * than {@code maxRetryAfterMillis}, the failure is not retried. Default value: 60 seconds.
+             *
+             * @param maxRetryAfterMillis The longest {@code Retry-After} to honour, in milliseconds.
+             * @return {@code this}
+             */
+            public Builder maxRetryAfterMillis(long maxRetryAfterMillis) {
+                this.maxRetryAfterMillis = maxRetryAfterMillis;
+                return this;
+            }
+
+            /**
+             * Sets the retry budget, limiting the share of retries across all the calls using this policy.
+             * It should be shared by all the policies calling the same provider. By default, there is no budget.
+             *
+             * @param retryBudget The retry budget.
+             * @return {@code this}
+             */
+            public Builder retryBudget(RetryBudget retryBudget) {
+                this.retryBudget = retryBudget;
+                return this;
+            }
+
+            /**
+             * Enables a circuit breaker per endpoint, for the asynchronous methods taking an endpoint.
+             *
+             * <p>After {@code failureThreshold} consecutive retriable failures of an endpoint, calls to it fail
+             * immediately with a {@link CircuitBreakerOpenException} for {@code openDuration}. After that,
+             * a single trial call is let through: the circuit is closed again if it succeeds,
+             * and opened again if it fails.
+             *
+             * @param failureThreshold The number of consecutive failures opening the circuit.
+             * @param openDuration     How long the circuit stays open.
+             * @return {@code this}
+             */
+            public Builder circuitBreaker(int failureThreshold, Duration openDuration) {
+                this.circuitBreakerFailureThreshold = failureThreshold;
+                this.circuitBreakerOpenDuration = openDuration;
+                return this;
+            }
+
+            /**
+             * Sets the scheduler delaying the asynchronous retries. Only its timer is used,
+             * the attempts themselves run on the {@link #executor(Executor)}.
+             * Default value: a single daemon thread shared by all policies.
+             *
+             * @param scheduler The scheduler.
+             * @return {@code this}
+             */
+            public Builder scheduler(ScheduledExecutorService scheduler) {
+                this.scheduler = scheduler;
+                return this;
+            }
+
+            /**
+             * Sets the executor running the asynchronous attempts.
+             * Default value: {@link DefaultExecutorProvider#getDefaultExecutorService()}.
+             *
+             * @param executor The executor.
+             * @return {@code this}
+             */
+            public Builder executor(Executor executor) {
+                this.executor = executor;
+                return this;
+            }
+
             /**
              * Builds a RetryPolicy.
              *
              * @return A RetryPolicy.
              */
             public RetryPolicy build() {
-                return new RetryPolicy(maxRetries, delayMillis, jitterScale, backoffExp);
+                return new RetryPolicy(this);
             }
         }
 
@@ -120,6 +212,13 @@ public final class RetryUtils {
         private final int delayMillis;
         private final double jitterScale;
         private final double backoffExp;
+        private final long maxRetryAfterMillis;
+        private final RetryBudget retryBudget;
+        private final int circuitBreakerFailureThreshold;
+        private final Duration circuitBreakerOpenDuration;
+        private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+        private final ScheduledExecutorService scheduler;
+        private final Executor executor;
 
         /**
          * Construct a RetryPolicy.
@@ -131,10 +230,24 @@ public final class RetryUtils {
          * @param backoffExp  The backoff exponent.
          */
         public RetryPolicy(int maxRetries, int delayMillis, double jitterScale, double backoffExp) {
-            this.maxRetries = maxRetries;
-            this.delayMillis = delayMillis;
-            this.jitterScale = jitterScale;
-            this.backoffExp = backoffExp;
+            this(new Builder()
+                    .maxRetries(maxRetries)
+                    .delayMillis(delayMillis)
+                    .jitterScale(jitterScale)
+                    .backoffExp(backoffExp));
+        }
+
+        private RetryPolicy(Builder builder) {
+            this.maxRetries = builder.maxRetries;
+            this.delayMillis = builder.delayMillis;
+            this.jitterScale = builder.jitterScale;
+            this.backoffExp = builder.backoffExp;
+            this.maxRetryAfterMillis = builder.maxRetryAfterMillis;
+            this.retryBudget = builder.retryBudget;
+            this.circuitBreakerFailureThreshold = builder.circuitBreakerFailureThreshold;
+            this.circuitBreakerOpenDuration = builder.circuitBreakerOpenDuration;
+            this.scheduler = builder.scheduler;
+            this.executor = builder.executor;
         }
 
         /**
@@ -166,8 +279,34 @@ public final class RetryUtils {
          */
         @JacocoIgnoreCoverageGenerated
         public void sleep(int retry) {
+            sleepMillis(jitterDelayMillis(retry));
+        }
+
+        /**
+         * This method returns the delay in milliseconds before retrying after a given failure:
+         * the jitter delay, or the {@code Retry-After} of the failure if it is longer.
+         *
+         * @param retry   The retry number.
+         * @param failure The failure to retry.
+         * @return The delay in milliseconds, or {@code -1} if the server asked to wait longer than
+         * {@code maxRetryAfterMillis}, in which case the failure should not be retried.
+         */
+        public long delayMillis(int retry, Throwable failure) {
+            long delay = jitterDelayMillis(retry);
+            Duration retryAfter = retryAfter(failure);
+            if (retryAfter != null) {
+                if (retryAfter.toMillis() > maxRetryAfterMillis) {
+                    return -1;
+                }
+                delay = Math.max(delay, retryAfter.toMillis());
+            }
+            return delay;
+        }
+
+        @JacocoIgnoreCoverageGenerated
+        private static void sleepMillis(long millis) {
             try {
-                Thread.sleep(jitterDelayMillis(retry));
+                Thread.sleep(millis);
             } catch (InterruptedException ignored) {
                 // pass
             }
@@ -198,6 +337,9 @@ public final class RetryUtils {
          * @throws RuntimeException if the action fails on all attempts.
          */
         public <T> T withRetry(Callable<T> action, int maxRetries) {
+            if (retryBudget != null) {
+                retryBudget.onCall();
+            }
             int retry = 0;
             while (true) {
                 try {
@@ -205,7 +347,8 @@ public final class RetryUtils {
                 } catch (NonRetriableException e) {
                     throw e;
                 } catch (Exception e) {
-                    if (retry >= maxRetries) {
+                    long delay = retry >= maxRetries ? -1 : delayMillis(retry, e);
+                    if (delay < 0 || !withdrawRetry()) {
                         throw e instanceof RuntimeException re ? re : new LangChain4jException(e);
                     }
 
@@ -214,11 +357,322 @@ public final class RetryUtils {
                                     .formatted(maxRetries - retry, maxRetries),
                             e);
 
-                    sleep(retry);
+                    sleepMillis(delay);
                 }
                 retry++;
             }
         }
+
+        /**
+         * Asynchronously executes an action, retrying it with an exponential backoff if it fails.
+         *
+         * <p>No thread is blocked while waiting between attempts: retries are scheduled on a timer,
+         * and run on the executor of this policy.
+         *
+         * @param action The action to be executed, returning the future result of one attempt.
+         * @param <T>    The type of the result of the action.
+         * @return A future completed with the result of the first successful attempt,
+         * or with the exception of the last attempt.
+         */
+        public <T> CompletableFuture<T> withRetryAsync(Supplier<? extends CompletionStage<T>> action) {
+            return withRetryAsync(null, action);
+        }
+
+        /**
+         * Asynchronously executes an action calling an endpoint, retrying it with an exponential backoff if it fails.
+         *
+         * <p>No thread is blocked while waiting between attempts: retries are scheduled on a timer,
+         * and run on the executor of this policy. If a circuit breaker is configured and the circuit of the endpoint
+         * is open, the returned future fails with a {@link CircuitBreakerOpenException} without calling the action.
+         *
+         * @param endpoint The endpoint called by the action (e.g. the base URL and the model name),
+         *                 keying the circuit breakers. Can be {@code null} if there is no circuit breaker.
+         * @param action   The action to be executed, returning the future result of one attempt.
+         * @param <T>      The type of the result of the action.
+         * @return A future completed with the result of the first successful attempt,
+         * or with the exception of the last attempt.
+         */
+        public <T> CompletableFuture<T> withRetryAsync(
+                String endpoint, Supplier<? extends CompletionStage<T>> action) {
+            if (retryBudget != null) {
+                retryBudget.onCall();
+            }
+            CompletableFuture<T> result = new CompletableFuture<>();
+            attempt(endpoint, action, 0, result);
+            return result;
+        }
+
+        /**
+         * Asynchronously executes a blocking action on the executor of this policy,
+         * retrying it with an exponential backoff if it fails.
+         *
+         * @param action The action to be executed.
+         * @param <T>    The type of the result of the action.
+         * @return A future completed with the result of the first successful attempt,
+         * or with the exception of the last attempt.
+         * @see #withRetryAsync(Supplier)
+         */
+        public <T> CompletableFuture<T> callWithRetryAsync(Callable<T> action) {
+            return withRetryAsync(() -> CompletableFuture.supplyAsync(
+                    () -> {
+                        try {
+                            return action.call();
+                        } catch (RuntimeException e) {
+                            throw e;
+                        } catch (Exception e) {
+                            throw new LangChain4jException(e);
+                        }
+                    },
+                    executor()));
+        }
+
+        /**
+         * @param endpoint The endpoint.
+         * @return The state of the circuit of the endpoint,
+         * or {@code null} if no circuit breaker is configured or the endpoint was never called.
+         */
+        public CircuitBreaker.State circuitBreakerState(String endpoint) {
+            CircuitBreaker circuitBreaker = endpoint == null ? null : circuitBreakers.get(endpoint);
+            return circuitBreaker == null ? null : circuitBreaker.state();
+        }
+
+        private <T> void attempt(
+                String endpoint,
+                Supplier<? extends CompletionStage<T>> action,
+                int retry,
+                CompletableFuture<T> result) {
+            CircuitBreaker circuitBreaker = circuitBreaker(endpoint);
+            if (circuitBreaker != null && !circuitBreaker.tryAcquire()) {
+                result.completeExceptionally(new CircuitBreakerOpenException(endpoint));
+                return;
+            }
+
+            CompletionStage<T> stage;
+            try {
+                stage = action.get();
+            } catch (Throwable e) {
+                stage = CompletableFuture.failedFuture(e);
+            }
+
+            stage.whenComplete((value, error) -> {
+                if (error == null) {
+                    if (circuitBreaker != null) {
+                        circuitBreaker.onSuccess();
+                    }
+                    result.complete(value);
+                    return;
+                }
+
+                Throwable failure = unwrap(error);
+                if (failure instanceof NonRetriableException) {
+                    // the endpoint did answer, it is the request that is wrong
+                    if (circuitBreaker != null) {
+                        circuitBreaker.onSuccess();
+                    }
+                    result.completeExceptionally(failure);
+                    return;
+                }
+                if (circuitBreaker != null) {
+                    circuitBreaker.onFailure();
+                }
+
+                long delay = retry >= maxRetries ? -1 : delayMillis(retry, failure);
+                if (delay < 0 || !withdrawRetry()) {
+                    result.completeExceptionally(failure);
+                    return;
+                }
+
+                log.warn(
+                        "A retriable exception occurred. Remaining retries: %s of %s"
+                                .formatted(maxRetries - retry, maxRetries),
+                        failure);
+
+                try {
+                    scheduler()
+                            .schedule(
+                                    () -> executor().execute(() -> attempt(endpoint, action, retry + 1, result)),
+                                    delay,
+                                    TimeUnit.MILLISECONDS);
+                } catch (RuntimeException e) {
+                    failure.addSuppressed(e);
+                    result.completeExceptionally(failure);
+                }
+            });
+        }
+
+        private boolean withdrawRetry() {
+            if (retryBudget == null || retryBudget.tryWithdraw()) {
+                return true;
+            }
+            log.warn("The retry budget is exhausted, not retrying");
+            return false;
+        }
+
+        private CircuitBreaker circuitBreaker(String endpoint) {
+            if (endpoint == null || circuitBreakerOpenDuration == null) {
+                return null;
+            }
+            return circuitBreakers.computeIfAbsent(
+                    endpoint, ignored -> new CircuitBreaker(circuitBreakerFailureThreshold, circuitBreakerOpenDuration));
+        }
+
+        private ScheduledExecutorService scheduler() {
+            return scheduler != null ? scheduler : SchedulerHolder.SCHEDULER;
+        }
+
+        private Executor executor() {
+            return getOrDefault(executor, DefaultExecutorProvider::getDefaultExecutorService);
+        }
+
+        private static Throwable unwrap(Throwable error) {
+            while ((error instanceof CompletionException || error instanceof ExecutionException)
+                    && error.getCause() != null) {
+                error = error.getCause();
+            }
+            return error;
+        }
+
+        private static Duration retryAfter(Throwable failure) {
+            for (Throwable t = failure; t != null; t = t.getCause()) {
+                if (t instanceof HttpException httpException && httpException.retryAfter() != null) {
+                    return httpException.retryAfter();
+                }
+                if (t.getCause() == t) {
+                    break;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * A token bucket limiting retries to a share of the calls, so that retries cannot multiply
+     * the load on a provider that is already failing.
+     *
+     * <p>Each call deposits {@code ratio} tokens, up to {@code maxTokens}, and each retry withdraws one token.
+     * When there are not enough tokens, failures are not retried anymore until enough calls have been made.
+     * For example, with a ratio of 0.1, at most about one retry per 10 calls is made in the long run,
+     * while bursts of up to {@code maxTokens} retries are allowed.
+     */
+    public static final class RetryBudget {
+
+        private final double ratio;
+        private final double maxTokens;
+        private double tokens;
+
+        /**
+         * @param ratio     The number of tokens deposited by each call, between 0 and 1.
+         * @param maxTokens The maximum number of tokens, which is also the initial number of tokens.
+         */
+        public RetryBudget(double ratio, double maxTokens) {
+            this.ratio = ValidationUtils.ensureBetween(ratio, 0.0, 1.0, "ratio");
+            this.maxTokens = ValidationUtils.ensureGreaterThanZero(maxTokens, "maxTokens");
+            this.tokens = maxTokens;
+        }
+
+        synchronized void onCall() {
+            tokens = Math.min(maxTokens, tokens + ratio);
+        }
+
+        synchronized boolean tryWithdraw() {
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+
+        /**
+         * @return The number of tokens currently available.
+         */
+        public synchronized double tokens() {
+            return tokens;
+        }
+    }
+
+    /**
+     * A circuit breaker of one endpoint. See {@link RetryPolicy.Builder#circuitBreaker(int, Duration)}.
+     */
+    public static final class CircuitBreaker {
+
+        /**
+         * The states of a circuit.
+         */
+        public enum State {
+            /**
+             * Calls are let through.
+             */
+            CLOSED,
+            /**
+             * Calls fail immediately.
+             */
+            OPEN,
+            /**
+             * A single trial call is let through.
+             */
+            HALF_OPEN
+        }
+
+        private final int failureThreshold;
+        private final long openNanos;
+
+        private State state = State.CLOSED;
+        private int consecutiveFailures;
+        private long openedAt;
+        private boolean trialInFlight;
+
+        CircuitBreaker(int failureThreshold, Duration openDuration) {
+            this.failureThreshold = ValidationUtils.ensureGreaterThanZero(failureThreshold, "failureThreshold");
+            this.openNanos = ValidationUtils.ensureNotNull(openDuration, "openDuration").toNanos();
+        }
+
+        synchronized boolean tryAcquire() {
+            switch (state) {
+                case CLOSED:
+                    return true;
+                case OPEN:
+                    if (System.nanoTime() - openedAt < openNanos) {
+                        return false;
+                    }
+                    state = State.HALF_OPEN;
+                    trialInFlight = true;
+                    return true;
+                default:
+                    if (trialInFlight) {
+                        return false;
+                    }
+                    trialInFlight = true;
+                    return true;
+            }
+        }
+
+        synchronized void onSuccess() {
+            state = State.CLOSED;
+            consecutiveFailures = 0;
+            trialInFlight = false;
+        }
+
+        synchronized void onFailure() {
+            trialInFlight = false;
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+                state = State.OPEN;
+                openedAt = System.nanoTime();
+            }
+        }
+
+        synchronized State state() {
+            return state;
+        }
+    }
+
+    private static final class SchedulerHolder {
+
+        private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "langchain4j-retry-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     /**
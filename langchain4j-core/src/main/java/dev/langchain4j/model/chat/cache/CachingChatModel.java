@@ -0,0 +1,58 @@
+package dev.langchain4j.model.chat.cache;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import dev.langchain4j.model.ModelProvider;
+import dev.langchain4j.model.chat.Capability;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.request.ChatRequestParameters;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import java.util.Set;
+
+/**
+ * A {@link ChatModel} that serves responses from a {@link ChatResponseCache} when possible,
+ * and calls the delegate {@link ChatModel} otherwise.
+ * <p>
+ * Responses served from the cache do not reach the delegate, so the listeners of the delegate are not notified.
+ */
+public class CachingChatModel implements ChatModel {
+
+    private final ChatModel delegate;
+    private final ChatResponseCache cache;
+
+    public CachingChatModel(ChatModel delegate, ChatResponseCache cache) {
+        this.delegate = ensureNotNull(delegate, "delegate");
+        this.cache = ensureNotNull(cache, "cache");
+    }
+
+    @Override
+    public ChatResponse chat(ChatRequest chatRequest) {
+        ChatResponseCache.Lookup lookup = cache.lookup(chatRequest);
+        if (lookup.response() != null) {
+            return lookup.response();
+        }
+        ChatResponse chatResponse = delegate.chat(chatRequest);
+        cache.put(lookup, chatResponse);
+        return chatResponse;
+    }
+
+    @Override
+    public ChatRequestParameters defaultRequestParameters() {
+        return delegate.defaultRequestParameters();
+    }
+
+    @Override
+    public ModelProvider provider() {
+        return delegate.provider();
+    }
+
+    @Override
+    public Set<Capability> supportedCapabilities() {
+        return delegate.supportedCapabilities();
+    }
+
+    public ChatResponseCache cache() {
+        return cache;
+    }
+}
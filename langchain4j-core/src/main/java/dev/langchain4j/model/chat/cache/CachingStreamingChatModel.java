@@ -0,0 +1,131 @@
+package dev.langchain4j.model.chat.cache;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.model.ModelProvider;
+import dev.langchain4j.model.chat.Capability;
+import dev.langchain4j.model.chat.StreamingChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.request.ChatRequestParameters;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.response.CompleteToolCall;
+import dev.langchain4j.model.chat.response.PartialThinking;
+import dev.langchain4j.model.chat.response.PartialToolCall;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * A {@link StreamingChatModel} that serves responses from a {@link ChatResponseCache} when possible,
+ * and calls the delegate {@link StreamingChatModel} otherwise.
+ * <p>
+ * A cached response is replayed to the {@link StreamingChatResponseHandler} as a stream of partial responses
+ * (one per word, with its trailing whitespace) followed by its tool calls, if any, and the complete response,
+ * so that handlers written for a streaming model do not need to handle cache hits differently.
+ * <p>
+ * Responses served from the cache do not reach the delegate, so the listeners of the delegate are not notified.
+ */
+public class CachingStreamingChatModel implements StreamingChatModel {
+
+    private static final Pattern AFTER_WHITESPACE = Pattern.compile("(?<=\\s)(?=\\S)");
+
+    private final StreamingChatModel delegate;
+    private final ChatResponseCache cache;
+
+    public CachingStreamingChatModel(StreamingChatModel delegate, ChatResponseCache cache) {
+        this.delegate = ensureNotNull(delegate, "delegate");
+        this.cache = ensureNotNull(cache, "cache");
+    }
+
+    @Override
+    public void chat(ChatRequest chatRequest, StreamingChatResponseHandler handler) {
+        ChatResponseCache.Lookup lookup;
+        try {
+            lookup = cache.lookup(chatRequest);
+        } catch (Exception e) {
+            handler.onError(e);
+            return;
+        }
+        if (lookup.response() != null) {
+            replay(lookup.response(), handler);
+            return;
+        }
+        delegate.chat(chatRequest, new StreamingChatResponseHandler() {
+
+            @Override
+            public void onPartialResponse(String partialResponse) {
+                handler.onPartialResponse(partialResponse);
+            }
+
+            @Override
+            public void onPartialThinking(PartialThinking partialThinking) {
+                handler.onPartialThinking(partialThinking);
+            }
+
+            @Override
+            public void onPartialToolCall(PartialToolCall partialToolCall) {
+                handler.onPartialToolCall(partialToolCall);
+            }
+
+            @Override
+            public void onCompleteToolCall(CompleteToolCall completeToolCall) {
+                handler.onCompleteToolCall(completeToolCall);
+            }
+
+            @Override
+            public void onCompleteResponse(ChatResponse completeResponse) {
+                try {
+                    cache.put(lookup, completeResponse);
+                } catch (Exception e) {
+                    handler.onError(e);
+                    return;
+                }
+                handler.onCompleteResponse(completeResponse);
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                handler.onError(error);
+            }
+        });
+    }
+
+    static List<String> tokens(String text) {
+        return List.of(AFTER_WHITESPACE.split(text));
+    }
+
+    private static void replay(ChatResponse chatResponse, StreamingChatResponseHandler handler) {
+        String text = chatResponse.aiMessage().text();
+        if (text != null && !text.isEmpty()) {
+            for (String token : tokens(text)) {
+                handler.onPartialResponse(token);
+            }
+        }
+        List<ToolExecutionRequest> toolExecutionRequests = chatResponse.aiMessage().toolExecutionRequests();
+        for (int i = 0; i < toolExecutionRequests.size(); i++) {
+            handler.onCompleteToolCall(new CompleteToolCall(i, toolExecutionRequests.get(i)));
+        }
+        handler.onCompleteResponse(chatResponse);
+    }
+
+    @Override
+    public ChatRequestParameters defaultRequestParameters() {
+        return delegate.defaultRequestParameters();
+    }
+
+    @Override
+    public ModelProvider provider() {
+        return delegate.provider();
+    }
+
+    @Override
+    public Set<Capability> supportedCapabilities() {
+        return delegate.supportedCapabilities();
+    }
+
+    public ChatResponseCache cache() {
+        return cache;
+    }
+}
@@ -0,0 +1,340 @@
+package dev.langchain4j.model.chat.cache;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.request.ChatRequestParameters;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caches the {@link ChatResponse}s of a {@link CachingChatModel} or {@link CachingStreamingChatModel}.
+ * <p>
+ * In exact mode (the default), a response is served from the cache only for a {@link ChatRequest}
+ * equal to the one that produced it: same messages and same parameters, including tools.
+ * <p>
+ * In semantic mode (when an {@link EmbeddingModel} and an {@link EmbeddingStore} are configured),
+ * the last {@link UserMessage} of the request is embedded, and the response to a previous user message
+ * is served when their similarity is at least {@code minScore}, provided both requests have the same
+ * parameters (including tools) and the same system messages. The rest of the conversation is ignored,
+ * so semantic mode suits stateless question answering (e.g. an FAQ or support bot) rather than long conversations.
+ * Responses requesting tool executions are not cached in semantic mode, as their arguments depend on the exact question.
+ * <p>
+ * In both modes, entries expire after {@code ttl} and at most {@code maxSize} responses are kept,
+ * the least recently used ones being evicted first. Responses are kept in memory;
+ * in semantic mode, the {@link EmbeddingStore} only indexes the user messages.
+ */
+public class ChatResponseCache {
+
+    static final String CACHE_ID = "chat_cache_id";
+    static final String CACHE_CONTEXT = "chat_cache_context";
+
+    private final Duration ttl;
+    private final int maxSize;
+    private final EmbeddingModel embeddingModel;
+    private final EmbeddingStore<TextSegment> embeddingStore;
+    private final double minScore;
+    private final Clock clock;
+
+    private final Map<Object, Entry> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ChatResponseCache(Builder builder) {
+        this.ttl = builder.ttl;
+        this.maxSize = ensureGreaterThanZero(getOrDefault(builder.maxSize, 1_000), "maxSize");
+        this.embeddingModel = builder.embeddingModel;
+        this.embeddingStore = builder.embeddingStore;
+        if ((embeddingModel == null) != (embeddingStore == null)) {
+            throw new IllegalArgumentException("Semantic mode requires both an embeddingModel and an embeddingStore");
+        }
+        this.minScore = ensureBetween(getOrDefault(builder.minScore, 0.95), 0, 1, "minScore");
+        this.clock = getOrDefault(builder.clock, Clock.systemUTC());
+        // access-ordered, so that the eldest entry is the least recently used one
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * @return {@code true} if responses are matched by the similarity of the last user message.
+     */
+    public boolean isSemantic() {
+        return embeddingStore != null;
+    }
+
+    /**
+     * Looks up the response to a request.
+     *
+     * @param chatRequest the request.
+     * @return the cached response, or {@code null} if there is none.
+     */
+    public ChatResponse get(ChatRequest chatRequest) {
+        return lookup(chatRequest).response();
+    }
+
+    /**
+     * Looks up the response to a request, like {@link #get(ChatRequest)}, keeping what
+     * {@link #put(Lookup, ChatResponse)} can reuse to cache the response on a miss.
+     */
+    Lookup lookup(ChatRequest chatRequest) {
+        Lookup lookup =
+                isSemantic() ? lookupSimilar(chatRequest) : new Lookup(chatRequest, getExact(chatRequest), null);
+        (lookup.response() == null ? misses : hits).increment();
+        return lookup;
+    }
+
+    /**
+     * Caches the response to a request.
+     *
+     * @param chatRequest  the request.
+     * @param chatResponse the response to cache.
+     */
+    public void put(ChatRequest chatRequest, ChatResponse chatResponse) {
+        put(new Lookup(chatRequest, null, null), chatResponse);
+    }
+
+    /**
+     * Caches the response to a request that was looked up, without embedding its last user message again.
+     */
+    void put(Lookup lookup, ChatResponse chatResponse) {
+        if (isSemantic()) {
+            putSimilar(lookup.request(), lookup.embedding(), chatResponse);
+        } else {
+            putEntry(lookup.request(), new Entry(chatResponse, null, expiresAt()));
+        }
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of responses currently cached, including expired ones not evicted yet.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private ChatResponse getExact(ChatRequest chatRequest) {
+        Entry entry = getEntry(chatRequest);
+        return entry == null ? null : entry.response;
+    }
+
+    private Lookup lookupSimilar(ChatRequest chatRequest) {
+        UserMessage question = lastUserMessage(chatRequest);
+        if (question == null) {
+            return new Lookup(chatRequest, null, null);
+        }
+        Context context = Context.of(chatRequest);
+        Embedding embedding = embeddingModel.embed(question.singleText()).content();
+        EmbeddingSearchRequest searchRequest = EmbeddingSearchRequest.builder()
+                .queryEmbedding(embedding)
+                .filter(metadataKey(CACHE_CONTEXT).isEqualTo(context.fingerprint()))
+                .minScore(minScore)
+                .maxResults(3)
+                .build();
+        for (EmbeddingMatch<TextSegment> match : embeddingStore.search(searchRequest).matches()) {
+            Entry entry = getEntry(match.embeddingId());
+            // the fingerprint is a hash: make sure the context really is the same
+            if (entry != null && context.equals(entry.context)) {
+                return new Lookup(chatRequest, entry.response, embedding);
+            }
+        }
+        return new Lookup(chatRequest, null, embedding);
+    }
+
+    private void putSimilar(ChatRequest chatRequest, Embedding questionEmbedding, ChatResponse chatResponse) {
+        UserMessage question = lastUserMessage(chatRequest);
+        if (question == null || chatResponse.aiMessage().hasToolExecutionRequests()) {
+            return;
+        }
+        Context context = Context.of(chatRequest);
+        String id = UUID.randomUUID().toString();
+        Embedding embedding = questionEmbedding != null
+                ? questionEmbedding
+                : embeddingModel.embed(question.singleText()).content();
+        Metadata metadata = Metadata.from(CACHE_ID, id).put(CACHE_CONTEXT, context.fingerprint());
+        embeddingStore.addAll(List.of(id), List.of(embedding), List.of(TextSegment.from(question.singleText(), metadata)));
+        putEntry(id, new Entry(chatResponse, context, expiresAt()));
+    }
+
+    private synchronized Entry getEntry(Object key) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.isExpired(clock.instant())) {
+            entries.remove(key);
+            onEvicted(key);
+            return null;
+        }
+        return entry;
+    }
+
+    private void putEntry(Object key, Entry entry) {
+        List<Object> evicted = new ArrayList<>();
+        synchronized (this) {
+            entries.put(key, entry);
+            Instant now = clock.instant();
+            Iterator<Map.Entry<Object, Entry>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Object, Entry> eldest = iterator.next();
+                if (entries.size() <= maxSize && !eldest.getValue().isExpired(now)) {
+                    break;
+                }
+                iterator.remove();
+                evicted.add(eldest.getKey());
+            }
+        }
+        evicted.forEach(this::onEvicted);
+    }
+
+    private void onEvicted(Object key) {
+        if (isSemantic()) {
+            embeddingStore.remove((String) key);
+        }
+    }
+
+    private Instant expiresAt() {
+        return ttl == null ? null : clock.instant().plus(ttl);
+    }
+
+    private static UserMessage lastUserMessage(ChatRequest chatRequest) {
+        List<ChatMessage> messages = chatRequest.messages();
+        ChatMessage last = messages.get(messages.size() - 1);
+        if (last instanceof UserMessage userMessage && userMessage.hasSingleText()) {
+            return userMessage;
+        }
+        return null;
+    }
+
+    /**
+     * The result of looking up a request: the cached response, if any, and in semantic mode
+     * the embedding of the last user message, if it has one.
+     */
+    record Lookup(ChatRequest request, ChatResponse response, Embedding embedding) {}
+
+    private record Entry(ChatResponse response, Context context, Instant expiresAt) {
+
+        boolean isExpired(Instant now) {
+            return expiresAt != null && !now.isBefore(expiresAt);
+        }
+    }
+
+    /**
+     * What, besides the last user message, must be equal for two requests to share a response in semantic mode.
+     */
+    private record Context(ChatRequestParameters parameters, List<SystemMessage> systemMessages) {
+
+        static Context of(ChatRequest chatRequest) {
+            List<SystemMessage> systemMessages = chatRequest.messages().stream()
+                    .filter(SystemMessage.class::isInstance)
+                    .map(SystemMessage.class::cast)
+                    .toList();
+            return new Context(chatRequest.parameters(), systemMessages);
+        }
+
+        String fingerprint() {
+            return Integer.toHexString(Objects.hash(parameters, systemMessages));
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Duration ttl;
+        private Integer maxSize;
+        private EmbeddingModel embeddingModel;
+        private EmbeddingStore<TextSegment> embeddingStore;
+        private Double minScore;
+        private Clock clock;
+
+        /**
+         * @param ttl how long a response is served from the cache. By default, responses do not expire.
+         * @return {@code this}
+         */
+        public Builder ttl(Duration ttl) {
+            this.ttl = ttl;
+            return this;
+        }
+
+        /**
+         * @param maxSize the maximum number of cached responses. Default value: 1000.
+         * @return {@code this}
+         */
+        public Builder maxSize(Integer maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * @param embeddingModel the model embedding the last user message, enabling semantic mode
+         *                       together with {@link #embeddingStore(EmbeddingStore)}.
+         * @return {@code this}
+         */
+        public Builder embeddingModel(EmbeddingModel embeddingModel) {
+            this.embeddingModel = embeddingModel;
+            return this;
+        }
+
+        /**
+         * @param embeddingStore the store indexing the user messages whose responses are cached,
+         *                       enabling semantic mode together with {@link #embeddingModel(EmbeddingModel)}.
+         *                       It must support metadata filtering, and should not be used for anything else.
+         * @return {@code this}
+         */
+        public Builder embeddingStore(EmbeddingStore<TextSegment> embeddingStore) {
+            this.embeddingStore = embeddingStore;
+            return this;
+        }
+
+        /**
+         * @param minScore in semantic mode, the minimum similarity between two user messages for them to share
+         *                 a response, between 0 and 1. Default value: 0.95.
+         * @return {@code this}
+         */
+        public Builder minScore(Double minScore) {
+            this.minScore = minScore;
+            return this;
+        }
+
+        /**
+         * @param clock the clock used to expire entries. Default value: {@link Clock#systemUTC()}.
+         * @return {@code this}
+         */
+        public Builder clock(Clock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public ChatResponseCache build() {
+            return new ChatResponseCache(this);
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package dev.langchain4j.model.embedding;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.internal.DefaultExecutorProvider;
+import dev.langchain4j.model.TokenCountEstimator;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Splits the segments passed to {@link EmbeddingModel#embedAll(List)} into sub-batches
+ * and sends them to the provider, up to {@code maxConcurrentBatches} at a time.
+ * <p>
+ * A sub-batch contains at most {@code maxSegmentsPerBatch} segments and, when a {@link TokenCountEstimator}
+ * is configured, at most {@code maxTokensPerBatch} estimated tokens (a single segment exceeding this budget
+ * is sent alone). The embeddings are returned in the order of the segments, whatever the order in which
+ * the sub-batches complete, and the {@link TokenUsage} of all sub-batches is summed.
+ * <p>
+ * If a sub-batch fails, no further sub-batches are sent and the exception is rethrown to the caller
+ * once the sub-batches already in flight are done.
+ * <p>
+ * Example usage in an {@link EmbeddingModel} implementation:
+ * <pre>{@code
+ * public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+ *     return batcher.embedAll(textSegments, this::embedBatch);
+ * }
+ * }</pre>
+ */
+public class EmbeddingBatcher {
+
+    private final int maxSegmentsPerBatch;
+    private final Integer maxTokensPerBatch;
+    private final TokenCountEstimator tokenCountEstimator;
+    private final int maxConcurrentBatches;
+    private final Executor executor;
+
+    public EmbeddingBatcher(Builder builder) {
+        this.maxSegmentsPerBatch =
+                ensureGreaterThanZero(ensureNotNull(builder.maxSegmentsPerBatch, "maxSegmentsPerBatch"), "maxSegmentsPerBatch");
+        this.maxTokensPerBatch = builder.maxTokensPerBatch;
+        this.tokenCountEstimator = builder.tokenCountEstimator;
+        if (maxTokensPerBatch != null) {
+            ensureGreaterThanZero(maxTokensPerBatch, "maxTokensPerBatch");
+            ensureNotNull(tokenCountEstimator, "tokenCountEstimator");
+        }
+        this.maxConcurrentBatches =
+                ensureGreaterThanZero(getOrDefault(builder.maxConcurrentBatches, 1), "maxConcurrentBatches");
+        this.executor = builder.executor;
+    }
+
+    /**
+     * Embeds all the given segments, calling {@code batchEmbedder} once per sub-batch.
+     *
+     * @param textSegments  the segments to embed.
+     * @param batchEmbedder embeds a single sub-batch, returning exactly one embedding per segment, in order.
+     *                      It must be thread-safe when {@code maxConcurrentBatches} is greater than 1.
+     * @return the embeddings of all the segments, in order, and the summed token usage.
+     */
+    public Response<List<Embedding>> embedAll(
+            List<TextSegment> textSegments, Function<List<TextSegment>, Response<List<Embedding>>> batchEmbedder) {
+        if (textSegments.isEmpty()) {
+            return Response.from(List.of());
+        }
+        List<List<TextSegment>> batches = partition(textSegments);
+        if (batches.size() == 1) {
+            return batchEmbedder.apply(batches.get(0));
+        }
+
+        List<Response<List<Embedding>>> responses = maxConcurrentBatches == 1
+                ? embedSequentially(batches, batchEmbedder)
+                : embedConcurrently(batches, batchEmbedder);
+
+        List<Embedding> embeddings = new ArrayList<>(textSegments.size());
+        for (Response<List<Embedding>> response : responses) {
+            embeddings.addAll(response.content());
+        }
+        return Response.from(
+                embeddings,
+                responses.stream()
+                        .map(Response::tokenUsage)
+                        .filter(Objects::nonNull)
+                        .reduce(TokenUsage::add)
+                        .orElse(null));
+    }
+
+    List<List<TextSegment>> partition(List<TextSegment> textSegments) {
+        List<List<TextSegment>> batches = new ArrayList<>();
+        int batchStart = 0;
+        int batchTokens = 0;
+        for (int i = 0; i < textSegments.size(); i++) {
+            int tokens = maxTokensPerBatch == null
+                    ? 0
+                    : tokenCountEstimator.estimateTokenCountInText(textSegments.get(i).text());
+            boolean full = i - batchStart == maxSegmentsPerBatch
+                    || (maxTokensPerBatch != null && i > batchStart && batchTokens + tokens > maxTokensPerBatch);
+            if (full) {
+                batches.add(textSegments.subList(batchStart, i));
+                batchStart = i;
+                batchTokens = 0;
+            }
+            batchTokens += tokens;
+        }
+        if (batchStart < textSegments.size()) {
+            batches.add(textSegments.subList(batchStart, textSegments.size()));
+        }
+        return batches;
+    }
+
+    private static List<Response<List<Embedding>>> embedSequentially(
+            List<List<TextSegment>> batches, Function<List<TextSegment>, Response<List<Embedding>>> batchEmbedder) {
+        List<Response<List<Embedding>>> responses = new ArrayList<>(batches.size());
+        for (List<TextSegment> batch : batches) {
+            responses.add(batchEmbedder.apply(batch));
+        }
+        return responses;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Response<List<Embedding>>> embedConcurrently(
+            List<List<TextSegment>> batches, Function<List<TextSegment>, Response<List<Embedding>>> batchEmbedder) {
+        Response<List<Embedding>>[] responses = new Response[batches.size()];
+        AtomicInteger nextBatch = new AtomicInteger();
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+        // each worker takes the next pending sub-batch until none is left,
+        // so that at most maxConcurrentBatches sub-batches are in flight
+        Runnable worker = () -> {
+            int i;
+            while (failure.get() == null && (i = nextBatch.getAndIncrement()) < batches.size()) {
+                try {
+                    responses[i] = batchEmbedder.apply(batches.get(i));
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                }
+            }
+        };
+
+        int workers = Math.min(maxConcurrentBatches, batches.size());
+        Executor executor = getOrDefault(this.executor, DefaultExecutorProvider::getDefaultExecutorService);
+        List<CompletableFuture<Void>> futures = new ArrayList<>(workers - 1);
+        for (int i = 1; i < workers; i++) {
+            futures.add(CompletableFuture.runAsync(worker, executor));
+        }
+        // the calling thread is one of the workers
+        worker.run();
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            failure.compareAndSet(null, e.getCause() instanceof RuntimeException re ? re : e);
+        }
+
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        return List.of(responses);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Integer maxSegmentsPerBatch;
+        private Integer maxTokensPerBatch;
+        private TokenCountEstimator tokenCountEstimator;
+        private Integer maxConcurrentBatches;
+        private Executor executor;
+
+        /**
+         * @param maxSegmentsPerBatch The maximum number of segments sent to the provider in a single request.
+         * @return {@code this}
+         */
+        public Builder maxSegmentsPerBatch(Integer maxSegmentsPerBatch) {
+            this.maxSegmentsPerBatch = maxSegmentsPerBatch;
+            return this;
+        }
+
+        /**
+         * @param maxTokensPerBatch The maximum number of tokens sent to the provider in a single request,
+         *                          as estimated by the {@link #tokenCountEstimator(TokenCountEstimator)}.
+         *                          By default, sub-batches are only bounded by {@code maxSegmentsPerBatch}.
+         * @return {@code this}
+         */
+        public Builder maxTokensPerBatch(Integer maxTokensPerBatch) {
+            this.maxTokensPerBatch = maxTokensPerBatch;
+            return this;
+        }
+
+        /**
+         * @param tokenCountEstimator Estimates the number of tokens of each segment.
+         *                            Required when {@code maxTokensPerBatch} is set.
+         * @return {@code this}
+         */
+        public Builder tokenCountEstimator(TokenCountEstimator tokenCountEstimator) {
+            this.tokenCountEstimator = tokenCountEstimator;
+            return this;
+        }
+
+        /**
+         * @param maxConcurrentBatches The maximum number of sub-batches sent to the provider concurrently.
+         *                             Default value: 1 (sub-batches are sent one after another).
+         * @return {@code this}
+         */
+        public Builder maxConcurrentBatches(Integer maxConcurrentBatches) {
+            this.maxConcurrentBatches = maxConcurrentBatches;
+            return this;
+        }
+
+        /**
+         * @param executor The executor on which sub-batches are sent when {@code maxConcurrentBatches} is greater than 1.
+         *                 By default, a cached thread pool (or virtual threads, when available) is used.
+         * @return {@code this}
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public EmbeddingBatcher build() {
+            return new EmbeddingBatcher(this);
+        }
+    }
+}
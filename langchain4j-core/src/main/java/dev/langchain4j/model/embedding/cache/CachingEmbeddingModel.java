@@ -0,0 +1,215 @@
+package dev.langchain4j.model.embedding.cache;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureEq;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An {@link EmbeddingModel} that caches the embeddings computed by another {@link EmbeddingModel}.
+ * <p>
+ * Embeddings are cached under a SHA-256 hash of the model name, the dimension and the text of the segment,
+ * so one {@link EmbeddingCache} can be shared by several models. The metadata of the segments is not part of the key.
+ * The model name is therefore required when an {@link EmbeddingCache} is provided, as the cache may be shared
+ * or persisted: it cannot be derived from the delegate, as two instances of the same class may use different models.
+ * <p>
+ * {@link #embedAll(List)} looks up all the segments in the cache at once, and forwards only the missing ones
+ * (each distinct text once) to the delegate, in a single {@code embedAll} call.
+ * The {@link dev.langchain4j.model.output.TokenUsage} of the returned response is the one of this call,
+ * or {@code null} if all embeddings were cached.
+ * <p>
+ * Hit rate and latency statistics are available from {@link #stats()}.
+ */
+public class CachingEmbeddingModel implements EmbeddingModel {
+
+    private final EmbeddingModel delegate;
+    private final EmbeddingCache cache;
+    private final String modelName;
+    private volatile Integer dimension;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder delegateCalls = new LongAdder();
+    private final LongAdder lookupNanos = new LongAdder();
+    private final LongAdder delegateNanos = new LongAdder();
+
+    public CachingEmbeddingModel(Builder builder) {
+        this.delegate = ensureNotNull(builder.delegate, "delegate");
+        if (builder.cache == null) {
+            // the default cache is private to this model, the model name only has to be stable for its lifetime
+            this.cache = new InMemoryEmbeddingCache(10_000);
+            this.modelName = getOrDefault(builder.modelName, () -> delegate.getClass().getName());
+        } else {
+            this.cache = builder.cache;
+            this.modelName = ensureNotBlank(builder.modelName, "modelName");
+        }
+        this.dimension = builder.dimension;
+    }
+
+    @Override
+    public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+        List<String> keys = new ArrayList<>(textSegments.size());
+        for (TextSegment textSegment : textSegments) {
+            keys.add(key(textSegment.text()));
+        }
+
+        long lookupStart = System.nanoTime();
+        Map<String, Embedding> cached = cache.getAll(keys);
+        lookupNanos.add(System.nanoTime() - lookupStart);
+
+        // each distinct missing text is embedded once
+        Map<String, TextSegment> missing = new LinkedHashMap<>();
+        for (int i = 0; i < textSegments.size(); i++) {
+            if (!cached.containsKey(keys.get(i))) {
+                missing.putIfAbsent(keys.get(i), textSegments.get(i));
+            }
+        }
+        hits.add(textSegments.size() - missing.size());
+        misses.add(missing.size());
+
+        if (missing.isEmpty()) {
+            return Response.from(embeddingsOf(keys, cached));
+        }
+
+        long delegateStart = System.nanoTime();
+        Response<List<Embedding>> response = delegate.embedAll(new ArrayList<>(missing.values()));
+        delegateNanos.add(System.nanoTime() - delegateStart);
+        delegateCalls.increment();
+        ensureEq(response.content().size(), missing.size(),
+                "Expected %d embeddings, but got %d", missing.size(), response.content().size());
+
+        Map<String, Embedding> computed = new LinkedHashMap<>();
+        int i = 0;
+        for (String key : missing.keySet()) {
+            computed.put(key, response.content().get(i++));
+        }
+        cache.putAll(computed);
+
+        Map<String, Embedding> all = new HashMap<>(cached);
+        all.putAll(computed);
+        return Response.from(embeddingsOf(keys, all), response.tokenUsage(), response.finishReason());
+    }
+
+    @Override
+    public int dimension() {
+        return getDimension();
+    }
+
+    /**
+     * @return the statistics of this model since it was created.
+     */
+    public EmbeddingCacheStats stats() {
+        return new EmbeddingCacheStats(
+                hits.sum(),
+                misses.sum(),
+                delegateCalls.sum(),
+                Duration.ofNanos(lookupNanos.sum()),
+                Duration.ofNanos(delegateNanos.sum()));
+    }
+
+    private static List<Embedding> embeddingsOf(List<String> keys, Map<String, Embedding> embeddings) {
+        List<Embedding> result = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            result.add(embeddings.get(key));
+        }
+        return result;
+    }
+
+    private String key(String text) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        digest.update(modelName.getBytes(UTF_8));
+        digest.update((byte) 0);
+        digest.update(Integer.toString(getDimension()).getBytes(UTF_8));
+        digest.update((byte) 0);
+        digest.update(text.getBytes(UTF_8));
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private int getDimension() {
+        Integer dimension = this.dimension;
+        if (dimension == null) {
+            // may embed a sample text, once, if the delegate does not know its dimension
+            dimension = delegate.dimension();
+            this.dimension = dimension;
+        }
+        return dimension;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private EmbeddingModel delegate;
+        private EmbeddingCache cache;
+        private String modelName;
+        private Integer dimension;
+
+        /**
+         * @param delegate the model computing the embeddings that are not cached yet.
+         * @return {@code this}
+         */
+        public Builder delegate(EmbeddingModel delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * @param cache where embeddings are cached. When set, {@link #modelName(String)} is required.
+         *              Default value: an {@link InMemoryEmbeddingCache} of 10,000 embeddings, private to this model.
+         * @return {@code this}
+         */
+        public Builder cache(EmbeddingCache cache) {
+            this.cache = cache;
+            return this;
+        }
+
+        /**
+         * @param modelName the name of the delegate model (e.g. {@code text-embedding-3-small}), part of the cache key.
+         *                  Required when a {@link #cache(EmbeddingCache)} is set, as it may be shared by several
+         *                  models or persisted. It should change whenever the embeddings of the model change.
+         *                  Optional with the default, private, cache.
+         * @return {@code this}
+         */
+        public Builder modelName(String modelName) {
+            this.modelName = modelName;
+            return this;
+        }
+
+        /**
+         * @param dimension the dimension of the embeddings, part of the cache key.
+         *                  By default, it is obtained from the delegate.
+         * @return {@code this}
+         */
+        public Builder dimension(Integer dimension) {
+            this.dimension = dimension;
+            return this;
+        }
+
+        public CachingEmbeddingModel build() {
+            return new CachingEmbeddingModel(this);
+        }
+    }
+}
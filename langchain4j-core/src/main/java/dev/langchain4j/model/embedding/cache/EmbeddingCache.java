@@ -0,0 +1,34 @@
+package dev.langchain4j.model.embedding.cache;
+
+import dev.langchain4j.data.embedding.Embedding;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Stores the embeddings computed by a {@link CachingEmbeddingModel}, keyed by a hash of the model name,
+ * the dimension and the embedded text.
+ * <p>
+ * Implementations must be thread-safe.
+ *
+ * @see InMemoryEmbeddingCache
+ * @see MappedFileEmbeddingCache
+ * @see EmbeddingStoreEmbeddingCache
+ */
+public interface EmbeddingCache {
+
+    /**
+     * Looks up several keys at once.
+     *
+     * @param keys the keys to look up.
+     * @return the cached embeddings, by key. Keys that are not cached are absent from the returned map.
+     */
+    Map<String, Embedding> getAll(Collection<String> keys);
+
+    /**
+     * Caches several embeddings at once. An implementation may evict other entries to make room for them,
+     * or decide not to cache some of them.
+     *
+     * @param embeddings the embeddings to cache, by key.
+     */
+    void putAll(Map<String, Embedding> embeddings);
+}
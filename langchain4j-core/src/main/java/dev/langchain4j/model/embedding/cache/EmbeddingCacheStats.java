@@ -0,0 +1,31 @@
+package dev.langchain4j.model.embedding.cache;
+
+import java.time.Duration;
+
+/**
+ * A snapshot of the statistics of a {@link CachingEmbeddingModel}.
+ *
+ * @param hits               the number of segments whose embedding was found in the cache.
+ * @param misses             the number of segments whose embedding was not found in the cache.
+ * @param delegateCalls      the number of {@code embedAll} calls forwarded to the delegate model.
+ * @param lookupDuration     the total time spent looking up the cache.
+ * @param delegateDuration   the total time spent waiting for the delegate model.
+ */
+public record EmbeddingCacheStats(
+        long hits, long misses, long delegateCalls, Duration lookupDuration, Duration delegateDuration) {
+
+    /**
+     * @return the ratio of segments served from the cache, between 0 and 1 (1 if nothing was embedded yet).
+     */
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+
+    /**
+     * @return the average latency of the calls forwarded to the delegate model.
+     */
+    public Duration averageDelegateLatency() {
+        return delegateCalls == 0 ? Duration.ZERO : delegateDuration.dividedBy(delegateCalls);
+    }
+}
@@ -0,0 +1,92 @@
+package dev.langchain4j.model.embedding.cache;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.store.embedding.filter.MetadataFilterBuilder.metadataKey;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * An {@link EmbeddingCache} that delegates to an {@link EmbeddingStore}, so that the cache can be shared
+ * between several applications and survive restarts.
+ * <p>
+ * Each cached embedding is stored with the ID {@code UUID.nameUUIDFromBytes(key)}, and with the key
+ * as text and as the {@value #CACHE_KEY} metadata entry.
+ * Lookups are metadata-filtered searches, so the store must support metadata filtering,
+ * and must return the embeddings of the matches.
+ * <p>
+ * A dedicated store (or collection, index, table...) should be used, distinct from the one holding the
+ * embeddings of the documents.
+ */
+public class EmbeddingStoreEmbeddingCache implements EmbeddingCache {
+
+    /**
+     * The metadata key under which the cache key is stored.
+     */
+    public static final String CACHE_KEY = "embedding_cache_key";
+
+    private final EmbeddingStore<TextSegment> embeddingStore;
+    private final Embedding anyQueryEmbedding;
+
+    /**
+     * @param embeddingStore the store in which embeddings are cached.
+     * @param dimension      the dimension of the cached embeddings.
+     */
+    public EmbeddingStoreEmbeddingCache(EmbeddingStore<TextSegment> embeddingStore, int dimension) {
+        this.embeddingStore = ensureNotNull(embeddingStore, "embeddingStore");
+        // lookups are done by key only, the query embedding does not matter
+        float[] vector = new float[ensureGreaterThanZero(dimension, "dimension")];
+        Arrays.fill(vector, 1f);
+        this.anyQueryEmbedding = Embedding.from(vector);
+        anyQueryEmbedding.normalize();
+    }
+
+    @Override
+    public Map<String, Embedding> getAll(Collection<String> keys) {
+        Map<String, Embedding> found = new HashMap<>();
+        if (keys.isEmpty()) {
+            return found;
+        }
+        EmbeddingSearchRequest request = EmbeddingSearchRequest.builder()
+                .queryEmbedding(anyQueryEmbedding)
+                .filter(metadataKey(CACHE_KEY).isIn(keys))
+                .maxResults(keys.size())
+                .minScore(0.0)
+                .build();
+        for (EmbeddingMatch<TextSegment> match : embeddingStore.search(request).matches()) {
+            if (match.embedded() != null && match.embedding() != null) {
+                found.put(match.embedded().metadata().getString(CACHE_KEY), match.embedding());
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public void putAll(Map<String, Embedding> embeddings) {
+        if (embeddings.isEmpty()) {
+            return;
+        }
+        List<String> ids = new ArrayList<>(embeddings.size());
+        List<Embedding> vectors = new ArrayList<>(embeddings.size());
+        List<TextSegment> segments = new ArrayList<>(embeddings.size());
+        embeddings.forEach((key, embedding) -> {
+            ids.add(UUID.nameUUIDFromBytes(key.getBytes(UTF_8)).toString());
+            vectors.add(embedding);
+            segments.add(TextSegment.from(key, Metadata.from(CACHE_KEY, key)));
+        });
+        embeddingStore.addAll(ids, vectors, segments);
+    }
+}
@@ -0,0 +1,187 @@
+package dev.langchain4j.model.embedding.cache;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+
+import dev.langchain4j.data.embedding.Embedding;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded, in-memory {@link EmbeddingCache} using the W-TinyLFU eviction policy.
+ * <p>
+ * New entries go to a small LRU "window". When the window is full, its oldest entry competes with the
+ * eviction candidate of the main segmented LRU, and only the one that was used more often
+ * (according to an approximate, periodically aged frequency sketch) is kept.
+ * This protects frequently used embeddings from being evicted by a burst of embeddings used only once,
+ * such as a re-ingestion of a large corpus.
+ */
+public class InMemoryEmbeddingCache implements EmbeddingCache {
+
+    private final int windowMaxSize;
+    private final int probationMaxSize;
+    private final int protectedMaxSize;
+
+    // insertion-ordered maps are used as LRU queues: the head is the least recently used entry
+    private final LinkedHashMap<String, Embedding> window = new LinkedHashMap<>();
+    private final LinkedHashMap<String, Embedding> probation = new LinkedHashMap<>();
+    private final LinkedHashMap<String, Embedding> protectedSegment = new LinkedHashMap<>();
+    private final FrequencySketch sketch;
+
+    /**
+     * @param maxSize the maximum number of embeddings kept in the cache.
+     */
+    public InMemoryEmbeddingCache(int maxSize) {
+        ensureGreaterThanZero(maxSize, "maxSize");
+        this.windowMaxSize = Math.max(1, maxSize / 100);
+        int mainMaxSize = maxSize - windowMaxSize;
+        this.protectedMaxSize = mainMaxSize * 4 / 5;
+        this.probationMaxSize = mainMaxSize - protectedMaxSize;
+        this.sketch = new FrequencySketch(maxSize);
+    }
+
+    @Override
+    public synchronized Map<String, Embedding> getAll(Collection<String> keys) {
+        Map<String, Embedding> found = new HashMap<>();
+        for (String key : keys) {
+            sketch.increment(key);
+            Embedding embedding = access(key, null);
+            if (embedding != null) {
+                found.put(key, embedding);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public synchronized void putAll(Map<String, Embedding> embeddings) {
+        embeddings.forEach((key, embedding) -> {
+            sketch.increment(key);
+            if (access(key, embedding) == null) {
+                window.put(key, embedding);
+                if (window.size() > windowMaxSize) {
+                    evictFromWindow();
+                }
+            }
+        });
+    }
+
+    public synchronized int size() {
+        return window.size() + probation.size() + protectedSegment.size();
+    }
+
+    /**
+     * Marks the entry as recently used, replacing its value if {@code newValue} is not {@code null}.
+     *
+     * @return the (previous) value of the entry, or {@code null} if it is not cached.
+     */
+    private Embedding access(String key, Embedding newValue) {
+        Embedding embedding = window.remove(key);
+        if (embedding != null) {
+            window.put(key, newValue != null ? newValue : embedding);
+            return embedding;
+        }
+        embedding = protectedSegment.remove(key);
+        if (embedding != null) {
+            protectedSegment.put(key, newValue != null ? newValue : embedding);
+            return embedding;
+        }
+        embedding = probation.remove(key);
+        if (embedding != null) {
+            // used again while on probation: promote to the protected segment
+            protectedSegment.put(key, newValue != null ? newValue : embedding);
+            if (protectedSegment.size() > protectedMaxSize) {
+                Map.Entry<String, Embedding> demoted = removeEldest(protectedSegment);
+                probation.put(demoted.getKey(), demoted.getValue());
+            }
+            return embedding;
+        }
+        return null;
+    }
+
+    private void evictFromWindow() {
+        Map.Entry<String, Embedding> candidate = removeEldest(window);
+        if (probation.size() + protectedSegment.size() < probationMaxSize + protectedMaxSize) {
+            probation.put(candidate.getKey(), candidate.getValue());
+            return;
+        }
+        LinkedHashMap<String, Embedding> victimSegment = probation.isEmpty() ? protectedSegment : probation;
+        if (victimSegment.isEmpty()) {
+            // the main segment has no room at all (very small caches)
+            return;
+        }
+        String victim = victimSegment.keySet().iterator().next();
+        if (sketch.frequency(candidate.getKey()) > sketch.frequency(victim)) {
+            victimSegment.remove(victim);
+            probation.put(candidate.getKey(), candidate.getValue());
+        }
+        // otherwise the candidate is evicted
+    }
+
+    private static Map.Entry<String, Embedding> removeEldest(LinkedHashMap<String, Embedding> segment) {
+        Iterator<Map.Entry<String, Embedding>> iterator = segment.entrySet().iterator();
+        Map.Entry<String, Embedding> eldest = iterator.next();
+        iterator.remove();
+        return Map.entry(eldest.getKey(), eldest.getValue());
+    }
+
+    /**
+     * A count-min sketch of 4-bit counters, halved every {@code 10 * maxSize} increments
+     * so that old popularity fades away.
+     */
+    private static class FrequencySketch {
+
+        private static final int DEPTH = 4;
+        private static final int[] SEEDS = {0x97cb3127, 0xc3a5c85c, 0x8ebc6af0, 0x1b873593};
+
+        private final byte[][] counters;
+        private final int mask;
+        private final int sampleSize;
+        private int increments;
+
+        private FrequencySketch(int maxSize) {
+            int width = Integer.highestOneBit(Math.max(16, Math.min(maxSize, 1 << 24)) * 2 - 1);
+            this.counters = new byte[DEPTH][width];
+            this.mask = width - 1;
+            this.sampleSize = (int) Math.min(10L * maxSize, Integer.MAX_VALUE);
+        }
+
+        private void increment(String key) {
+            int hash = key.hashCode();
+            for (int i = 0; i < DEPTH; i++) {
+                int index = index(hash, i);
+                if (counters[i][index] < 15) {
+                    counters[i][index]++;
+                }
+            }
+            if (++increments >= sampleSize) {
+                reset();
+            }
+        }
+
+        private int frequency(String key) {
+            int hash = key.hashCode();
+            int frequency = Integer.MAX_VALUE;
+            for (int i = 0; i < DEPTH; i++) {
+                frequency = Math.min(frequency, counters[i][index(hash, i)]);
+            }
+            return frequency;
+        }
+
+        private int index(int hash, int row) {
+            int h = (hash ^ SEEDS[row]) * 0x9e3779b9;
+            return (h ^ (h >>> 16)) & mask;
+        }
+
+        private void reset() {
+            for (byte[] row : counters) {
+                for (int i = 0; i < row.length; i++) {
+                    row[i] = (byte) (row[i] >> 1);
+                }
+            }
+            increments /= 2;
+        }
+    }
+}
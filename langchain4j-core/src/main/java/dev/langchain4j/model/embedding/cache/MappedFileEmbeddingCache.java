@@ -0,0 +1,201 @@
+package dev.langchain4j.model.embedding.cache;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import dev.langchain4j.data.embedding.Embedding;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An {@link EmbeddingCache} backed by a memory-mapped file, so that cached embeddings survive restarts
+ * (e.g. between two runs of a nightly re-indexing job) without being loaded into the heap.
+ * <p>
+ * The file is a fixed-size hash table of {@code capacity} slots, each holding the SHA-256 digest of a key
+ * and an embedding of {@code dimension} floats. When all the slots a key can use are taken,
+ * the embedding overwrites one of them, so the cache never grows beyond its initial size.
+ * <p>
+ * An existing file is reused only if it was created with the same {@code dimension} and {@code capacity}.
+ */
+public class MappedFileEmbeddingCache implements EmbeddingCache, AutoCloseable {
+
+    private static final int MAGIC = 0x4c34_4a45; // "L4JE"
+    private static final int HEADER_SIZE = 12;
+    private static final int DIGEST_SIZE = 32;
+    private static final int MAX_PROBES = 8;
+
+    private final int dimension;
+    private final int capacity;
+    private final int slotSize;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+
+    /**
+     * @param file      the file in which embeddings are cached. It is created if it does not exist.
+     * @param dimension the dimension of the cached embeddings.
+     * @param capacity  the maximum number of cached embeddings.
+     */
+    public MappedFileEmbeddingCache(Path file, int dimension, int capacity) {
+        ensureNotNull(file, "file");
+        this.dimension = ensureGreaterThanZero(dimension, "dimension");
+        this.capacity = ensureGreaterThanZero(capacity, "capacity");
+        // 1 byte to flag used slots, the digest of the key, the vector
+        this.slotSize = 1 + DIGEST_SIZE + dimension * Float.BYTES;
+        long fileSize = HEADER_SIZE + (long) capacity * slotSize;
+        if (fileSize > Integer.MAX_VALUE) {
+            throw illegalArgument(
+                    "A cache of %d embeddings of dimension %d does not fit in a single mapped file", capacity, dimension);
+        }
+        try {
+            this.channel = FileChannel.open(
+                    file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            if (channel.size() != 0 && channel.size() != fileSize) {
+                channel.close();
+                throw illegalArgument(
+                        "'%s' was not created with dimension %d and capacity %d", file, dimension, capacity);
+            }
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (buffer.getInt(0) == 0) {
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, dimension);
+            buffer.putInt(8, capacity);
+        } else if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != dimension || buffer.getInt(8) != capacity) {
+            close();
+            throw illegalArgument("'%s' was not created with dimension %d and capacity %d", file, dimension, capacity);
+        }
+    }
+
+    @Override
+    public synchronized Map<String, Embedding> getAll(Collection<String> keys) {
+        Map<String, Embedding> found = new HashMap<>();
+        for (String key : keys) {
+            byte[] digest = digest(key);
+            int slot = find(digest);
+            if (slot >= 0) {
+                found.put(key, readEmbedding(slot));
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public synchronized void putAll(Map<String, Embedding> embeddings) {
+        embeddings.forEach((key, embedding) -> {
+            if (embedding.dimension() != dimension) {
+                throw illegalArgument(
+                        "Cannot cache an embedding of dimension %d in a cache of dimension %d",
+                        embedding.dimension(), dimension);
+            }
+            byte[] digest = digest(key);
+            int slot = find(digest);
+            if (slot < 0) {
+                slot = freeSlot(digest);
+            }
+            write(slot, digest, embedding);
+        });
+    }
+
+    /**
+     * Flushes the cached embeddings to the file and closes it.
+     */
+    @Override
+    public synchronized void close() {
+        buffer.force();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int find(byte[] digest) {
+        int home = home(digest);
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+            int slot = (home + probe) % capacity;
+            int offset = offset(slot);
+            if (buffer.get(offset) == 0) {
+                return -1;
+            }
+            if (hasDigest(offset, digest)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private int freeSlot(byte[] digest) {
+        int home = home(digest);
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+            int slot = (home + probe) % capacity;
+            if (buffer.get(offset(slot)) == 0) {
+                return slot;
+            }
+        }
+        // all the slots this key can use are taken: evict one of them, picked by the digest
+        return (home + (digest[DIGEST_SIZE - 1] & 0xff) % Math.min(MAX_PROBES, capacity)) % capacity;
+    }
+
+    private boolean hasDigest(int offset, byte[] digest) {
+        for (int i = 0; i < DIGEST_SIZE; i++) {
+            if (buffer.get(offset + 1 + i) != digest[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Embedding readEmbedding(int slot) {
+        int vectorOffset = offset(slot) + 1 + DIGEST_SIZE;
+        float[] vector = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            vector[i] = buffer.getFloat(vectorOffset + i * Float.BYTES);
+        }
+        return Embedding.from(vector);
+    }
+
+    private void write(int slot, byte[] digest, Embedding embedding) {
+        int offset = offset(slot);
+        // the slot is flagged as used once fully written
+        buffer.put(offset, (byte) 0);
+        for (int i = 0; i < DIGEST_SIZE; i++) {
+            buffer.put(offset + 1 + i, digest[i]);
+        }
+        float[] vector = embedding.vector();
+        int vectorOffset = offset + 1 + DIGEST_SIZE;
+        for (int i = 0; i < dimension; i++) {
+            buffer.putFloat(vectorOffset + i * Float.BYTES, vector[i]);
+        }
+        buffer.put(offset, (byte) 1);
+    }
+
+    private int home(byte[] digest) {
+        int hash = ((digest[0] & 0xff) << 24) | ((digest[1] & 0xff) << 16) | ((digest[2] & 0xff) << 8) | (digest[3] & 0xff);
+        return Math.floorMod(hash, capacity);
+    }
+
+    private int offset(int slot) {
+        return HEADER_SIZE + slot * slotSize;
+    }
+
+    private static byte[] digest(String key) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(key.getBytes(UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package dev.langchain4j.model.ratelimit;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import dev.langchain4j.model.ModelProvider;
+import dev.langchain4j.model.TokenCountEstimator;
+import dev.langchain4j.model.chat.Capability;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.request.ChatRequestParameters;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.output.TokenUsage;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * A {@link ChatModel} that waits for a {@link RateLimiter} to admit each request before calling the delegate.
+ * <p>
+ * The tokens of a request are estimated with the {@link TokenCountEstimator}, if any, as the tokens of its messages
+ * plus its {@code maxOutputTokens}, if set. They are reconciled with the {@link TokenUsage} of the response.
+ * Without a {@link TokenCountEstimator}, requests are admitted as if they had no tokens,
+ * and the tokens per minute are only enforced once responses report their usage.
+ * A request failing with an exception is reconciled as if it had consumed no tokens.
+ */
+public class RateLimitedChatModel implements ChatModel {
+
+    private final ChatModel delegate;
+    private final RateLimiter rateLimiter;
+    private final TokenCountEstimator tokenCountEstimator;
+    private final int priority;
+    private final Duration timeout;
+
+    public RateLimitedChatModel(Builder builder) {
+        this(
+                ensureNotNull(builder.delegate, "delegate"),
+                ensureNotNull(builder.rateLimiter, "rateLimiter"),
+                builder.tokenCountEstimator,
+                getOrDefault(builder.priority, 0),
+                builder.timeout);
+    }
+
+    private RateLimitedChatModel(
+            ChatModel delegate,
+            RateLimiter rateLimiter,
+            TokenCountEstimator tokenCountEstimator,
+            int priority,
+            Duration timeout) {
+        this.delegate = delegate;
+        this.rateLimiter = rateLimiter;
+        this.tokenCountEstimator = tokenCountEstimator;
+        this.priority = priority;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public ChatResponse chat(ChatRequest chatRequest) {
+        RateLimiter.Permit permit = rateLimiter.acquire(estimateTokens(chatRequest, tokenCountEstimator), priority, timeout);
+        ChatResponse chatResponse;
+        try {
+            chatResponse = delegate.chat(chatRequest);
+        } catch (RuntimeException e) {
+            rateLimiter.reconcile(permit, 0);
+            throw e;
+        }
+        TokenUsage tokenUsage = chatResponse.tokenUsage();
+        rateLimiter.reconcile(permit, tokenUsage == null ? null : tokenUsage.totalTokenCount());
+        return chatResponse;
+    }
+
+    /**
+     * @param priority the priority of the requests, higher priorities being admitted first.
+     * @return a model sending its requests through the same delegate and {@link RateLimiter},
+     * with the given priority.
+     */
+    public RateLimitedChatModel withPriority(int priority) {
+        return new RateLimitedChatModel(delegate, rateLimiter, tokenCountEstimator, priority, timeout);
+    }
+
+    @Override
+    public ChatRequestParameters defaultRequestParameters() {
+        return delegate.defaultRequestParameters();
+    }
+
+    @Override
+    public ModelProvider provider() {
+        return delegate.provider();
+    }
+
+    @Override
+    public Set<Capability> supportedCapabilities() {
+        return delegate.supportedCapabilities();
+    }
+
+    public RateLimiter rateLimiter() {
+        return rateLimiter;
+    }
+
+    static int estimateTokens(ChatRequest chatRequest, TokenCountEstimator tokenCountEstimator) {
+        if (tokenCountEstimator == null) {
+            return 0;
+        }
+        int tokens = tokenCountEstimator.estimateTokenCountInMessages(chatRequest.messages());
+        return chatRequest.maxOutputTokens() == null ? tokens : tokens + chatRequest.maxOutputTokens();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private ChatModel delegate;
+        private RateLimiter rateLimiter;
+        private TokenCountEstimator tokenCountEstimator;
+        private Integer priority;
+        private Duration timeout;
+
+        /**
+         * @param delegate the model to call once requests are admitted.
+         * @return {@code this}
+         */
+        public Builder delegate(ChatModel delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * @param rateLimiter the rate limiter admitting the requests.
+         * @return {@code this}
+         */
+        public Builder rateLimiter(RateLimiter rateLimiter) {
+            this.rateLimiter = rateLimiter;
+            return this;
+        }
+
+        /**
+         * @param tokenCountEstimator estimates the tokens of the requests before they are sent.
+         * @return {@code this}
+         */
+        public Builder tokenCountEstimator(TokenCountEstimator tokenCountEstimator) {
+            this.tokenCountEstimator = tokenCountEstimator;
+            return this;
+        }
+
+        /**
+         * @param priority the priority of the requests, higher priorities being admitted first. Default value: 0.
+         * @return {@code this}
+         */
+        public Builder priority(Integer priority) {
+            this.priority = priority;
+            return this;
+        }
+
+        /**
+         * @param timeout how long a request can wait to be admitted. By default, it waits as long as needed.
+         * @return {@code this}
+         */
+        public Builder timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        public RateLimitedChatModel build() {
+            return new RateLimitedChatModel(this);
+        }
+    }
+}
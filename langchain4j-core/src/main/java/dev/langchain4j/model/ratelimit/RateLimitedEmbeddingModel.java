@@ -0,0 +1,159 @@
+package dev.langchain4j.model.ratelimit;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.TokenCountEstimator;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * An {@link EmbeddingModel} that waits for a {@link RateLimiter} to admit each request before calling the delegate.
+ * <p>
+ * The tokens of a request are estimated with the {@link TokenCountEstimator}, if any, as the sum of the tokens
+ * of its segments. They are reconciled with the {@link TokenUsage} of the response.
+ * Without a {@link TokenCountEstimator}, requests are admitted as if they had no tokens,
+ * and the tokens per minute are only enforced once responses report their usage.
+ * A request failing with an exception is reconciled as if it had consumed no tokens.
+ */
+public class RateLimitedEmbeddingModel implements EmbeddingModel {
+
+    private final EmbeddingModel delegate;
+    private final RateLimiter rateLimiter;
+    private final TokenCountEstimator tokenCountEstimator;
+    private final int priority;
+    private final Duration timeout;
+
+    public RateLimitedEmbeddingModel(Builder builder) {
+        this(
+                ensureNotNull(builder.delegate, "delegate"),
+                ensureNotNull(builder.rateLimiter, "rateLimiter"),
+                builder.tokenCountEstimator,
+                getOrDefault(builder.priority, 0),
+                builder.timeout);
+    }
+
+    private RateLimitedEmbeddingModel(
+            EmbeddingModel delegate,
+            RateLimiter rateLimiter,
+            TokenCountEstimator tokenCountEstimator,
+            int priority,
+            Duration timeout) {
+        this.delegate = delegate;
+        this.rateLimiter = rateLimiter;
+        this.tokenCountEstimator = tokenCountEstimator;
+        this.priority = priority;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+        RateLimiter.Permit permit = rateLimiter.acquire(estimateTokens(textSegments), priority, timeout);
+        Response<List<Embedding>> response;
+        try {
+            response = delegate.embedAll(textSegments);
+        } catch (RuntimeException e) {
+            rateLimiter.reconcile(permit, 0);
+            throw e;
+        }
+        TokenUsage tokenUsage = response.tokenUsage();
+        rateLimiter.reconcile(permit, tokenUsage == null ? null : tokenUsage.totalTokenCount());
+        return response;
+    }
+
+    @Override
+    public int dimension() {
+        return delegate.dimension();
+    }
+
+    /**
+     * @param priority the priority of the requests, higher priorities being admitted first.
+     * @return a model sending its requests through the same delegate and {@link RateLimiter},
+     * with the given priority.
+     */
+    public RateLimitedEmbeddingModel withPriority(int priority) {
+        return new RateLimitedEmbeddingModel(delegate, rateLimiter, tokenCountEstimator, priority, timeout);
+    }
+
+    public RateLimiter rateLimiter() {
+        return rateLimiter;
+    }
+
+    private int estimateTokens(List<TextSegment> textSegments) {
+        if (tokenCountEstimator == null) {
+            return 0;
+        }
+        int tokens = 0;
+        for (TextSegment textSegment : textSegments) {
+            tokens += tokenCountEstimator.estimateTokenCountInText(textSegment.text());
+        }
+        return tokens;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private EmbeddingModel delegate;
+        private RateLimiter rateLimiter;
+        private TokenCountEstimator tokenCountEstimator;
+        private Integer priority;
+        private Duration timeout;
+
+        /**
+         * @param delegate the model to call once requests are admitted.
+         * @return {@code this}
+         */
+        public Builder delegate(EmbeddingModel delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * @param rateLimiter the rate limiter admitting the requests.
+         * @return {@code this}
+         */
+        public Builder rateLimiter(RateLimiter rateLimiter) {
+            this.rateLimiter = rateLimiter;
+            return this;
+        }
+
+        /**
+         * @param tokenCountEstimator estimates the tokens of the requests before they are sent.
+         * @return {@code this}
+         */
+        public Builder tokenCountEstimator(TokenCountEstimator tokenCountEstimator) {
+            this.tokenCountEstimator = tokenCountEstimator;
+            return this;
+        }
+
+        /**
+         * @param priority the priority of the requests, higher priorities being admitted first. Default value: 0.
+         * @return {@code this}
+         */
+        public Builder priority(Integer priority) {
+            this.priority = priority;
+            return this;
+        }
+
+        /**
+         * @param timeout how long a request can wait to be admitted. By default, it waits as long as needed.
+         * @return {@code this}
+         */
+        public Builder timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        public RateLimitedEmbeddingModel build() {
+            return new RateLimitedEmbeddingModel(this);
+        }
+    }
+}
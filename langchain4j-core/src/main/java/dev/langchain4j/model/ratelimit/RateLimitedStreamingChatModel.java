@@ -0,0 +1,207 @@
+package dev.langchain4j.model.ratelimit;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import dev.langchain4j.model.ModelProvider;
+import dev.langchain4j.model.TokenCountEstimator;
+import dev.langchain4j.model.chat.Capability;
+import dev.langchain4j.model.chat.StreamingChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.request.ChatRequestParameters;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.response.CompleteToolCall;
+import dev.langchain4j.model.chat.response.PartialThinking;
+import dev.langchain4j.model.chat.response.PartialToolCall;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
+import dev.langchain4j.model.output.TokenUsage;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * A {@link StreamingChatModel} that waits for a {@link RateLimiter} to admit each request before calling the delegate.
+ * The calling thread waits for the request to be admitted, then the response is streamed as usual.
+ * <p>
+ * The tokens of a request are estimated with the {@link TokenCountEstimator}, if any, as the tokens of its messages
+ * plus its {@code maxOutputTokens}, if set. They are reconciled with the {@link TokenUsage} of the response.
+ * Without a {@link TokenCountEstimator}, requests are admitted as if they had no tokens,
+ * and the tokens per minute are only enforced once responses report their usage.
+ * A request failing with an error is reconciled as if it had consumed no tokens.
+ */
+public class RateLimitedStreamingChatModel implements StreamingChatModel {
+
+    private final StreamingChatModel delegate;
+    private final RateLimiter rateLimiter;
+    private final TokenCountEstimator tokenCountEstimator;
+    private final int priority;
+    private final Duration timeout;
+
+    public RateLimitedStreamingChatModel(Builder builder) {
+        this(
+                ensureNotNull(builder.delegate, "delegate"),
+                ensureNotNull(builder.rateLimiter, "rateLimiter"),
+                builder.tokenCountEstimator,
+                getOrDefault(builder.priority, 0),
+                builder.timeout);
+    }
+
+    private RateLimitedStreamingChatModel(
+            StreamingChatModel delegate,
+            RateLimiter rateLimiter,
+            TokenCountEstimator tokenCountEstimator,
+            int priority,
+            Duration timeout) {
+        this.delegate = delegate;
+        this.rateLimiter = rateLimiter;
+        this.tokenCountEstimator = tokenCountEstimator;
+        this.priority = priority;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void chat(ChatRequest chatRequest, StreamingChatResponseHandler handler) {
+        RateLimiter.Permit permit;
+        try {
+            permit = rateLimiter.acquire(
+                    RateLimitedChatModel.estimateTokens(chatRequest, tokenCountEstimator), priority, timeout);
+        } catch (Exception e) {
+            handler.onError(e);
+            return;
+        }
+        try {
+            delegate.chat(chatRequest, rateLimitedHandler(permit, handler));
+        } catch (RuntimeException e) {
+            rateLimiter.reconcile(permit, 0);
+            throw e;
+        }
+    }
+
+    private StreamingChatResponseHandler rateLimitedHandler(
+            RateLimiter.Permit permit, StreamingChatResponseHandler handler) {
+        return new StreamingChatResponseHandler() {
+
+            @Override
+            public void onPartialResponse(String partialResponse) {
+                handler.onPartialResponse(partialResponse);
+            }
+
+            @Override
+            public void onPartialThinking(PartialThinking partialThinking) {
+                handler.onPartialThinking(partialThinking);
+            }
+
+            @Override
+            public void onPartialToolCall(PartialToolCall partialToolCall) {
+                handler.onPartialToolCall(partialToolCall);
+            }
+
+            @Override
+            public void onCompleteToolCall(CompleteToolCall completeToolCall) {
+                handler.onCompleteToolCall(completeToolCall);
+            }
+
+            @Override
+            public void onCompleteResponse(ChatResponse completeResponse) {
+                TokenUsage tokenUsage = completeResponse.tokenUsage();
+                rateLimiter.reconcile(permit, tokenUsage == null ? null : tokenUsage.totalTokenCount());
+                handler.onCompleteResponse(completeResponse);
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                rateLimiter.reconcile(permit, 0);
+                handler.onError(error);
+            }
+        };
+    }
+
+    /**
+     * @param priority the priority of the requests, higher priorities being admitted first.
+     * @return a model sending its requests through the same delegate and {@link RateLimiter},
+     * with the given priority.
+     */
+    public RateLimitedStreamingChatModel withPriority(int priority) {
+        return new RateLimitedStreamingChatModel(delegate, rateLimiter, tokenCountEstimator, priority, timeout);
+    }
+
+    @Override
+    public ChatRequestParameters defaultRequestParameters() {
+        return delegate.defaultRequestParameters();
+    }
+
+    @Override
+    public ModelProvider provider() {
+        return delegate.provider();
+    }
+
+    @Override
+    public Set<Capability> supportedCapabilities() {
+        return delegate.supportedCapabilities();
+    }
+
+    public RateLimiter rateLimiter() {
+        return rateLimiter;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private StreamingChatModel delegate;
+        private RateLimiter rateLimiter;
+        private TokenCountEstimator tokenCountEstimator;
+        private Integer priority;
+        private Duration timeout;
+
+        /**
+         * @param delegate the model to call once requests are admitted.
+         * @return {@code this}
+         */
+        public Builder delegate(StreamingChatModel delegate) {
+            this.delegate = delegate;
+            return this;
+        }
+
+        /**
+         * @param rateLimiter the rate limiter admitting the requests.
+         * @return {@code this}
+         */
+        public Builder rateLimiter(RateLimiter rateLimiter) {
+            this.rateLimiter = rateLimiter;
+            return this;
+        }
+
+        /**
+         * @param tokenCountEstimator estimates the tokens of the requests before they are sent.
+         * @return {@code this}
+         */
+        public Builder tokenCountEstimator(TokenCountEstimator tokenCountEstimator) {
+            this.tokenCountEstimator = tokenCountEstimator;
+            return this;
+        }
+
+        /**
+         * @param priority the priority of the requests, higher priorities being admitted first. Default value: 0.
+         * @return {@code this}
+         */
+        public Builder priority(Integer priority) {
+            this.priority = priority;
+            return this;
+        }
+
+        /**
+         * @param timeout how long a request can wait to be admitted. By default, it waits as long as needed.
+         * @return {@code this}
+         */
+        public Builder timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        public RateLimitedStreamingChatModel build() {
+            return new RateLimitedStreamingChatModel(this);
+        }
+    }
+}
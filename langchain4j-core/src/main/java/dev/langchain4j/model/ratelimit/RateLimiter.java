@@ -0,0 +1,261 @@
+package dev.langchain4j.model.ratelimit;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+
+import dev.langchain4j.exception.RateLimitException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Paces the requests sent to a model provider, so that they stay within a number of requests per minute
+ * and/or a number of tokens per minute, instead of being throttled by the provider.
+ * <p>
+ * Both limits are token buckets refilled continuously: a burst of up to one minute worth of requests
+ * (or tokens) is admitted at once, and the following requests are admitted as the buckets refill.
+ * <p>
+ * Requests that cannot be admitted yet wait in a queue. The queue is ordered by priority (highest first),
+ * then by deadline (earliest first), then by arrival; only the request at the head of the queue can be admitted,
+ * so that a large request is not starved by smaller ones. A request that is still queued at its deadline,
+ * or that arrives when the queue is full, fails with a {@link RateLimitException}.
+ * <p>
+ * The number of tokens of a request is estimated before it is sent, and reconciled with its actual
+ * {@link dev.langchain4j.model.output.TokenUsage} once it completes, see {@link #reconcile(Permit, Integer)}.
+ * Underestimated requests put the token bucket in debt, delaying the next requests accordingly.
+ * <p>
+ * A single {@code RateLimiter} should be shared by all the models calling the same provider account.
+ */
+public class RateLimiter {
+
+    private static final long NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    private final Bucket requests;
+    private final Bucket tokens;
+    private final int maxQueueSize;
+
+    private final PriorityQueue<Waiter> queue = new PriorityQueue<>(Comparator.comparingInt((Waiter w) -> -w.priority)
+            .thenComparingLong(w -> w.deadline)
+            .thenComparingLong(w -> w.sequence));
+    private long sequence;
+
+    private long admitted;
+    private long rejected;
+    private long totalWaitNanos;
+    private long maxWaitNanos;
+
+    public RateLimiter(Builder builder) {
+        this.requests = builder.requestsPerMinute == null
+                ? null
+                : new Bucket(ensureGreaterThanZero(builder.requestsPerMinute, "requestsPerMinute"));
+        this.tokens = builder.tokensPerMinute == null
+                ? null
+                : new Bucket(ensureGreaterThanZero(builder.tokensPerMinute, "tokensPerMinute"));
+        this.maxQueueSize = ensureGreaterThanZero(getOrDefault(builder.maxQueueSize, 1_000), "maxQueueSize");
+    }
+
+    /**
+     * Waits until a request can be sent.
+     *
+     * @param estimatedTokens the estimated number of tokens of the request.
+     * @param priority        the priority of the request, higher priorities being admitted first.
+     * @param timeout         how long the request can wait, or {@code null} to wait as long as needed.
+     * @return the permit of the request, to {@link #reconcile(Permit, Integer)} once it completes.
+     * @throws RateLimitException if the queue is full, or the request could not be admitted within the timeout.
+     */
+    public Permit acquire(int estimatedTokens, int priority, Duration timeout) {
+        long start = System.nanoTime();
+        long deadline = timeout == null ? Long.MAX_VALUE : start + timeout.toNanos();
+        if (deadline < start) {
+            deadline = Long.MAX_VALUE; // overflow
+        }
+        synchronized (this) {
+            if (queue.size() >= maxQueueSize) {
+                rejected++;
+                throw new RateLimitException("The rate limiter queue is full (" + maxQueueSize + " requests)");
+            }
+            Waiter waiter = new Waiter(Math.max(0, estimatedTokens), priority, deadline, sequence++);
+            queue.add(waiter);
+            try {
+                while (true) {
+                    long now = System.nanoTime();
+                    long waitNanos = Long.MAX_VALUE;
+                    if (queue.peek() == waiter) {
+                        waitNanos = nanosUntilAvailable(waiter.tokens, now);
+                        if (waitNanos <= 0) {
+                            take(waiter.tokens, now);
+                            queue.remove(waiter);
+                            notifyAll(); // the next waiter is now at the head of the queue
+                            recordWait(now - start);
+                            return new Permit(waiter.tokens);
+                        }
+                    }
+                    long remaining = deadline - now;
+                    if (remaining <= 0) {
+                        queue.remove(waiter);
+                        notifyAll();
+                        rejected++;
+                        throw new RateLimitException("The request could not be admitted by the rate limiter within "
+                                + Duration.ofNanos(now - start).toMillis() + " ms");
+                    }
+                    TimeUnit.NANOSECONDS.timedWait(this, Math.min(waitNanos, remaining));
+                }
+            } catch (InterruptedException e) {
+                queue.remove(waiter);
+                notifyAll();
+                Thread.currentThread().interrupt();
+                throw new RateLimitException("Interrupted while waiting for the rate limiter", e);
+            }
+        }
+    }
+
+    /**
+     * Corrects the number of tokens consumed by a request, once its actual token usage is known.
+     *
+     * @param permit       the permit returned by {@link #acquire(int, int, Duration)} for the request.
+     * @param actualTokens the actual number of tokens of the request, or {@code null} if unknown,
+     *                     in which case the estimate is kept.
+     */
+    public void reconcile(Permit permit, Integer actualTokens) {
+        if (tokens == null || actualTokens == null) {
+            return;
+        }
+        synchronized (this) {
+            if (permit.reconciled) {
+                return;
+            }
+            permit.reconciled = true;
+            tokens.refill(System.nanoTime());
+            // may go below zero, delaying the next requests until the debt is paid back
+            tokens.available -= actualTokens - permit.estimatedTokens;
+            tokens.available = Math.min(tokens.available, tokens.capacity);
+            notifyAll();
+        }
+    }
+
+    /**
+     * @return a snapshot of the statistics of this rate limiter.
+     */
+    public synchronized RateLimiterStats stats() {
+        return new RateLimiterStats(
+                queue.size(), admitted, rejected, Duration.ofNanos(totalWaitNanos), Duration.ofNanos(maxWaitNanos));
+    }
+
+    private long nanosUntilAvailable(int estimatedTokens, long now) {
+        long wait = 0;
+        if (requests != null) {
+            wait = Math.max(wait, requests.nanosUntilAvailable(1, now));
+        }
+        if (tokens != null) {
+            // a request larger than the whole bucket only needs a full bucket
+            wait = Math.max(wait, tokens.nanosUntilAvailable(Math.min(estimatedTokens, tokens.capacity), now));
+        }
+        return wait;
+    }
+
+    private void take(int estimatedTokens, long now) {
+        if (requests != null) {
+            requests.take(1, now);
+        }
+        if (tokens != null) {
+            tokens.take(estimatedTokens, now);
+        }
+    }
+
+    private void recordWait(long waitNanos) {
+        admitted++;
+        totalWaitNanos += waitNanos;
+        maxWaitNanos = Math.max(maxWaitNanos, waitNanos);
+    }
+
+    /**
+     * The admission of a request, to {@link #reconcile(Permit, Integer)} with its actual token usage.
+     */
+    public static final class Permit {
+
+        private final int estimatedTokens;
+        private boolean reconciled;
+
+        private Permit(int estimatedTokens) {
+            this.estimatedTokens = estimatedTokens;
+        }
+
+        public int estimatedTokens() {
+            return estimatedTokens;
+        }
+    }
+
+    private record Waiter(int tokens, int priority, long deadline, long sequence) {}
+
+    private static final class Bucket {
+
+        private final int capacity;
+        private double available;
+        private long refilledAt;
+
+        Bucket(int perMinute) {
+            this.capacity = perMinute;
+            this.available = perMinute;
+            this.refilledAt = System.nanoTime();
+        }
+
+        void refill(long now) {
+            available = Math.min(capacity, available + (double) (now - refilledAt) * capacity / NANOS_PER_MINUTE);
+            refilledAt = now;
+        }
+
+        long nanosUntilAvailable(int amount, long now) {
+            refill(now);
+            double missing = amount - available;
+            return missing <= 0 ? 0 : (long) Math.ceil(missing * NANOS_PER_MINUTE / capacity);
+        }
+
+        void take(int amount, long now) {
+            refill(now);
+            available -= amount;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private Integer requestsPerMinute;
+        private Integer tokensPerMinute;
+        private Integer maxQueueSize;
+
+        /**
+         * @param requestsPerMinute the maximum number of requests per minute. By default, requests are not limited.
+         * @return {@code this}
+         */
+        public Builder requestsPerMinute(Integer requestsPerMinute) {
+            this.requestsPerMinute = requestsPerMinute;
+            return this;
+        }
+
+        /**
+         * @param tokensPerMinute the maximum number of tokens per minute. By default, tokens are not limited.
+         * @return {@code this}
+         */
+        public Builder tokensPerMinute(Integer tokensPerMinute) {
+            this.tokensPerMinute = tokensPerMinute;
+            return this;
+        }
+
+        /**
+         * @param maxQueueSize the maximum number of requests waiting to be admitted. Default value: 1000.
+         * @return {@code this}
+         */
+        public Builder maxQueueSize(Integer maxQueueSize) {
+            this.maxQueueSize = maxQueueSize;
+            return this;
+        }
+
+        public RateLimiter build() {
+            return new RateLimiter(this);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package dev.langchain4j.model.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * A snapshot of the statistics of a {@link RateLimiter}.
+ *
+ * @param queueDepth the number of requests currently waiting to be admitted.
+ * @param admitted   the number of requests admitted.
+ * @param rejected   the number of requests rejected because the queue was full or their timeout expired.
+ * @param totalWait  the total time admitted requests spent waiting.
+ * @param maxWait    the longest time an admitted request spent waiting.
+ */
+public record RateLimiterStats(int queueDepth, long admitted, long rejected, Duration totalWait, Duration maxWait) {
+
+    /**
+     * @return the average time admitted requests spent waiting.
+     */
+    public Duration averageWait() {
+        return admitted == 0 ? Duration.ZERO : totalWait.dividedBy(admitted);
+    }
+}
@@ -0,0 +1,324 @@
+package dev.langchain4j.observability.api;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import dev.langchain4j.observability.api.event.AiServiceEvent;
+import dev.langchain4j.observability.api.listener.AiServiceListener;
+import dev.langchain4j.observability.api.listener.BatchAiServiceListener;
+import dev.langchain4j.spi.observability.AiServiceListenerRegistrarFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A registrar dispatching events to the {@link AiServiceListener}s asynchronously, so that slow listeners
+ * (e.g. exporting events to an observability backend) do not add to the latency of the AI Services.
+ * <p>
+ * {@link #fireEvent(AiServiceEvent)} only puts the event in a bounded, lock-free ring buffer.
+ * A daemon thread drains the buffer and delivers the events in batches of up to {@code maxBatchSize}:
+ * {@link BatchAiServiceListener}s receive each batch at once, other listeners receive its events one by one.
+ * Each listener receives the events in the order they were fired.
+ * <p>
+ * Each instance has its own listeners and buffer, but all the instances share a single dispatcher thread,
+ * taking one batch of each instance with pending events in turn. Creating one instance per AI Service,
+ * as done when it is returned by an {@link AiServiceListenerRegistrarFactory}, therefore does not create threads,
+ * and an instance that is no longer used can be garbage collected without being closed.
+ * As a consequence, a listener blocking the dispatcher thread delays the listeners of all the instances.
+ * <p>
+ * When the buffer is full, the {@link OverflowPolicy} decides whether events are dropped,
+ * or whether the AI Service waits for room in the buffer. Dropped events are counted, see {@link #droppedEvents()}.
+ * <p>
+ * To use it for all AI Services, return it from an {@link AiServiceListenerRegistrarFactory} registered with
+ * the {@link java.util.ServiceLoader}. Once {@link #close() closed}, events are delivered synchronously.
+ */
+public class AsyncAiServiceListenerRegistrar extends DefaultAiServiceListenerRegistrar implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AsyncAiServiceListenerRegistrar.class);
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    /**
+     * What to do with an event when the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * The event is dropped.
+         */
+        DROP,
+        /**
+         * The AI Service waits until there is room in the buffer.
+         */
+        BLOCK,
+        /**
+         * Once the buffer is half full, only one event out of {@code sampleRate} is kept, so that listeners
+         * still see a sample of the events during a burst. Events are dropped when the buffer is full.
+         */
+        SAMPLE
+    }
+
+    private final MpscRingBuffer<AiServiceEvent> buffer;
+    private final int maxBatchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final int sampleRate;
+
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicLong sampling = new AtomicLong();
+    private final AtomicLong dispatched = new AtomicLong();
+    // whether this registrar is queued in the dispatcher, or being drained by it
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private volatile boolean closed;
+
+    public AsyncAiServiceListenerRegistrar() {
+        this(builder());
+    }
+
+    public AsyncAiServiceListenerRegistrar(Builder builder) {
+        this.buffer = new MpscRingBuffer<>(ensureGreaterThanZero(getOrDefault(builder.bufferSize, 8192), "bufferSize"));
+        this.maxBatchSize = ensureGreaterThanZero(getOrDefault(builder.maxBatchSize, 256), "maxBatchSize");
+        this.overflowPolicy = getOrDefault(builder.overflowPolicy, OverflowPolicy.DROP);
+        this.sampleRate = ensureGreaterThanZero(getOrDefault(builder.sampleRate, 10), "sampleRate");
+    }
+
+    /**
+     * Queues the given event, to be fired to all registered {@link AiServiceListener}s by the dispatcher thread.
+     *
+     * @param <T>   The type of the event, which must be a subtype of {@link AiServiceEvent}.
+     * @param event The event to be fired to the listeners. Must not be null.
+     */
+    @Override
+    public <T extends AiServiceEvent> void fireEvent(T event) {
+        ensureNotNull(event, "event");
+        if (closed) {
+            super.fireEvent(event);
+            return;
+        }
+        if (overflowPolicy == OverflowPolicy.SAMPLE
+                && buffer.size() >= buffer.capacity() / 2
+                && sampling.getAndIncrement() % sampleRate != 0) {
+            dropped.increment();
+            return;
+        }
+        while (!buffer.offer(event)) {
+            if (closed) {
+                // closed in the meantime, delivered synchronously as any event fired after closing
+                super.fireEvent(event);
+                return;
+            }
+            if (overflowPolicy != OverflowPolicy.BLOCK) {
+                dropped.increment();
+                return;
+            }
+            schedule();
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+        }
+        accepted.increment();
+        // also when closed in the meantime: the shared dispatcher keeps running, so the event is still delivered
+        schedule();
+    }
+
+    /**
+     * Waits until all the events queued so far have been delivered to the listeners.
+     *
+     * @param timeout how long to wait at most.
+     * @return {@code true} if all the events were delivered, {@code false} if the timeout expired.
+     */
+    public boolean flush(Duration timeout) {
+        long target = accepted.sum();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (dispatched.get() < target) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            schedule();
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+        }
+        return true;
+    }
+
+    /**
+     * @return the number of events dropped because of the {@link OverflowPolicy}.
+     */
+    public long droppedEvents() {
+        return dropped.sum();
+    }
+
+    /**
+     * @return the number of events delivered to the listeners.
+     */
+    public long dispatchedEvents() {
+        return dispatched.get();
+    }
+
+    /**
+     * @return the number of events waiting to be delivered to the listeners.
+     */
+    public int pendingEvents() {
+        return buffer.size();
+    }
+
+    /**
+     * Waits (up to 10 seconds) for the events still queued to be delivered.
+     * Events fired afterwards are delivered synchronously. The shared dispatcher thread keeps running.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        flush(Duration.ofSeconds(10));
+    }
+
+    private void schedule() {
+        if (buffer.size() > 0 && scheduled.compareAndSet(false, true)) {
+            Dispatcher.INSTANCE.submit(this);
+        }
+    }
+
+    /**
+     * Called by the dispatcher thread: delivers one batch of events.
+     *
+     * @return {@code true} if events are still pending, i.e. the registrar has to be drained again.
+     */
+    private boolean drainBatch(List<AiServiceEvent> batch) {
+        int drained = buffer.drainTo(batch, maxBatchSize);
+        if (drained > 0) {
+            try {
+                dispatch(batch);
+            } catch (Throwable e) {
+                LOG.warn("An error occurred while dispatching %s events: %s".formatted(drained, e.getMessage()), e);
+            }
+            batch.clear();
+            dispatched.addAndGet(drained);
+        }
+        if (buffer.size() > 0) {
+            return true;
+        }
+        scheduled.set(false);
+        // an event may have been queued after the buffer was found empty, but before the flag was reset
+        return buffer.size() > 0 && scheduled.compareAndSet(false, true);
+    }
+
+    private void dispatch(List<AiServiceEvent> batch) {
+        // each listener only receives events of one class, so grouping by class keeps their order for each listener
+        Map<Class<? extends AiServiceEvent>, List<AiServiceEvent>> eventsByClass = new LinkedHashMap<>();
+        for (AiServiceEvent event : batch) {
+            Class<? extends AiServiceEvent> eventClass = event.eventClass();
+            eventsByClass.computeIfAbsent(eventClass, c -> new ArrayList<>()).add(event);
+        }
+        eventsByClass.forEach(this::fireEvents);
+    }
+
+    /**
+     * The daemon thread delivering the events of all the {@link AsyncAiServiceListenerRegistrar}s,
+     * started when the first event is fired. Only registrars with pending events are referenced.
+     */
+    private static class Dispatcher implements Runnable {
+
+        private static final Dispatcher INSTANCE = new Dispatcher();
+
+        private final Queue<AsyncAiServiceListenerRegistrar> ready = new ConcurrentLinkedQueue<>();
+        private final Thread thread;
+        private volatile boolean idle;
+
+        private Dispatcher() {
+            this.thread = new Thread(this, "langchain4j-ai-service-listeners");
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+
+        void submit(AsyncAiServiceListenerRegistrar registrar) {
+            ready.add(registrar);
+            if (idle) {
+                LockSupport.unpark(thread);
+            }
+        }
+
+        @Override
+        public void run() {
+            List<AiServiceEvent> batch = new ArrayList<>();
+            while (true) {
+                AsyncAiServiceListenerRegistrar registrar = ready.poll();
+                if (registrar == null) {
+                    idle = true;
+                    if (ready.isEmpty()) {
+                        LockSupport.parkNanos(IDLE_PARK_NANOS);
+                    }
+                    idle = false;
+                    continue;
+                }
+                // one batch at a time, so that a busy registrar does not starve the others
+                if (registrar.drainBatch(batch)) {
+                    ready.add(registrar);
+                }
+            }
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private @Nullable Integer bufferSize;
+        private @Nullable Integer maxBatchSize;
+        private @Nullable OverflowPolicy overflowPolicy;
+        private @Nullable Integer sampleRate;
+
+        /**
+         * @param bufferSize the maximum number of events waiting to be delivered, rounded up to a power of two.
+         *                   Default value: 8192.
+         * @return {@code this}
+         */
+        public Builder bufferSize(Integer bufferSize) {
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        /**
+         * @param maxBatchSize the maximum number of events delivered at once. Default value: 256.
+         * @return {@code this}
+         */
+        public Builder maxBatchSize(Integer maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * @param overflowPolicy what to do with events when the buffer is full.
+         *                       Default value: {@link OverflowPolicy#DROP}.
+         * @return {@code this}
+         */
+        public Builder overflowPolicy(OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = overflowPolicy;
+            return this;
+        }
+
+        /**
+         * @param sampleRate with {@link OverflowPolicy#SAMPLE}, one event out of {@code sampleRate} is kept
+         *                   once the buffer is half full. Default value: 10.
+         * @return {@code this}
+         */
+        public Builder sampleRate(Integer sampleRate) {
+            this.sampleRate = sampleRate;
+            return this;
+        }
+
+        public AsyncAiServiceListenerRegistrar build() {
+            return new AsyncAiServiceListenerRegistrar(this);
+        }
+    }
+}
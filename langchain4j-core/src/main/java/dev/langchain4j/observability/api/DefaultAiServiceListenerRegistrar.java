@@ -4,7 +4,9 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
 import dev.langchain4j.observability.api.event.AiServiceEvent;
 import dev.langchain4j.observability.api.listener.AiServiceListener;
+import dev.langchain4j.observability.api.listener.BatchAiServiceListener;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -62,6 +64,16 @@ public class DefaultAiServiceListenerRegistrar implements AiServiceListenerRegis
                 .ifPresent(l -> l.fireEvent(event));
     }
 
+    /**
+     * Fires the given events, all of the same class, to all registered {@link AiServiceListener}s.
+     * {@link BatchAiServiceListener}s receive all the events at once, other listeners receive them one by one.
+     */
+    <T extends AiServiceEvent> void fireEvents(Class<? extends AiServiceEvent> eventClass, List<T> events) {
+        Optional.ofNullable(this.listeners.get(eventClass))
+                .map(l -> (EventListeners<T>) l)
+                .ifPresent(l -> l.fireEvents(events));
+    }
+
     private <T extends AiServiceEvent> EventListeners<T> addToExistingOrNewList(
             @Nullable EventListeners<? extends AiServiceEvent> listenersList, AiServiceListener<T> listener) {
 
@@ -108,23 +120,53 @@ public class DefaultAiServiceListenerRegistrar implements AiServiceListenerRegis
             var readLock = this.lock.readLock();
             readLock.lock();
 
+            try {
+                this.listeners.forEach(listener -> fireEvent(listener, event));
+            } finally {
+                readLock.unlock();
+            }
+        }
+
+        private void fireEvents(List<T> events) {
+            var readLock = this.lock.readLock();
+            readLock.lock();
+
             try {
                 this.listeners.forEach(listener -> {
-                    try {
-                        listener.onEvent(event);
-                    } catch (Exception e) {
-                        LOG.warn(
-                                "An error occurred while firing event (%s) to listener (%s): %s"
-                                        .formatted(
-                                                event.getClass().getName(),
-                                                listener.getClass().getName(),
-                                                e.getMessage()),
-                                e);
+                    if (listener instanceof BatchAiServiceListener<T> batchListener) {
+                        try {
+                            batchListener.onEvents(events);
+                        } catch (Exception e) {
+                            LOG.warn(
+                                    "An error occurred while firing %s events (%s) to listener (%s): %s"
+                                            .formatted(
+                                                    events.size(),
+                                                    events.get(0).getClass().getName(),
+                                                    listener.getClass().getName(),
+                                                    e.getMessage()),
+                                    e);
+                        }
+                    } else {
+                        events.forEach(event -> fireEvent(listener, event));
                     }
                 });
             } finally {
                 readLock.unlock();
             }
         }
+
+        private static <T extends AiServiceEvent> void fireEvent(AiServiceListener<T> listener, T event) {
+            try {
+                listener.onEvent(event);
+            } catch (Exception e) {
+                LOG.warn(
+                        "An error occurred while firing event (%s) to listener (%s): %s"
+                                .formatted(
+                                        event.getClass().getName(),
+                                        listener.getClass().getName(),
+                                        e.getMessage()),
+                        e);
+            }
+        }
     }
 }
@@ -3,6 +3,7 @@ package dev.langchain4j.observability.api.event;
 import dev.langchain4j.agent.tool.ToolExecutionRequest;
 import dev.langchain4j.invocation.InvocationContext;
 import dev.langchain4j.observability.event.DefaultToolExecutedEvent;
+import java.time.Duration;
 
 /**
  * Invoked after the tool is executed.
@@ -19,6 +20,13 @@ public interface ToolExecutedEvent extends AiServiceEvent {
      */
     String resultText();
 
+    /**
+     * Gets how long the tool took to execute, or {@code null} if it is unknown.
+     */
+    default Duration duration() {
+        return null;
+    }
+
     /**
      * Creates a new builder instance for constructing a {@link ToolExecutedEvent}.
      */
@@ -39,6 +47,7 @@ public interface ToolExecutedEvent extends AiServiceEvent {
     class ToolExecutedEventBuilder extends Builder<ToolExecutedEvent> {
         private ToolExecutionRequest request;
         private String resultText;
+        private Duration duration;
 
         protected ToolExecutedEventBuilder() {}
 
@@ -49,6 +58,7 @@ public interface ToolExecutedEvent extends AiServiceEvent {
             super(src);
             request(src.request());
             resultText(src.resultText());
+            duration(src.duration());
         }
 
         /**
@@ -67,6 +77,14 @@ public interface ToolExecutedEvent extends AiServiceEvent {
             return this;
         }
 
+        /**
+         * Sets how long the tool took to execute.
+         */
+        public ToolExecutedEventBuilder duration(Duration duration) {
+            this.duration = duration;
+            return this;
+        }
+
         public ToolExecutionRequest request() {
             return request;
         }
@@ -75,6 +93,10 @@ public interface ToolExecutedEvent extends AiServiceEvent {
             return resultText;
         }
 
+        public Duration duration() {
+            return duration;
+        }
+
         @Override
         public ToolExecutedEventBuilder invocationContext(InvocationContext invocationContext) {
             return (ToolExecutedEventBuilder) super.invocationContext(invocationContext);
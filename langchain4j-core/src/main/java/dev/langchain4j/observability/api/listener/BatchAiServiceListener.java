@@ -0,0 +1,29 @@
+package dev.langchain4j.observability.api.listener;
+
+import dev.langchain4j.observability.api.AsyncAiServiceListenerRegistrar;
+import dev.langchain4j.observability.api.event.AiServiceEvent;
+import java.util.List;
+
+/**
+ * An {@link AiServiceListener} able to handle several events at once, for example to export them
+ * in a single request.
+ * <p>
+ * When registered with an {@link AsyncAiServiceListenerRegistrar}, it receives the events queued since the
+ * previous batch, in the order they were fired. Otherwise, it receives each event in a batch of its own.
+ *
+ * @param <T> The type of {@link AiServiceEvent} this listener listens for
+ */
+public interface BatchAiServiceListener<T extends AiServiceEvent> extends AiServiceListener<T> {
+
+    /**
+     * Called with a batch of events of type {@link AiServiceEvent}.
+     *
+     * @param events The events, in the order they were fired. Never empty.
+     */
+    void onEvents(List<T> events);
+
+    @Override
+    default void onEvent(T event) {
+        onEvents(List.of(event));
+    }
+}
@@ -4,6 +4,7 @@ import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
 import dev.langchain4j.agent.tool.ToolExecutionRequest;
 import dev.langchain4j.observability.api.event.ToolExecutedEvent;
+import java.time.Duration;
 
 /**
  * Default implementation of {@link ToolExecutedEvent}.
@@ -12,11 +13,13 @@ public class DefaultToolExecutedEvent extends AbstractAiServiceEvent implements
 
     private final ToolExecutionRequest request;
     private final String resultText;
+    private final Duration duration;
 
     public DefaultToolExecutedEvent(ToolExecutedEventBuilder builder) {
         super(builder);
         this.request = ensureNotNull(builder.request(), "request");
         this.resultText = ensureNotNull(builder.resultText(), "resultText");
+        this.duration = builder.duration();
     }
 
     @Override
@@ -28,4 +31,9 @@ public class DefaultToolExecutedEvent extends AbstractAiServiceEvent implements
     public String resultText() {
         return resultText;
     }
+
+    @Override
+    public Duration duration() {
+        return duration;
+    }
 }
@@ -0,0 +1,68 @@
+package dev.langchain4j.observability.metrics;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.observability.metrics.MetricNames.AI_SERVICE_DURATION;
+import static dev.langchain4j.observability.metrics.MetricNames.ERROR;
+import static dev.langchain4j.observability.metrics.MetricNames.INTERFACE;
+import static dev.langchain4j.observability.metrics.MetricNames.METHOD;
+import static dev.langchain4j.observability.metrics.MetricNames.OUTCOME;
+import static dev.langchain4j.observability.metrics.MetricNames.SUCCESS;
+import static dev.langchain4j.observability.metrics.MetricNames.TOOL;
+import static dev.langchain4j.observability.metrics.MetricNames.TOOL_DURATION;
+
+import dev.langchain4j.invocation.InvocationContext;
+import dev.langchain4j.observability.api.listener.AiServiceCompletedListener;
+import dev.langchain4j.observability.api.listener.AiServiceErrorListener;
+import dev.langchain4j.observability.api.listener.AiServiceListener;
+import dev.langchain4j.observability.api.listener.ToolExecutedEventListener;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Creates the {@link AiServiceListener}s recording the {@link MetricNames#AI_SERVICE_DURATION}
+ * and the {@link MetricNames#TOOL_DURATION}, to register with an AI Service:
+ * <pre>{@code
+ * AiServices.builder(Assistant.class)
+ *         .registerListeners(AiServiceMetricsListeners.create(recorder))
+ *         ...
+ * }</pre>
+ * The duration of an invocation is measured from the {@link InvocationContext#timestamp()} of the invocation.
+ * With an asynchronous listener registrar, it also includes the time the completion event waited in the queue.
+ */
+public final class AiServiceMetricsListeners {
+
+    private AiServiceMetricsListeners() {}
+
+    /**
+     * @param recorder the recorder of the metrics.
+     * @return the listeners recording the metrics of AI Service invocations and tool executions.
+     */
+    public static List<AiServiceListener<?>> create(MetricsRecorder recorder) {
+        ensureNotNull(recorder, "recorder");
+        AiServiceCompletedListener completed = event -> recordInvocation(recorder, event.invocationContext(), SUCCESS);
+        AiServiceErrorListener error = event -> recordInvocation(recorder, event.invocationContext(), ERROR);
+        ToolExecutedEventListener toolExecuted = event -> {
+            if (event.duration() != null) {
+                recorder.recordDuration(TOOL_DURATION, event.duration().toNanos(), TOOL, event.request().name());
+            }
+        };
+        return List.of(completed, error, toolExecuted);
+    }
+
+    private static void recordInvocation(MetricsRecorder recorder, InvocationContext context, String outcome) {
+        if (context == null || context.timestamp() == null) {
+            return;
+        }
+        long nanos = Duration.between(context.timestamp(), Instant.now()).toNanos();
+        recorder.recordDuration(
+                AI_SERVICE_DURATION,
+                nanos,
+                INTERFACE,
+                String.valueOf(context.interfaceName()),
+                METHOD,
+                String.valueOf(context.methodName()),
+                OUTCOME,
+                outcome);
+    }
+}
@@ -0,0 +1,92 @@
+package dev.langchain4j.observability.metrics;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.observability.metrics.MetricNames.CHAT_DURATION;
+import static dev.langchain4j.observability.metrics.MetricNames.CHAT_TOKENS;
+import static dev.langchain4j.observability.metrics.MetricNames.ERROR;
+import static dev.langchain4j.observability.metrics.MetricNames.INPUT;
+import static dev.langchain4j.observability.metrics.MetricNames.MODEL;
+import static dev.langchain4j.observability.metrics.MetricNames.OUTCOME;
+import static dev.langchain4j.observability.metrics.MetricNames.OUTPUT;
+import static dev.langchain4j.observability.metrics.MetricNames.PROVIDER;
+import static dev.langchain4j.observability.metrics.MetricNames.SUCCESS;
+import static dev.langchain4j.observability.metrics.MetricNames.TOKEN_TYPE;
+
+import dev.langchain4j.model.ModelProvider;
+import dev.langchain4j.model.chat.listener.ChatModelErrorContext;
+import dev.langchain4j.model.chat.listener.ChatModelListener;
+import dev.langchain4j.model.chat.listener.ChatModelRequestContext;
+import dev.langchain4j.model.chat.listener.ChatModelResponseContext;
+import dev.langchain4j.model.output.TokenUsage;
+import java.util.Map;
+
+/**
+ * A {@link ChatModelListener} recording the {@link MetricNames#CHAT_DURATION} and the {@link MetricNames#CHAT_TOKENS}
+ * of the chat model it is registered with, streaming or not.
+ */
+public class ChatModelMetricsListener implements ChatModelListener {
+
+    private static final String START_NANOS = ChatModelMetricsListener.class.getName() + ".startNanos";
+
+    private final MetricsRecorder recorder;
+
+    public ChatModelMetricsListener(MetricsRecorder recorder) {
+        this.recorder = ensureNotNull(recorder, "recorder");
+    }
+
+    @Override
+    public void onRequest(ChatModelRequestContext requestContext) {
+        requestContext.attributes().put(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void onResponse(ChatModelResponseContext responseContext) {
+        String provider = provider(responseContext.modelProvider());
+        String model = model(responseContext.chatResponse().modelName(), responseContext.chatRequest().modelName());
+        recordDuration(responseContext.attributes(), provider, model, SUCCESS);
+
+        TokenUsage tokenUsage = responseContext.chatResponse().tokenUsage();
+        if (tokenUsage != null) {
+            if (tokenUsage.inputTokenCount() != null) {
+                recorder.increment(
+                        CHAT_TOKENS, tokenUsage.inputTokenCount(), PROVIDER, provider, MODEL, model, TOKEN_TYPE, INPUT);
+            }
+            if (tokenUsage.outputTokenCount() != null) {
+                recorder.increment(
+                        CHAT_TOKENS,
+                        tokenUsage.outputTokenCount(),
+                        PROVIDER,
+                        provider,
+                        MODEL,
+                        model,
+                        TOKEN_TYPE,
+                        OUTPUT);
+            }
+        }
+    }
+
+    @Override
+    public void onError(ChatModelErrorContext errorContext) {
+        String provider = provider(errorContext.modelProvider());
+        String model = model(null, errorContext.chatRequest().modelName());
+        recordDuration(errorContext.attributes(), provider, model, ERROR);
+    }
+
+    private void recordDuration(Map<Object, Object> attributes, String provider, String model, String outcome) {
+        if (attributes.get(START_NANOS) instanceof Long startNanos) {
+            recorder.recordDuration(
+                    CHAT_DURATION, System.nanoTime() - startNanos, PROVIDER, provider, MODEL, model, OUTCOME, outcome);
+        }
+    }
+
+    static String provider(ModelProvider modelProvider) {
+        return modelProvider == null ? "unknown" : modelProvider.name().toLowerCase();
+    }
+
+    static String model(String responseModel, String requestModel) {
+        if (responseModel != null) {
+            return responseModel;
+        }
+        return requestModel == null ? "unknown" : requestModel;
+    }
+}
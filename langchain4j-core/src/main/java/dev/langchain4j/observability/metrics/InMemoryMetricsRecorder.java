@@ -0,0 +1,77 @@
+package dev.langchain4j.observability.metrics;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link MetricsRecorder} keeping the metrics in memory, without any dependency.
+ * Durations are recorded in {@link LatencyHistogram}s, and counters in {@link LongAdder}s,
+ * one per metric name and combination of tags.
+ */
+public class InMemoryMetricsRecorder implements MetricsRecorder {
+
+    private final Map<MetricId, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final Map<MetricId, LongAdder> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordDuration(String name, long nanos, String... tags) {
+        histograms.computeIfAbsent(new MetricId(name, tags), id -> new LatencyHistogram()).record(nanos);
+    }
+
+    @Override
+    public void increment(String name, long amount, String... tags) {
+        counters.computeIfAbsent(new MetricId(name, tags), id -> new LongAdder()).add(amount);
+    }
+
+    /**
+     * @param name the name of the metric.
+     * @param tags the tags, as alternating keys and values, in the order they were recorded with.
+     * @return the histogram of the durations recorded with exactly these tags, or {@code null} if there is none.
+     */
+    public LatencyHistogram histogram(String name, String... tags) {
+        return histograms.get(new MetricId(name, tags));
+    }
+
+    /**
+     * @param name the name of the metric.
+     * @param tags the tags, as alternating keys and values, in the order they were recorded with.
+     * @return the value of the counter with exactly these tags, or 0 if there is none.
+     */
+    public long counter(String name, String... tags) {
+        LongAdder counter = counters.get(new MetricId(name, tags));
+        return counter == null ? 0 : counter.sum();
+    }
+
+    /**
+     * @return all the histograms, by metric.
+     */
+    public Map<MetricId, LatencyHistogram> histograms() {
+        return Map.copyOf(histograms);
+    }
+
+    /**
+     * @return the values of all the counters, by metric.
+     */
+    public Map<MetricId, Long> counters() {
+        Map<MetricId, Long> values = new HashMap<>();
+        counters.forEach((id, counter) -> values.put(id, counter.sum()));
+        return values;
+    }
+
+    /**
+     * Identifies a metric by its name and tags.
+     *
+     * @param name the name of the metric.
+     * @param tags the tags, as alternating keys and values.
+     */
+    public record MetricId(String name, List<String> tags) {
+
+        MetricId(String name, String[] tags) {
+            this(name, Arrays.asList(tags));
+        }
+    }
+}
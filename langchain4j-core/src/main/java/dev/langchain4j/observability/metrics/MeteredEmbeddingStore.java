@@ -0,0 +1,114 @@
+package dev.langchain4j.observability.metrics;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.observability.metrics.MetricNames.EMBEDDING_STORE_SEARCH_DURATION;
+import static dev.langchain4j.observability.metrics.MetricNames.ERROR;
+import static dev.langchain4j.observability.metrics.MetricNames.OUTCOME;
+import static dev.langchain4j.observability.metrics.MetricNames.STORE;
+import static dev.langchain4j.observability.metrics.MetricNames.SUCCESS;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import dev.langchain4j.store.embedding.filter.Filter;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * An {@link EmbeddingStore} recording the {@link MetricNames#EMBEDDING_STORE_SEARCH_DURATION} of the delegate.
+ * All the other operations are forwarded as is.
+ *
+ * @param <Embedded> the class of the embedded objects.
+ */
+public class MeteredEmbeddingStore<Embedded> implements EmbeddingStore<Embedded> {
+
+    private final EmbeddingStore<Embedded> delegate;
+    private final MetricsRecorder recorder;
+    private final String storeName;
+
+    /**
+     * @param delegate  the store to forward the operations to.
+     * @param recorder  the recorder of the metrics.
+     * @param storeName the value of the {@link MetricNames#STORE} tag. By default, the simple class name of the delegate.
+     */
+    public MeteredEmbeddingStore(EmbeddingStore<Embedded> delegate, MetricsRecorder recorder, String storeName) {
+        this.delegate = ensureNotNull(delegate, "delegate");
+        this.recorder = ensureNotNull(recorder, "recorder");
+        this.storeName = getOrDefault(storeName, () -> delegate.getClass().getSimpleName());
+    }
+
+    public MeteredEmbeddingStore(EmbeddingStore<Embedded> delegate, MetricsRecorder recorder) {
+        this(delegate, recorder, null);
+    }
+
+    @Override
+    public EmbeddingSearchResult<Embedded> search(EmbeddingSearchRequest request) {
+        long start = System.nanoTime();
+        String outcome = ERROR;
+        try {
+            EmbeddingSearchResult<Embedded> result = delegate.search(request);
+            outcome = SUCCESS;
+            return result;
+        } finally {
+            recorder.recordDuration(
+                    EMBEDDING_STORE_SEARCH_DURATION, System.nanoTime() - start, STORE, storeName, OUTCOME, outcome);
+        }
+    }
+
+    @Override
+    public String add(Embedding embedding) {
+        return delegate.add(embedding);
+    }
+
+    @Override
+    public void add(String id, Embedding embedding) {
+        delegate.add(id, embedding);
+    }
+
+    @Override
+    public String add(Embedding embedding, Embedded embedded) {
+        return delegate.add(embedding, embedded);
+    }
+
+    @Override
+    public List<String> addAll(List<Embedding> embeddings) {
+        return delegate.addAll(embeddings);
+    }
+
+    @Override
+    public List<String> addAll(List<Embedding> embeddings, List<Embedded> embedded) {
+        return delegate.addAll(embeddings, embedded);
+    }
+
+    @Override
+    public void addAll(List<String> ids, List<Embedding> embeddings, List<Embedded> embedded) {
+        delegate.addAll(ids, embeddings, embedded);
+    }
+
+    @Override
+    public List<String> generateIds(int n) {
+        return delegate.generateIds(n);
+    }
+
+    @Override
+    public void remove(String id) {
+        delegate.remove(id);
+    }
+
+    @Override
+    public void removeAll(Collection<String> ids) {
+        delegate.removeAll(ids);
+    }
+
+    @Override
+    public void removeAll(Filter filter) {
+        delegate.removeAll(filter);
+    }
+
+    @Override
+    public void removeAll() {
+        delegate.removeAll();
+    }
+}
@@ -0,0 +1,110 @@
+package dev.langchain4j.observability.metrics;
+
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.observability.metrics.MetricNames.CHAT_INTER_TOKEN_LATENCY;
+import static dev.langchain4j.observability.metrics.MetricNames.CHAT_TIME_TO_FIRST_TOKEN;
+import static dev.langchain4j.observability.metrics.MetricNames.MODEL;
+import static dev.langchain4j.observability.metrics.MetricNames.PROVIDER;
+
+import dev.langchain4j.model.ModelProvider;
+import dev.langchain4j.model.chat.Capability;
+import dev.langchain4j.model.chat.StreamingChatModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.request.ChatRequestParameters;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.response.CompleteToolCall;
+import dev.langchain4j.model.chat.response.PartialThinking;
+import dev.langchain4j.model.chat.response.PartialToolCall;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
+import java.util.Set;
+
+/**
+ * A {@link StreamingChatModel} recording the {@link MetricNames#CHAT_TIME_TO_FIRST_TOKEN} and the
+ * {@link MetricNames#CHAT_INTER_TOKEN_LATENCY} of the delegate. Partial responses, partial thinking
+ * and partial tool calls all count as tokens.
+ * <p>
+ * The latency and token usage of the complete responses are recorded by a {@link ChatModelMetricsListener}
+ * registered with the delegate.
+ */
+public class MeteredStreamingChatModel implements StreamingChatModel {
+
+    private final StreamingChatModel delegate;
+    private final MetricsRecorder recorder;
+
+    public MeteredStreamingChatModel(StreamingChatModel delegate, MetricsRecorder recorder) {
+        this.delegate = ensureNotNull(delegate, "delegate");
+        this.recorder = ensureNotNull(recorder, "recorder");
+    }
+
+    @Override
+    public void chat(ChatRequest chatRequest, StreamingChatResponseHandler handler) {
+        String provider = ChatModelMetricsListener.provider(delegate.provider());
+        String model = ChatModelMetricsListener.model(
+                chatRequest.modelName(), delegate.defaultRequestParameters().modelName());
+        long start = System.nanoTime();
+        delegate.chat(chatRequest, new StreamingChatResponseHandler() {
+
+            private long last = start;
+            private boolean first = true;
+
+            private synchronized void onToken() {
+                long now = System.nanoTime();
+                if (first) {
+                    recorder.recordDuration(CHAT_TIME_TO_FIRST_TOKEN, now - start, PROVIDER, provider, MODEL, model);
+                    first = false;
+                } else {
+                    recorder.recordDuration(CHAT_INTER_TOKEN_LATENCY, now - last, PROVIDER, provider, MODEL, model);
+                }
+                last = now;
+            }
+
+            @Override
+            public void onPartialResponse(String partialResponse) {
+                onToken();
+                handler.onPartialResponse(partialResponse);
+            }
+
+            @Override
+            public void onPartialThinking(PartialThinking partialThinking) {
+                onToken();
+                handler.onPartialThinking(partialThinking);
+            }
+
+            @Override
+            public void onPartialToolCall(PartialToolCall partialToolCall) {
+                onToken();
+                handler.onPartialToolCall(partialToolCall);
+            }
+
+            @Override
+            public void onCompleteToolCall(CompleteToolCall completeToolCall) {
+                handler.onCompleteToolCall(completeToolCall);
+            }
+
+            @Override
+            public void onCompleteResponse(ChatResponse completeResponse) {
+                handler.onCompleteResponse(completeResponse);
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                handler.onError(error);
+            }
+        });
+    }
+
+    @Override
+    public ChatRequestParameters defaultRequestParameters() {
+        return delegate.defaultRequestParameters();
+    }
+
+    @Override
+    public ModelProvider provider() {
+        return delegate.provider();
+    }
+
+    @Override
+    public Set<Capability> supportedCapabilities() {
+        return delegate.supportedCapabilities();
+    }
+}
@@ -0,0 +1,74 @@
+package dev.langchain4j.observability.metrics;
+
+/**
+ * The names and tags of the metrics recorded by LangChain4j components.
+ */
+public final class MetricNames {
+
+    /**
+     * The latency of chat model calls, tagged with {@link #PROVIDER}, {@link #MODEL} and {@link #OUTCOME}.
+     * For streaming models, it is the time until the complete response.
+     */
+    public static final String CHAT_DURATION = "langchain4j.chat.duration";
+
+    /**
+     * The number of tokens consumed by chat model calls, tagged with {@link #PROVIDER}, {@link #MODEL}
+     * and {@link #TOKEN_TYPE}. Its rate is the token throughput.
+     */
+    public static final String CHAT_TOKENS = "langchain4j.chat.tokens";
+
+    /**
+     * The time from a streaming request to its first partial response, tagged with {@link #PROVIDER} and {@link #MODEL}.
+     */
+    public static final String CHAT_TIME_TO_FIRST_TOKEN = "langchain4j.chat.time_to_first_token";
+
+    /**
+     * The time between two consecutive partial responses, tagged with {@link #PROVIDER} and {@link #MODEL}.
+     */
+    public static final String CHAT_INTER_TOKEN_LATENCY = "langchain4j.chat.inter_token_latency";
+
+    /**
+     * The latency of AI Service method invocations, tagged with {@link #INTERFACE}, {@link #METHOD}
+     * and {@link #OUTCOME}.
+     */
+    public static final String AI_SERVICE_DURATION = "langchain4j.ai_service.duration";
+
+    /**
+     * The latency of tool executions, tagged with {@link #TOOL}.
+     */
+    public static final String TOOL_DURATION = "langchain4j.tool.duration";
+
+    /**
+     * The latency of the stages of retrieval augmentation, tagged with {@link #STAGE}.
+     */
+    public static final String RETRIEVAL_DURATION = "langchain4j.retrieval.duration";
+
+    /**
+     * The latency of embedding store searches, tagged with {@link #STORE} and {@link #OUTCOME}.
+     */
+    public static final String EMBEDDING_STORE_SEARCH_DURATION = "langchain4j.embedding_store.search.duration";
+
+    /**
+     * The number of queries routed by an {@link dev.langchain4j.rag.query.router.EmbeddingModelQueryRouter},
+     * tagged with {@link #SOURCE}: where the routing decision came from.
+     */
+    public static final String QUERY_ROUTING_DECISIONS = "langchain4j.query_routing.decisions";
+
+    public static final String PROVIDER = "provider";
+    public static final String MODEL = "model";
+    public static final String OUTCOME = "outcome";
+    public static final String TOKEN_TYPE = "token_type";
+    public static final String INTERFACE = "interface";
+    public static final String METHOD = "method";
+    public static final String TOOL = "tool";
+    public static final String STAGE = "stage";
+    public static final String STORE = "store";
+    public static final String SOURCE = "source";
+
+    public static final String SUCCESS = "success";
+    public static final String ERROR = "error";
+    public static final String INPUT = "input";
+    public static final String OUTPUT = "output";
+
+    private MetricNames() {}
+}
@@ -0,0 +1,39 @@
+package dev.langchain4j.observability.metrics;
+
+/**
+ * Records the metrics of LangChain4j components, such as the latency of models, AI Services, tools,
+ * retrieval and embedding store searches. See {@link MetricNames} for the recorded metrics.
+ * <p>
+ * Tags are given as alternating keys and values, e.g. {@code "model", "gpt-4o", "outcome", "success"}.
+ * <p>
+ * {@link InMemoryMetricsRecorder} keeps the metrics in memory, without any dependency.
+ * The {@code langchain4j-micrometer-metrics} module provides a recorder backed by a Micrometer {@code MeterRegistry}.
+ * Implementations must be thread-safe, and should be cheap to call on the hot path.
+ */
+public interface MetricsRecorder {
+
+    /**
+     * Records a duration, e.g. the latency of a call.
+     *
+     * @param name  the name of the metric.
+     * @param nanos the duration, in nanoseconds.
+     * @param tags  the tags, as alternating keys and values.
+     */
+    void recordDuration(String name, long nanos, String... tags);
+
+    /**
+     * Increments a counter, e.g. the number of tokens consumed.
+     *
+     * @param name   the name of the metric.
+     * @param amount the amount to add.
+     * @param tags   the tags, as alternating keys and values.
+     */
+    void increment(String name, long amount, String... tags);
+
+    /**
+     * @return a recorder discarding all metrics.
+     */
+    static MetricsRecorder noop() {
+        return NoopMetricsRecorder.INSTANCE;
+    }
+}
@@ -0,0 +1,12 @@
+package dev.langchain4j.observability.metrics;
+
+class NoopMetricsRecorder implements MetricsRecorder {
+
+    static final NoopMetricsRecorder INSTANCE = new NoopMetricsRecorder();
+
+    @Override
+    public void recordDuration(String name, long nanos, String... tags) {}
+
+    @Override
+    public void increment(String name, long amount, String... tags) {}
+}
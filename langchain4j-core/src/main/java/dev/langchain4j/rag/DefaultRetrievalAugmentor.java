@@ -2,6 +2,8 @@ package dev.langchain4j.rag;
 
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.observability.metrics.MetricNames;
+import dev.langchain4j.observability.metrics.MetricsRecorder;
 import dev.langchain4j.rag.content.Content;
 import dev.langchain4j.rag.content.aggregator.ContentAggregator;
 import dev.langchain4j.rag.content.aggregator.DefaultContentAggregator;
@@ -15,19 +17,23 @@ import dev.langchain4j.rag.query.transformer.DefaultQueryTransformer;
 import dev.langchain4j.rag.query.transformer.QueryTransformer;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.stream.Collectors;
 
 import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.rag.content.ContentMetadata.SCORE;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
@@ -99,6 +105,29 @@ import static java.util.stream.Collectors.toMap;
  * Otherwise, an {@link Executor} is used to parallelize the processing.
  * By default, a modified (keepAliveTime is 1 second instead of 60 seconds) {@link Executors#newCachedThreadPool()}
  * is used, but you can provide a custom {@link Executor} instance.
+ * <br>
+ * <br>
+ * When a {@link MetricsRecorder} is provided, the duration of each stage (query transformation, routing and retrieval,
+ * aggregation, injection) and of the whole augmentation is recorded as {@link MetricNames#RETRIEVAL_DURATION}.
+ * <br>
+ * <br>
+ * When {@code speculativeRetrieval} is enabled, the original {@link Query} is routed and retrieved immediately,
+ * while the {@link QueryTransformer} (often an LLM call) runs in parallel on the {@link Executor}.
+ * When the transformation completes, the transformed {@link Query}s (except the original one) are processed as well,
+ * and the {@link Content}s of the original and the transformed {@link Query}s are all passed
+ * to the {@link ContentAggregator}.
+ * If {@code minSpeculativeScore} is set and a {@link Content} retrieved with the original {@link Query}
+ * has a {@link dev.langchain4j.rag.content.ContentMetadata#SCORE} of at least this value, the transformation
+ * is not waited for, and only the {@link Content}s of the original {@link Query} are used.
+ * Note that the {@link ContentAggregator} then receives one more {@link Query} than returned by the
+ * {@link QueryTransformer} (for example, a {@link dev.langchain4j.rag.content.aggregator.ReRankingContentAggregator}
+ * needs a {@code querySelector}).
+ * In this mode, the "retrieval" stage duration includes the query transformation.
+ * When the transformation is not waited for, or the retrieval with the original {@link Query} fails,
+ * the transformation is cancelled by interrupting the thread running the {@link QueryTransformer}.
+ * Whether an LLM call in progress stops depends on the HTTP client of the
+ * {@link dev.langchain4j.model.chat.ChatModel} reacting to the interruption;
+ * if it does not, the call completes in the background and its result is discarded.
  *
  * @see DefaultQueryTransformer
  * @see DefaultQueryRouter
@@ -112,17 +141,43 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
     private final ContentAggregator contentAggregator;
     private final ContentInjector contentInjector;
     private final Executor executor;
+    private final MetricsRecorder metricsRecorder;
+    private final boolean speculativeRetrieval;
+    private final Double minSpeculativeScore;
 
     public DefaultRetrievalAugmentor(QueryTransformer queryTransformer,
                                      QueryRouter queryRouter,
                                      ContentAggregator contentAggregator,
                                      ContentInjector contentInjector,
                                      Executor executor) {
+        this(queryTransformer, queryRouter, contentAggregator, contentInjector, executor, null);
+    }
+
+    public DefaultRetrievalAugmentor(QueryTransformer queryTransformer,
+                                     QueryRouter queryRouter,
+                                     ContentAggregator contentAggregator,
+                                     ContentInjector contentInjector,
+                                     Executor executor,
+                                     MetricsRecorder metricsRecorder) {
+        this(queryTransformer, queryRouter, contentAggregator, contentInjector, executor, metricsRecorder, null, null);
+    }
+
+    public DefaultRetrievalAugmentor(QueryTransformer queryTransformer,
+                                     QueryRouter queryRouter,
+                                     ContentAggregator contentAggregator,
+                                     ContentInjector contentInjector,
+                                     Executor executor,
+                                     MetricsRecorder metricsRecorder,
+                                     Boolean speculativeRetrieval,
+                                     Double minSpeculativeScore) {
         this.queryTransformer = getOrDefault(queryTransformer, DefaultQueryTransformer::new);
         this.queryRouter = ensureNotNull(queryRouter, "queryRouter");
         this.contentAggregator = getOrDefault(contentAggregator, DefaultContentAggregator::new);
         this.contentInjector = getOrDefault(contentInjector, DefaultContentInjector::new);
         this.executor = getOrDefault(executor, DefaultRetrievalAugmentor::createDefaultExecutor);
+        this.metricsRecorder = getOrDefault(metricsRecorder, MetricsRecorder::noop);
+        this.speculativeRetrieval = getOrDefault(speculativeRetrieval, false);
+        this.minSpeculativeScore = minSpeculativeScore;
     }
 
     private static ExecutorService createDefaultExecutor() {
@@ -145,13 +200,26 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
         }
         Query originalQuery = Query.from(queryText, augmentationRequest.metadata());
 
-        Collection<Query> queries = queryTransformer.transform(originalQuery);
+        long start = System.nanoTime();
+        Map<Query, Collection<List<Content>>> queryToContents;
+        long retrieved;
+        if (speculativeRetrieval && !(queryTransformer instanceof DefaultQueryTransformer)) {
+            queryToContents = processSpeculatively(originalQuery, start);
+            retrieved = record("retrieval", start);
+        } else {
+            Collection<Query> queries = queryTransformer.transform(originalQuery);
+            long transformed = record("query_transformation", start);
 
-        Map<Query, Collection<List<Content>>> queryToContents = process(queries);
+            queryToContents = process(queries);
+            retrieved = record("retrieval", transformed);
+        }
 
         List<Content> contents = contentAggregator.aggregate(queryToContents);
+        long aggregated = record("aggregation", retrieved);
 
         ChatMessage augmentedChatMessage = contentInjector.inject(contents, chatMessage);
+        record("injection", aggregated);
+        record("total", start);
 
         return AugmentationResult.builder()
             .chatMessage(augmentedChatMessage)
@@ -159,6 +227,68 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
             .build();
     }
 
+    private long record(String stage, long stageStart) {
+        long now = System.nanoTime();
+        metricsRecorder.recordDuration(MetricNames.RETRIEVAL_DURATION, now - stageStart, MetricNames.STAGE, stage);
+        return now;
+    }
+
+    private Map<Query, Collection<List<Content>>> processSpeculatively(Query originalQuery, long start) {
+        // a FutureTask, as cancelling it interrupts the thread running the transformer
+        FutureTask<Collection<Query>> futureQueries = new FutureTask<>(() -> queryTransformer.transform(originalQuery));
+        executor.execute(futureQueries);
+
+        Map<Query, Collection<List<Content>>> originalQueryToContents;
+        try {
+            originalQueryToContents = process(singletonList(originalQuery));
+        } catch (RuntimeException e) {
+            futureQueries.cancel(true);
+            throw e;
+        }
+
+        if (isConfident(originalQueryToContents)) {
+            futureQueries.cancel(true);
+            return originalQueryToContents;
+        }
+
+        Collection<Query> queries;
+        try {
+            queries = futureQueries.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            } else if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new RuntimeException(e.getCause());
+        } catch (InterruptedException e) {
+            futureQueries.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        record("query_transformation", start);
+
+        List<Query> transformedQueries = queries.stream()
+                .filter(query -> !query.equals(originalQuery))
+                .distinct()
+                .toList();
+
+        Map<Query, Collection<List<Content>>> queryToContents = new LinkedHashMap<>(originalQueryToContents);
+        queryToContents.putAll(process(transformedQueries));
+        return queryToContents;
+    }
+
+    private boolean isConfident(Map<Query, Collection<List<Content>>> queryToContents) {
+        if (minSpeculativeScore == null) {
+            return false;
+        }
+        return queryToContents.values().stream()
+                .flatMap(Collection::stream)
+                .flatMap(List::stream)
+                .map(content -> content.metadata().get(SCORE))
+                .anyMatch(score -> score instanceof Number number && number.doubleValue() >= minSpeculativeScore);
+    }
+
     private Map<Query, Collection<List<Content>>> process(Collection<Query> queries) {
         if (queries.size() == 1) {
             Query query = queries.iterator().next();
@@ -223,6 +353,9 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
         private ContentAggregator contentAggregator;
         private ContentInjector contentInjector;
         private Executor executor;
+        private MetricsRecorder metricsRecorder;
+        private Boolean speculativeRetrieval;
+        private Double minSpeculativeScore;
 
         DefaultRetrievalAugmentorBuilder() {
         }
@@ -257,8 +390,42 @@ public class DefaultRetrievalAugmentor implements RetrievalAugmentor {
             return this;
         }
 
+        public DefaultRetrievalAugmentorBuilder metricsRecorder(MetricsRecorder metricsRecorder) {
+            this.metricsRecorder = metricsRecorder;
+            return this;
+        }
+
+        /**
+         * @param speculativeRetrieval whether to retrieve with the original query while the query transformer runs,
+         *                             instead of waiting for the transformed queries. Default value: false.
+         * @return builder
+         */
+        public DefaultRetrievalAugmentorBuilder speculativeRetrieval(Boolean speculativeRetrieval) {
+            this.speculativeRetrieval = speculativeRetrieval;
+            return this;
+        }
+
+        /**
+         * @param minSpeculativeScore when {@code speculativeRetrieval} is enabled, the score that a content retrieved
+         *                            with the original query must reach for the query transformation not to be
+         *                            waited for. By default, the transformation is always waited for.
+         * @return builder
+         */
+        public DefaultRetrievalAugmentorBuilder minSpeculativeScore(Double minSpeculativeScore) {
+            this.minSpeculativeScore = minSpeculativeScore;
+            return this;
+        }
+
         public DefaultRetrievalAugmentor build() {
-            return new DefaultRetrievalAugmentor(this.queryTransformer, this.queryRouter, this.contentAggregator, this.contentInjector, this.executor);
+            return new DefaultRetrievalAugmentor(
+                    this.queryTransformer,
+                    this.queryRouter,
+                    this.contentAggregator,
+                    this.contentInjector,
+                    this.executor,
+                    this.metricsRecorder,
+                    this.speculativeRetrieval,
+                    this.minSpeculativeScore);
         }
     }
 }
@@ -1,25 +1,33 @@
 package dev.langchain4j.rag.content.aggregator;
 
 import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.internal.DefaultExecutorProvider;
 import dev.langchain4j.model.scoring.ScoringModel;
 import dev.langchain4j.rag.content.Content;
 import dev.langchain4j.rag.content.ContentMetadata;
 import dev.langchain4j.rag.query.Query;
 import dev.langchain4j.rag.query.transformer.ExpandingQueryTransformer;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static dev.langchain4j.internal.Exceptions.illegalArgument;
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 import static dev.langchain4j.rag.content.ContentMetadata.RERANKED_SCORE;
 import static java.util.Collections.emptyList;
+import static java.util.Comparator.comparingDouble;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
 
 /**
  * A {@link ContentAggregator} that performs re-ranking using a {@link ScoringModel}, such as Cohere.
@@ -43,6 +51,23 @@ import static java.util.Collections.emptyList;
  * - {@link #minScore}: the minimum score for {@link Content}s to be returned.
  * {@link Content}s scoring below this threshold (as determined by the {@link ScoringModel})
  * are excluded from the results.
+ * <br>
+ * - {@link #maxResults}: the maximum number of {@link Content}s to be returned.
+ * <br>
+ * - {@link #maxCandidates}: the maximum number of fused {@link Content}s to be scored. Only the best ones,
+ * in the order of the fusion (first-stage) ranking, are sent to the {@link ScoringModel}. By default, all are scored.
+ * <br>
+ * - {@link #maxSegmentsPerRequest}: the maximum number of segments sent in one {@link ScoringModel#scoreAll} call.
+ * Larger candidate sets are split into several calls, made concurrently on the {@link #executor}.
+ * By default, all candidates are scored in one call.
+ * <br>
+ * - {@link #scoreCacheSize}: the number of (query, segment) scores kept by this aggregator, so that the same segments
+ * retrieved again for the same query (for example, over the course of a conversation) are not scored again.
+ * By default, scores are not cached.
+ * <br>
+ * - {@link #earlyStop}: whether to stop scoring once {@link #maxResults} candidates have reached the {@link #minScore}.
+ * Candidates are then scored one request at a time, in the order of the fusion ranking, and the remaining
+ * (lower-ranked) ones are skipped. This trades some recall for fewer scored segments. Default value: false.
  *
  * @see DefaultContentAggregator
  */
@@ -65,6 +90,11 @@ public class ReRankingContentAggregator implements ContentAggregator {
     private final Function<Map<Query, Collection<List<Content>>>, Query> querySelector;
     private final Double minScore;
     private final Integer maxResults;
+    private final Integer maxCandidates;
+    private final Integer maxSegmentsPerRequest;
+    private final Executor executor;
+    private final Map<ScoreKey, Double> scoreCache;
+    private final boolean earlyStop;
 
     public ReRankingContentAggregator(ScoringModel scoringModel) {
         this(scoringModel, DEFAULT_QUERY_SELECTOR, null);
@@ -80,10 +110,35 @@ public class ReRankingContentAggregator implements ContentAggregator {
                                       Function<Map<Query, Collection<List<Content>>>, Query> querySelector,
                                       Double minScore,
                                       Integer maxResults) {
+        this(scoringModel, querySelector, minScore, maxResults, null, null, null, null, null);
+    }
+
+    public ReRankingContentAggregator(ScoringModel scoringModel,
+                                      Function<Map<Query, Collection<List<Content>>>, Query> querySelector,
+                                      Double minScore,
+                                      Integer maxResults,
+                                      Integer maxCandidates,
+                                      Integer maxSegmentsPerRequest,
+                                      Executor executor,
+                                      Integer scoreCacheSize,
+                                      Boolean earlyStop) {
         this.scoringModel = ensureNotNull(scoringModel, "scoringModel");
         this.querySelector = getOrDefault(querySelector, DEFAULT_QUERY_SELECTOR);
         this.minScore = minScore;
         this.maxResults = getOrDefault(maxResults, Integer.MAX_VALUE);
+        this.maxCandidates = maxCandidates == null ? null : ensureGreaterThanZero(maxCandidates, "maxCandidates");
+        this.maxSegmentsPerRequest = maxSegmentsPerRequest == null
+                ? null
+                : ensureGreaterThanZero(maxSegmentsPerRequest, "maxSegmentsPerRequest");
+        this.executor = getOrDefault(executor, DefaultExecutorProvider::getDefaultExecutorService);
+        int cacheSize = ensureBetween(getOrDefault(scoreCacheSize, 0), 0, Integer.MAX_VALUE, "scoreCacheSize");
+        this.scoreCache = cacheSize == 0 ? null : new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ScoreKey, Double> eldest) {
+                return size() > cacheSize;
+            }
+        };
+        this.earlyStop = getOrDefault(earlyStop, false);
     }
 
     public static ReRankingContentAggregatorBuilder builder() {
@@ -126,29 +181,130 @@ public class ReRankingContentAggregator implements ContentAggregator {
     protected List<Content> reRankAndFilter(List<Content> contents, Query query) {
 
         List<TextSegment> segments = contents.stream()
+                .limit(getOrDefault(maxCandidates, Integer.MAX_VALUE))
                 .map(Content::textSegment)
                 .collect(Collectors.toList());
 
-        List<Double> scores = scoringModel.scoreAll(segments, query.text()).content();
+        Double[] scores = new Double[segments.size()];
+        List<Integer> unscored = new ArrayList<>(segments.size());
+        for (int i = 0; i < segments.size(); i++) {
+            scores[i] = cachedScore(query, segments.get(i));
+            if (scores[i] == null) {
+                unscored.add(i);
+            }
+        }
+
+        if (!unscored.isEmpty()) {
+            score(segments, unscored, scores, query);
+        }
 
-        Map<TextSegment, Double> segmentToScore = new HashMap<>();
+        List<Integer> ranked = new ArrayList<>(segments.size());
         for (int i = 0; i < segments.size(); i++) {
-            segmentToScore.put(segments.get(i), scores.get(i));
+            if (scores[i] != null && (minScore == null || scores[i] >= minScore)) {
+                ranked.add(i);
+            }
         }
+        // the sort is stable: contents with the same score keep the order of the fusion ranking
+        ranked.sort(comparingDouble((Integer i) -> scores[i]).reversed());
 
-        return segmentToScore.entrySet().stream()
-                .filter(entry -> minScore == null || entry.getValue() >= minScore)
-                .sorted(Map.Entry.<TextSegment, Double>comparingByValue().reversed())
-                .map(entry ->  Content.from(entry.getKey(), Map.of(RERANKED_SCORE, entry.getValue())))
+        return ranked.stream()
                 .limit(maxResults)
+                .map(i -> Content.from(segments.get(i), Map.of(RERANKED_SCORE, scores[i])))
                 .collect(Collectors.toList());
     }
 
+    private void score(List<TextSegment> segments, List<Integer> unscored, Double[] scores, Query query) {
+        int batchSize = getOrDefault(maxSegmentsPerRequest, unscored.size());
+        List<List<Integer>> batches = new ArrayList<>();
+        for (int from = 0; from < unscored.size(); from += batchSize) {
+            batches.add(unscored.subList(from, Math.min(from + batchSize, unscored.size())));
+        }
+
+        if (earlyStop && maxResults < Integer.MAX_VALUE) {
+            for (List<Integer> batch : batches) {
+                if (countAboveMinScore(scores) >= maxResults) {
+                    return;
+                }
+                store(batch, score(segments, batch, query), segments, scores, query);
+            }
+        } else if (batches.size() == 1) {
+            store(unscored, score(segments, unscored, query), segments, scores, query);
+        } else {
+            List<CompletableFuture<List<Double>>> futures = batches.stream()
+                    .map(batch -> supplyAsync(() -> score(segments, batch, query), executor))
+                    .toList();
+            for (int i = 0; i < batches.size(); i++) {
+                store(batches.get(i), join(futures.get(i)), segments, scores, query);
+            }
+        }
+    }
+
+    private List<Double> score(List<TextSegment> segments, List<Integer> batch, Query query) {
+        List<TextSegment> batchSegments = batch.stream().map(segments::get).collect(Collectors.toList());
+        List<Double> batchScores = scoringModel.scoreAll(batchSegments, query.text()).content();
+        if (batchScores.size() != batchSegments.size()) {
+            throw illegalArgument("The scoring model returned %s scores for %s segments",
+                    batchScores.size(), batchSegments.size());
+        }
+        return batchScores;
+    }
+
+    private void store(List<Integer> batch, List<Double> batchScores,
+                       List<TextSegment> segments, Double[] scores, Query query) {
+        for (int i = 0; i < batch.size(); i++) {
+            int index = batch.get(i);
+            scores[index] = batchScores.get(i);
+            if (scoreCache != null) {
+                synchronized (scoreCache) {
+                    scoreCache.put(new ScoreKey(query.text(), segments.get(index)), scores[index]);
+                }
+            }
+        }
+    }
+
+    private Double cachedScore(Query query, TextSegment segment) {
+        if (scoreCache == null) {
+            return null;
+        }
+        synchronized (scoreCache) {
+            return scoreCache.get(new ScoreKey(query.text(), segment));
+        }
+    }
+
+    private long countAboveMinScore(Double[] scores) {
+        long count = 0;
+        for (Double score : scores) {
+            if (score != null && (minScore == null || score >= minScore)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static List<Double> join(CompletableFuture<List<Double>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record ScoreKey(String query, TextSegment segment) {
+    }
+
     public static class ReRankingContentAggregatorBuilder {
         private ScoringModel scoringModel;
         private Function<Map<Query, Collection<List<Content>>>, Query> querySelector;
         private Double minScore;
         private Integer maxResults;
+        private Integer maxCandidates;
+        private Integer maxSegmentsPerRequest;
+        private Executor executor;
+        private Integer scoreCacheSize;
+        private Boolean earlyStop;
 
         ReRankingContentAggregatorBuilder() {
         }
@@ -173,8 +329,67 @@ public class ReRankingContentAggregator implements ContentAggregator {
             return this;
         }
 
+        /**
+         * @param maxCandidates the maximum number of fused contents to score, in the order of the fusion ranking.
+         *                      By default, all fused contents are scored.
+         * @return builder
+         */
+        public ReRankingContentAggregatorBuilder maxCandidates(Integer maxCandidates) {
+            this.maxCandidates = maxCandidates;
+            return this;
+        }
+
+        /**
+         * @param maxSegmentsPerRequest the maximum number of segments scored in one {@link ScoringModel#scoreAll} call.
+         *                              Larger candidate sets are scored with several concurrent calls.
+         *                              By default, all candidates are scored in one call.
+         * @return builder
+         */
+        public ReRankingContentAggregatorBuilder maxSegmentsPerRequest(Integer maxSegmentsPerRequest) {
+            this.maxSegmentsPerRequest = maxSegmentsPerRequest;
+            return this;
+        }
+
+        /**
+         * @param executor the executor making the concurrent scoring calls.
+         *                 Default value: {@link DefaultExecutorProvider#getDefaultExecutorService()}.
+         * @return builder
+         */
+        public ReRankingContentAggregatorBuilder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * @param scoreCacheSize the maximum number of (query, segment) scores to cache. Default value: 0 (no cache).
+         * @return builder
+         */
+        public ReRankingContentAggregatorBuilder scoreCacheSize(Integer scoreCacheSize) {
+            this.scoreCacheSize = scoreCacheSize;
+            return this;
+        }
+
+        /**
+         * @param earlyStop whether to stop scoring once {@code maxResults} candidates have reached {@code minScore}.
+         *                  Default value: false.
+         * @return builder
+         */
+        public ReRankingContentAggregatorBuilder earlyStop(Boolean earlyStop) {
+            this.earlyStop = earlyStop;
+            return this;
+        }
+
         public ReRankingContentAggregator build() {
-            return new ReRankingContentAggregator(this.scoringModel, this.querySelector, this.minScore, this.maxResults);
+            return new ReRankingContentAggregator(
+                    this.scoringModel,
+                    this.querySelector,
+                    this.minScore,
+                    this.maxResults,
+                    this.maxCandidates,
+                    this.maxSegmentsPerRequest,
+                    this.executor,
+                    this.scoreCacheSize,
+                    this.earlyStop);
         }
     }
 }
@@ -0,0 +1,318 @@
+package dev.langchain4j.rag.content.injector;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static dev.langchain4j.rag.content.ContentMetadata.RERANKED_SCORE;
+import static dev.langchain4j.rag.content.ContentMetadata.SCORE;
+
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.TokenCountEstimator;
+import dev.langchain4j.model.input.PromptTemplate;
+import dev.langchain4j.rag.content.Content;
+import java.text.BreakIterator;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A {@link ContentInjector} that injects only as many {@link Content}s as fit in a token budget,
+ * so that the size of the resulting {@link dev.langchain4j.data.message.UserMessage} is predictable.
+ * <br>
+ * <br>
+ * The {@link Content}s are formatted and injected by a {@link DefaultContentInjector}.
+ * They are considered from the highest to the lowest score ({@link dev.langchain4j.rag.content.ContentMetadata#RERANKED_SCORE},
+ * or else {@link dev.langchain4j.rag.content.ContentMetadata#SCORE}; contents without a score keep their position),
+ * and each one is added if it fits in the remaining budget. A {@link Content} that does not fit
+ * is truncated at a sentence boundary, if at least its first sentence fits.
+ * The injected {@link Content}s keep their order of iteration.
+ * <br>
+ * <br>
+ * Near-duplicate {@link Content}s (for example, the same passage retrieved from two sources, or overlapping chunks)
+ * are detected with SimHash fingerprints of their text, and only the best-scored one is injected.
+ * <br>
+ * <br>
+ * The token counts of the formatted {@link Content}s are cached, as the same segments are often retrieved
+ * for consecutive messages of a conversation.
+ * <br>
+ * <br>
+ * Configurable parameters:
+ * <br>
+ * - {@link #tokenCountEstimator} (required): estimates the number of tokens, usually for the chat model in use.
+ * <br>
+ * - {@link #maxTokens} (required): the maximum number of tokens of the resulting {@link dev.langchain4j.data.message.UserMessage},
+ * including the original user message and the prompt template.
+ * <br>
+ * - {@link #deduplicate}: whether to skip near-duplicate {@link Content}s. Default value: true.
+ * <br>
+ * - {@link #tokenCountCacheSize}: the maximum number of cached token counts. Default value: 1000.
+ * <br>
+ * - the {@code promptTemplate} and {@code metadataKeysToInclude} of the {@link DefaultContentInjector}.
+ */
+public class TokenBudgetContentInjector implements ContentInjector {
+
+    private static final String CONTENT_SEPARATOR = "\n\n";
+    private static final int MAX_DUPLICATE_DISTANCE = 6;
+
+    private final DefaultContentInjector defaultContentInjector;
+    private final TokenCountEstimator tokenCountEstimator;
+    private final int maxTokens;
+    private final boolean deduplicate;
+    private final Map<String, Integer> tokenCountCache;
+
+    public TokenBudgetContentInjector(TokenBudgetContentInjectorBuilder builder) {
+        this.defaultContentInjector = new DefaultContentInjector(builder.promptTemplate, builder.metadataKeysToInclude);
+        this.tokenCountEstimator = ensureNotNull(builder.tokenCountEstimator, "tokenCountEstimator");
+        this.maxTokens = ensureGreaterThanZero(builder.maxTokens, "maxTokens");
+        this.deduplicate = getOrDefault(builder.deduplicate, true);
+        int cacheSize = ensureBetween(
+                getOrDefault(builder.tokenCountCacheSize, 1000), 0, Integer.MAX_VALUE, "tokenCountCacheSize");
+        this.tokenCountCache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    public static TokenBudgetContentInjectorBuilder builder() {
+        return new TokenBudgetContentInjectorBuilder();
+    }
+
+    @Override
+    public ChatMessage inject(List<Content> contents, ChatMessage chatMessage) {
+
+        if (contents.isEmpty()) {
+            return chatMessage;
+        }
+
+        return defaultContentInjector.inject(pack(contents, chatMessage), chatMessage);
+    }
+
+    /**
+     * Selects the {@link Content}s to inject.
+     *
+     * @param contents    the retrieved contents.
+     * @param chatMessage the message the contents are injected into.
+     * @return the contents fitting in the token budget, possibly truncated, in their order of iteration.
+     */
+    protected List<Content> pack(List<Content> contents, ChatMessage chatMessage) {
+        int remainingTokens = maxTokens - tokenCount(defaultContentInjector.createPrompt(chatMessage, List.of()).text());
+        int separatorTokens = tokenCount(CONTENT_SEPARATOR);
+
+        List<Integer> byScore = new ArrayList<>(contents.size());
+        for (int i = 0; i < contents.size(); i++) {
+            byScore.add(i);
+        }
+        // the sort is stable: contents without a score, or with the same score, keep their order
+        byScore.sort(Comparator.comparingDouble((Integer i) -> score(contents.get(i))).reversed());
+
+        Content[] selected = new Content[contents.size()];
+        List<Long> fingerprints = new ArrayList<>();
+        for (int i : byScore) {
+            int budget = remainingTokens - (fingerprints.isEmpty() ? 0 : separatorTokens);
+            if (budget <= 0) {
+                break;
+            }
+
+            Content content = contents.get(i);
+            long fingerprint = simHash(content.textSegment().text());
+            if (deduplicate && isDuplicate(fingerprint, fingerprints)) {
+                continue;
+            }
+
+            int tokens = tokenCount(defaultContentInjector.format(content));
+            if (tokens > budget) {
+                content = truncate(content, budget);
+                if (content == null) {
+                    continue;
+                }
+                tokens = tokenCount(defaultContentInjector.format(content));
+            }
+
+            selected[i] = content;
+            fingerprints.add(fingerprint);
+            remainingTokens = budget - tokens;
+        }
+
+        List<Content> packed = new ArrayList<>();
+        for (Content content : selected) {
+            if (content != null) {
+                packed.add(content);
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * @return the longest prefix of whole sentences of the content fitting in the given number of tokens,
+     * or {@code null} if not even the first sentence fits.
+     */
+    private Content truncate(Content content, int maxTokens) {
+        TextSegment segment = content.textSegment();
+        List<Integer> sentenceEnds = sentenceEnds(segment.text());
+
+        // binary search of the number of sentences, as the token count grows with it
+        Content truncated = null;
+        int low = 1;
+        int high = sentenceEnds.size() - 1; // all sentences do not fit
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            String text = segment.text().substring(0, sentenceEnds.get(middle - 1)).stripTrailing();
+            Content candidate = Content.from(TextSegment.from(text, segment.metadata()), content.metadata());
+            if (tokenCount(defaultContentInjector.format(candidate)) <= maxTokens) {
+                truncated = candidate;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return truncated;
+    }
+
+    private static List<Integer> sentenceEnds(String text) {
+        BreakIterator sentences = BreakIterator.getSentenceInstance(Locale.ROOT);
+        sentences.setText(text);
+        List<Integer> ends = new ArrayList<>();
+        sentences.first();
+        for (int end = sentences.next(); end != BreakIterator.DONE; end = sentences.next()) {
+            ends.add(end);
+        }
+        return ends;
+    }
+
+    private int tokenCount(String text) {
+        synchronized (tokenCountCache) {
+            Integer cached = tokenCountCache.get(text);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        int tokenCount = tokenCountEstimator.estimateTokenCountInText(text);
+        synchronized (tokenCountCache) {
+            tokenCountCache.put(text, tokenCount);
+        }
+        return tokenCount;
+    }
+
+    private static double score(Content content) {
+        Object score = content.metadata().get(RERANKED_SCORE);
+        if (score == null) {
+            score = content.metadata().get(SCORE);
+        }
+        return score instanceof Number number ? number.doubleValue() : Double.NEGATIVE_INFINITY;
+    }
+
+    private static boolean isDuplicate(long fingerprint, List<Long> fingerprints) {
+        for (long other : fingerprints) {
+            if (Long.bitCount(fingerprint ^ other) <= MAX_DUPLICATE_DISTANCE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Computes a 64-bit SimHash of the words of the text: texts sharing most of their words
+     * (for example, differing only by case, punctuation or a few words) have fingerprints differing by a few bits only.
+     */
+    static long simHash(String text) {
+        int[] weights = new int[64];
+        for (String word : text.toLowerCase(Locale.ROOT).split("\\W+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            long hash = hash(word);
+            for (int bit = 0; bit < 64; bit++) {
+                weights[bit] += ((hash >>> bit) & 1) == 1 ? 1 : -1;
+            }
+        }
+
+        long fingerprint = 0;
+        for (int bit = 0; bit < 64; bit++) {
+            if (weights[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    private static long hash(String word) {
+        // 64-bit FNV-1a, followed by the MurmurHash3 finalizer to spread the bits
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < word.length(); i++) {
+            hash ^= word.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    public static class TokenBudgetContentInjectorBuilder {
+
+        private PromptTemplate promptTemplate;
+        private List<String> metadataKeysToInclude;
+        private TokenCountEstimator tokenCountEstimator;
+        private Integer maxTokens;
+        private Boolean deduplicate;
+        private Integer tokenCountCacheSize;
+
+        TokenBudgetContentInjectorBuilder() {}
+
+        public TokenBudgetContentInjectorBuilder promptTemplate(PromptTemplate promptTemplate) {
+            this.promptTemplate = promptTemplate;
+            return this;
+        }
+
+        public TokenBudgetContentInjectorBuilder metadataKeysToInclude(List<String> metadataKeysToInclude) {
+            this.metadataKeysToInclude = metadataKeysToInclude;
+            return this;
+        }
+
+        public TokenBudgetContentInjectorBuilder tokenCountEstimator(TokenCountEstimator tokenCountEstimator) {
+            this.tokenCountEstimator = tokenCountEstimator;
+            return this;
+        }
+
+        /**
+         * @param maxTokens the maximum number of tokens of the resulting message,
+         *                  including the original user message and the prompt template.
+         * @return builder
+         */
+        public TokenBudgetContentInjectorBuilder maxTokens(Integer maxTokens) {
+            this.maxTokens = maxTokens;
+            return this;
+        }
+
+        /**
+         * @param deduplicate whether to skip near-duplicate contents. Default value: true.
+         * @return builder
+         */
+        public TokenBudgetContentInjectorBuilder deduplicate(Boolean deduplicate) {
+            this.deduplicate = deduplicate;
+            return this;
+        }
+
+        /**
+         * @param tokenCountCacheSize the maximum number of cached token counts. Default value: 1000.
+         * @return builder
+         */
+        public TokenBudgetContentInjectorBuilder tokenCountCacheSize(Integer tokenCountCacheSize) {
+            this.tokenCountCacheSize = tokenCountCacheSize;
+            return this;
+        }
+
+        public TokenBudgetContentInjector build() {
+            return new TokenBudgetContentInjector(this);
+        }
+    }
+}
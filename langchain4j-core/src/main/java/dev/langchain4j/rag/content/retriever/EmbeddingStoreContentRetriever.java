@@ -224,9 +224,21 @@ public class EmbeddingStoreContentRetriever implements ContentRetriever {
 
     @Override
     public List<Content> retrieve(Query query) {
-
         Embedding embeddedQuery = embeddingModel.embed(query.text()).content();
+        return retrieve(query, embeddedQuery);
+    }
 
+    /**
+     * Retrieves the contents relevant to a query that has already been embedded,
+     * so that several retrievers using the same {@link EmbeddingModel} can share the embedding of the query.
+     *
+     * @param query         the query.
+     * @param embeddedQuery the embedding of the text of the query, computed by the {@link EmbeddingModel}
+     *                      of this retriever.
+     * @return the relevant contents.
+     * @see HybridContentRetriever
+     */
+    public List<Content> retrieve(Query query, Embedding embeddedQuery) {
         EmbeddingSearchRequest searchRequest = EmbeddingSearchRequest.builder()
                 .queryEmbedding(embeddedQuery)
                 .maxResults(maxResultsProvider.apply(query))
@@ -247,6 +259,10 @@ public class EmbeddingStoreContentRetriever implements ContentRetriever {
                 .collect(Collectors.toList());
     }
 
+    EmbeddingModel embeddingModel() {
+        return embeddingModel;
+    }
+
     @Override
     public String toString() {
         return "EmbeddingStoreContentRetriever{" +
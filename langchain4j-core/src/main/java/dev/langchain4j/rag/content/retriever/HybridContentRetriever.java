@@ -0,0 +1,206 @@
+package dev.langchain4j.rag.content.retriever;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.internal.DefaultExecutorProvider;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.rag.content.aggregator.ReciprocalRankFuser;
+import dev.langchain4j.rag.query.Query;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeoutException;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
+import static java.util.concurrent.CompletableFuture.allOf;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * A {@link ContentRetriever} that retrieves from several {@link ContentRetriever}s in parallel
+ * (for example, vector stores and keyword/BM25 stores) and fuses their results with
+ * Reciprocal Rank Fusion (see {@link ReciprocalRankFuser}).
+ * <br>
+ * The query is embedded once per distinct {@link EmbeddingModel} (compared by identity) used by the
+ * {@link EmbeddingStoreContentRetriever}s, and the embedding is shared between them
+ * (see {@link EmbeddingStoreContentRetriever#retrieve(Query, Embedding)}).
+ * Other retrievers are called as is.
+ * <br>
+ * When a {@code timeout} is configured, the results of the retrievers that have not responded
+ * within it are ignored, and the results of the others are fused and returned.
+ * <br>
+ * It can be used as the single {@link ContentRetriever} of a
+ * {@link dev.langchain4j.rag.DefaultRetrievalAugmentor}, in which case the {@link dev.langchain4j.rag.content.aggregator.DefaultContentAggregator}
+ * keeps the fused order.
+ */
+public class HybridContentRetriever implements ContentRetriever {
+
+    private static final Logger log = LoggerFactory.getLogger(HybridContentRetriever.class);
+
+    private final List<ContentRetriever> retrievers;
+    private final int k;
+    private final Integer maxResults;
+    private final Duration timeout;
+    private final Executor executor;
+
+    public HybridContentRetriever(List<ContentRetriever> retrievers,
+                                  Integer k,
+                                  Integer maxResults,
+                                  Duration timeout,
+                                  Executor executor) {
+        this.retrievers = List.copyOf(ensureNotEmpty(retrievers, "retrievers"));
+        this.k = ensureBetween(getOrDefault(k, 60), 1, Integer.MAX_VALUE, "k");
+        this.maxResults = maxResults == null ? null : ensureGreaterThanZero(maxResults, "maxResults");
+        this.timeout = timeout;
+        this.executor = getOrDefault(executor, DefaultExecutorProvider::getDefaultExecutorService);
+    }
+
+    public static HybridContentRetrieverBuilder builder() {
+        return new HybridContentRetrieverBuilder();
+    }
+
+    @Override
+    public List<Content> retrieve(Query query) {
+        long deadline = timeout == null ? 0 : System.nanoTime() + timeout.toNanos();
+
+        Map<EmbeddingModel, CompletableFuture<Embedding>> embeddings = new IdentityHashMap<>();
+        List<CompletableFuture<List<Content>>> futures = new ArrayList<>(retrievers.size());
+        for (ContentRetriever retriever : retrievers) {
+            if (retriever instanceof EmbeddingStoreContentRetriever embeddingStoreRetriever) {
+                CompletableFuture<Embedding> embedding = embeddings.computeIfAbsent(
+                        embeddingStoreRetriever.embeddingModel(),
+                        model -> supplyAsync(() -> model.embed(query.text()).content(), executor));
+                futures.add(embedding.thenApplyAsync(e -> embeddingStoreRetriever.retrieve(query, e), executor));
+            } else {
+                futures.add(supplyAsync(() -> retriever.retrieve(query), executor));
+            }
+        }
+
+        List<List<Content>> results = timeout == null ? joinAll(futures) : joinUntil(futures, deadline);
+
+        List<Content> fused = ReciprocalRankFuser.fuse(results, k);
+        return maxResults == null || fused.size() <= maxResults ? fused : fused.subList(0, maxResults);
+    }
+
+    private static List<List<Content>> joinAll(List<CompletableFuture<List<Content>>> futures) {
+        return allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> futures.stream().map(CompletableFuture::join).toList())
+                .join();
+    }
+
+    private List<List<Content>> joinUntil(List<CompletableFuture<List<Content>>> futures, long deadline) {
+        try {
+            allOf(futures.toArray(new CompletableFuture[0])).get(Math.max(0, deadline - System.nanoTime()), NANOSECONDS);
+        } catch (TimeoutException e) {
+            // partial results: the retrievers that have responded so far
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+
+        List<List<Content>> results = new ArrayList<>(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            CompletableFuture<List<Content>> future = futures.get(i);
+            if (future.isDone()) {
+                results.add(future.join()); // failures are propagated
+            } else {
+                future.cancel(false);
+                log.debug("{} did not respond within {}, ignoring its results", retrievers.get(i), timeout);
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public String toString() {
+        return "HybridContentRetriever{" +
+                "retrievers=" + retrievers +
+                '}';
+    }
+
+    public static class HybridContentRetrieverBuilder {
+
+        private List<ContentRetriever> retrievers;
+        private Integer k;
+        private Integer maxResults;
+        private Duration timeout;
+        private Executor executor;
+
+        HybridContentRetrieverBuilder() {
+        }
+
+        /**
+         * @param retrievers the retrievers to retrieve from, in parallel.
+         * @return builder
+         */
+        public HybridContentRetrieverBuilder retrievers(List<ContentRetriever> retrievers) {
+            this.retrievers = retrievers;
+            return this;
+        }
+
+        /**
+         * @param retrievers the retrievers to retrieve from, in parallel.
+         * @return builder
+         */
+        public HybridContentRetrieverBuilder retrievers(ContentRetriever... retrievers) {
+            return retrievers(List.of(retrievers));
+        }
+
+        /**
+         * @param k the ranking constant of Reciprocal Rank Fusion. Default value: 60.
+         * @return builder
+         * @see ReciprocalRankFuser#fuse(java.util.Collection, int)
+         */
+        public HybridContentRetrieverBuilder k(Integer k) {
+            this.k = k;
+            return this;
+        }
+
+        /**
+         * @param maxResults the maximum number of fused contents to return. By default, all of them are returned.
+         * @return builder
+         */
+        public HybridContentRetrieverBuilder maxResults(Integer maxResults) {
+            this.maxResults = maxResults;
+            return this;
+        }
+
+        /**
+         * @param timeout how long to wait for the retrievers. The results of the retrievers that have not
+         *                responded by then are ignored. By default, all retrievers are waited for.
+         * @return builder
+         */
+        public HybridContentRetrieverBuilder timeout(Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        /**
+         * @param executor the executor embedding the query and calling the retrievers.
+         *                 Default value: {@link DefaultExecutorProvider#getDefaultExecutorService()}.
+         * @return builder
+         */
+        public HybridContentRetrieverBuilder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public HybridContentRetriever build() {
+            return new HybridContentRetriever(retrievers, k, maxResults, timeout, executor);
+        }
+    }
+}
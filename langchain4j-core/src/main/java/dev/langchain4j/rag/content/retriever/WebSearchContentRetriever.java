@@ -1,15 +1,35 @@
 package dev.langchain4j.rag.content.retriever;
 
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.DocumentTransformer;
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.internal.DefaultExecutorProvider;
 import dev.langchain4j.rag.content.Content;
 import dev.langchain4j.rag.query.Query;
+import dev.langchain4j.web.page.HttpWebPageFetcher;
+import dev.langchain4j.web.page.WebPageFetcher;
 import dev.langchain4j.web.search.WebSearchEngine;
+import dev.langchain4j.web.search.WebSearchOrganicResult;
 import dev.langchain4j.web.search.WebSearchRequest;
 import dev.langchain4j.web.search.WebSearchResults;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeoutException;
 
 import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.Utils.isNullOrBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static java.util.stream.Collectors.toList;
 
 /**
@@ -19,15 +39,50 @@ import static java.util.stream.Collectors.toList;
  * <br>
  * Depending on the {@link WebSearchEngine} implementation, the {@link Content#textSegment()}
  * can contain either a snippet of a web page or a complete content of a web page.
+ * <br>
+ * When a {@link WebPageFetcher} is configured (for example, {@link HttpWebPageFetcher}),
+ * the top {@code maxPagesToFetch} result pages are fetched concurrently, and their content
+ * (optionally extracted with a {@link DocumentTransformer}, such as {@code HtmlToTextDocumentTransformer}
+ * from the {@code langchain4j-document-transformer-jsoup} module) replaces the snippet.
+ * Each page is fetched within {@code pageTimeout}, and all of them within {@code fetchTimeout}.
+ * The results whose page could not be fetched in time keep the content returned by the {@link WebSearchEngine},
+ * and the threads still fetching them are interrupted.
  */
 public class WebSearchContentRetriever implements ContentRetriever {
 
+    private static final Logger log = LoggerFactory.getLogger(WebSearchContentRetriever.class);
+
     private final WebSearchEngine webSearchEngine;
     private final int maxResults;
+    private final WebPageFetcher webPageFetcher;
+    private final DocumentTransformer documentTransformer;
+    private final Integer maxPagesToFetch;
+    private final Duration pageTimeout;
+    private final Duration fetchTimeout;
+    private final Executor executor;
 
     public WebSearchContentRetriever(WebSearchEngine webSearchEngine, Integer maxResults) {
+        this(webSearchEngine, maxResults, null, null, null, null, null, null);
+    }
+
+    public WebSearchContentRetriever(WebSearchEngine webSearchEngine,
+                                     Integer maxResults,
+                                     WebPageFetcher webPageFetcher,
+                                     DocumentTransformer documentTransformer,
+                                     Integer maxPagesToFetch,
+                                     Duration pageTimeout,
+                                     Duration fetchTimeout,
+                                     Executor executor) {
         this.webSearchEngine = ensureNotNull(webSearchEngine, "webSearchEngine");
         this.maxResults = getOrDefault(maxResults, 5);
+        this.webPageFetcher = webPageFetcher;
+        this.documentTransformer = documentTransformer;
+        this.maxPagesToFetch = maxPagesToFetch == null
+                ? null
+                : ensureBetween(maxPagesToFetch, 0, Integer.MAX_VALUE, "maxPagesToFetch");
+        this.pageTimeout = getOrDefault(pageTimeout, Duration.ofSeconds(10));
+        this.fetchTimeout = getOrDefault(fetchTimeout, Duration.ofSeconds(30));
+        this.executor = getOrDefault(executor, DefaultExecutorProvider::getDefaultExecutorService);
     }
 
     public static WebSearchContentRetrieverBuilder builder() {
@@ -44,14 +99,92 @@ public class WebSearchContentRetriever implements ContentRetriever {
 
         WebSearchResults webSearchResults = webSearchEngine.search(webSearchRequest);
 
-        return webSearchResults.toTextSegments().stream()
-                .map(Content::from)
-                .collect(toList());
+        if (webPageFetcher == null) {
+            return webSearchResults.toTextSegments().stream()
+                    .map(Content::from)
+                    .collect(toList());
+        }
+
+        return fetchPages(webSearchResults.results());
+    }
+
+    private List<Content> fetchPages(List<WebSearchOrganicResult> results) {
+        long deadline = System.nanoTime() + fetchTimeout.toNanos();
+
+        int pagesToFetch = Math.min(getOrDefault(maxPagesToFetch, results.size()), results.size());
+        // FutureTasks, as cancelling them interrupts the fetches that are still running
+        List<FutureTask<String>> pages = new ArrayList<>(pagesToFetch);
+        for (int i = 0; i < pagesToFetch; i++) {
+            WebSearchOrganicResult result = results.get(i);
+            FutureTask<String> page = new FutureTask<>(() -> fetchPage(result));
+            pages.add(page);
+            executor.execute(page);
+        }
+
+        for (FutureTask<String> page : pages) {
+            try {
+                page.get(Math.max(0, deadline - System.nanoTime()), NANOSECONDS);
+            } catch (TimeoutException | ExecutionException | CancellationException e) {
+                // the pages that have not been fetched keep the content returned by the search engine
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        List<Content> contents = new ArrayList<>(results.size());
+        for (int i = 0; i < results.size(); i++) {
+            WebSearchOrganicResult result = results.get(i);
+            String page = i < pagesToFetch ? pageOrNull(pages.get(i), result) : null;
+            if (isNullOrBlank(page)) {
+                contents.add(Content.from(result.toTextSegment()));
+            } else {
+                WebSearchOrganicResult fetched = WebSearchOrganicResult.from(
+                        result.title(), result.url(), result.snippet(), page, result.metadata());
+                contents.add(Content.from(fetched.toTextSegment()));
+            }
+        }
+        return contents;
+    }
+
+    private String fetchPage(WebSearchOrganicResult result) {
+        String page = webPageFetcher.fetch(result.url(), pageTimeout);
+        if (documentTransformer == null || page == null) {
+            return page;
+        }
+        Document document = documentTransformer.transform(
+                Document.from(page, Metadata.from("url", result.url().toString())));
+        return document == null ? null : document.text();
+    }
+
+    private static String pageOrNull(Future<String> page, WebSearchOrganicResult result) {
+        if (!page.isDone()) {
+            page.cancel(true);
+            log.debug("Page {} was not fetched in time, using the search result instead", result.url());
+            return null;
+        }
+        try {
+            return page.get();
+        } catch (ExecutionException e) {
+            log.debug("Failed to fetch page {}, using the search result instead", result.url(), e.getCause());
+            return null;
+        } catch (CancellationException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
     }
 
     public static class WebSearchContentRetrieverBuilder {
         private WebSearchEngine webSearchEngine;
         private Integer maxResults;
+        private WebPageFetcher webPageFetcher;
+        private DocumentTransformer documentTransformer;
+        private Integer maxPagesToFetch;
+        private Duration pageTimeout;
+        private Duration fetchTimeout;
+        private Executor executor;
 
         WebSearchContentRetrieverBuilder() {
         }
@@ -66,8 +199,77 @@ public class WebSearchContentRetriever implements ContentRetriever {
             return this;
         }
 
+        /**
+         * @param webPageFetcher fetches the full content of the result pages, see {@link HttpWebPageFetcher}.
+         *                       By default, pages are not fetched, and the content returned by the
+         *                       {@link WebSearchEngine} is used.
+         * @return builder
+         */
+        public WebSearchContentRetrieverBuilder webPageFetcher(WebPageFetcher webPageFetcher) {
+            this.webPageFetcher = webPageFetcher;
+            return this;
+        }
+
+        /**
+         * @param documentTransformer extracts the text from a fetched page, for example
+         *                            {@code HtmlToTextDocumentTransformer}. By default, the page is used as is.
+         * @return builder
+         */
+        public WebSearchContentRetrieverBuilder documentTransformer(DocumentTransformer documentTransformer) {
+            this.documentTransformer = documentTransformer;
+            return this;
+        }
+
+        /**
+         * @param maxPagesToFetch the number of top result pages to fetch. By default, all result pages are fetched.
+         * @return builder
+         */
+        public WebSearchContentRetrieverBuilder maxPagesToFetch(Integer maxPagesToFetch) {
+            this.maxPagesToFetch = maxPagesToFetch;
+            return this;
+        }
+
+        /**
+         * @param pageTimeout the maximum time to fetch a single page. Default value: 10 seconds.
+         * @return builder
+         */
+        public WebSearchContentRetrieverBuilder pageTimeout(Duration pageTimeout) {
+            this.pageTimeout = pageTimeout;
+            return this;
+        }
+
+        /**
+         * @param fetchTimeout the maximum time to fetch all the pages. The pages that have not been fetched
+         *                     by then keep the content returned by the {@link WebSearchEngine}.
+         *                     Default value: 30 seconds.
+         * @return builder
+         */
+        public WebSearchContentRetrieverBuilder fetchTimeout(Duration fetchTimeout) {
+            this.fetchTimeout = fetchTimeout;
+            return this;
+        }
+
+        /**
+         * @param executor the executor fetching the pages.
+         *                 Default value: {@link DefaultExecutorProvider#getDefaultExecutorService()},
+         *                 which uses virtual threads when they are available.
+         * @return builder
+         */
+        public WebSearchContentRetrieverBuilder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
         public WebSearchContentRetriever build() {
-            return new WebSearchContentRetriever(this.webSearchEngine, this.maxResults);
+            return new WebSearchContentRetriever(
+                    this.webSearchEngine,
+                    this.maxResults,
+                    this.webPageFetcher,
+                    this.documentTransformer,
+                    this.maxPagesToFetch,
+                    this.pageTimeout,
+                    this.fetchTimeout,
+                    this.executor);
         }
     }
 }
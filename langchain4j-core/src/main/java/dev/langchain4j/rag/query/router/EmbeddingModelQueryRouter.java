@@ -0,0 +1,398 @@
+package dev.langchain4j.rag.query.router;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.observability.metrics.MetricNames;
+import dev.langchain4j.observability.metrics.MetricsRecorder;
+import dev.langchain4j.rag.content.retriever.ContentRetriever;
+import dev.langchain4j.rag.query.Query;
+import dev.langchain4j.store.embedding.RelevanceScore;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static dev.langchain4j.internal.ValidationUtils.ensureEq;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * A {@link QueryRouter} that routes most queries with an {@link EmbeddingModel},
+ * and only delegates to a fallback {@link QueryRouter} (typically a {@link LanguageModelQueryRouter})
+ * when it is not confident enough.
+ * <br>
+ * For each {@link Query}, the routing decision is taken from the first of:
+ * <br>
+ * - a cache of routing decisions, keyed by the normalized text of the query
+ * (lower case, collapsed whitespace, without trailing punctuation);
+ * <br>
+ * - the decision of the fallback router for the most similar past query, if their similarity is at least
+ * {@code minPastQueryScore};
+ * <br>
+ * - the {@link ContentRetriever} whose description is the most similar to the query, if their similarity is at least
+ * {@code minDescriptionScore}, and exceeds the similarity with the other descriptions by at least
+ * {@code minDescriptionScoreMargin};
+ * <br>
+ * - the fallback router. Its non-empty decisions are remembered, so that similar queries do not need it anymore,
+ * except the ones taken by the {@link LanguageModelQueryRouter.FallbackStrategy} when the LLM call fails.
+ * <br>
+ * <br>
+ * Similarities are relevance scores, between 0 and 1 (see {@link RelevanceScore}). Their best values depend
+ * on the embedding model and the descriptions, so it is advised to tune them on a sample of real queries.
+ * <br>
+ * How often each path is taken is available from {@link #stats()}, and recorded as
+ * {@link MetricNames#QUERY_ROUTING_DECISIONS} when a {@link MetricsRecorder} is provided.
+ *
+ * @see LanguageModelQueryRouter
+ */
+public class EmbeddingModelQueryRouter implements QueryRouter {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern TRAILING_PUNCTUATION = Pattern.compile("[\\s?!.;,]+$");
+
+    private final EmbeddingModel embeddingModel;
+    private final QueryRouter fallbackRouter;
+    private final List<ContentRetriever> retrievers;
+    private final float[][] descriptionVectors;
+    private final double minDescriptionScore;
+    private final double minDescriptionScoreMargin;
+    private final double minPastQueryScore;
+    private final MetricsRecorder metricsRecorder;
+
+    private final Map<String, List<ContentRetriever>> cache;
+    private final float[][] pastQueryVectors;
+    private final List<List<ContentRetriever>> pastDecisions;
+    private int nextPastDecision;
+
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder pastDecisionHits = new LongAdder();
+    private final LongAdder descriptionHits = new LongAdder();
+    private final LongAdder fallbackCalls = new LongAdder();
+
+    public EmbeddingModelQueryRouter(EmbeddingModelQueryRouterBuilder builder) {
+        this.embeddingModel = ensureNotNull(builder.embeddingModel, "embeddingModel");
+        Map<ContentRetriever, String> retrieverToDescription =
+                ensureNotEmpty(builder.retrieverToDescription, "retrieverToDescription");
+        if (builder.fallbackRouter != null) {
+            this.fallbackRouter = builder.fallbackRouter;
+        } else {
+            ChatModel chatModel = ensureNotNull(builder.chatModel, "chatModel or fallbackRouter");
+            this.fallbackRouter = new LanguageModelQueryRouter(chatModel, retrieverToDescription);
+        }
+        this.minDescriptionScore = ensureBetween(getOrDefault(builder.minDescriptionScore, 0.8), 0, 1, "minDescriptionScore");
+        this.minDescriptionScoreMargin =
+                ensureBetween(getOrDefault(builder.minDescriptionScoreMargin, 0.02), 0, 1, "minDescriptionScoreMargin");
+        this.minPastQueryScore = ensureBetween(getOrDefault(builder.minPastQueryScore, 0.95), 0, 1, "minPastQueryScore");
+        this.metricsRecorder = getOrDefault(builder.metricsRecorder, MetricsRecorder::noop);
+
+        this.retrievers = new ArrayList<>(retrieverToDescription.size());
+        List<TextSegment> descriptions = new ArrayList<>(retrieverToDescription.size());
+        retrieverToDescription.forEach((retriever, description) -> {
+            retrievers.add(ensureNotNull(retriever, "ContentRetriever"));
+            descriptions.add(TextSegment.from(ensureNotBlank(description, "ContentRetriever description")));
+        });
+        List<Embedding> descriptionEmbeddings = embeddingModel.embedAll(descriptions).content();
+        ensureEq(descriptionEmbeddings.size(), descriptions.size(),
+                "Expected %d embeddings, but got %d", descriptions.size(), descriptionEmbeddings.size());
+        this.descriptionVectors = new float[descriptions.size()][];
+        for (int i = 0; i < descriptionVectors.length; i++) {
+            descriptionVectors[i] = normalized(descriptionEmbeddings.get(i));
+        }
+
+        int maxCacheSize = ensureGreaterThanZero(getOrDefault(builder.maxCacheSize, 1000), "maxCacheSize");
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<ContentRetriever>> eldest) {
+                return size() > maxCacheSize;
+            }
+        };
+        int maxPastDecisions = ensureBetween(getOrDefault(builder.maxPastDecisions, 1000), 0, Integer.MAX_VALUE, "maxPastDecisions");
+        this.pastQueryVectors = new float[maxPastDecisions][];
+        this.pastDecisions = new ArrayList<>(maxPastDecisions);
+    }
+
+    public static EmbeddingModelQueryRouterBuilder builder() {
+        return new EmbeddingModelQueryRouterBuilder();
+    }
+
+    @Override
+    public Collection<ContentRetriever> route(Query query) {
+        String key = normalize(query.text());
+        List<ContentRetriever> decision;
+        synchronized (cache) {
+            decision = cache.get(key);
+        }
+        if (decision != null) {
+            onDecision(cacheHits, "cache");
+            return decision;
+        }
+
+        float[] queryVector;
+        try {
+            queryVector = normalized(embeddingModel.embed(query.text()).content());
+        } catch (RuntimeException e) {
+            onDecision(fallbackCalls, "fallback");
+            return fallbackRouter.route(query);
+        }
+
+        decision = pastDecision(queryVector);
+        if (decision != null) {
+            onDecision(pastDecisionHits, "past_decision");
+        } else {
+            decision = descriptionDecision(queryVector);
+            if (decision != null) {
+                onDecision(descriptionHits, "description");
+            } else {
+                onDecision(fallbackCalls, "fallback");
+                LanguageModelQueryRouter.Decision fallbackDecision = fallbackDecision(query);
+                Collection<ContentRetriever> fallbackRetrievers = fallbackDecision.retrievers();
+                if (fallbackDecision.fromFallbackStrategy()
+                        || fallbackRetrievers.isEmpty()
+                        || fallbackRetrievers.stream().anyMatch(Objects::isNull)) {
+                    // not an answer of the LLM, not worth remembering
+                    return fallbackRetrievers;
+                }
+                decision = unmodifiableList(new ArrayList<>(fallbackRetrievers));
+                remember(queryVector, decision);
+            }
+        }
+
+        synchronized (cache) {
+            cache.put(key, decision);
+        }
+        return decision;
+    }
+
+    /**
+     * @return the statistics of this router since it was created.
+     */
+    public QueryRoutingStats stats() {
+        return new QueryRoutingStats(cacheHits.sum(), pastDecisionHits.sum(), descriptionHits.sum(), fallbackCalls.sum());
+    }
+
+    private LanguageModelQueryRouter.Decision fallbackDecision(Query query) {
+        if (fallbackRouter instanceof LanguageModelQueryRouter languageModelQueryRouter) {
+            return languageModelQueryRouter.decide(query);
+        }
+        return new LanguageModelQueryRouter.Decision(fallbackRouter.route(query), false);
+    }
+
+    private List<ContentRetriever> pastDecision(float[] queryVector) {
+        synchronized (pastDecisions) {
+            List<ContentRetriever> bestDecision = null;
+            double bestScore = minPastQueryScore;
+            for (int i = 0; i < pastDecisions.size(); i++) {
+                double score = score(queryVector, pastQueryVectors[i]);
+                if (score >= bestScore) {
+                    bestScore = score;
+                    bestDecision = pastDecisions.get(i);
+                }
+            }
+            return bestDecision;
+        }
+    }
+
+    private void remember(float[] queryVector, List<ContentRetriever> decision) {
+        if (pastQueryVectors.length == 0) {
+            return;
+        }
+        synchronized (pastDecisions) {
+            // the oldest decision is overwritten when full
+            int index = nextPastDecision;
+            pastQueryVectors[index] = queryVector;
+            if (index < pastDecisions.size()) {
+                pastDecisions.set(index, decision);
+            } else {
+                pastDecisions.add(decision);
+            }
+            nextPastDecision = (index + 1) % pastQueryVectors.length;
+        }
+    }
+
+    private List<ContentRetriever> descriptionDecision(float[] queryVector) {
+        int best = -1;
+        double bestScore = -1;
+        double secondBestScore = -1;
+        for (int i = 0; i < descriptionVectors.length; i++) {
+            double score = score(queryVector, descriptionVectors[i]);
+            if (score > bestScore) {
+                secondBestScore = bestScore;
+                bestScore = score;
+                best = i;
+            } else if (score > secondBestScore) {
+                secondBestScore = score;
+            }
+        }
+        if (bestScore < minDescriptionScore
+                || (secondBestScore >= 0 && bestScore - secondBestScore < minDescriptionScoreMargin)) {
+            return null;
+        }
+        return List.of(retrievers.get(best));
+    }
+
+    private void onDecision(LongAdder counter, String source) {
+        counter.increment();
+        metricsRecorder.increment(MetricNames.QUERY_ROUTING_DECISIONS, 1, MetricNames.SOURCE, source);
+    }
+
+    static String normalize(String text) {
+        String normalized = WHITESPACE.matcher(text.trim().toLowerCase(Locale.ROOT)).replaceAll(" ");
+        return TRAILING_PUNCTUATION.matcher(normalized).replaceAll("");
+    }
+
+    private static double score(float[] a, float[] b) {
+        double cosineSimilarity = 0;
+        for (int i = 0; i < a.length; i++) {
+            cosineSimilarity += a[i] * b[i];
+        }
+        return RelevanceScore.fromCosineSimilarity(cosineSimilarity);
+    }
+
+    private static float[] normalized(Embedding embedding) {
+        float[] vector = embedding.vector();
+        double norm = 0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        norm = Math.sqrt(norm);
+        float[] normalized = new float[vector.length];
+        if (norm < 1e-10) {
+            return normalized;
+        }
+        for (int i = 0; i < vector.length; i++) {
+            normalized[i] = (float) (vector[i] / norm);
+        }
+        return normalized;
+    }
+
+    public static class EmbeddingModelQueryRouterBuilder {
+
+        private EmbeddingModel embeddingModel;
+        private Map<ContentRetriever, String> retrieverToDescription;
+        private QueryRouter fallbackRouter;
+        private ChatModel chatModel;
+        private Double minDescriptionScore;
+        private Double minDescriptionScoreMargin;
+        private Double minPastQueryScore;
+        private Integer maxPastDecisions;
+        private Integer maxCacheSize;
+        private MetricsRecorder metricsRecorder;
+
+        EmbeddingModelQueryRouterBuilder() {
+        }
+
+        /**
+         * @param embeddingModel the model embedding the queries and the descriptions of the retrievers.
+         * @return {@code this}
+         */
+        public EmbeddingModelQueryRouterBuilder embeddingModel(EmbeddingModel embeddingModel) {
+            this.embeddingModel = embeddingModel;
+            return this;
+        }
+
+        /**
+         * @param retrieverToDescription the retrievers to route to, with their descriptions.
+         * @return {@code this}
+         */
+        public EmbeddingModelQueryRouterBuilder retrieverToDescription(Map<ContentRetriever, String> retrieverToDescription) {
+            this.retrieverToDescription = retrieverToDescription;
+            return this;
+        }
+
+        /**
+         * @param fallbackRouter the router used when the embedding model is not confident enough.
+         * @return {@code this}
+         */
+        public EmbeddingModelQueryRouterBuilder fallbackRouter(QueryRouter fallbackRouter) {
+            this.fallbackRouter = fallbackRouter;
+            return this;
+        }
+
+        /**
+         * @param chatModel the model of the {@link LanguageModelQueryRouter} used as fallback router,
+         *                  when no {@link #fallbackRouter(QueryRouter)} is set.
+         * @return {@code this}
+         */
+        public EmbeddingModelQueryRouterBuilder chatModel(ChatModel chatModel) {
+            this.chatModel = chatModel;
+            return this;
+        }
+
+        /**
+         * @param minDescriptionScore the minimum similarity between a query and the description of a retriever
+         *                            to route to it without the fallback router. Default value: 0.8.
+         * @return {@code this}
+         */
+        public EmbeddingModelQueryRouterBuilder minDescriptionScore(Double minDescriptionScore) {
+            this.minDescriptionScore = minDescriptionScore;
+            return this;
+        }
+
+        /**
+         * @param minDescriptionScoreMargin the minimum difference between the similarities of the best and the second
+         *                                  best descriptions to route without the fallback router. Default value: 0.02.
+         * @return {@code this}
+         */
+        public EmbeddingModelQueryRouterBuilder minDescriptionScoreMargin(Double minDescriptionScoreMargin) {
+            this.minDescriptionScoreMargin = minDescriptionScoreMargin;
+            return this;
+        }
+
+        /**
+         * @param minPastQueryScore the minimum similarity between a query and a past query to reuse its routing
+         *                          decision. Default value: 0.95.
+         * @return {@code this}
+         */
+        public EmbeddingModelQueryRouterBuilder minPastQueryScore(Double minPastQueryScore) {
+            this.minPastQueryScore = minPastQueryScore;
+            return this;
+        }
+
+        /**
+         * @param maxPastDecisions the maximum number of decisions of the fallback router remembered, the oldest ones
+         *                         being forgotten first. Use 0 to not reuse them. Default value: 1000.
+         * @return {@code this}
+         */
+        public EmbeddingModelQueryRouterBuilder maxPastDecisions(Integer maxPastDecisions) {
+            this.maxPastDecisions = maxPastDecisions;
+            return this;
+        }
+
+        /**
+         * @param maxCacheSize the maximum number of cached routing decisions, the least recently used ones
+         *                     being evicted first. Default value: 1000.
+         * @return {@code this}
+         */
+        public EmbeddingModelQueryRouterBuilder maxCacheSize(Integer maxCacheSize) {
+            this.maxCacheSize = maxCacheSize;
+            return this;
+        }
+
+        /**
+         * @param metricsRecorder the recorder of {@link MetricNames#QUERY_ROUTING_DECISIONS}.
+         * @return {@code this}
+         */
+        public EmbeddingModelQueryRouterBuilder metricsRecorder(MetricsRecorder metricsRecorder) {
+            this.metricsRecorder = metricsRecorder;
+            return this;
+        }
+
+        public EmbeddingModelQueryRouter build() {
+            return new EmbeddingModelQueryRouter(this);
+        }
+    }
+}
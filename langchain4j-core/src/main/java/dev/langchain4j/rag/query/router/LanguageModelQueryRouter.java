@@ -96,12 +96,20 @@ public class LanguageModelQueryRouter implements QueryRouter {
 
     @Override
     public Collection<ContentRetriever> route(Query query) {
+        return decide(query).retrievers();
+    }
+
+    /**
+     * Routes the {@link Query} like {@link #route(Query)}, and tells whether the decision comes from
+     * the {@link #fallbackStrategy} rather than from the answer of the LLM.
+     */
+    Decision decide(Query query) {
         Prompt prompt = createPrompt(query);
         try {
             String response = chatModel.chat(prompt.text());
-            return parse(response);
+            return new Decision(parse(response), false);
         } catch (Exception e) {
-            return fallback(query, e);
+            return new Decision(fallback(query, e), true);
         }
     }
 
@@ -132,6 +140,9 @@ public class LanguageModelQueryRouter implements QueryRouter {
                 .collect(toList());
     }
 
+    record Decision(Collection<ContentRetriever> retrievers, boolean fromFallbackStrategy) {
+    }
+
     /**
      * Strategy applied if the call to the LLM fails of if LLM does not return a valid response.
      * It could be because it was formatted improperly, or it is unclear where to route.
@@ -0,0 +1,27 @@
+package dev.langchain4j.rag.query.router;
+
+/**
+ * A snapshot of the statistics of an {@link EmbeddingModelQueryRouter}.
+ *
+ * @param cacheHits         the number of queries routed from the cache of routing decisions.
+ * @param pastDecisionHits  the number of queries routed like a similar past query.
+ * @param descriptionHits   the number of queries routed by the similarity with the retriever descriptions.
+ * @param fallbackCalls     the number of queries routed by the fallback router (e.g. an LLM).
+ */
+public record QueryRoutingStats(long cacheHits, long pastDecisionHits, long descriptionHits, long fallbackCalls) {
+
+    /**
+     * @return the number of routed queries.
+     */
+    public long queries() {
+        return cacheHits + pastDecisionHits + descriptionHits + fallbackCalls;
+    }
+
+    /**
+     * @return the ratio of queries routed by the fallback router, between 0 and 1 (0 if nothing was routed yet).
+     */
+    public double fallbackRate() {
+        long queries = queries();
+        return queries == 0 ? 0.0 : (double) fallbackCalls / queries;
+    }
+}
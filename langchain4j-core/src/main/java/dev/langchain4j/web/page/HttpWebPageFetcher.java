@@ -0,0 +1,347 @@
+package dev.langchain4j.web.page;
+
+import dev.langchain4j.exception.HttpException;
+import dev.langchain4j.exception.LangChain4jException;
+import dev.langchain4j.exception.TimeoutException;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.function.Supplier;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * A {@link WebPageFetcher} that fetches web pages with the JDK {@link HttpClient}.
+ * <br>
+ * Fetched pages are cached by URL. When a cached page has an {@code ETag} or a {@code Last-Modified} header,
+ * it is revalidated with a conditional request on the next fetch, and its content is reused
+ * if the server answers {@code 304 Not Modified}. Pages without these headers are fetched again every time.
+ * <br>
+ * Only textual pages ({@code text/*}, XML and JSON content types) of at most {@code maxContentLength} bytes
+ * are fetched: the download of other pages is aborted as soon as their headers or size reveal it.
+ * The timeout covers the whole fetch, including the download of the page, which is aborted
+ * when the timeout expires or the fetching thread is interrupted.
+ */
+public class HttpWebPageFetcher implements WebPageFetcher {
+
+    private final HttpClient httpClient;
+    private final String userAgent;
+    private final long maxContentLength;
+    private final Map<URI, CachedPage> cache;
+
+    public HttpWebPageFetcher() {
+        this(builder());
+    }
+
+    public HttpWebPageFetcher(HttpWebPageFetcherBuilder builder) {
+        this.httpClient = getOrDefault(builder.httpClient, () -> HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build());
+        this.userAgent = builder.userAgent;
+        this.maxContentLength = ensureBetween(
+                getOrDefault(builder.maxContentLength, 5L * 1024 * 1024), 1, Long.MAX_VALUE, "maxContentLength");
+        int maxCacheSize = ensureBetween(getOrDefault(builder.maxCacheSize, 100), 0, Integer.MAX_VALUE, "maxCacheSize");
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<URI, CachedPage> eldest) {
+                return size() > maxCacheSize;
+            }
+        };
+    }
+
+    public static HttpWebPageFetcherBuilder builder() {
+        return new HttpWebPageFetcherBuilder();
+    }
+
+    @Override
+    public String fetch(URI url, Duration timeout) {
+        ensureNotNull(url, "url");
+
+        CachedPage cachedPage;
+        synchronized (cache) {
+            cachedPage = cache.get(url);
+        }
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(url).GET();
+        if (timeout != null) {
+            request.timeout(timeout);
+        }
+        if (userAgent != null) {
+            request.header("User-Agent", userAgent);
+        }
+        if (cachedPage != null) {
+            if (cachedPage.eTag != null) {
+                request.header("If-None-Match", cachedPage.eTag);
+            }
+            if (cachedPage.lastModified != null) {
+                request.header("If-Modified-Since", cachedPage.lastModified);
+            }
+        }
+
+        // sent asynchronously, so that the download can be aborted on timeout or interruption
+        CompletableFuture<HttpResponse<String>> futureResponse =
+                httpClient.sendAsync(request.build(), responseInfo -> bodySubscriber(url, responseInfo));
+        HttpResponse<String> response;
+        try {
+            response = timeout == null
+                    ? futureResponse.get()
+                    : futureResponse.get(timeout.toNanos(), NANOSECONDS);
+        } catch (java.util.concurrent.TimeoutException e) {
+            futureResponse.cancel(true);
+            throw new TimeoutException("Fetching " + url + " did not complete within " + timeout, e);
+        } catch (InterruptedException e) {
+            futureResponse.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while fetching " + url, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof HttpTimeoutException) {
+                throw new TimeoutException("Fetching " + url + " did not complete within " + timeout, cause);
+            } else if (cause instanceof LangChain4jException langChain4jException) {
+                throw langChain4jException;
+            }
+            throw new RuntimeException("Failed to fetch " + url, cause);
+        }
+
+        if (response.statusCode() == 304 && cachedPage != null) {
+            return cachedPage.content;
+        }
+        if (response.statusCode() < 200 || response.statusCode() >= 300) {
+            throw new HttpException(response.statusCode(), "Failed to fetch " + url);
+        }
+
+        HttpHeaders headers = response.headers();
+        String eTag = headers.firstValue("ETag").orElse(null);
+        String lastModified = headers.firstValue("Last-Modified").orElse(null);
+        synchronized (cache) {
+            if (eTag != null || lastModified != null) {
+                cache.put(url, new CachedPage(response.body(), eTag, lastModified));
+            } else {
+                cache.remove(url);
+            }
+        }
+        return response.body();
+    }
+
+    private HttpResponse.BodySubscriber<String> bodySubscriber(URI url, HttpResponse.ResponseInfo responseInfo) {
+        if (responseInfo.statusCode() < 200 || responseInfo.statusCode() >= 300) {
+            // the body is not used
+            return new BoundedBodySubscriber(0, StandardCharsets.UTF_8, null);
+        }
+
+        HttpHeaders headers = responseInfo.headers();
+        String contentType = headers.firstValue("Content-Type").orElse(null);
+        if (contentType != null && !isText(contentType)) {
+            return new RejectingBodySubscriber(
+                    new LangChain4jException("The content type " + contentType + " of " + url + " is not supported"));
+        }
+        if (headers.firstValueAsLong("Content-Length").orElse(-1) > maxContentLength) {
+            return new RejectingBodySubscriber(tooLarge(url));
+        }
+        return new BoundedBodySubscriber(maxContentLength, charset(contentType), () -> tooLarge(url));
+    }
+
+    private LangChain4jException tooLarge(URI url) {
+        return new LangChain4jException("The content of " + url + " is larger than " + maxContentLength + " bytes");
+    }
+
+    private static boolean isText(String contentType) {
+        String mimeType = contentType.split(";", 2)[0].trim().toLowerCase(Locale.ROOT);
+        return mimeType.startsWith("text/")
+                || mimeType.endsWith("/xml") || mimeType.endsWith("+xml")
+                || mimeType.endsWith("/json") || mimeType.endsWith("+json");
+    }
+
+    private static Charset charset(String contentType) {
+        if (contentType != null) {
+            for (String parameter : contentType.split(";")) {
+                String[] nameAndValue = parameter.trim().split("=", 2);
+                if (nameAndValue.length == 2 && nameAndValue[0].trim().equalsIgnoreCase("charset")) {
+                    try {
+                        return Charset.forName(nameAndValue[1].trim().replace("\"", ""));
+                    } catch (IllegalArgumentException e) {
+                        break;
+                    }
+                }
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    /**
+     * Collects a body of at most {@code maxLength} bytes, and cancels the download once this limit is exceeded.
+     */
+    private static class BoundedBodySubscriber implements HttpResponse.BodySubscriber<String> {
+
+        private final long maxLength;
+        private final Charset charset;
+        private final Supplier<RuntimeException> tooLarge;
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final CompletableFuture<String> body = new CompletableFuture<>();
+        private Flow.Subscription subscription;
+
+        /**
+         * @param tooLarge the failure of a body larger than {@code maxLength},
+         *                 or {@code null} to complete with {@code null} instead.
+         */
+        private BoundedBodySubscriber(long maxLength, Charset charset, Supplier<RuntimeException> tooLarge) {
+            this.maxLength = maxLength;
+            this.charset = charset;
+            this.tooLarge = tooLarge;
+        }
+
+        @Override
+        public CompletionStage<String> getBody() {
+            return body;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> buffers) {
+            if (body.isDone()) {
+                return;
+            }
+            for (ByteBuffer buffer : buffers) {
+                if (bytes.size() + (long) buffer.remaining() > maxLength) {
+                    subscription.cancel();
+                    if (tooLarge == null) {
+                        body.complete(null);
+                    } else {
+                        body.completeExceptionally(tooLarge.get());
+                    }
+                    return;
+                }
+                byte[] chunk = new byte[buffer.remaining()];
+                buffer.get(chunk);
+                bytes.write(chunk, 0, chunk.length);
+            }
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            body.completeExceptionally(error);
+        }
+
+        @Override
+        public void onComplete() {
+            body.complete(bytes.toString(charset));
+        }
+    }
+
+    /**
+     * Cancels the download of a body that is not fetched.
+     */
+    private static class RejectingBodySubscriber implements HttpResponse.BodySubscriber<String> {
+
+        private final CompletableFuture<String> body = new CompletableFuture<>();
+
+        private RejectingBodySubscriber(RuntimeException failure) {
+            body.completeExceptionally(failure);
+        }
+
+        @Override
+        public CompletionStage<String> getBody() {
+            return body;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.cancel();
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> buffers) {
+        }
+
+        @Override
+        public void onError(Throwable error) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+
+    private record CachedPage(String content, String eTag, String lastModified) {
+    }
+
+    public static class HttpWebPageFetcherBuilder {
+
+        private HttpClient httpClient;
+        private String userAgent;
+        private Integer maxCacheSize;
+        private Long maxContentLength;
+
+        HttpWebPageFetcherBuilder() {
+        }
+
+        /**
+         * @param httpClient The client used to fetch the pages.
+         *                   By default, a client following redirects, with a 10 seconds connect timeout, is used.
+         * @return builder
+         */
+        public HttpWebPageFetcherBuilder httpClient(HttpClient httpClient) {
+            this.httpClient = httpClient;
+            return this;
+        }
+
+        /**
+         * @param userAgent The {@code User-Agent} header sent with each request. By default, the JDK one is sent.
+         * @return builder
+         */
+        public HttpWebPageFetcherBuilder userAgent(String userAgent) {
+            this.userAgent = userAgent;
+            return this;
+        }
+
+        /**
+         * @param maxCacheSize The maximum number of pages kept for revalidation. Default value: 100.
+         *                     0 disables the cache.
+         * @return builder
+         */
+        public HttpWebPageFetcherBuilder maxCacheSize(Integer maxCacheSize) {
+            this.maxCacheSize = maxCacheSize;
+            return this;
+        }
+
+        /**
+         * @param maxContentLength The maximum size of a page, in bytes. Larger pages are not fetched.
+         *                         Default value: 5 MiB.
+         * @return builder
+         */
+        public HttpWebPageFetcherBuilder maxContentLength(Long maxContentLength) {
+            this.maxContentLength = maxContentLength;
+            return this;
+        }
+
+        public HttpWebPageFetcher build() {
+            return new HttpWebPageFetcher(this);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package dev.langchain4j.web.page;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * Fetches the content of a web page.
+ * <br>
+ * Used, for example, by {@link dev.langchain4j.rag.content.retriever.WebSearchContentRetriever}
+ * to get the full content of the pages found by a {@link dev.langchain4j.web.search.WebSearchEngine}.
+ *
+ * @see HttpWebPageFetcher
+ */
+@FunctionalInterface
+public interface WebPageFetcher {
+
+    /**
+     * Fetches the content of a web page.
+     *
+     * @param url     The URL of the page.
+     * @param timeout The maximum time to wait for the page.
+     * @return The content of the page, for example HTML. Never {@code null}.
+     * @throws RuntimeException if the page could not be fetched within the timeout.
+     */
+    String fetch(URI url, Duration timeout);
+}
@@ -8,7 +8,17 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import dev.langchain4j.exception.CircuitBreakerOpenException;
+import dev.langchain4j.exception.HttpException;
+import dev.langchain4j.exception.InvalidRequestException;
+import dev.langchain4j.exception.RateLimitException;
+import java.time.Duration;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.Test;
 
 class RetryUtilsTest {
@@ -131,4 +141,110 @@ class RetryUtilsTest {
         verify(mockAction, times(1)).call();
         verifyNoMoreInteractions(mockAction);
     }
+
+    @Test
+    void should_retry_asynchronously() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        RetryUtils.RetryPolicy policy = RetryUtils.retryPolicyBuilder()
+                .maxRetries(3)
+                .delayMillis(10)
+                .build();
+
+        CompletableFuture<String> result = policy.withRetryAsync(() -> attempts.incrementAndGet() < 3
+                ? CompletableFuture.failedFuture(new RuntimeException("failure " + attempts.get()))
+                : CompletableFuture.completedFuture("Success"));
+
+        assertThat(result.get()).isEqualTo("Success");
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void should_not_retry_non_retriable_exception_asynchronously() {
+        AtomicInteger attempts = new AtomicInteger();
+        RetryUtils.RetryPolicy policy =
+                RetryUtils.retryPolicyBuilder().delayMillis(10).build();
+
+        CompletableFuture<String> result = policy.callWithRetryAsync(() -> {
+            attempts.incrementAndGet();
+            throw new InvalidRequestException("invalid");
+        });
+
+        assertThatThrownBy(result::get)
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(InvalidRequestException.class);
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void should_honour_retry_after() {
+        RetryUtils.RetryPolicy policy = RetryUtils.retryPolicyBuilder()
+                .delayMillis(10)
+                .maxRetryAfterMillis(5_000)
+                .build();
+        RateLimitException shortWait =
+                new RateLimitException(new HttpException(429, "slow down", Duration.ofSeconds(2)));
+        RateLimitException longWait =
+                new RateLimitException(new HttpException(429, "slow down", Duration.ofMinutes(1)));
+
+        assertThat(policy.delayMillis(0, shortWait)).isEqualTo(2_000);
+        assertThat(policy.delayMillis(0, longWait)).isEqualTo(-1);
+        assertThat(policy.delayMillis(0, new RuntimeException())).isBetween(10L, 12L);
+    }
+
+    @Test
+    void should_parse_retry_after_header() {
+        assertThat(HttpException.parseRetryAfter("120")).isEqualTo(Duration.ofSeconds(120));
+        assertThat(HttpException.parseRetryAfter("Wed, 21 Oct 2015 07:28:00 GMT")).isEqualTo(Duration.ZERO);
+        assertThat(HttpException.parseRetryAfter("soon")).isNull();
+        assertThat(HttpException.parseRetryAfter(null)).isNull();
+    }
+
+    @Test
+    void should_stop_retrying_when_retry_budget_is_exhausted() throws Exception {
+        @SuppressWarnings("unchecked")
+        Callable<String> mockAction = mock(Callable.class);
+        when(mockAction.call()).thenThrow(new RuntimeException());
+        RetryUtils.RetryBudget budget = new RetryUtils.RetryBudget(0.1, 1.0);
+        RetryUtils.RetryPolicy policy = RetryUtils.retryPolicyBuilder()
+                .maxRetries(3)
+                .delayMillis(10)
+                .retryBudget(budget)
+                .build();
+
+        assertThatThrownBy(() -> policy.withRetry(mockAction)).isInstanceOf(RuntimeException.class);
+        assertThatThrownBy(() -> policy.withRetry(mockAction)).isInstanceOf(RuntimeException.class);
+
+        // 1 retry from the initial token, none after that: the deposits add up to less than one token
+        verify(mockAction, times(3)).call();
+        assertThat(budget.tokens()).isLessThan(1.0);
+    }
+
+    @Test
+    void should_open_circuit_after_consecutive_failures() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        AtomicInteger failuresLeft = new AtomicInteger(2);
+        RetryUtils.RetryPolicy policy = RetryUtils.retryPolicyBuilder()
+                .maxRetries(0)
+                .circuitBreaker(2, Duration.ofMillis(200))
+                .build();
+        Supplier<CompletionStage<String>> action = () -> {
+            attempts.incrementAndGet();
+            return failuresLeft.getAndDecrement() > 0
+                    ? CompletableFuture.failedFuture(new RuntimeException("failure"))
+                    : CompletableFuture.completedFuture("Success");
+        };
+
+        assertThatThrownBy(() -> policy.withRetryAsync("model", action).get()).isInstanceOf(ExecutionException.class);
+        assertThat(policy.circuitBreakerState("model")).isEqualTo(RetryUtils.CircuitBreaker.State.CLOSED);
+        assertThatThrownBy(() -> policy.withRetryAsync("model", action).get()).isInstanceOf(ExecutionException.class);
+        assertThat(policy.circuitBreakerState("model")).isEqualTo(RetryUtils.CircuitBreaker.State.OPEN);
+
+        assertThatThrownBy(() -> policy.withRetryAsync("model", action).get())
+                .hasCauseInstanceOf(CircuitBreakerOpenException.class);
+        assertThat(attempts).hasValue(2);
+
+        Thread.sleep(250);
+        assertThat(policy.withRetryAsync("model", action).get()).isEqualTo("Success");
+        assertThat(policy.circuitBreakerState("model")).isEqualTo(RetryUtils.CircuitBreaker.State.CLOSED);
+    }
 }
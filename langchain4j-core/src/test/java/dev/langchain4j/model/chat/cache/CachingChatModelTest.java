@@ -0,0 +1,207 @@
+package dev.langchain4j.model.chat.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.TestStreamingChatResponseHandler;
+import dev.langchain4j.model.chat.mock.ChatModelMock;
+import dev.langchain4j.model.chat.mock.StreamingChatModelMock;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class CachingChatModelTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final ChatModel delegate =
+            new ChatModelMock(request -> AiMessage.from("answer " + calls.incrementAndGet()));
+
+    @Test
+    void should_serve_identical_request_from_cache() {
+        CachingChatModel model = new CachingChatModel(delegate, ChatResponseCache.builder().build());
+
+        String first = model.chat("What is the capital of France?");
+        String second = model.chat("What is the capital of France?");
+        String other = model.chat("What is the capital of Germany?");
+
+        assertThat(first).isEqualTo("answer 1");
+        assertThat(second).isEqualTo("answer 1");
+        assertThat(other).isEqualTo("answer 2");
+        assertThat(model.cache().hits()).isEqualTo(1);
+        assertThat(model.cache().misses()).isEqualTo(2);
+    }
+
+    @Test
+    void should_not_serve_request_with_other_parameters_from_cache() {
+        CachingChatModel model = new CachingChatModel(delegate, ChatResponseCache.builder().build());
+        ChatRequest request = ChatRequest.builder()
+                .messages(SystemMessage.from("Be concise"), UserMessage.from("Hi"))
+                .temperature(0.0)
+                .build();
+
+        model.chat(request);
+        model.chat(ChatRequest.builder()
+                .messages(SystemMessage.from("Be concise"), UserMessage.from("Hi"))
+                .temperature(1.0)
+                .build());
+        model.chat(ChatRequest.builder()
+                .messages(SystemMessage.from("Be verbose"), UserMessage.from("Hi"))
+                .temperature(0.0)
+                .build());
+
+        assertThat(calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    void should_expire_entries_after_ttl() {
+        MutableClock clock = new MutableClock();
+        CachingChatModel model = new CachingChatModel(
+                delegate,
+                ChatResponseCache.builder().ttl(Duration.ofMinutes(5)).clock(clock).build());
+
+        model.chat("Hi");
+        clock.advance(Duration.ofMinutes(4));
+        assertThat(model.chat("Hi")).isEqualTo("answer 1");
+
+        clock.advance(Duration.ofMinutes(1));
+        assertThat(model.chat("Hi")).isEqualTo("answer 2");
+    }
+
+    @Test
+    void should_evict_least_recently_used_entries() {
+        CachingChatModel model = new CachingChatModel(
+                delegate, ChatResponseCache.builder().maxSize(2).build());
+
+        model.chat("a");
+        model.chat("b");
+        model.chat("a");
+        model.chat("c"); // evicts "b"
+
+        assertThat(model.cache().size()).isEqualTo(2);
+        assertThat(model.chat("a")).isEqualTo("answer 1");
+        assertThat(model.chat("b")).isEqualTo("answer 4");
+    }
+
+    @Test
+    void should_replay_cached_response_as_token_stream() {
+        CachingStreamingChatModel model = new CachingStreamingChatModel(
+                StreamingChatModelMock.thatAlwaysStreams("The ", "capital ", "is ", "Paris."),
+                ChatResponseCache.builder().build());
+
+        TestStreamingChatResponseHandler firstHandler = new TestStreamingChatResponseHandler();
+        model.chat("What is the capital of France?", firstHandler);
+        ChatResponse first = firstHandler.get();
+
+        List<String> tokens = new ArrayList<>();
+        List<ChatResponse> responses = new ArrayList<>();
+        model.chat("What is the capital of France?", new StreamingChatResponseHandler() {
+
+            @Override
+            public void onPartialResponse(String partialResponse) {
+                tokens.add(partialResponse);
+            }
+
+            @Override
+            public void onCompleteResponse(ChatResponse completeResponse) {
+                responses.add(completeResponse);
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                throw new AssertionError(error);
+            }
+        });
+
+        assertThat(first.aiMessage().text()).isEqualTo("The capital is Paris.");
+        assertThat(tokens).containsExactly("The ", "capital ", "is ", "Paris.");
+        assertThat(responses).containsExactly(first);
+        assertThat(model.cache().hits()).isEqualTo(1);
+    }
+
+    @Test
+    void should_embed_question_once_per_request_in_semantic_mode() {
+        AtomicInteger embedCalls = new AtomicInteger();
+        EmbeddingModel embeddingModel = new EmbeddingModel() {
+
+            @Override
+            public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+                embedCalls.addAndGet(textSegments.size());
+                return Response.from(textSegments.stream()
+                        .map(segment -> Embedding.from(new float[] {segment.text().length(), 1}))
+                        .toList());
+            }
+        };
+        @SuppressWarnings("unchecked")
+        EmbeddingStore<TextSegment> embeddingStore = mock(EmbeddingStore.class);
+        when(embeddingStore.search(any())).thenReturn(new EmbeddingSearchResult<>(List.of()));
+        ChatResponseCache cache = ChatResponseCache.builder()
+                .embeddingModel(embeddingModel)
+                .embeddingStore(embeddingStore)
+                .build();
+
+        new CachingChatModel(delegate, cache).chat("What is the capital of France?");
+        assertThat(embedCalls).hasValue(1);
+
+        new CachingStreamingChatModel(StreamingChatModelMock.thatAlwaysStreams("Paris."), cache)
+                .chat("What is the capital of Germany?", new TestStreamingChatResponseHandler());
+        assertThat(embedCalls).hasValue(2);
+
+        assertThat(cache.misses()).isEqualTo(2);
+        verify(embeddingStore, times(2)).addAll(anyList(), anyList(), anyList());
+    }
+
+    @Test
+    void should_split_text_into_tokens_keeping_whitespace() {
+        assertThat(CachingStreamingChatModel.tokens("Hello  world,\nbye "))
+                .containsExactly("Hello  ", "world,\n", "bye ");
+        assertThat(String.join("", CachingStreamingChatModel.tokens(" leading space")))
+                .isEqualTo(" leading space");
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package dev.langchain4j.model.embedding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.TokenCountEstimator;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class EmbeddingBatcherTest {
+
+    @Test
+    void should_split_into_batches_of_max_segments() {
+        EmbeddingBatcher batcher =
+                EmbeddingBatcher.builder().maxSegmentsPerBatch(3).build();
+        List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+
+        Response<List<Embedding>> response = batcher.embedAll(segments(8), batch -> {
+            batchSizes.add(batch.size());
+            return embed(batch);
+        });
+
+        assertThat(batchSizes).containsExactly(3, 3, 2);
+        assertThat(response.content()).extracting(embedding -> embedding.vector()[0])
+                .containsExactly(0f, 1f, 2f, 3f, 4f, 5f, 6f, 7f);
+        assertThat(response.tokenUsage()).isEqualTo(new TokenUsage(8, 0));
+    }
+
+    @Test
+    void should_split_into_batches_within_token_budget() {
+        EmbeddingBatcher batcher = EmbeddingBatcher.builder()
+                .maxSegmentsPerBatch(100)
+                .maxTokensPerBatch(10)
+                .tokenCountEstimator(new LengthTokenCountEstimator())
+                .build();
+        List<TextSegment> segments = List.of(
+                TextSegment.from("aaaa"),
+                TextSegment.from("bbbb"),
+                TextSegment.from("cccc"),
+                TextSegment.from("dddddddddddddddd"),
+                TextSegment.from("e"));
+
+        List<List<TextSegment>> batches = batcher.partition(segments);
+
+        assertThat(batches).containsExactly(
+                segments.subList(0, 2), segments.subList(2, 3), segments.subList(3, 4), segments.subList(4, 5));
+    }
+
+    @Test
+    void should_send_batches_concurrently_and_preserve_order() {
+        EmbeddingBatcher batcher = EmbeddingBatcher.builder()
+                .maxSegmentsPerBatch(2)
+                .maxConcurrentBatches(3)
+                .build();
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        Response<List<Embedding>> response = batcher.embedAll(segments(20), batch -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(ThreadLocalRandom.current().nextInt(1, 10));
+                return embed(batch);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+
+        assertThat(response.content()).extracting(embedding -> (int) embedding.vector()[0])
+                .containsExactlyElementsOf(IntStream.range(0, 20).boxed().toList());
+        assertThat(response.tokenUsage()).isEqualTo(new TokenUsage(20, 0));
+        assertThat(maxInFlight.get()).isBetween(1, 3);
+    }
+
+    @Test
+    void should_stop_sending_batches_after_failure() {
+        EmbeddingBatcher batcher = EmbeddingBatcher.builder()
+                .maxSegmentsPerBatch(1)
+                .maxConcurrentBatches(2)
+                .build();
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> batcher.embedAll(segments(100), batch -> {
+                    calls.incrementAndGet();
+                    throw new IllegalStateException("rate limited");
+                }))
+                .isExactlyInstanceOf(IllegalStateException.class)
+                .hasMessage("rate limited");
+        assertThat(calls.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void should_not_call_provider_when_there_is_nothing_to_embed() {
+        EmbeddingBatcher batcher =
+                EmbeddingBatcher.builder().maxSegmentsPerBatch(10).build();
+
+        Response<List<Embedding>> response = batcher.embedAll(List.of(), batch -> {
+            throw new AssertionError("should not be called");
+        });
+
+        assertThat(response.content()).isEmpty();
+    }
+
+    private static List<TextSegment> segments(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> TextSegment.from(String.valueOf(i)))
+                .toList();
+    }
+
+    private static Response<List<Embedding>> embed(List<TextSegment> batch) {
+        List<Embedding> embeddings = batch.stream()
+                .map(segment -> Embedding.from(new float[] {Float.parseFloat(segment.text())}))
+                .toList();
+        return Response.from(embeddings, new TokenUsage(batch.size(), 0));
+    }
+
+    private static class LengthTokenCountEstimator implements TokenCountEstimator {
+
+        @Override
+        public int estimateTokenCountInText(String text) {
+            return text.length();
+        }
+
+        @Override
+        public int estimateTokenCountInMessage(ChatMessage message) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int estimateTokenCountInMessages(Iterable<ChatMessage> messages) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package dev.langchain4j.model.embedding.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CachingEmbeddingModelTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void should_only_forward_misses_to_delegate() {
+        CountingEmbeddingModel delegate = new CountingEmbeddingModel();
+        CachingEmbeddingModel model = CachingEmbeddingModel.builder()
+                .delegate(delegate)
+                .dimension(2)
+                .build();
+
+        model.embedAll(segments("a", "b"));
+        Response<List<Embedding>> response = model.embedAll(segments("b", "c", "a", "c"));
+
+        assertThat(delegate.requests).containsExactly(List.of("a", "b"), List.of("c"));
+        assertThat(response.content()).containsExactly(embedding("b"), embedding("c"), embedding("a"), embedding("c"));
+        assertThat(response.tokenUsage()).isEqualTo(new TokenUsage(1));
+        EmbeddingCacheStats stats = model.stats();
+        assertThat(stats.hits()).isEqualTo(3);
+        assertThat(stats.misses()).isEqualTo(3);
+        assertThat(stats.delegateCalls()).isEqualTo(2);
+        assertThat(stats.hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void should_not_call_delegate_when_all_embeddings_are_cached() {
+        CountingEmbeddingModel delegate = new CountingEmbeddingModel();
+        CachingEmbeddingModel model = CachingEmbeddingModel.builder()
+                .delegate(delegate)
+                .dimension(2)
+                .build();
+        model.embed("a");
+
+        Response<Embedding> response = model.embed("a");
+
+        assertThat(response.content()).isEqualTo(embedding("a"));
+        assertThat(response.tokenUsage()).isNull();
+        assertThat(delegate.requests).hasSize(1);
+    }
+
+    @Test
+    void should_not_share_embeddings_between_models() {
+        EmbeddingCache cache = new InMemoryEmbeddingCache(100);
+        CountingEmbeddingModel delegate = new CountingEmbeddingModel();
+        CachingEmbeddingModel small = CachingEmbeddingModel.builder()
+                .delegate(delegate)
+                .cache(cache)
+                .modelName("small")
+                .dimension(2)
+                .build();
+        CachingEmbeddingModel large = CachingEmbeddingModel.builder()
+                .delegate(delegate)
+                .cache(cache)
+                .modelName("large")
+                .dimension(2)
+                .build();
+
+        small.embed("a");
+        large.embed("a");
+
+        assertThat(delegate.requests).hasSize(2);
+    }
+
+    @Test
+    void should_require_model_name_with_provided_cache() {
+        EmbeddingCache cache = new InMemoryEmbeddingCache(100);
+
+        assertThatThrownBy(() -> CachingEmbeddingModel.builder()
+                        .delegate(new CountingEmbeddingModel())
+                        .cache(cache)
+                        .build())
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessage("modelName cannot be null or blank");
+    }
+
+    @Test
+    void in_memory_cache_should_keep_frequently_used_embeddings() {
+        InMemoryEmbeddingCache cache = new InMemoryEmbeddingCache(100);
+        List<String> popular = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            popular.add("popular-" + i);
+            cache.putAll(Map.of("popular-" + i, embedding("p")));
+        }
+        for (int round = 0; round < 5; round++) {
+            cache.getAll(popular);
+        }
+
+        // a scan of many embeddings used only once
+        for (int i = 0; i < 1000; i++) {
+            cache.putAll(Map.of("once-" + i, embedding("o")));
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(100);
+        assertThat(cache.getAll(popular)).hasSize(50);
+    }
+
+    @Test
+    void mapped_file_cache_should_survive_reopening() {
+        Path file = tempDir.resolve("embeddings.cache");
+        try (MappedFileEmbeddingCache cache = new MappedFileEmbeddingCache(file, 2, 64)) {
+            cache.putAll(Map.of("a", embedding("a"), "b", embedding("b")));
+        }
+
+        try (MappedFileEmbeddingCache cache = new MappedFileEmbeddingCache(file, 2, 64)) {
+            assertThat(cache.getAll(List.of("a", "b", "c")))
+                    .containsOnlyKeys("a", "b")
+                    .containsEntry("a", embedding("a"))
+                    .containsEntry("b", embedding("b"));
+        }
+    }
+
+    @Test
+    void mapped_file_cache_should_stay_bounded() {
+        try (MappedFileEmbeddingCache cache = new MappedFileEmbeddingCache(tempDir.resolve("small.cache"), 2, 4)) {
+            List<String> keys = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                keys.add("key-" + i);
+                cache.putAll(Map.of("key-" + i, embedding(String.valueOf((char) ('a' + i)))));
+            }
+
+            assertThat(cache.getAll(keys)).hasSizeLessThanOrEqualTo(4).isNotEmpty();
+        }
+    }
+
+    @Test
+    void mapped_file_cache_should_reject_file_of_other_dimension() {
+        Path file = tempDir.resolve("embeddings.cache");
+        new MappedFileEmbeddingCache(file, 2, 64).close();
+
+        assertThatThrownBy(() -> new MappedFileEmbeddingCache(file, 3, 64))
+                .isExactlyInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("was not created with dimension 3 and capacity 64");
+    }
+
+    private static List<TextSegment> segments(String... texts) {
+        return java.util.Arrays.stream(texts).map(TextSegment::from).toList();
+    }
+
+    private static Embedding embedding(String text) {
+        return Embedding.from(new float[] {text.charAt(0), text.length()});
+    }
+
+    private static class CountingEmbeddingModel implements EmbeddingModel {
+
+        private final List<List<String>> requests = new ArrayList<>();
+
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+            List<String> texts = textSegments.stream().map(TextSegment::text).toList();
+            requests.add(texts);
+            return Response.from(
+                    texts.stream().map(CachingEmbeddingModelTest::embedding).toList(), new TokenUsage(texts.size()));
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package dev.langchain4j.model.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.exception.RateLimitException;
+import dev.langchain4j.model.TokenCountEstimator;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.StreamingChatModel;
+import dev.langchain4j.model.chat.mock.ChatModelMock;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class RateLimiterTest {
+
+    @Test
+    void should_admit_a_burst_of_one_minute_then_queue() {
+        RateLimiter rateLimiter = RateLimiter.builder().requestsPerMinute(60).build();
+
+        for (int i = 0; i < 60; i++) {
+            rateLimiter.acquire(0, 0, Duration.ZERO);
+        }
+
+        assertThatThrownBy(() -> rateLimiter.acquire(0, 0, Duration.ofMillis(50)))
+                .isExactlyInstanceOf(RateLimitException.class)
+                .hasMessageContaining("could not be admitted");
+        RateLimiterStats stats = rateLimiter.stats();
+        assertThat(stats.admitted()).isEqualTo(60);
+        assertThat(stats.rejected()).isEqualTo(1);
+        assertThat(stats.queueDepth()).isZero();
+    }
+
+    @Test
+    void should_admit_higher_priority_first() throws Exception {
+        RateLimiter rateLimiter = RateLimiter.builder().tokensPerMinute(60_000).build();
+        rateLimiter.acquire(60_000, 0, null);
+        List<String> admitted = new CopyOnWriteArrayList<>();
+
+        Thread low = new Thread(() -> {
+            rateLimiter.acquire(100, 0, null);
+            admitted.add("low");
+        });
+        low.start();
+        awaitQueueDepth(rateLimiter, 1);
+        Thread high = new Thread(() -> {
+            rateLimiter.acquire(100, 10, null);
+            admitted.add("high");
+        });
+        high.start();
+        awaitQueueDepth(rateLimiter, 2);
+
+        low.join();
+        high.join();
+        assertThat(admitted).containsExactly("high", "low");
+        assertThat(rateLimiter.stats().maxWait()).isPositive();
+    }
+
+    @Test
+    void should_delay_next_requests_when_tokens_were_underestimated() {
+        RateLimiter rateLimiter = RateLimiter.builder().tokensPerMinute(60_000).build();
+
+        RateLimiter.Permit permit = rateLimiter.acquire(0, 0, null);
+        rateLimiter.reconcile(permit, 60_000);
+
+        assertThatThrownBy(() -> rateLimiter.acquire(1_000, 0, Duration.ofMillis(50)))
+                .isExactlyInstanceOf(RateLimitException.class);
+    }
+
+    @Test
+    void should_rate_limit_chat_model() {
+        AtomicInteger calls = new AtomicInteger();
+        ChatModel delegate = new ChatModelMock(request -> AiMessage.from("answer " + calls.incrementAndGet()));
+        RateLimitedChatModel model = RateLimitedChatModel.builder()
+                .delegate(delegate)
+                .rateLimiter(RateLimiter.builder().requestsPerMinute(1).build())
+                .timeout(Duration.ofMillis(50))
+                .build();
+
+        assertThat(model.chat("Hi")).isEqualTo("answer 1");
+        assertThatThrownBy(() -> model.chat("Hi")).isExactlyInstanceOf(RateLimitException.class);
+        assertThatThrownBy(() -> model.withPriority(10).chat("Hi")).isExactlyInstanceOf(RateLimitException.class);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void should_give_back_estimated_tokens_of_failed_requests() {
+        RateLimiter rateLimiter = RateLimiter.builder().tokensPerMinute(1_000).build();
+        ChatModel failingChatModel = new ChatModelMock(new IllegalStateException("chat failed"));
+        EmbeddingModel failingEmbeddingModel = textSegments -> {
+            throw new IllegalStateException("embedding failed");
+        };
+        RateLimitedChatModel chatModel = RateLimitedChatModel.builder()
+                .delegate(failingChatModel)
+                .rateLimiter(rateLimiter)
+                .tokenCountEstimator(new FixedTokenCountEstimator(1_000))
+                .timeout(Duration.ofMillis(50))
+                .build();
+        RateLimitedEmbeddingModel embeddingModel = RateLimitedEmbeddingModel.builder()
+                .delegate(failingEmbeddingModel)
+                .rateLimiter(rateLimiter)
+                .tokenCountEstimator(new FixedTokenCountEstimator(1_000))
+                .timeout(Duration.ofMillis(50))
+                .build();
+
+        // each request needs all the tokens of the minute, so it is only admitted if the previous one gave them back
+        assertThatThrownBy(() -> chatModel.chat("Hi")).hasMessage("chat failed");
+        assertThatThrownBy(() -> chatModel.chat("Hi")).hasMessage("chat failed");
+        assertThatThrownBy(() -> embeddingModel.embed("Hi")).hasMessage("embedding failed");
+        assertThatThrownBy(() -> embeddingModel.embed("Hi")).hasMessage("embedding failed");
+        assertThat(rateLimiter.stats().rejected()).isZero();
+    }
+
+    @Test
+    void should_give_back_estimated_tokens_of_failed_streams() {
+        RateLimiter rateLimiter = RateLimiter.builder().tokensPerMinute(1_000).build();
+        StreamingChatModel failingModel = new StreamingChatModel() {
+            @Override
+            public void doChat(ChatRequest chatRequest, StreamingChatResponseHandler handler) {
+                handler.onError(new IllegalStateException("stream failed"));
+            }
+        };
+        RateLimitedStreamingChatModel model = RateLimitedStreamingChatModel.builder()
+                .delegate(failingModel)
+                .rateLimiter(rateLimiter)
+                .tokenCountEstimator(new FixedTokenCountEstimator(1_000))
+                .timeout(Duration.ofMillis(50))
+                .build();
+        List<Throwable> errors = new CopyOnWriteArrayList<>();
+        StreamingChatResponseHandler handler = new StreamingChatResponseHandler() {
+
+            @Override
+            public void onPartialResponse(String partialResponse) {}
+
+            @Override
+            public void onCompleteResponse(ChatResponse completeResponse) {}
+
+            @Override
+            public void onError(Throwable error) {
+                errors.add(error);
+            }
+        };
+
+        model.chat("Hi", handler);
+        model.chat("Hi", handler);
+
+        assertThat(errors).extracting(Throwable::getMessage).containsExactly("stream failed", "stream failed");
+        assertThat(rateLimiter.stats().rejected()).isZero();
+    }
+
+    private static void awaitQueueDepth(RateLimiter rateLimiter, int queueDepth) throws InterruptedException {
+        while (rateLimiter.stats().queueDepth() < queueDepth) {
+            Thread.sleep(1);
+        }
+    }
+
+    private record FixedTokenCountEstimator(int tokens) implements TokenCountEstimator {
+
+        @Override
+        public int estimateTokenCountInText(String text) {
+            return tokens;
+        }
+
+        @Override
+        public int estimateTokenCountInMessage(ChatMessage message) {
+            return tokens;
+        }
+
+        @Override
+        public int estimateTokenCountInMessages(Iterable<ChatMessage> messages) {
+            return tokens;
+        }
+    }
+}
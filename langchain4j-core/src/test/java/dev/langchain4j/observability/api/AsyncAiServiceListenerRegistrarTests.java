@@ -0,0 +1,193 @@
+package dev.langchain4j.observability.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.invocation.InvocationContext;
+import dev.langchain4j.observability.api.AsyncAiServiceListenerRegistrar.OverflowPolicy;
+import dev.langchain4j.observability.api.event.AiServiceCompletedEvent;
+import dev.langchain4j.observability.api.listener.AiServiceCompletedListener;
+import dev.langchain4j.observability.api.listener.BatchAiServiceListener;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class AsyncAiServiceListenerRegistrarTests {
+
+    @Test
+    void should_not_wait_for_slow_listeners() {
+        List<AiServiceCompletedEvent> received = new CopyOnWriteArrayList<>();
+        try (AsyncAiServiceListenerRegistrar registrar = new AsyncAiServiceListenerRegistrar()) {
+            registrar.register((AiServiceCompletedListener) event -> {
+                sleep(200);
+                received.add(event);
+            });
+
+            long start = System.nanoTime();
+            registrar.fireEvent(event("one"));
+            assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(100));
+
+            assertThat(registrar.flush(Duration.ofSeconds(5))).isTrue();
+            assertThat(received).extracting(e -> e.invocationContext().methodName()).containsExactly("one");
+            assertThat(registrar.dispatchedEvents()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void should_deliver_events_in_batches_and_in_order() {
+        BatchListener listener = new BatchListener();
+        try (AsyncAiServiceListenerRegistrar registrar =
+                AsyncAiServiceListenerRegistrar.builder().maxBatchSize(16).build()) {
+            registrar.register(listener);
+
+            List<String> fired = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                fired.add("method" + i);
+                registrar.fireEvent(event("method" + i));
+            }
+            assertThat(registrar.flush(Duration.ofSeconds(5))).isTrue();
+
+            assertThat(listener.batches).allSatisfy(batch -> assertThat(batch).hasSizeBetween(1, 16));
+            assertThat(listener.batches.stream().flatMap(List::stream).map(e -> e.invocationContext().methodName()))
+                    .containsExactlyElementsOf(fired);
+        }
+    }
+
+    @Test
+    void should_count_dropped_events_when_buffer_is_full() throws Exception {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<AiServiceCompletedEvent> received = new CopyOnWriteArrayList<>();
+        try (AsyncAiServiceListenerRegistrar registrar = AsyncAiServiceListenerRegistrar.builder()
+                .bufferSize(4)
+                .overflowPolicy(OverflowPolicy.DROP)
+                .build()) {
+            registrar.register((AiServiceCompletedListener) event -> {
+                blocked.countDown();
+                await(release);
+                received.add(event);
+            });
+
+            registrar.fireEvent(event("first"));
+            assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 10; i++) {
+                registrar.fireEvent(event("method" + i));
+            }
+            assertThat(registrar.pendingEvents()).isEqualTo(4);
+            assertThat(registrar.droppedEvents()).isEqualTo(6);
+
+            release.countDown();
+            assertThat(registrar.flush(Duration.ofSeconds(5))).isTrue();
+            assertThat(received).hasSize(5);
+        }
+    }
+
+    @Test
+    void should_not_drop_events_when_blocking() {
+        List<AiServiceCompletedEvent> received = new CopyOnWriteArrayList<>();
+        try (AsyncAiServiceListenerRegistrar registrar = AsyncAiServiceListenerRegistrar.builder()
+                .bufferSize(2)
+                .overflowPolicy(OverflowPolicy.BLOCK)
+                .build()) {
+            registrar.register((AiServiceCompletedListener) received::add);
+
+            for (int i = 0; i < 500; i++) {
+                registrar.fireEvent(event("method" + i));
+            }
+
+            assertThat(registrar.flush(Duration.ofSeconds(5))).isTrue();
+            assertThat(received).hasSize(500);
+            assertThat(registrar.droppedEvents()).isZero();
+        }
+    }
+
+    @Test
+    void should_share_dispatcher_thread_but_not_listeners() {
+        List<AsyncAiServiceListenerRegistrar> registrars = new ArrayList<>();
+        List<List<AiServiceCompletedEvent>> received = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            AsyncAiServiceListenerRegistrar registrar = new AsyncAiServiceListenerRegistrar();
+            List<AiServiceCompletedEvent> events = new CopyOnWriteArrayList<>();
+            registrar.register((AiServiceCompletedListener) events::add);
+            registrars.add(registrar);
+            received.add(events);
+        }
+
+        for (int i = 0; i < 20; i++) {
+            registrars.get(i).fireEvent(event("method" + i));
+        }
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(registrars.get(i).flush(Duration.ofSeconds(5))).isTrue();
+            assertThat(received.get(i)).extracting(e -> e.invocationContext().methodName())
+                    .containsExactly("method" + i);
+        }
+        assertThat(Thread.getAllStackTraces().keySet())
+                .filteredOn(thread -> thread.getName().equals("langchain4j-ai-service-listeners"))
+                .hasSize(1);
+        registrars.forEach(AsyncAiServiceListenerRegistrar::close);
+    }
+
+    @Test
+    void should_deliver_events_fired_while_closing() throws Exception {
+        List<AiServiceCompletedEvent> received = new CopyOnWriteArrayList<>();
+        AsyncAiServiceListenerRegistrar registrar = new AsyncAiServiceListenerRegistrar();
+        registrar.register((AiServiceCompletedListener) received::add);
+
+        Thread firing = new Thread(() -> {
+            for (int i = 0; i < 1000; i++) {
+                registrar.fireEvent(event("method" + i));
+            }
+        });
+        firing.start();
+        registrar.close();
+        firing.join();
+
+        assertThat(registrar.flush(Duration.ofSeconds(5))).isTrue();
+        assertThat(received).hasSize(1000);
+        assertThat(registrar.droppedEvents()).isZero();
+    }
+
+    private static AiServiceCompletedEvent event(String methodName) {
+        return AiServiceCompletedEvent.builder()
+                .invocationContext(InvocationContext.builder()
+                        .interfaceName("SomeInterface")
+                        .methodName(methodName)
+                        .build())
+                .build();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class BatchListener implements BatchAiServiceListener<AiServiceCompletedEvent> {
+
+        private final List<List<AiServiceCompletedEvent>> batches = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Class<AiServiceCompletedEvent> getEventClass() {
+            return AiServiceCompletedEvent.class;
+        }
+
+        @Override
+        public void onEvents(List<AiServiceCompletedEvent> events) {
+            batches.add(List.copyOf(events));
+        }
+    }
+}
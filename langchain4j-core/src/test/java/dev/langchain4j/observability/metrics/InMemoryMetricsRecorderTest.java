@@ -0,0 +1,156 @@
+package dev.langchain4j.observability.metrics;
+
+import static dev.langchain4j.observability.metrics.MetricNames.AI_SERVICE_DURATION;
+import static dev.langchain4j.observability.metrics.MetricNames.CHAT_DURATION;
+import static dev.langchain4j.observability.metrics.MetricNames.CHAT_INTER_TOKEN_LATENCY;
+import static dev.langchain4j.observability.metrics.MetricNames.CHAT_TIME_TO_FIRST_TOKEN;
+import static dev.langchain4j.observability.metrics.MetricNames.CHAT_TOKENS;
+import static dev.langchain4j.observability.metrics.MetricNames.TOOL_DURATION;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.invocation.InvocationContext;
+import dev.langchain4j.model.ModelProvider;
+import dev.langchain4j.model.chat.ChatModel;
+import dev.langchain4j.model.chat.TestStreamingChatResponseHandler;
+import dev.langchain4j.model.chat.listener.ChatModelListener;
+import dev.langchain4j.model.chat.mock.StreamingChatModelMock;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.output.TokenUsage;
+import dev.langchain4j.observability.api.event.AiServiceCompletedEvent;
+import dev.langchain4j.observability.api.event.ToolExecutedEvent;
+import dev.langchain4j.observability.api.listener.AiServiceListener;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class InMemoryMetricsRecorderTest {
+
+    private final InMemoryMetricsRecorder recorder = new InMemoryMetricsRecorder();
+
+    @Test
+    void histogram_should_report_percentiles_within_precision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Random random = new Random(42);
+        long[] values = new long[10_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1_000_000 + random.nextInt(99_000_000); // 1 to 100 ms
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        assertThat(histogram.count()).isEqualTo(10_000);
+        for (double percentile : new double[] {50, 90, 99, 99.9}) {
+            long expected = values[(int) Math.ceil(percentile / 100 * values.length) - 1];
+            assertThat((double) histogram.percentile(percentile).toNanos())
+                    .isCloseTo(expected, within(expected / (double) LatencyHistogram.SUB_BUCKETS));
+        }
+        assertThat(histogram.percentile(100)).isEqualTo(histogram.max());
+        assertThat(histogram.max().toNanos()).isEqualTo(values[values.length - 1]);
+    }
+
+    @Test
+    void histogram_buckets_should_cover_all_values() {
+        for (long value : new long[] {0, 1, 31, 32, 33, 1_000, 123_456_789, Long.MAX_VALUE}) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            assertThat(LatencyHistogram.upperBoundOf(bucket)).isGreaterThanOrEqualTo(value);
+            if (bucket > 0) {
+                assertThat(LatencyHistogram.upperBoundOf(bucket - 1)).isLessThan(value);
+            }
+        }
+    }
+
+    @Test
+    void should_record_chat_model_latency_and_tokens() {
+        ChatModel model = new ChatModel() {
+
+            @Override
+            public ChatResponse doChat(ChatRequest chatRequest) {
+                return ChatResponse.builder()
+                        .aiMessage(AiMessage.from("Hello"))
+                        .modelName("gpt-4o")
+                        .tokenUsage(new TokenUsage(10, 5))
+                        .build();
+            }
+
+            @Override
+            public List<ChatModelListener> listeners() {
+                return List.of(new ChatModelMetricsListener(recorder));
+            }
+
+            @Override
+            public ModelProvider provider() {
+                return ModelProvider.OPEN_AI;
+            }
+        };
+
+        model.chat("Hi");
+        model.chat("Hi");
+
+        String[] tags = {"provider", "open_ai", "model", "gpt-4o"};
+        assertThat(recorder.histogram(CHAT_DURATION, "provider", "open_ai", "model", "gpt-4o", "outcome", "success")
+                        .count())
+                .isEqualTo(2);
+        assertThat(recorder.counter(CHAT_TOKENS, tags[0], tags[1], tags[2], tags[3], "token_type", "input"))
+                .isEqualTo(20);
+        assertThat(recorder.counter(CHAT_TOKENS, tags[0], tags[1], tags[2], tags[3], "token_type", "output"))
+                .isEqualTo(10);
+    }
+
+    @Test
+    void should_record_time_to_first_token_and_inter_token_latency() {
+        MeteredStreamingChatModel model = new MeteredStreamingChatModel(
+                StreamingChatModelMock.thatAlwaysStreams("The ", "capital ", "is ", "Paris."), recorder);
+
+        TestStreamingChatResponseHandler handler = new TestStreamingChatResponseHandler();
+        model.chat("What is the capital of France?", handler);
+        ChatResponse response = handler.get();
+
+        String[] tags = {"provider", "other", "model", "unknown"};
+        assertThat(recorder.histogram(CHAT_TIME_TO_FIRST_TOKEN, tags).count()).isEqualTo(1);
+        // the mock streams one character at a time
+        assertThat(recorder.histogram(CHAT_INTER_TOKEN_LATENCY, tags).count())
+                .isEqualTo(response.aiMessage().text().length() - 1);
+    }
+
+    @Test
+    void should_record_ai_service_and_tool_latency() {
+        List<AiServiceListener<?>> listeners = AiServiceMetricsListeners.create(recorder);
+        InvocationContext invocationContext = InvocationContext.builder()
+                .interfaceName("Assistant")
+                .methodName("chat")
+                .timestamp(Instant.now().minusMillis(100))
+                .build();
+
+        fire(
+                listeners,
+                ToolExecutedEvent.builder()
+                        .invocationContext(invocationContext)
+                        .request(ToolExecutionRequest.builder().name("getWeather").build())
+                        .resultText("sunny")
+                        .duration(Duration.ofMillis(20))
+                        .build());
+        fire(listeners, AiServiceCompletedEvent.builder().invocationContext(invocationContext).build());
+
+        assertThat(recorder.histogram(TOOL_DURATION, "tool", "getWeather").max()).isEqualTo(Duration.ofMillis(20));
+        LatencyHistogram invocations = recorder.histogram(
+                AI_SERVICE_DURATION, "interface", "Assistant", "method", "chat", "outcome", "success");
+        assertThat(invocations.count()).isEqualTo(1);
+        assertThat(invocations.max()).isGreaterThanOrEqualTo(Duration.ofMillis(100));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void fire(List<AiServiceListener<?>> listeners, Object event) {
+        for (AiServiceListener listener : listeners) {
+            if (listener.getEventClass().isInstance(event)) {
+                listener.onEvent((dev.langchain4j.observability.api.event.AiServiceEvent) event);
+            }
+        }
+    }
+}
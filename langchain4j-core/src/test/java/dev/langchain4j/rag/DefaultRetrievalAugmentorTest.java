@@ -3,9 +3,11 @@ package dev.langchain4j.rag;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
@@ -18,7 +20,9 @@ import static org.mockito.Mockito.when;
 
 import dev.langchain4j.data.message.ChatMessage;
 import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.rag.content.ContentMetadata;
 import dev.langchain4j.rag.content.aggregator.ContentAggregator;
 import dev.langchain4j.rag.content.injector.ContentInjector;
 import dev.langchain4j.rag.content.retriever.ContentRetriever;
@@ -32,6 +36,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.stream.Stream;
@@ -334,6 +339,146 @@ class DefaultRetrievalAugmentorTest {
                 .build();
     }
 
+    @Test
+    void should_retrieve_with_original_query_while_transforming_it() {
+
+        // given
+        CountDownLatch originalQueryRetrieved = new CountDownLatch(1);
+        QueryTransformer queryTransformer = query -> {
+            try {
+                // fails the test if the original query is not retrieved in parallel
+                assertThat(originalQueryRetrieved.await(5, SECONDS)).isTrue();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            return asList(Query.from("query 1"), query, Query.from("query 2"));
+        };
+
+        ContentRetriever contentRetriever = query -> {
+            if (query.text().equals("query")) {
+                originalQueryRetrieved.countDown();
+            }
+            return singletonList(Content.from(TextSegment.from("content of " + query.text()),
+                    Map.of(ContentMetadata.SCORE, 0.5)));
+        };
+
+        RetrievalAugmentor retrievalAugmentor = DefaultRetrievalAugmentor.builder()
+                .queryTransformer(queryTransformer)
+                .contentRetriever(contentRetriever)
+                .contentAggregator(new TestContentAggregator())
+                .contentInjector(new TestContentInjector())
+                .speculativeRetrieval(true)
+                .minSpeculativeScore(0.9)
+                .build();
+
+        UserMessage userMessage = UserMessage.from("query");
+
+        // when
+        AugmentationResult result = retrievalAugmentor.augment(new AugmentationRequest(userMessage, Metadata.from(userMessage, null, null)));
+
+        // then
+        assertThat(result.contents())
+                .extracting(content -> content.textSegment().text())
+                .containsExactlyInAnyOrder("content of query", "content of query 1", "content of query 2");
+    }
+
+    @Test
+    void should_not_wait_for_query_transformation_when_original_query_results_are_confident()
+            throws InterruptedException {
+
+        // given
+        CountDownLatch transformationReleased = new CountDownLatch(1);
+        CountDownLatch transformationInterrupted = new CountDownLatch(1);
+        QueryTransformer queryTransformer = query -> {
+            try {
+                transformationReleased.await(5, SECONDS);
+            } catch (InterruptedException e) {
+                transformationInterrupted.countDown();
+                Thread.currentThread().interrupt();
+            }
+            return asList(Query.from("query 1"), Query.from("query 2"));
+        };
+
+        ContentRetriever contentRetriever = query -> singletonList(
+                Content.from(TextSegment.from("content of " + query.text()), Map.of(ContentMetadata.SCORE, 0.95)));
+
+        RetrievalAugmentor retrievalAugmentor = DefaultRetrievalAugmentor.builder()
+                .queryTransformer(queryTransformer)
+                .contentRetriever(contentRetriever)
+                .contentAggregator(new TestContentAggregator())
+                .contentInjector(new TestContentInjector())
+                .speculativeRetrieval(true)
+                .minSpeculativeScore(0.9)
+                .build();
+
+        UserMessage userMessage = UserMessage.from("query");
+
+        // when
+        long start = System.nanoTime();
+        AugmentationResult result;
+        try {
+            result = retrievalAugmentor.augment(
+                    new AugmentationRequest(userMessage, Metadata.from(userMessage, null, null)));
+        } finally {
+            transformationReleased.countDown();
+        }
+        long durationMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        assertThat(durationMillis).isLessThan(2_000);
+        assertThat(result.contents())
+                .extracting(content -> content.textSegment().text())
+                .containsExactly("content of query");
+        assertThat(transformationInterrupted.await(1, SECONDS)).isTrue();
+    }
+
+    @Test
+    void should_cancel_query_transformation_when_original_query_retrieval_fails() throws InterruptedException {
+
+        // given
+        CountDownLatch transformationStarted = new CountDownLatch(1);
+        CountDownLatch transformationReleased = new CountDownLatch(1);
+        CountDownLatch transformationInterrupted = new CountDownLatch(1);
+        QueryTransformer queryTransformer = query -> {
+            transformationStarted.countDown();
+            try {
+                transformationReleased.await(5, SECONDS);
+            } catch (InterruptedException e) {
+                transformationInterrupted.countDown();
+                Thread.currentThread().interrupt();
+            }
+            return asList(Query.from("query 1"), Query.from("query 2"));
+        };
+
+        ContentRetriever contentRetriever = query -> {
+            try {
+                transformationStarted.await(5, SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IllegalStateException("retrieval failed");
+        };
+
+        RetrievalAugmentor retrievalAugmentor = DefaultRetrievalAugmentor.builder()
+                .queryTransformer(queryTransformer)
+                .contentRetriever(contentRetriever)
+                .speculativeRetrieval(true)
+                .build();
+
+        UserMessage userMessage = UserMessage.from("query");
+
+        // when-then
+        try {
+            assertThatThrownBy(() -> retrievalAugmentor.augment(
+                            new AugmentationRequest(userMessage, Metadata.from(userMessage, null, null))))
+                    .isExactlyInstanceOf(IllegalStateException.class)
+                    .hasMessage("retrieval failed");
+            assertThat(transformationInterrupted.await(1, SECONDS)).isTrue();
+        } finally {
+            transformationReleased.countDown();
+        }
+    }
+
     static class TestQueryTransformer implements QueryTransformer {
 
         private final List<Query> queries;
@@ -24,7 +24,9 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -265,6 +267,118 @@ class ReRankingContentAggregatorTest {
                 .build();
     }
 
+    @Test
+    void should_not_rescore_cached_segments_for_same_query() {
+
+        // given
+        CountingScoringModel scoringModel = new CountingScoringModel();
+        ContentAggregator aggregator = ReRankingContentAggregator.builder()
+                .scoringModel(scoringModel)
+                .scoreCacheSize(100)
+                .build();
+
+        // when
+        List<Content> first = aggregator.aggregate(queryToContents("query", 1, 2, 3));
+        List<Content> second = aggregator.aggregate(queryToContents("query", 2, 3, 4));
+        aggregator.aggregate(queryToContents("other query", 2));
+
+        // then
+        assertThat(scoringModel.batches).containsExactly(
+                List.of("content 1", "content 2", "content 3"),
+                List.of("content 4"),
+                List.of("content 2"));
+        assertReRankedContentOrder(first, contents(3, 2, 1));
+        assertReRankedContentOrder(second, contents(4, 3, 2));
+        assertReRankedContentScore(second, 0.4, 0.3, 0.2);
+    }
+
+    @Test
+    void should_score_large_candidate_sets_in_concurrent_batches() {
+
+        // given
+        CountingScoringModel scoringModel = new CountingScoringModel();
+        ContentAggregator aggregator = ReRankingContentAggregator.builder()
+                .scoringModel(scoringModel)
+                .maxSegmentsPerRequest(2)
+                .build();
+
+        // when
+        List<Content> aggregated = aggregator.aggregate(queryToContents("query", 1, 5, 2, 4, 3));
+
+        // then
+        assertThat(scoringModel.batches)
+                .containsExactlyInAnyOrder(
+                        List.of("content 1", "content 5"),
+                        List.of("content 2", "content 4"),
+                        List.of("content 3"));
+        assertReRankedContentOrder(aggregated, contents(5, 4, 3, 2, 1));
+    }
+
+    @Test
+    void should_score_only_best_fused_candidates() {
+
+        // given
+        CountingScoringModel scoringModel = new CountingScoringModel();
+        ContentAggregator aggregator = ReRankingContentAggregator.builder()
+                .scoringModel(scoringModel)
+                .maxCandidates(2)
+                .build();
+
+        // when
+        List<Content> aggregated = aggregator.aggregate(queryToContents("query", 1, 5, 2));
+
+        // then
+        assertThat(scoringModel.batches).containsExactly(List.of("content 1", "content 5"));
+        assertReRankedContentOrder(aggregated, contents(5, 1));
+    }
+
+    @Test
+    void should_stop_scoring_once_enough_candidates_reach_min_score() {
+
+        // given
+        CountingScoringModel scoringModel = new CountingScoringModel();
+        ContentAggregator aggregator = ReRankingContentAggregator.builder()
+                .scoringModel(scoringModel)
+                .maxSegmentsPerRequest(2)
+                .minScore(0.3)
+                .maxResults(2)
+                .earlyStop(true)
+                .build();
+
+        // when
+        List<Content> aggregated = aggregator.aggregate(queryToContents("query", 1, 2, 3, 4, 5, 6));
+
+        // then
+        assertThat(scoringModel.batches).containsExactly(
+                List.of("content 1", "content 2"),
+                List.of("content 3", "content 4"));
+        assertReRankedContentOrder(aggregated, contents(4, 3));
+    }
+
+    private static Map<Query, Collection<List<Content>>> queryToContents(String query, int... contentIds) {
+        return singletonMap(Query.from(query), singletonList(asList(contents(contentIds))));
+    }
+
+    private static Content[] contents(int... contentIds) {
+        return IntStream.of(contentIds).mapToObj(id -> Content.from("content " + id)).toArray(Content[]::new);
+    }
+
+    /**
+     * Scores "content N" with N / 10, and records the texts of each scoring request.
+     */
+    private static class CountingScoringModel implements ScoringModel {
+
+        final List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Response<List<Double>> scoreAll(List<TextSegment> segments, String query) {
+            batches.add(segments.stream().map(TextSegment::text).toList());
+            return Response.from(segments.stream()
+                    .map(segment -> Integer.parseInt(segment.text().substring("content ".length())) / 10.0)
+                    .toList());
+        }
+    }
+
     private void assertReRankedContentOrder(List<Content> actual, Content... expectedContents) {
         List<TextSegment> expectedTextSegments =
                 Arrays.stream(expectedContents).map(Content::textSegment).toList();
@@ -0,0 +1,189 @@
+package dev.langchain4j.rag.content.injector;
+
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.TokenCountEstimator;
+import dev.langchain4j.model.input.PromptTemplate;
+import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.rag.content.ContentMetadata;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBudgetContentInjectorTest {
+
+    private static final PromptTemplate PROMPT_TEMPLATE = PromptTemplate.from("{{userMessage}}\n{{contents}}");
+
+    WordCountEstimator tokenCountEstimator = new WordCountEstimator();
+
+    @Test
+    void should_inject_best_scored_contents_fitting_in_budget() {
+
+        // given
+        UserMessage userMessage = UserMessage.from("Tell me about bananas.");
+
+        List<Content> contents = List.of(
+                content("Bananas are berries.", 0.5),
+                content("Bananas grow in tropical regions of the world.", 0.9),
+                content("Bananas are yellow.", 0.7),
+                content("Apples are red.", 0.1));
+
+        ContentInjector injector = TokenBudgetContentInjector.builder()
+                .tokenCountEstimator(tokenCountEstimator)
+                .maxTokens(18) // 4 for the user message, 8 and 3 for the two best contents, 3 for the next one
+                .promptTemplate(PROMPT_TEMPLATE)
+                .build();
+
+        // when
+        UserMessage injected = (UserMessage) injector.inject(contents, userMessage);
+
+        // then
+        assertThat(injected.singleText()).isEqualTo("""
+                Tell me about bananas.
+                Bananas are berries.
+
+                Bananas grow in tropical regions of the world.
+
+                Bananas are yellow.""");
+    }
+
+    @Test
+    void should_truncate_content_at_sentence_boundary() {
+
+        // given
+        UserMessage userMessage = UserMessage.from("Tell me about bananas.");
+
+        List<Content> contents = List.of(
+                Content.from("Bananas are berries. They grow on large plants. They are rich in potassium."));
+
+        ContentInjector injector = TokenBudgetContentInjector.builder()
+                .tokenCountEstimator(tokenCountEstimator)
+                .maxTokens(13)
+                .promptTemplate(PROMPT_TEMPLATE)
+                .build();
+
+        // when
+        UserMessage injected = (UserMessage) injector.inject(contents, userMessage);
+
+        // then
+        assertThat(injected.singleText()).isEqualTo("""
+                Tell me about bananas.
+                Bananas are berries. They grow on large plants.""");
+    }
+
+    @Test
+    void should_not_inject_when_no_content_fits() {
+
+        // given
+        UserMessage userMessage = UserMessage.from("Tell me about bananas.");
+
+        ContentInjector injector = TokenBudgetContentInjector.builder()
+                .tokenCountEstimator(tokenCountEstimator)
+                .maxTokens(5)
+                .build();
+
+        // when
+        ChatMessage injected = injector.inject(List.of(Content.from("Bananas are berries.")), userMessage);
+
+        // then
+        assertThat(injected).isEqualTo(userMessage);
+    }
+
+    @Test
+    void should_skip_near_duplicate_contents() {
+
+        // given
+        UserMessage userMessage = UserMessage.from("Tell me about bananas.");
+
+        String text = "Bananas are elongated, edible fruits, botanically berries, produced by several kinds "
+                + "of large treelike herbaceous flowering plants in the genus Musa. In some countries, "
+                + "cooking bananas are called plantains, distinguishing them from dessert bananas.";
+        List<Content> contents = List.of(
+                content(text, 0.8),
+                content(text.replace("several", "many"), 0.9),
+                content("Bananas are yellow.", 0.7));
+
+        ContentInjector injector = TokenBudgetContentInjector.builder()
+                .tokenCountEstimator(tokenCountEstimator)
+                .maxTokens(1000)
+                .promptTemplate(PROMPT_TEMPLATE)
+                .build();
+
+        // when
+        UserMessage injected = (UserMessage) injector.inject(contents, userMessage);
+
+        // then
+        assertThat(injected.singleText()).isEqualTo("Tell me about bananas.\n"
+                + text.replace("several", "many") + "\n\nBananas are yellow.");
+    }
+
+    @Test
+    void should_reuse_cached_token_counts() {
+
+        // given
+        UserMessage userMessage = UserMessage.from("Tell me about bananas.");
+        List<Content> contents = List.of(Content.from("Bananas are berries."), Content.from("Bananas are yellow."));
+
+        ContentInjector injector = TokenBudgetContentInjector.builder()
+                .tokenCountEstimator(tokenCountEstimator)
+                .maxTokens(1000)
+                .build();
+
+        // when
+        injector.inject(contents, userMessage);
+        int estimations = tokenCountEstimator.texts.size();
+        injector.inject(contents, userMessage);
+
+        // then
+        assertThat(tokenCountEstimator.texts).hasSize(estimations);
+    }
+
+    @Test
+    void should_compute_close_fingerprints_for_near_duplicates() {
+
+        String text = "The quick brown fox jumps over the lazy dog, then runs into the forest "
+                + "where it meets another fox hiding behind an old oak tree near the river bank.";
+
+        long fingerprint = TokenBudgetContentInjector.simHash(text);
+
+        assertThat(Long.bitCount(fingerprint ^ TokenBudgetContentInjector.simHash(text.toUpperCase())))
+                .isZero();
+        assertThat(Long.bitCount(fingerprint ^ TokenBudgetContentInjector.simHash(text.replace("oak", "pine"))))
+                .isLessThanOrEqualTo(6);
+        assertThat(Long.bitCount(fingerprint ^ TokenBudgetContentInjector.simHash("Bananas are yellow.")))
+                .isGreaterThan(12);
+    }
+
+    private static Content content(String text, double score) {
+        return Content.from(TextSegment.from(text), Map.of(ContentMetadata.SCORE, score));
+    }
+
+    /**
+     * Counts the words, and records the estimated texts.
+     */
+    static class WordCountEstimator implements TokenCountEstimator {
+
+        final List<String> texts = new ArrayList<>();
+
+        @Override
+        public int estimateTokenCountInText(String text) {
+            texts.add(text);
+            return text.isBlank() ? 0 : text.trim().split("\\s+").length;
+        }
+
+        @Override
+        public int estimateTokenCountInMessage(ChatMessage message) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int estimateTokenCountInMessages(Iterable<ChatMessage> messages) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package dev.langchain4j.rag.content.retriever;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.rag.content.Content;
+import dev.langchain4j.rag.query.Query;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import dev.langchain4j.store.embedding.EmbeddingStore;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.Test;
+
+class HybridContentRetrieverTest {
+
+    private static final Query QUERY = Query.from("query");
+
+    @Test
+    void should_embed_query_once_per_model_and_fuse_results() {
+
+        // given
+        EmbeddingModel embeddingModel = mock(EmbeddingModel.class);
+        when(embeddingModel.embed(anyString())).thenReturn(Response.from(Embedding.from(asList(1f, 2f, 3f))));
+
+        ContentRetriever vectors1 = new EmbeddingStoreContentRetriever(store("a", "b", "c"), embeddingModel);
+        ContentRetriever vectors2 = new EmbeddingStoreContentRetriever(store("b", "d"), embeddingModel);
+        ContentRetriever keywords = query -> contents("c", "b");
+
+        HybridContentRetriever retriever = HybridContentRetriever.builder()
+                .retrievers(vectors1, vectors2, keywords)
+                .maxResults(3)
+                .build();
+
+        // when
+        List<Content> contents = retriever.retrieve(QUERY);
+
+        // then
+        assertThat(contents).extracting(content -> content.textSegment().text())
+                .containsExactly("b", "c", "a");
+        verify(embeddingModel, times(1)).embed(QUERY.text());
+    }
+
+    @Test
+    void should_return_partial_results_after_timeout() throws Exception {
+
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        ContentRetriever fast = query -> contents("a", "b");
+        ContentRetriever slow = query -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return contents("c");
+        };
+
+        HybridContentRetriever retriever = HybridContentRetriever.builder()
+                .retrievers(fast, slow)
+                .timeout(Duration.ofMillis(200))
+                .build();
+
+        // when
+        List<Content> contents;
+        try {
+            contents = retriever.retrieve(QUERY);
+        } finally {
+            release.countDown();
+        }
+
+        // then
+        assertThat(contents).extracting(content -> content.textSegment().text())
+                .containsExactly("a", "b");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static EmbeddingStore<TextSegment> store(String... texts) {
+        EmbeddingStore<TextSegment> store = mock(EmbeddingStore.class);
+        List<EmbeddingMatch<TextSegment>> matches = new ArrayList<>();
+        for (int i = 0; i < texts.length; i++) {
+            matches.add(new EmbeddingMatch<>(1.0 - i * 0.1, "id " + texts[i], null, TextSegment.from(texts[i])));
+        }
+        when(store.search(any())).thenReturn(new EmbeddingSearchResult<>(matches));
+        return store;
+    }
+
+    private static List<Content> contents(String... texts) {
+        return Arrays.stream(texts).map(Content::from).toList();
+    }
+}
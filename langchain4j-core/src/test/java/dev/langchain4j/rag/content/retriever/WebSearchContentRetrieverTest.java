@@ -1,9 +1,11 @@
 package dev.langchain4j.rag.content.retriever;
 
+import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.rag.content.Content;
 import dev.langchain4j.rag.query.Query;
+import dev.langchain4j.web.page.WebPageFetcher;
 import dev.langchain4j.web.search.WebSearchEngine;
 import dev.langchain4j.web.search.WebSearchInformationResult;
 import dev.langchain4j.web.search.WebSearchOrganicResult;
@@ -14,8 +16,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -77,4 +84,75 @@ class WebSearchContentRetrieverTest {
         verify(webSearchEngine).search(WebSearchRequest.builder().searchTerms(query.text()).maxResults(5).build());
         verifyNoMoreInteractions(webSearchEngine);
     }
+
+    @Test
+    void should_replace_snippets_with_fetched_pages() {
+
+        // given
+        Set<String> fetchingThreads = ConcurrentHashMap.newKeySet();
+        WebPageFetcher webPageFetcher = (url, timeout) -> {
+            fetchingThreads.add(Thread.currentThread().getName());
+            if (url.getHost().equals("two.com")) {
+                throw new RuntimeException("404");
+            }
+            return "<p>page of " + url.getHost() + "</p>";
+        };
+
+        ContentRetriever contentRetriever = WebSearchContentRetriever.builder()
+                .webSearchEngine(webSearchEngine)
+                .webPageFetcher(webPageFetcher)
+                .documentTransformer(document -> Document.from(
+                        document.text().replaceAll("<[^>]+>", ""), document.metadata()))
+                .maxPagesToFetch(3)
+                .build();
+
+        // when
+        List<Content> contents = contentRetriever.retrieve(Query.from("query"));
+
+        // then
+        assertThat(contents).containsExactly(
+                Content.from(TextSegment.from("title 1\npage of one.com", Metadata.from("url", "https://one.com"))),
+                Content.from(TextSegment.from("title 2\ncontent 2", Metadata.from("url", "https://two.com"))),
+                Content.from(TextSegment.from("title 3\npage of three.com", Metadata.from("url", "https://three.com"))),
+                Content.from(TextSegment.from("title 4\ncontent 4", Metadata.from("url", "https://four.com"))),
+                Content.from(TextSegment.from("title 5\ncontent 5", Metadata.from("url", "https://five.com")))
+        );
+        assertThat(fetchingThreads).doesNotContain(Thread.currentThread().getName());
+    }
+
+    @Test
+    void should_keep_search_results_of_pages_not_fetched_in_time() throws InterruptedException {
+
+        // given
+        CountDownLatch interrupted = new CountDownLatch(1);
+        WebPageFetcher webPageFetcher = (url, timeout) -> {
+            if (url.getHost().equals("one.com")) {
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return "page of " + url.getHost();
+        };
+
+        ContentRetriever contentRetriever = WebSearchContentRetriever.builder()
+                .webSearchEngine(webSearchEngine)
+                .webPageFetcher(webPageFetcher)
+                .fetchTimeout(Duration.ofMillis(500))
+                .build();
+
+        // when
+        long start = System.nanoTime();
+        List<Content> contents = contentRetriever.retrieve(Query.from("query"));
+
+        // then
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(3));
+        assertThat(contents).hasSize(5);
+        assertThat(contents.get(0).textSegment().text()).isEqualTo("title 1\nsnippet 1");
+        assertThat(contents.get(1).textSegment().text()).isEqualTo("title 2\npage of two.com");
+        assertThat(contents.get(4).textSegment().text()).isEqualTo("title 5\npage of five.com");
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
 }
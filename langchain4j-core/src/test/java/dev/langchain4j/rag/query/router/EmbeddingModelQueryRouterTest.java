@@ -0,0 +1,168 @@
+package dev.langchain4j.rag.query.router;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.chat.mock.ChatModelMock;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.observability.metrics.InMemoryMetricsRecorder;
+import dev.langchain4j.observability.metrics.MetricNames;
+import dev.langchain4j.rag.content.retriever.ContentRetriever;
+import dev.langchain4j.rag.query.Query;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static dev.langchain4j.rag.query.router.LanguageModelQueryRouter.FallbackStrategy.ROUTE_TO_ALL;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class EmbeddingModelQueryRouterTest {
+
+    @Mock
+    ContentRetriever catArticlesRetriever;
+
+    @Mock
+    ContentRetriever dogArticlesRetriever;
+
+    AtomicInteger chatModelCalls = new AtomicInteger();
+    InMemoryMetricsRecorder metricsRecorder = new InMemoryMetricsRecorder();
+
+    @Test
+    void should_route_by_description_without_llm() {
+
+        // given
+        EmbeddingModelQueryRouter router = router();
+
+        // when
+        var retrievers = router.route(Query.from("Do cats purr?"));
+
+        // then
+        assertThat(retrievers).containsExactly(catArticlesRetriever);
+        assertThat(chatModelCalls).hasValue(0);
+        assertThat(router.stats().descriptionHits()).isEqualTo(1);
+    }
+
+    @Test
+    void should_fall_back_to_llm_and_reuse_its_decision() {
+
+        // given
+        EmbeddingModelQueryRouter router = router();
+
+        // when
+        var first = router.route(Query.from("Which pets shed the most?"));
+        var cached = router.route(Query.from("  which pets   shed the most "));
+        var similar = router.route(Query.from("Which pets shed most?"));
+
+        // then
+        assertThat(first).containsExactly(catArticlesRetriever, dogArticlesRetriever);
+        assertThat(cached).containsExactly(catArticlesRetriever, dogArticlesRetriever);
+        assertThat(similar).containsExactly(catArticlesRetriever, dogArticlesRetriever);
+        assertThat(chatModelCalls).hasValue(1);
+
+        QueryRoutingStats stats = router.stats();
+        assertThat(stats.fallbackCalls()).isEqualTo(1);
+        assertThat(stats.cacheHits()).isEqualTo(1);
+        assertThat(stats.pastDecisionHits()).isEqualTo(1);
+        assertThat(stats.fallbackRate()).isEqualTo(1.0 / 3);
+        assertThat(metricsRecorder.counter(MetricNames.QUERY_ROUTING_DECISIONS, MetricNames.SOURCE, "fallback"))
+                .isEqualTo(1);
+        assertThat(metricsRecorder.counter(MetricNames.QUERY_ROUTING_DECISIONS, MetricNames.SOURCE, "cache"))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void should_not_reuse_decision_of_fallback_strategy() {
+
+        // given
+        ChatModelMock chatModel = new ChatModelMock(request -> {
+            chatModelCalls.incrementAndGet();
+            throw new RuntimeException("LLM unavailable");
+        });
+        LanguageModelQueryRouter fallbackRouter = LanguageModelQueryRouter.builder()
+                .chatModel(chatModel)
+                .retrieverToDescription(retrieverToDescription())
+                .fallbackStrategy(ROUTE_TO_ALL)
+                .build();
+        EmbeddingModelQueryRouter router = EmbeddingModelQueryRouter.builder()
+                .embeddingModel(new KeywordEmbeddingModel())
+                .retrieverToDescription(retrieverToDescription())
+                .fallbackRouter(fallbackRouter)
+                .build();
+
+        // when
+        var first = router.route(Query.from("Which pets shed the most?"));
+        var identical = router.route(Query.from("Which pets shed the most?"));
+        var similar = router.route(Query.from("Which pets shed most?"));
+
+        // then
+        assertThat(first).containsExactlyInAnyOrder(catArticlesRetriever, dogArticlesRetriever);
+        assertThat(identical).containsExactlyInAnyOrder(catArticlesRetriever, dogArticlesRetriever);
+        assertThat(similar).containsExactlyInAnyOrder(catArticlesRetriever, dogArticlesRetriever);
+        assertThat(chatModelCalls).hasValue(3);
+
+        QueryRoutingStats stats = router.stats();
+        assertThat(stats.fallbackCalls()).isEqualTo(3);
+        assertThat(stats.cacheHits()).isZero();
+        assertThat(stats.pastDecisionHits()).isZero();
+    }
+
+    @Test
+    void should_normalize_query_text() {
+        assertThat(EmbeddingModelQueryRouter.normalize("  Which pets\tshed  the MOST?! "))
+                .isEqualTo("which pets shed the most");
+    }
+
+    private EmbeddingModelQueryRouter router() {
+        ChatModelMock chatModel = new ChatModelMock(request -> {
+            chatModelCalls.incrementAndGet();
+            return dev.langchain4j.data.message.AiMessage.from("1, 2");
+        });
+
+        return EmbeddingModelQueryRouter.builder()
+                .embeddingModel(new KeywordEmbeddingModel())
+                .retrieverToDescription(retrieverToDescription())
+                .chatModel(chatModel)
+                .metricsRecorder(metricsRecorder)
+                .build();
+    }
+
+    private Map<ContentRetriever, String> retrieverToDescription() {
+        // LinkedHashMap is used to ensure a predictable order in the test
+        Map<ContentRetriever, String> retrieverToDescription = new LinkedHashMap<>();
+        retrieverToDescription.put(catArticlesRetriever, "articles about cats");
+        retrieverToDescription.put(dogArticlesRetriever, "articles about dogs");
+        return retrieverToDescription;
+    }
+
+    /**
+     * Embeds texts by the animals they mention, plus a small component depending on their length.
+     */
+    static class KeywordEmbeddingModel implements EmbeddingModel {
+
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+            return Response.from(textSegments.stream()
+                    .map(segment -> {
+                        String text = segment.text().toLowerCase();
+                        float[] vector = new float[4];
+                        vector[0] = text.contains("cat") ? 1 : 0;
+                        vector[1] = text.contains("dog") ? 1 : 0;
+                        if (text.contains("pet")) {
+                            vector[0] += 0.5f;
+                            vector[1] += 0.5f;
+                        }
+                        vector[2] = text.contains("shed") ? 1 : 0;
+                        vector[3] = text.length() / 100f;
+                        return Embedding.from(vector);
+                    })
+                    .toList());
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package dev.langchain4j.web.page;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import dev.langchain4j.exception.HttpException;
+import dev.langchain4j.exception.LangChain4jException;
+import dev.langchain4j.exception.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HttpWebPageFetcherTest {
+
+    HttpServer server;
+    List<String> requests = new CopyOnWriteArrayList<>();
+    CountDownLatch stopping = new CountDownLatch(1);
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/etag", exchange -> {
+            requests.add("/etag " + exchange.getRequestHeaders().getFirst("If-None-Match"));
+            if ("\"v1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            exchange.getResponseHeaders().add("ETag", "\"v1\"");
+            respond(exchange, 200, "<p>page</p>");
+        });
+        server.createContext("/no-cache", exchange -> {
+            requests.add("/no-cache " + exchange.getRequestHeaders().getFirst("If-None-Match"));
+            respond(exchange, 200, "page " + requests.size());
+        });
+        server.createContext("/missing", exchange -> respond(exchange, 404, "not found"));
+        server.createContext("/image", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "image/png");
+            respond(exchange, 200, "not text");
+        });
+        server.createContext("/large", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "text/html; charset=utf-8");
+            exchange.sendResponseHeaders(200, 0); // chunked, without Content-Length
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(new byte[2_000]);
+            }
+        });
+        server.createContext("/slow", exchange -> {
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write("<p>start".getBytes(StandardCharsets.UTF_8));
+                outputStream.flush();
+                stopping.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        stopping.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    void should_revalidate_cached_page_with_etag() {
+
+        // given
+        HttpWebPageFetcher fetcher = new HttpWebPageFetcher();
+
+        // when
+        String first = fetcher.fetch(url("/etag"), Duration.ofSeconds(5));
+        String second = fetcher.fetch(url("/etag"), Duration.ofSeconds(5));
+
+        // then
+        assertThat(first).isEqualTo("<p>page</p>");
+        assertThat(second).isEqualTo("<p>page</p>");
+        assertThat(requests).containsExactly("/etag null", "/etag \"v1\"");
+    }
+
+    @Test
+    void should_not_cache_page_without_validators() {
+
+        // given
+        HttpWebPageFetcher fetcher = new HttpWebPageFetcher();
+
+        // when
+        String first = fetcher.fetch(url("/no-cache"), Duration.ofSeconds(5));
+        String second = fetcher.fetch(url("/no-cache"), Duration.ofSeconds(5));
+
+        // then
+        assertThat(first).isEqualTo("page 1");
+        assertThat(second).isEqualTo("page 2");
+        assertThat(requests).containsExactly("/no-cache null", "/no-cache null");
+    }
+
+    @Test
+    void should_fail_on_error_status() {
+
+        HttpWebPageFetcher fetcher = new HttpWebPageFetcher();
+
+        assertThatThrownBy(() -> fetcher.fetch(url("/missing"), Duration.ofSeconds(5)))
+                .isExactlyInstanceOf(HttpException.class)
+                .satisfies(e -> assertThat(((HttpException) e).statusCode()).isEqualTo(404));
+    }
+
+    @Test
+    void should_reject_non_textual_page() {
+
+        HttpWebPageFetcher fetcher = new HttpWebPageFetcher();
+
+        assertThatThrownBy(() -> fetcher.fetch(url("/image"), Duration.ofSeconds(5)))
+                .isExactlyInstanceOf(LangChain4jException.class)
+                .hasMessageContaining("image/png");
+    }
+
+    @Test
+    void should_reject_page_larger_than_max_content_length() {
+
+        HttpWebPageFetcher fetcher = HttpWebPageFetcher.builder()
+                .maxContentLength(1_000L)
+                .build();
+
+        assertThatThrownBy(() -> fetcher.fetch(url("/large"), Duration.ofSeconds(5)))
+                .isExactlyInstanceOf(LangChain4jException.class)
+                .hasMessageContaining("larger than 1000 bytes");
+    }
+
+    @Test
+    void should_time_out_while_downloading_page() {
+
+        // given
+        HttpWebPageFetcher fetcher = new HttpWebPageFetcher();
+
+        // when
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> fetcher.fetch(url("/slow"), Duration.ofMillis(300)))
+                .isExactlyInstanceOf(TimeoutException.class);
+
+        // then
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(3));
+    }
+
+    private URI url(String path) {
+        return URI.create("http://localhost:" + server.getAddress().getPort() + path);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body)
+            throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package dev.langchain4j.store.embedding.elasticsearch;
+
+import java.time.Duration;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNegative;
+
+/**
+ * Configures how {@link ElasticsearchEmbeddingStore#addAll(java.util.List, java.util.List, java.util.List)}
+ * ingests large lists of embeddings.
+ * <p>
+ * Without it, all the embeddings passed to {@code addAll} are sent in a single bulk request.
+ * With it, they are split into bulk requests of at most {@code maxOperationsPerRequest} documents
+ * and (approximately) {@code maxBytesPerRequest} bytes, up to {@code maxConcurrentRequests} of them being
+ * in flight at once: {@code addAll} waits for a request to complete before sending more (back-pressure),
+ * and returns when all of them are complete.
+ * <p>
+ * Documents rejected because the cluster is overloaded (HTTP 429, 502, 503 or 504) are retried, alone,
+ * up to {@code maxRetries} times, with an exponential backoff starting at {@code initialBackoff}.
+ * Any other failure fails {@code addAll} with an {@link ElasticsearchRequestFailedException},
+ * once the requests in flight are complete; documents of the requests that succeeded stay indexed.
+ * <p>
+ * When {@code disableRefreshDuringIngest} is set, the refresh of the index is disabled while {@code addAll} runs,
+ * then its previous refresh interval is restored and the index is refreshed. This speeds up large ingestions.
+ * Concurrent {@code addAll} calls on the same store keep the refresh disabled until the last one completes.
+ * If the refresh of the index is already disabled, for example by another store, it is left as is.
+ *
+ * @see <a href="https://www.elastic.co/guide/en/elasticsearch/reference/current/tune-for-indexing-speed.html">Tune for indexing speed</a>
+ */
+public class ElasticsearchBulkConfiguration {
+
+    private final int maxOperationsPerRequest;
+    private final long maxBytesPerRequest;
+    private final int maxConcurrentRequests;
+    private final int maxRetries;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final boolean disableRefreshDuringIngest;
+
+    public static class Builder {
+        private Integer maxOperationsPerRequest;
+        private Long maxBytesPerRequest;
+        private Integer maxConcurrentRequests;
+        private Integer maxRetries;
+        private Duration initialBackoff;
+        private Duration maxBackoff;
+        private Boolean disableRefreshDuringIngest;
+
+        public ElasticsearchBulkConfiguration build() {
+            return new ElasticsearchBulkConfiguration(this);
+        }
+
+        /**
+         * @param maxOperationsPerRequest the maximum number of documents per bulk request. Default value: 1000.
+         * @return the builder instance
+         */
+        public Builder maxOperationsPerRequest(Integer maxOperationsPerRequest) {
+            this.maxOperationsPerRequest = maxOperationsPerRequest;
+            return this;
+        }
+
+        /**
+         * @param maxBytesPerRequest the maximum (estimated) size of a bulk request, in bytes.
+         *                           It should stay well below {@code http.max_content_length} (100MB by default).
+         *                           A single document larger than this is sent alone.
+         *                           Default value: 5MB.
+         * @return the builder instance
+         */
+        public Builder maxBytesPerRequest(Long maxBytesPerRequest) {
+            this.maxBytesPerRequest = maxBytesPerRequest;
+            return this;
+        }
+
+        /**
+         * @param maxConcurrentRequests the maximum number of bulk requests in flight at once. Default value: 2.
+         * @return the builder instance
+         */
+        public Builder maxConcurrentRequests(Integer maxConcurrentRequests) {
+            this.maxConcurrentRequests = maxConcurrentRequests;
+            return this;
+        }
+
+        /**
+         * @param maxRetries the maximum number of times rejected documents are retried. Default value: 3.
+         * @return the builder instance
+         */
+        public Builder maxRetries(Integer maxRetries) {
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        /**
+         * @param initialBackoff the delay before the first retry, doubled for each subsequent retry
+         *                       (with some jitter). Default value: 100 milliseconds.
+         * @return the builder instance
+         */
+        public Builder initialBackoff(Duration initialBackoff) {
+            this.initialBackoff = initialBackoff;
+            return this;
+        }
+
+        /**
+         * @param maxBackoff the maximum delay between two retries. Default value: 10 seconds.
+         * @return the builder instance
+         */
+        public Builder maxBackoff(Duration maxBackoff) {
+            this.maxBackoff = maxBackoff;
+            return this;
+        }
+
+        /**
+         * @param disableRefreshDuringIngest whether to disable the refresh of the index while ingesting.
+         *                                   Default value: false.
+         * @return the builder instance
+         */
+        public Builder disableRefreshDuringIngest(Boolean disableRefreshDuringIngest) {
+            this.disableRefreshDuringIngest = disableRefreshDuringIngest;
+            return this;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private ElasticsearchBulkConfiguration(Builder builder) {
+        this.maxOperationsPerRequest = ensureGreaterThanZero(getOrDefault(builder.maxOperationsPerRequest, 1000), "maxOperationsPerRequest");
+        this.maxBytesPerRequest = getOrDefault(builder.maxBytesPerRequest, 5L * 1024 * 1024);
+        if (maxBytesPerRequest <= 0) {
+            throw new IllegalArgumentException("maxBytesPerRequest must be greater than zero, but is: " + maxBytesPerRequest);
+        }
+        this.maxConcurrentRequests = ensureGreaterThanZero(getOrDefault(builder.maxConcurrentRequests, 2), "maxConcurrentRequests");
+        this.maxRetries = ensureNotNegative(getOrDefault(builder.maxRetries, 3), "maxRetries");
+        this.initialBackoff = getOrDefault(builder.initialBackoff, Duration.ofMillis(100));
+        this.maxBackoff = getOrDefault(builder.maxBackoff, Duration.ofSeconds(10));
+        this.disableRefreshDuringIngest = getOrDefault(builder.disableRefreshDuringIngest, false);
+    }
+
+    public int maxOperationsPerRequest() {
+        return maxOperationsPerRequest;
+    }
+
+    public long maxBytesPerRequest() {
+        return maxBytesPerRequest;
+    }
+
+    public int maxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    public int maxRetries() {
+        return maxRetries;
+    }
+
+    public Duration initialBackoff() {
+        return initialBackoff;
+    }
+
+    public Duration maxBackoff() {
+        return maxBackoff;
+    }
+
+    public boolean disableRefreshDuringIngest() {
+        return disableRefreshDuringIngest;
+    }
+}
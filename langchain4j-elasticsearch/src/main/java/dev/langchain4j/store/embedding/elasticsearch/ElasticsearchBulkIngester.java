@@ -0,0 +1,331 @@
+package dev.langchain4j.store.embedding.elasticsearch;
+
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.ErrorCause;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseException;
+import org.elasticsearch.client.RestClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Indexes documents in bulk requests bounded by count and size, with at most
+ * {@link ElasticsearchBulkConfiguration#maxConcurrentRequests()} of them in flight,
+ * retrying the documents rejected by an overloaded cluster.
+ *
+ * @see ElasticsearchBulkConfiguration
+ */
+class ElasticsearchBulkIngester {
+
+    private static final Logger log = LoggerFactory.getLogger(ElasticsearchBulkIngester.class);
+
+    /**
+     * HTTP statuses of the documents (or requests) worth retrying: the cluster is overloaded or unavailable.
+     */
+    private static final Set<Integer> RETRIABLE_STATUSES = Set.of(429, 502, 503, 504);
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final String DISABLED_REFRESH_INTERVAL = "-1";
+
+    private final ElasticsearchAsyncClient asyncClient;
+    private final RestClient restClient;
+    private final String indexName;
+    private final ElasticsearchBulkConfiguration configuration;
+
+    /**
+     * Guards {@link #ingests} and {@link #savedRefreshInterval}: the refresh stays disabled
+     * until the last of concurrent ingests completes.
+     */
+    private final Object refreshLock = new Object();
+    private int ingests;
+    private RefreshInterval savedRefreshInterval;
+
+    ElasticsearchBulkIngester(ElasticsearchAsyncClient asyncClient,
+                              RestClient restClient,
+                              String indexName,
+                              ElasticsearchBulkConfiguration configuration) {
+        this.asyncClient = asyncClient;
+        this.restClient = restClient;
+        this.indexName = indexName;
+        this.configuration = configuration;
+    }
+
+    void index(List<String> ids, List<Document> documents) {
+        if (!configuration.disableRefreshDuringIngest()) {
+            indexInBatches(ids, documents);
+            return;
+        }
+
+        startIngest();
+        try {
+            indexInBatches(ids, documents);
+        } catch (RuntimeException | Error e) {
+            try {
+                endIngest();
+            } catch (RuntimeException restoreError) {
+                e.addSuppressed(restoreError);
+            }
+            throw e;
+        }
+        endIngest();
+    }
+
+    /**
+     * Disables the refresh of the index, unless another ingest already did.
+     */
+    private void startIngest() {
+        synchronized (refreshLock) {
+            if (ingests == 0) {
+                savedRefreshInterval = disableRefresh();
+            }
+            ingests++;
+        }
+    }
+
+    /**
+     * Restores the refresh interval saved by the first ingest, once the last ingest completes.
+     */
+    private void endIngest() {
+        synchronized (refreshLock) {
+            ingests--;
+            if (ingests == 0 && savedRefreshInterval != null) {
+                RefreshInterval refreshInterval = savedRefreshInterval;
+                savedRefreshInterval = null;
+                restoreRefresh(refreshInterval.value());
+            }
+        }
+    }
+
+    private void indexInBatches(List<String> ids, List<Document> documents) {
+        Semaphore inFlight = new Semaphore(configuration.maxConcurrentRequests());
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<CompletableFuture<Void>> requests = new ArrayList<>();
+
+        Iterator<List<BulkOperation>> batches = batches(ids, documents);
+        while (batches.hasNext() && failure.get() == null) {
+            List<BulkOperation> batch = batches.next();
+            try {
+                inFlight.acquire(); // back-pressure: wait until a request in flight completes
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure.compareAndSet(null, e);
+                break;
+            }
+            requests.add(send(batch, 0).whenComplete((ignored, error) -> {
+                if (error != null) {
+                    failure.compareAndSet(null, unwrap(error));
+                }
+                inFlight.release();
+            }));
+        }
+
+        try {
+            CompletableFuture.allOf(requests.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException ignored) {
+            // the first failure is recorded
+        }
+
+        Throwable error = failure.get();
+        if (error instanceof ElasticsearchRequestFailedException e) {
+            throw e;
+        } else if (error != null) {
+            throw new ElasticsearchRequestFailedException(error);
+        }
+    }
+
+    /**
+     * Lazily splits the documents into batches, so that only the batches in flight are built.
+     */
+    private Iterator<List<BulkOperation>> batches(List<String> ids, List<Document> documents) {
+        return new Iterator<>() {
+
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < ids.size();
+            }
+
+            @Override
+            public List<BulkOperation> next() {
+                List<BulkOperation> batch = new ArrayList<>();
+                long bytes = 0;
+                while (next < ids.size() && batch.size() < configuration.maxOperationsPerRequest()) {
+                    String id = ids.get(next);
+                    Document document = documents.get(next);
+                    long size = estimateSize(id, document);
+                    if (!batch.isEmpty() && bytes + size > configuration.maxBytesPerRequest()) {
+                        break;
+                    }
+                    batch.add(BulkOperation.of(op -> op.index(idx -> idx
+                            .index(indexName)
+                            .id(id)
+                            .document(document))));
+                    bytes += size;
+                    next++;
+                }
+                log.debug("bulk request with [{}] documents, about [{}] bytes", batch.size(), bytes);
+                return batch;
+            }
+        };
+    }
+
+    private CompletableFuture<Void> send(List<BulkOperation> batch, int attempt) {
+        return asyncClient.bulk(bulk -> bulk.operations(batch))
+                .handle((response, error) -> error == null
+                        ? onResponse(batch, response, attempt)
+                        : onFailure(batch, unwrap(error), attempt))
+                .thenCompose(Function.identity());
+    }
+
+    private CompletableFuture<Void> onResponse(List<BulkOperation> batch, BulkResponse response, int attempt) {
+        if (!response.errors()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        List<BulkOperation> rejected = new ArrayList<>();
+        List<BulkResponseItem> items = response.items();
+        for (int i = 0; i < items.size(); i++) {
+            BulkResponseItem item = items.get(i);
+            ErrorCause error = item.error();
+            if (error == null) {
+                continue;
+            }
+            if (RETRIABLE_STATUSES.contains(item.status()) && attempt < configuration.maxRetries()) {
+                rejected.add(batch.get(i));
+            } else {
+                return CompletableFuture.failedFuture(new ElasticsearchRequestFailedException(
+                        "type: " + error.type() + ", reason: " + error.reason()));
+            }
+        }
+        log.debug("retrying [{}] rejected documents out of [{}]", rejected.size(), batch.size());
+        return retryLater(rejected, attempt);
+    }
+
+    private CompletableFuture<Void> onFailure(List<BulkOperation> batch, Throwable error, int attempt) {
+        if (error instanceof ElasticsearchException e
+                && RETRIABLE_STATUSES.contains(e.status())
+                && attempt < configuration.maxRetries()) {
+            log.debug("retrying rejected bulk request of [{}] documents", batch.size());
+            return retryLater(batch, attempt);
+        }
+        return CompletableFuture.failedFuture(error);
+    }
+
+    private CompletableFuture<Void> retryLater(List<BulkOperation> batch, int attempt) {
+        return CompletableFuture.runAsync(() -> {}, CompletableFuture.delayedExecutor(backoffMillis(attempt), MILLISECONDS))
+                .thenCompose(ignored -> send(batch, attempt + 1));
+    }
+
+    private long backoffMillis(int attempt) {
+        long max = configuration.maxBackoff().toMillis();
+        long backoff = Math.min(max, configuration.initialBackoff().toMillis() << Math.min(attempt, 20));
+        // "equal jitter": between half of the backoff and the full backoff
+        return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+    }
+
+    /**
+     * Estimates the size of the JSON of a bulk index operation, to bound the size of bulk requests.
+     */
+    static long estimateSize(String id, Document document) {
+        long size = 100 + id.length();
+        if (document.getVector() != null) {
+            size += 12L * document.getVector().length; // e.g. "-0.012345678,"
+        }
+        if (document.getText() != null) {
+            size += 3L * document.getText().length(); // worst case of UTF-8, plus escaping
+        }
+        if (document.getMetadata() != null) {
+            for (Map.Entry<String, Object> entry : document.getMetadata().entrySet()) {
+                size += 6 + entry.getKey().length() + String.valueOf(entry.getValue()).length();
+            }
+        }
+        return size;
+    }
+
+    private RefreshInterval disableRefresh() {
+        try {
+            Response response = restClient.performRequest(
+                    new Request("GET", "/" + indexName + "/_settings/index.refresh_interval"));
+            String previous = null;
+            try (InputStream content = response.getEntity().getContent()) {
+                // {"<concrete index name>": {"settings": {"index": {"refresh_interval": "30s"}}}}
+                for (JsonNode index : OBJECT_MAPPER.readTree(content)) {
+                    JsonNode refreshInterval = index.path("settings").path("index").path("refresh_interval");
+                    if (refreshInterval.isTextual()) {
+                        previous = refreshInterval.asText();
+                    }
+                }
+            }
+            if (DISABLED_REFRESH_INTERVAL.equals(previous)) {
+                // disabled by someone else, who will restore it
+                log.debug("The refresh of index [{}] is already disabled.", indexName);
+                return null;
+            }
+            putRefreshInterval("\"" + DISABLED_REFRESH_INTERVAL + "\"");
+            log.debug("disabled the refresh of index [{}], previous refresh interval: [{}]", indexName, previous);
+            return new RefreshInterval(previous);
+        } catch (ResponseException e) {
+            if (e.getResponse().getStatusLine().getStatusCode() == 404) {
+                log.debug("The index [{}] does not exist yet, its refresh cannot be disabled.", indexName);
+                return null;
+            }
+            throw new ElasticsearchRequestFailedException(e);
+        } catch (IOException e) {
+            throw new ElasticsearchRequestFailedException(e);
+        }
+    }
+
+    private void restoreRefresh(String previousRefreshInterval) {
+        try {
+            // null resets the refresh interval to its default
+            putRefreshInterval(previousRefreshInterval == null ? "null" : OBJECT_MAPPER.writeValueAsString(previousRefreshInterval));
+            restClient.performRequest(new Request("POST", "/" + indexName + "/_refresh"));
+            log.debug("restored the refresh interval [{}] of index [{}]", previousRefreshInterval, indexName);
+        } catch (IOException e) {
+            throw new ElasticsearchRequestFailedException(e);
+        }
+    }
+
+    private void putRefreshInterval(String jsonValue) throws IOException {
+        Request request = new Request("PUT", "/" + indexName + "/_settings");
+        request.setJsonEntity("{\"index\":{\"refresh_interval\":" + jsonValue + "}}");
+        restClient.performRequest(request);
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        while (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error;
+    }
+
+    /**
+     * The refresh interval of the index before it was disabled, {@code null} if it was not set explicitly.
+     */
+    private record RefreshInterval(String value) {
+    }
+}
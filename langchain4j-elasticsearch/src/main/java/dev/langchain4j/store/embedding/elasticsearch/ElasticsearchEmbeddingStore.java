@@ -1,5 +1,6 @@
 package dev.langchain4j.store.embedding.elasticsearch;
 
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.BulkIndexByScrollFailure;
 import co.elastic.clients.elasticsearch._types.ElasticsearchException;
@@ -35,6 +36,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -60,6 +62,7 @@ public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment>
     private final ElasticsearchConfiguration configuration;
     private final ElasticsearchClient client;
     private final String indexName;
+    private final ElasticsearchBulkIngester bulkIngester;
 
     /**
      * Creates an instance of ElasticsearchEmbeddingStore.
@@ -105,9 +108,10 @@ public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment>
                                        String userName,
                                        String password,
                                        String indexName) {
+        this(configuration, createRestClient(serverUrl, apiKey, userName, password), indexName);
+    }
 
-        this.configuration = configuration;
-
+    private static RestClient createRestClient(String serverUrl, String apiKey, String userName, String password) {
         RestClientBuilder restClientBuilder = RestClient
                 .builder(HttpHost.create(ensureNotNull(serverUrl, "serverUrl")));
 
@@ -123,10 +127,7 @@ public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment>
             });
         }
 
-        ElasticsearchTransport transport = new RestClientTransport(restClientBuilder.build(), new JacksonJsonpMapper());
-
-        this.client = new ElasticsearchClient(transport);
-        this.indexName = ensureNotNull(indexName, "indexName");
+        return restClientBuilder.build();
     }
 
     /**
@@ -138,12 +139,32 @@ public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment>
      *                      Index will be created automatically if not exists.
      */
     public ElasticsearchEmbeddingStore(ElasticsearchConfiguration configuration, RestClient restClient, String indexName) {
+        this(configuration, restClient, indexName, null);
+    }
+
+    /**
+     * Constructor using a RestClient
+     *
+     * @param configuration     Elasticsearch configuration to use (Knn or Script)
+     * @param restClient        Elasticsearch Rest Client (mandatory)
+     * @param indexName         Elasticsearch index name (optional). Default value: "default".
+     *                          Index will be created automatically if not exists.
+     * @param bulkConfiguration how to ingest large lists of embeddings (optional).
+     *                          By default, all the embeddings passed to {@code addAll} are sent in a single bulk request.
+     */
+    public ElasticsearchEmbeddingStore(ElasticsearchConfiguration configuration,
+                                       RestClient restClient,
+                                       String indexName,
+                                       ElasticsearchBulkConfiguration bulkConfiguration) {
         JsonpMapper mapper = new JacksonJsonpMapper();
         ElasticsearchTransport transport = new RestClientTransport(restClient, mapper);
 
         this.configuration = configuration;
         this.client = new ElasticsearchClient(transport);
         this.indexName = ensureNotNull(indexName, "indexName");
+        this.bulkIngester = bulkConfiguration == null
+                ? null
+                : new ElasticsearchBulkIngester(new ElasticsearchAsyncClient(transport), restClient, this.indexName, bulkConfiguration);
     }
 
     public static Builder builder() {
@@ -159,6 +180,7 @@ public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment>
         private RestClient restClient;
         private String indexName = "default";
         private ElasticsearchConfiguration configuration = ElasticsearchConfigurationKnn.builder().build();
+        private ElasticsearchBulkConfiguration bulkConfiguration;
 
         /**
          * @param serverUrl Elasticsearch Server URL
@@ -243,12 +265,23 @@ public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment>
             return this;
         }
 
+        /**
+         * @param bulkConfiguration how to ingest large lists of embeddings (optional).
+         *                          By default, all the embeddings passed to {@code addAll} are sent in a single bulk request.
+         * @return builder
+         * @see ElasticsearchBulkConfiguration
+         */
+        public Builder bulkConfiguration(ElasticsearchBulkConfiguration bulkConfiguration) {
+            this.bulkConfiguration = bulkConfiguration;
+            return this;
+        }
+
         public ElasticsearchEmbeddingStore build() {
             if (restClient != null) {
-                return new ElasticsearchEmbeddingStore(configuration, restClient, indexName);
+                return new ElasticsearchEmbeddingStore(configuration, restClient, indexName, bulkConfiguration);
             } else {
                 log.warn("This is deprecated. You should provide a restClient instead and call ElasticsearchEmbeddingStore(ElasticsearchConfiguration, RestClient, String)");
-                return new ElasticsearchEmbeddingStore(configuration, serverUrl, apiKey, userName, password, indexName);
+                return new ElasticsearchEmbeddingStore(configuration, createRestClient(serverUrl, apiKey, userName, password), indexName, bulkConfiguration);
             }
         }
     }
@@ -352,18 +385,27 @@ public class ElasticsearchEmbeddingStore implements EmbeddingStore<TextSegment>
     private void bulkIndex(List<String> ids, List<Embedding> embeddings, List<TextSegment> embedded) throws IOException {
         int size = ids.size();
         log.debug("calling bulkIndex with [{}] elements", size);
-        BulkRequest.Builder bulkBuilder = new BulkRequest.Builder();
+        List<Document> documents = new ArrayList<>(size);
         for (int i = 0; i < size; i++) {
-            int finalI = i;
-            Document document = Document.builder()
+            documents.add(Document.builder()
                     .vector(embeddings.get(i).vector())
                     .text(embedded == null ? null : embedded.get(i).text())
                     .metadata(embedded == null ? null : embedded.get(i).metadata().toMap())
-                    .build();
+                    .build());
+        }
+
+        if (bulkIngester != null) {
+            bulkIngester.index(ids, documents);
+            return;
+        }
+
+        BulkRequest.Builder bulkBuilder = new BulkRequest.Builder();
+        for (int i = 0; i < size; i++) {
+            int finalI = i;
             bulkBuilder.operations(op -> op.index(idx -> idx
                     .index(indexName)
                     .id(ids.get(finalI))
-                    .document(document)));
+                    .document(documents.get(finalI))));
         }
 
         BulkResponse response = client.bulk(bulkBuilder.build());
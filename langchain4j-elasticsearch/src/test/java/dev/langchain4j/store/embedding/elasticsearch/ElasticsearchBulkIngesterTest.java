@@ -0,0 +1,152 @@
+package dev.langchain4j.store.embedding.elasticsearch;
+
+import co.elastic.clients.elasticsearch.ElasticsearchAsyncClient;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.util.EntityUtils;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.RestClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ElasticsearchBulkIngesterTest {
+
+    private static final String INDEX_NAME = "test-index";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    ElasticsearchAsyncClient asyncClient = mock(ElasticsearchAsyncClient.class);
+    RestClient restClient = mock(RestClient.class);
+
+    AtomicReference<String> refreshInterval = new AtomicReference<>("30s");
+    volatile boolean failRestore;
+
+    ElasticsearchBulkIngester ingester = new ElasticsearchBulkIngester(asyncClient, restClient, INDEX_NAME,
+            ElasticsearchBulkConfiguration.builder().disableRefreshDuringIngest(true).build());
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // the settings of the index, as seen through the REST client
+        when(restClient.performRequest(any(Request.class))).thenAnswer(invocation -> {
+            Request request = invocation.getArgument(0);
+            Response response = mock(Response.class);
+            switch (request.getMethod()) {
+                case "GET" -> {
+                    String settings = refreshInterval.get() == null
+                            ? "{}"
+                            : "{\"index\":{\"refresh_interval\":\"" + refreshInterval.get() + "\"}}";
+                    when(response.getEntity()).thenReturn(new StringEntity(
+                            "{\"" + INDEX_NAME + "\":{\"settings\":" + settings + "}}", ContentType.APPLICATION_JSON));
+                }
+                case "PUT" -> {
+                    JsonNode value = OBJECT_MAPPER.readTree(EntityUtils.toString(request.getEntity()))
+                            .path("index")
+                            .path("refresh_interval");
+                    if (failRestore && !value.asText().equals("-1")) {
+                        throw new IOException("restore failed");
+                    }
+                    refreshInterval.set(value.isNull() ? null : value.asText());
+                }
+                default -> {
+                    // refresh
+                }
+            }
+            return response;
+        });
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void should_restore_refresh_interval_once_concurrent_ingests_complete() throws IOException {
+
+        // given
+        CompletableFuture<BulkResponse> firstBulk = new CompletableFuture<>();
+        CompletableFuture<BulkResponse> secondBulk = new CompletableFuture<>();
+        when(asyncClient.bulk(any(Function.class))).thenReturn(firstBulk, secondBulk);
+
+        CompletableFuture<Void> firstIngest = CompletableFuture.runAsync(() -> ingester.index(List.of("1"), documents()));
+        verify(asyncClient, timeout(5_000)).bulk(any(Function.class));
+        CompletableFuture<Void> secondIngest = CompletableFuture.runAsync(() -> ingester.index(List.of("2"), documents()));
+        verify(asyncClient, timeout(5_000).times(2)).bulk(any(Function.class));
+
+        // when
+        firstBulk.complete(successfulBulkResponse());
+        firstIngest.join();
+
+        // then
+        assertThat(refreshInterval.get()).isEqualTo("-1");
+
+        // when
+        secondBulk.complete(successfulBulkResponse());
+        secondIngest.join();
+
+        // then
+        assertThat(refreshInterval.get()).isEqualTo("30s");
+        verify(restClient, times(1)).performRequest(argThat(request -> request.getMethod().equals("GET")));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void should_not_hide_ingest_failure_when_restoring_refresh_fails() {
+
+        // given
+        failRestore = true;
+        when(asyncClient.bulk(any(Function.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("bulk failed")));
+
+        // when-then
+        assertThatThrownBy(() -> ingester.index(List.of("1"), documents()))
+                .isExactlyInstanceOf(ElasticsearchRequestFailedException.class)
+                .hasCauseExactlyInstanceOf(IllegalStateException.class)
+                .satisfies(e -> {
+                    assertThat(e.getSuppressed()).hasSize(1);
+                    assertThat(e.getSuppressed()[0]).hasRootCauseMessage("restore failed");
+                });
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void should_leave_refresh_disabled_by_someone_else() throws IOException {
+
+        // given
+        refreshInterval.set("-1");
+        when(asyncClient.bulk(any(Function.class)))
+                .thenReturn(CompletableFuture.completedFuture(successfulBulkResponse()));
+
+        // when
+        ingester.index(List.of("1"), documents());
+
+        // then
+        assertThat(refreshInterval.get()).isEqualTo("-1");
+        verify(restClient, never()).performRequest(argThat(request -> request.getMethod().equals("PUT")));
+    }
+
+    private static List<Document> documents() {
+        return List.of(new Document(new float[] {0.1f, 0.2f}, "text", Map.of()));
+    }
+
+    private static BulkResponse successfulBulkResponse() {
+        return BulkResponse.of(response -> response.errors(false).took(1).items(List.of()));
+    }
+}
@@ -0,0 +1,115 @@
+package dev.langchain4j.store.embedding.elasticsearch;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import org.apache.http.util.EntityUtils;
+import org.elasticsearch.client.Request;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static dev.langchain4j.internal.Utils.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ElasticsearchEmbeddingStoreBulkIT {
+
+    static ElasticsearchClientHelper elasticsearchClientHelper = new ElasticsearchClientHelper();
+
+    String indexName;
+
+    @BeforeAll
+    static void startServices() throws IOException {
+        elasticsearchClientHelper.startServices();
+        assertThat(elasticsearchClientHelper.restClient).isNotNull();
+        assertThat(elasticsearchClientHelper.client).isNotNull();
+    }
+
+    @AfterAll
+    static void stopServices() throws IOException {
+        elasticsearchClientHelper.stopServices();
+    }
+
+    @BeforeEach
+    void createIndexName() {
+        indexName = randomUUID();
+    }
+
+    @AfterEach
+    void removeDataStore() throws IOException {
+        elasticsearchClientHelper.removeDataStore(indexName);
+    }
+
+    @Test
+    void should_ingest_in_several_concurrent_bulk_requests() throws IOException {
+
+        // given
+        ElasticsearchEmbeddingStore embeddingStore = ElasticsearchEmbeddingStore.builder()
+                .restClient(elasticsearchClientHelper.restClient)
+                .indexName(indexName)
+                .bulkConfiguration(ElasticsearchBulkConfiguration.builder()
+                        .maxOperationsPerRequest(100)
+                        .maxBytesPerRequest(50_000L)
+                        .maxConcurrentRequests(3)
+                        .build())
+                .build();
+
+        // when
+        addAll(embeddingStore, 1_000);
+
+        // then
+        elasticsearchClientHelper.refreshIndex(indexName);
+        assertThat(elasticsearchClientHelper.client.count(c -> c.index(indexName)).count()).isEqualTo(1_000);
+    }
+
+    @Test
+    void should_restore_refresh_interval_after_ingest() throws IOException {
+
+        // given
+        elasticsearchClientHelper.client.indices().create(c -> c
+                .index(indexName)
+                .settings(s -> s.refreshInterval(t -> t.time("5s"))));
+        ElasticsearchEmbeddingStore embeddingStore = ElasticsearchEmbeddingStore.builder()
+                .restClient(elasticsearchClientHelper.restClient)
+                .indexName(indexName)
+                .bulkConfiguration(ElasticsearchBulkConfiguration.builder()
+                        .maxOperationsPerRequest(100)
+                        .disableRefreshDuringIngest(true)
+                        .build())
+                .build();
+
+        // when
+        addAll(embeddingStore, 500);
+
+        // then the index was refreshed, and its refresh interval restored
+        assertThat(elasticsearchClientHelper.client.count(c -> c.index(indexName)).count()).isEqualTo(500);
+        String settings = EntityUtils.toString(elasticsearchClientHelper.restClient
+                .performRequest(new Request("GET", "/" + indexName + "/_settings/index.refresh_interval"))
+                .getEntity());
+        assertThat(settings).contains("\"refresh_interval\":\"5s\"");
+    }
+
+    private static void addAll(ElasticsearchEmbeddingStore embeddingStore, int count) {
+        Random random = new Random(42);
+        List<String> ids = new ArrayList<>();
+        List<Embedding> embeddings = new ArrayList<>();
+        List<TextSegment> segments = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            float[] vector = new float[384];
+            for (int j = 0; j < vector.length; j++) {
+                vector[j] = random.nextFloat();
+            }
+            ids.add(randomUUID());
+            embeddings.add(Embedding.from(vector));
+            segments.add(TextSegment.from("segment " + i, Metadata.from("index", i)));
+        }
+        embeddingStore.addAll(ids, embeddings, segments);
+    }
+}
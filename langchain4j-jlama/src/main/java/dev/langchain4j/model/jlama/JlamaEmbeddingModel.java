@@ -8,19 +8,27 @@ import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.internal.RetryUtils;
 import dev.langchain4j.model.embedding.DimensionAwareEmbeddingModel;
+import dev.langchain4j.model.embedding.EmbeddingBatcher;
 import dev.langchain4j.model.jlama.spi.JlamaEmbeddingModelBuilderFactory;
 import dev.langchain4j.model.output.Response;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Semaphore;
 
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.spi.ServiceHelper.loadFactories;
 
 public class JlamaEmbeddingModel extends DimensionAwareEmbeddingModel {
     private final BertModel model;
     private final Generator.PoolingType poolingType;
+    private final Semaphore forwardPasses;
+    private final EmbeddingBatcher batcher;
 
     public JlamaEmbeddingModel(Path modelCachePath,
                                String modelName,
@@ -29,6 +37,28 @@ public class JlamaEmbeddingModel extends DimensionAwareEmbeddingModel {
                                Boolean quantizeModelAtRuntime,
                                Generator.PoolingType poolingType,
                                Path workingDirectory) {
+        this(modelCachePath, modelName, authToken, threadCount, quantizeModelAtRuntime, poolingType, workingDirectory,
+                null, null);
+    }
+
+    /**
+     * @param threadCount           the number of threads used by each forward pass (intra-op parallelism).
+     * @param maxConcurrentBatches  the maximum number of forward passes running concurrently
+     *                              (inter-request parallelism), shared by all callers of this model.
+     *                              Default value: 1. Together, {@code threadCount} and {@code maxConcurrentBatches}
+     *                              should not exceed the number of physical cores.
+     * @param maxSegmentsPerBatch   the number of segments of a sub-batch of {@link #embedAll(List)},
+     *                              sub-batches being embedded concurrently. Default value: 8.
+     */
+    public JlamaEmbeddingModel(Path modelCachePath,
+                               String modelName,
+                               String authToken,
+                               Integer threadCount,
+                               Boolean quantizeModelAtRuntime,
+                               Generator.PoolingType poolingType,
+                               Path workingDirectory,
+                               Integer maxConcurrentBatches,
+                               Integer maxSegmentsPerBatch) {
 
         JlamaModelRegistry registry = JlamaModelRegistry.getOrCreate(modelCachePath);
         JlamaModel jlamaModel = RetryUtils.withRetryMappingExceptions(() -> registry.downloadModel(modelName, Optional.ofNullable(authToken)), 2);
@@ -53,6 +83,13 @@ public class JlamaEmbeddingModel extends DimensionAwareEmbeddingModel {
         this.dimension = model.getConfig().embeddingLength;
 
         this.poolingType = poolingType == null ? Generator.PoolingType.MODEL : poolingType;
+
+        int concurrency = ensureGreaterThanZero(getOrDefault(maxConcurrentBatches, 1), "maxConcurrentBatches");
+        this.forwardPasses = new Semaphore(concurrency, true);
+        this.batcher = EmbeddingBatcher.builder()
+                .maxSegmentsPerBatch(getOrDefault(maxSegmentsPerBatch, 8))
+                .maxConcurrentBatches(concurrency)
+                .build();
     }
 
     public static JlamaEmbeddingModelBuilder builder() {
@@ -62,17 +99,58 @@ public class JlamaEmbeddingModel extends DimensionAwareEmbeddingModel {
         return new JlamaEmbeddingModelBuilder();
     }
 
+    /**
+     * Embeds the segments in sub-batches of {@code maxSegmentsPerBatch} segments, up to {@code maxConcurrentBatches}
+     * of them concurrently. Segments are sorted by decreasing length first, so that each sub-batch holds segments
+     * of similar lengths and the longest ones start first, which balances the work between concurrent forward passes.
+     * The embeddings are returned in the order of the segments.
+     */
     @Override
     public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
-        List<Embedding> embeddings = new ArrayList<>();
+        if (textSegments.size() <= 1) {
+            return embedBatch(textSegments);
+        }
+
+        Integer[] order = new Integer[textSegments.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingInt((Integer i) -> textSegments.get(i).text().length()).reversed());
+        List<TextSegment> sorted = new ArrayList<>(order.length);
+        for (Integer i : order) {
+            sorted.add(textSegments.get(i));
+        }
 
-        textSegments.forEach(textSegment -> {
-            embeddings.add(Embedding.from(model.embed(textSegment.text(), poolingType)));
-        });
+        List<Embedding> sortedEmbeddings = batcher.embedAll(sorted, this::embedBatch).content();
 
+        Embedding[] embeddings = new Embedding[order.length];
+        for (int i = 0; i < order.length; i++) {
+            embeddings[order[i]] = sortedEmbeddings.get(i);
+        }
+        return Response.from(Arrays.asList(embeddings));
+    }
+
+    private Response<List<Embedding>> embedBatch(List<TextSegment> textSegments) {
+        List<Embedding> embeddings = new ArrayList<>(textSegments.size());
+        for (TextSegment textSegment : textSegments) {
+            embeddings.add(Embedding.from(forwardPass(textSegment.text())));
+        }
         return Response.from(embeddings);
     }
 
+    /**
+     * Runs a forward pass once fewer than {@code maxConcurrentBatches} are running,
+     * callers from all threads being served in order of arrival.
+     */
+    private float[] forwardPass(String text) {
+        forwardPasses.acquireUninterruptibly();
+        try {
+            return model.embed(text, poolingType);
+        } finally {
+            forwardPasses.release();
+        }
+    }
+
     public static class JlamaEmbeddingModelBuilder {
         private Path modelCachePath;
         private String modelName;
@@ -81,6 +159,8 @@ public class JlamaEmbeddingModel extends DimensionAwareEmbeddingModel {
         private Boolean quantizeModelAtRuntime;
         private Generator.PoolingType poolingType;
         private Path workingDirectory;
+        private Integer maxConcurrentBatches;
+        private Integer maxSegmentsPerBatch;
 
         public JlamaEmbeddingModelBuilder() {
             // This is public, so it can be extended
@@ -122,12 +202,33 @@ public class JlamaEmbeddingModel extends DimensionAwareEmbeddingModel {
             return this;
         }
 
+        /**
+         * @param maxConcurrentBatches the maximum number of forward passes running concurrently, shared by all
+         *                             callers of the model. Default value: 1.
+         *                             Each forward pass uses {@link #threadCount(Integer)} threads.
+         * @return builder
+         */
+        public JlamaEmbeddingModelBuilder maxConcurrentBatches(Integer maxConcurrentBatches) {
+            this.maxConcurrentBatches = maxConcurrentBatches;
+            return this;
+        }
+
+        /**
+         * @param maxSegmentsPerBatch the number of segments of the sub-batches of {@code embedAll},
+         *                            embedded concurrently. Default value: 8.
+         * @return builder
+         */
+        public JlamaEmbeddingModelBuilder maxSegmentsPerBatch(Integer maxSegmentsPerBatch) {
+            this.maxSegmentsPerBatch = maxSegmentsPerBatch;
+            return this;
+        }
+
         public JlamaEmbeddingModel build() {
-            return new JlamaEmbeddingModel(this.modelCachePath, this.modelName, this.authToken, this.threadCount, this.quantizeModelAtRuntime, this.poolingType, this.workingDirectory);
+            return new JlamaEmbeddingModel(this.modelCachePath, this.modelName, this.authToken, this.threadCount, this.quantizeModelAtRuntime, this.poolingType, this.workingDirectory, this.maxConcurrentBatches, this.maxSegmentsPerBatch);
         }
 
         public String toString() {
-            return "JlamaEmbeddingModel.JlamaEmbeddingModelBuilder(modelCachePath=" + this.modelCachePath + ", modelName=" + this.modelName + ", authToken=" + this.authToken + ", threadCount=" + this.threadCount + ", quantizeModelAtRuntime=" + this.quantizeModelAtRuntime + ", poolingType=" + this.poolingType + ", workingDirectory=" + this.workingDirectory + ")";
+            return "JlamaEmbeddingModel.JlamaEmbeddingModelBuilder(modelCachePath=" + this.modelCachePath + ", modelName=" + this.modelName + ", authToken=" + this.authToken + ", threadCount=" + this.threadCount + ", quantizeModelAtRuntime=" + this.quantizeModelAtRuntime + ", poolingType=" + this.poolingType + ", workingDirectory=" + this.workingDirectory + ", maxConcurrentBatches=" + this.maxConcurrentBatches + ", maxSegmentsPerBatch=" + this.maxSegmentsPerBatch + ")";
         }
     }
 }
@@ -0,0 +1,84 @@
+package dev.langchain4j.model.jlama;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+/**
+ * Compares the throughput of {@link JlamaEmbeddingModel#embedAll(List)} with one forward pass at a time
+ * and with concurrent forward passes, using a small BERT model.
+ */
+class JlamaEmbeddingModelThroughputIT {
+
+    private static final Logger log = LoggerFactory.getLogger(JlamaEmbeddingModelThroughputIT.class);
+
+    static File tmpDir;
+
+    @BeforeAll
+    static void setup() {
+        tmpDir = new File(System.getProperty("java.io.tmpdir") + File.separator + "jlama_tests");
+        tmpDir.mkdirs();
+    }
+
+    @Test
+    void should_embed_concurrently_with_same_results() {
+
+        // given
+        int cores = Runtime.getRuntime().availableProcessors();
+        int concurrency = Math.max(2, cores / 2);
+
+        JlamaEmbeddingModel sequential = JlamaEmbeddingModel.builder()
+                .modelName("intfloat/e5-small-v2")
+                .modelCachePath(tmpDir.toPath())
+                .build();
+        JlamaEmbeddingModel concurrent = JlamaEmbeddingModel.builder()
+                .modelName("intfloat/e5-small-v2")
+                .modelCachePath(tmpDir.toPath())
+                .threadCount(Math.max(1, cores / concurrency))
+                .maxConcurrentBatches(concurrency)
+                .maxSegmentsPerBatch(4)
+                .build();
+
+        List<TextSegment> segments = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            segments.add(TextSegment.from("segment " + i + " " + "lorem ipsum dolor sit amet ".repeat(1 + i % 16)));
+        }
+        sequential.embedAll(segments.subList(0, 4)); // warm-up
+        concurrent.embedAll(segments.subList(0, 4));
+
+        // when
+        long start = System.nanoTime();
+        List<Embedding> expected = sequential.embedAll(segments).content();
+        long sequentialNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        List<Embedding> actual = concurrent.embedAll(segments).content();
+        long concurrentNanos = System.nanoTime() - start;
+
+        // then
+        log.info("embedded {} segments: {} segments/s one at a time, {} segments/s with {} concurrent forward passes",
+                segments.size(),
+                segments.size() * 1_000_000_000L / sequentialNanos,
+                segments.size() * 1_000_000_000L / concurrentNanos,
+                concurrency);
+
+        assertThat(actual).hasSize(segments.size());
+        for (int i = 0; i < segments.size(); i++) {
+            float[] expectedVector = expected.get(i).vector();
+            float[] actualVector = actual.get(i).vector();
+            for (int j = 0; j < expectedVector.length; j++) {
+                assertThat(actualVector[j]).isCloseTo(expectedVector[j], offset(1e-3f));
+            }
+        }
+    }
+}
@@ -257,7 +257,7 @@ public class DefaultMcpClient implements McpClient {
             Thread.currentThread().interrupt();
             throw new RuntimeException(e);
         } finally {
-            pendingOperations.remove(operationId);
+            finishOperation(operationId, resultFuture);
         }
         return ToolExecutionHelper.extractResult(result);
     }
@@ -286,7 +286,7 @@ public class DefaultMcpClient implements McpClient {
         } catch (ExecutionException | InterruptedException | TimeoutException e) {
             throw new RuntimeException(e);
         } finally {
-            pendingOperations.remove(operationId);
+            finishOperation(operationId, resultFuture);
         }
     }
 
@@ -314,7 +314,7 @@ public class DefaultMcpClient implements McpClient {
         } catch (ExecutionException | InterruptedException | TimeoutException e) {
             throw new RuntimeException(e);
         } finally {
-            pendingOperations.remove(operationId);
+            finishOperation(operationId, resultFuture);
         }
     }
 
@@ -324,13 +324,14 @@ public class DefaultMcpClient implements McpClient {
         transport.checkHealth();
         long operationId = idGenerator.getAndIncrement();
         McpPingRequest ping = new McpPingRequest(operationId);
+        CompletableFuture<JsonNode> resultFuture = null;
         try {
-            CompletableFuture<JsonNode> resultFuture = transport.executeOperationWithResponse(ping);
+            resultFuture = transport.executeOperationWithResponse(ping);
             resultFuture.get(pingTimeout.toMillis(), TimeUnit.MILLISECONDS);
         } catch (ExecutionException | InterruptedException | TimeoutException e) {
             throw new RuntimeException(e);
         } finally {
-            pendingOperations.remove(operationId);
+            finishOperation(operationId, resultFuture);
         }
     }
 
@@ -351,14 +352,15 @@ public class DefaultMcpClient implements McpClient {
 
     private synchronized void obtainToolList() {
         McpListToolsRequest operation = new McpListToolsRequest(idGenerator.getAndIncrement());
-        CompletableFuture<JsonNode> resultFuture = transport.executeOperationWithResponse(operation);
+        CompletableFuture<JsonNode> resultFuture = null;
         JsonNode result = null;
         try {
+            resultFuture = transport.executeOperationWithResponse(operation);
             result = resultFuture.get();
         } catch (InterruptedException | ExecutionException e) {
             throw new RuntimeException(e);
         } finally {
-            pendingOperations.remove(operation.getId());
+            finishOperation(operation.getId(), resultFuture);
         }
 
         final List<ToolSpecification> toolList = ToolSpecificationHelper.toolSpecificationListFromMcpResponse(
@@ -381,7 +383,7 @@ public class DefaultMcpClient implements McpClient {
         } catch (ExecutionException | InterruptedException | TimeoutException e) {
             throw new RuntimeException(e);
         } finally {
-            pendingOperations.remove(operation.getId());
+            finishOperation(operation.getId(), resultFuture);
         }
     }
 
@@ -400,7 +402,7 @@ public class DefaultMcpClient implements McpClient {
         } catch (ExecutionException | InterruptedException | TimeoutException e) {
             throw new RuntimeException(e);
         } finally {
-            pendingOperations.remove(operation.getId());
+            finishOperation(operation.getId(), resultFuture);
         }
     }
 
@@ -448,7 +450,7 @@ public class DefaultMcpClient implements McpClient {
         } catch (ExecutionException | InterruptedException | TimeoutException e) {
             throw new RuntimeException(e);
         } finally {
-            pendingOperations.remove(operation.getId());
+            finishOperation(operation.getId(), resultFuture);
         }
     }
 
@@ -471,6 +473,18 @@ public class DefaultMcpClient implements McpClient {
         }
     }
 
+    /**
+     * Forgets an operation that has completed or has been abandoned (e.g. after a timeout).
+     * A future that is still pending is cancelled, so that the transport can release
+     * whatever it holds for the operation.
+     */
+    private void finishOperation(long operationId, CompletableFuture<JsonNode> resultFuture) {
+        pendingOperations.remove(operationId);
+        if (resultFuture != null) {
+            resultFuture.cancel(true);
+        }
+    }
+
     public static class Builder {
 
         private String toolExecutionTimeoutErrorMessage;
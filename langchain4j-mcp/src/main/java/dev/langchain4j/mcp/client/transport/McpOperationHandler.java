@@ -88,4 +88,15 @@ public class McpOperationHandler {
     public void startOperation(Long id, CompletableFuture<JsonNode> future) {
         pendingOperations.put(id, future);
     }
+
+    /**
+     * Creates a handler that shares the callbacks of this one, but tracks its pending operations
+     * in the given map and answers server-initiated requests through the given transport.
+     * This is used by transports that multiplex several server connections behind a single client,
+     * where each connection has its own ID space and must answer pings on its own channel.
+     */
+    public McpOperationHandler forTransport(
+            McpTransport transport, Map<Long, CompletableFuture<JsonNode>> pendingOperations) {
+        return new McpOperationHandler(pendingOperations, roots, transport, logMessageConsumer, onToolListUpdate);
+    }
 }
@@ -0,0 +1,374 @@
+package dev.langchain4j.mcp.client.transport.stdio;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import dev.langchain4j.mcp.client.protocol.McpCancellationNotification;
+import dev.langchain4j.mcp.client.protocol.McpClientMessage;
+import dev.langchain4j.mcp.client.protocol.McpInitializeRequest;
+import dev.langchain4j.mcp.client.transport.McpOperationHandler;
+import dev.langchain4j.mcp.client.transport.McpTransport;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link McpTransport} that runs several instances of the same MCP server as subprocesses
+ * and spreads requests across them. Each request is sent to the process with the fewest
+ * requests in flight, so that a slow tool call only occupies one process instead of blocking
+ * all traffic of the client.
+ * <p>
+ * Processes that exit unexpectedly are restarted and re-initialized automatically.
+ * Requests that were in flight on a crashed process are failed.
+ * <p>
+ * Because requests may be served by any process of the pool, this transport is only suitable
+ * for MCP servers that do not keep per-session state between requests.
+ */
+public class StdioMcpTransportPool implements McpTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(StdioMcpTransportPool.class);
+
+    private final List<String> command;
+    private final Map<String, String> environment;
+    private final boolean logEvents;
+    private final Logger logger;
+    private final int poolSize;
+    private final List<PooledProcess> processes = new ArrayList<>();
+    private final Map<Long, PooledProcess> routes = new ConcurrentHashMap<>();
+    private final AtomicLong totalRequests = new AtomicLong();
+    private final AtomicLong failedRequests = new AtomicLong();
+    private final AtomicLong restarts = new AtomicLong();
+    private volatile McpOperationHandler messageHandler;
+    private volatile McpInitializeRequest initializeRequest;
+    private volatile boolean closed = false;
+
+    public StdioMcpTransportPool(Builder builder) {
+        this.command = builder.command;
+        this.environment = builder.environment;
+        this.logEvents = builder.logEvents;
+        this.logger = builder.logger;
+        this.poolSize = builder.poolSize;
+    }
+
+    @Override
+    public void start(McpOperationHandler messageHandler) {
+        this.messageHandler = messageHandler;
+        synchronized (processes) {
+            processes.forEach(PooledProcess::retire);
+            processes.clear();
+            for (int i = 0; i < poolSize; i++) {
+                PooledProcess process = new PooledProcess(i);
+                process.start();
+                processes.add(process);
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<JsonNode> initialize(McpInitializeRequest request) {
+        this.initializeRequest = request;
+        List<CompletableFuture<JsonNode>> futures = new ArrayList<>();
+        for (PooledProcess process : snapshot()) {
+            futures.add(process.initialize(request));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .thenApply(ignored -> futures.get(0).join());
+    }
+
+    @Override
+    public CompletableFuture<JsonNode> executeOperationWithResponse(McpClientMessage request) {
+        PooledProcess process = leastLoaded();
+        if (process == null) {
+            failedRequests.incrementAndGet();
+            return CompletableFuture.failedFuture(
+                    new IllegalStateException("No MCP server process of the pool is available"));
+        }
+        totalRequests.incrementAndGet();
+        process.inFlight.incrementAndGet();
+        Long id = request.getId();
+        routes.put(id, process);
+        CompletableFuture<JsonNode> future = process.transport.executeOperationWithResponse(request);
+        // also runs when the client cancels the future of a request it has stopped waiting for (e.g. after a timeout)
+        future.whenComplete((result, error) -> {
+            if (release(id, process) && error != null) {
+                failedRequests.incrementAndGet();
+            }
+        });
+        return future;
+    }
+
+    @Override
+    public void executeOperationWithoutResponse(McpClientMessage request) {
+        if (request instanceof McpCancellationNotification cancellation) {
+            // a cancellation only makes sense for the process that received the original request
+            Object requestId = cancellation.getParams().get("requestId");
+            PooledProcess process = requestId instanceof Long id ? routes.get(id) : null;
+            if (process != null) {
+                // the abandoned future may never complete, so it is released here
+                release((Long) requestId, process);
+                if (process.ready) {
+                    process.transport.executeOperationWithoutResponse(request);
+                }
+                return;
+            }
+        }
+        // other client notifications (e.g. roots/list_changed) concern every process
+        for (PooledProcess process : snapshot()) {
+            if (process.ready) {
+                process.transport.executeOperationWithoutResponse(request);
+            }
+        }
+    }
+
+    @Override
+    public void checkHealth() {
+        if (snapshot().stream().noneMatch(process -> process.ready && process.isAlive())) {
+            throw new IllegalStateException("No MCP server process of the pool is alive");
+        }
+    }
+
+    @Override
+    public void onFailure(Runnable actionOnFailure) {
+        // ignore, the pool restarts crashed processes by itself
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        for (PooledProcess process : snapshot()) {
+            process.retire();
+        }
+    }
+
+    /**
+     * Returns a point-in-time view of the pool's state.
+     */
+    public PoolMetrics metrics() {
+        List<PooledProcess> snapshot = snapshot();
+        int alive = 0;
+        int inFlight = 0;
+        List<Integer> inFlightPerProcess = new ArrayList<>();
+        for (PooledProcess process : snapshot) {
+            if (process.ready && process.isAlive()) {
+                alive++;
+            }
+            int processInFlight = Math.max(process.inFlight.get(), 0);
+            inFlight += processInFlight;
+            inFlightPerProcess.add(processInFlight);
+        }
+        return new PoolMetrics(
+                snapshot.size(),
+                alive,
+                inFlight,
+                inFlightPerProcess,
+                totalRequests.get(),
+                failedRequests.get(),
+                restarts.get());
+    }
+
+    /**
+     * Releases the slot taken by a request on the given process, i.e. forgets its pending operation
+     * and decrements the number of requests in flight. Only the first call for a request has an effect.
+     *
+     * @return {@code true} if the slot was released by this call
+     */
+    private boolean release(Long id, PooledProcess process) {
+        if (!routes.remove(id, process)) {
+            return false;
+        }
+        process.pendingOperations.remove(id);
+        process.inFlight.decrementAndGet();
+        return true;
+    }
+
+    private PooledProcess leastLoaded() {
+        PooledProcess best = null;
+        for (PooledProcess process : snapshot()) {
+            if (!process.ready || !process.isAlive()) {
+                continue;
+            }
+            if (best == null || process.inFlight.get() < best.inFlight.get()) {
+                best = process;
+            }
+        }
+        return best;
+    }
+
+    private List<PooledProcess> snapshot() {
+        synchronized (processes) {
+            return new ArrayList<>(processes);
+        }
+    }
+
+    private void restart(PooledProcess crashed) {
+        synchronized (processes) {
+            if (closed || crashed.retired || !processes.contains(crashed)) {
+                return;
+            }
+            log.warn(
+                    "MCP server process #{} of the pool has exited unexpectedly, restarting it", crashed.index);
+            crashed.retire();
+            PooledProcess replacement = new PooledProcess(crashed.index);
+            processes.set(processes.indexOf(crashed), replacement);
+            restarts.incrementAndGet();
+            try {
+                replacement.start();
+            } catch (RuntimeException e) {
+                log.warn("Failed to restart MCP server process #{} of the pool", crashed.index, e);
+                return;
+            }
+            McpInitializeRequest request = initializeRequest;
+            if (request != null) {
+                replacement.initialize(request);
+            }
+        }
+    }
+
+    /**
+     * A single server subprocess of the pool, together with the operations pending on it.
+     */
+    private class PooledProcess {
+
+        private final int index;
+        private final StdioMcpTransport transport;
+        private final Map<Long, CompletableFuture<JsonNode>> pendingOperations = new ConcurrentHashMap<>();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private volatile boolean ready = false;
+        private volatile boolean retired = false;
+
+        PooledProcess(int index) {
+            this.index = index;
+            this.transport = new StdioMcpTransport.Builder()
+                    .command(command)
+                    .environment(environment)
+                    .logEvents(logEvents)
+                    .logger(logger)
+                    .build();
+        }
+
+        void start() {
+            transport.start(messageHandler.forTransport(transport, pendingOperations));
+            transport.getProcess().onExit().thenRun(() -> {
+                ready = false;
+                failPendingOperations();
+                restart(this);
+            });
+        }
+
+        CompletableFuture<JsonNode> initialize(McpInitializeRequest request) {
+            return transport.initialize(request).whenComplete((response, error) -> {
+                pendingOperations.remove(request.getId());
+                if (error == null && !retired) {
+                    ready = true;
+                }
+            });
+        }
+
+        boolean isAlive() {
+            Process process = transport.getProcess();
+            return process != null && process.isAlive();
+        }
+
+        void retire() {
+            retired = true;
+            ready = false;
+            try {
+                transport.close();
+            } catch (Exception ignored) {
+            }
+            failPendingOperations();
+        }
+
+        private void failPendingOperations() {
+            for (Long id : pendingOperations.keySet()) {
+                CompletableFuture<JsonNode> future = pendingOperations.remove(id);
+                if (future != null) {
+                    future.completeExceptionally(
+                            new IllegalStateException("MCP server process #" + index + " of the pool has exited"));
+                }
+            }
+        }
+    }
+
+    /**
+     * Point-in-time metrics of a {@link StdioMcpTransportPool}.
+     *
+     * @param poolSize           the configured number of processes
+     * @param aliveProcesses     the number of processes that are running and initialized
+     * @param inFlightRequests   the number of requests awaiting a response, across all processes
+     * @param inFlightPerProcess the number of requests awaiting a response, per process
+     * @param totalRequests      the number of requests dispatched since the pool was created
+     * @param failedRequests     the number of requests that could not be dispatched or completed exceptionally
+     * @param restarts           the number of times a crashed process was restarted
+     */
+    public record PoolMetrics(
+            int poolSize,
+            int aliveProcesses,
+            int inFlightRequests,
+            List<Integer> inFlightPerProcess,
+            long totalRequests,
+            long failedRequests,
+            long restarts) {}
+
+    public static class Builder {
+
+        private List<String> command;
+        private Map<String, String> environment;
+        private boolean logEvents;
+        private Logger logger;
+        private Integer poolSize;
+
+        public Builder command(List<String> command) {
+            this.command = command;
+            return this;
+        }
+
+        public Builder environment(Map<String, String> environment) {
+            this.environment = environment;
+            return this;
+        }
+
+        public Builder logEvents(boolean logEvents) {
+            this.logEvents = logEvents;
+            return this;
+        }
+
+        /**
+         * @param logger an alternate {@link Logger} to be used instead of the default one provided by Langchain4J for traffic logging.
+         * @return {@code this}.
+         */
+        public Builder logger(Logger logger) {
+            this.logger = logger;
+            return this;
+        }
+
+        /**
+         * @param poolSize the number of server processes to run.
+         *                 Default value: the number of available processors.
+         * @return {@code this}.
+         */
+        public Builder poolSize(Integer poolSize) {
+            this.poolSize = poolSize;
+            return this;
+        }
+
+        public StdioMcpTransportPool build() {
+            ensureNotEmpty(command, "command");
+            if (environment == null) {
+                environment = Map.of();
+            }
+            poolSize = ensureGreaterThanZero(
+                    getOrDefault(poolSize, Runtime.getRuntime().availableProcessors()), "poolSize");
+            return new StdioMcpTransportPool(this);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package dev.langchain4j.mcp.client.transport.stdio;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import dev.langchain4j.agent.tool.ToolExecutionRequest;
+import dev.langchain4j.mcp.client.DefaultMcpClient;
+import dev.langchain4j.mcp.client.McpClient;
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class StdioMcpTransportPoolTest {
+
+    StdioMcpTransportPool pool;
+    McpClient client;
+
+    @BeforeEach
+    void setUp() {
+        String java = ProcessHandle.current().info().command().orElse("java");
+        pool = new StdioMcpTransportPool.Builder()
+                .command(List.of(java, "-cp", System.getProperty("java.class.path"), FakeMcpServer.class.getName()))
+                .poolSize(2)
+                .build();
+        client = new DefaultMcpClient.Builder()
+                .transport(pool)
+                .toolExecutionTimeout(Duration.ofMillis(200))
+                .resourcesTimeout(Duration.ofMillis(200))
+                .promptsTimeout(Duration.ofMillis(200))
+                .autoHealthCheck(false)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        client.close();
+    }
+
+    @Test
+    void should_release_processes_of_timed_out_requests() {
+
+        // when
+        assertThatThrownBy(() -> client.readResource("file:///info")).hasCauseInstanceOf(TimeoutException.class);
+        assertThatThrownBy(() -> client.getPrompt("greeting", Map.of())).hasCauseInstanceOf(TimeoutException.class);
+        assertThatThrownBy(() -> client.readResource("file:///info")).hasCauseInstanceOf(TimeoutException.class);
+
+        // then
+        StdioMcpTransportPool.PoolMetrics metrics = pool.metrics();
+        assertThat(metrics.totalRequests()).isEqualTo(3);
+        assertThat(metrics.inFlightRequests()).isZero();
+        assertThat(metrics.inFlightPerProcess()).containsExactly(0, 0);
+    }
+
+    @Test
+    void should_release_processes_of_timed_out_tool_executions() {
+
+        // given
+        ToolExecutionRequest request = ToolExecutionRequest.builder()
+                .name("sleep")
+                .arguments("{}")
+                .build();
+
+        // when
+        client.executeTool(request);
+        client.executeTool(request);
+        client.executeTool(request);
+
+        // then
+        StdioMcpTransportPool.PoolMetrics metrics = pool.metrics();
+        assertThat(metrics.totalRequests()).isEqualTo(3);
+        assertThat(metrics.inFlightRequests()).isZero();
+        assertThat(metrics.inFlightPerProcess()).containsExactly(0, 0);
+    }
+
+    /**
+     * A minimal MCP server that answers the initialization request and never answers any other request.
+     */
+    public static class FakeMcpServer {
+
+        private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+        public static void main(String[] args) throws Exception {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Matcher id = ID.matcher(line);
+                if (line.contains("\"initialize\"") && id.find()) {
+                    System.out.println("{\"jsonrpc\":\"2.0\",\"id\":" + id.group(1)
+                            + ",\"result\":{\"protocolVersion\":\"2024-11-05\",\"capabilities\":{},"
+                            + "\"serverInfo\":{\"name\":\"fake\",\"version\":\"1.0\"}}}");
+                    System.out.flush();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package dev.langchain4j.micrometer.metrics;
+
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
+
+import dev.langchain4j.observability.metrics.MetricNames;
+import dev.langchain4j.observability.metrics.MetricsRecorder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link MetricsRecorder} publishing the metrics of LangChain4j components (see {@link MetricNames})
+ * to a Micrometer {@link MeterRegistry}: durations as {@link Timer}s and counts as {@link Counter}s.
+ * <p>
+ * Meters are registered on first use and then looked up in a local map, so recording does not go through
+ * the registry on the hot path.
+ */
+public class MicrometerMetricsRecorder implements MetricsRecorder {
+
+    private final MeterRegistry meterRegistry;
+    private final boolean publishPercentileHistogram;
+
+    private final Map<MeterId, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<MeterId, Counter> counters = new ConcurrentHashMap<>();
+
+    public MicrometerMetricsRecorder(Builder builder) {
+        this.meterRegistry = ensureNotNull(builder.meterRegistry, "meterRegistry");
+        this.publishPercentileHistogram = getOrDefault(builder.publishPercentileHistogram, true);
+    }
+
+    public MicrometerMetricsRecorder(MeterRegistry meterRegistry) {
+        this(builder().meterRegistry(meterRegistry));
+    }
+
+    @Override
+    public void recordDuration(String name, long nanos, String... tags) {
+        Timer timer = timers.computeIfAbsent(new MeterId(name, Arrays.asList(tags)), id -> Timer.builder(name)
+                .tags(tags)
+                .publishPercentileHistogram(publishPercentileHistogram)
+                .register(meterRegistry));
+        timer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void increment(String name, long amount, String... tags) {
+        Counter counter = counters.computeIfAbsent(new MeterId(name, Arrays.asList(tags)), id -> Counter.builder(name)
+                .tags(tags)
+                .register(meterRegistry));
+        counter.increment(amount);
+    }
+
+    private record MeterId(String name, List<String> tags) {}
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private MeterRegistry meterRegistry;
+        private Boolean publishPercentileHistogram;
+
+        /**
+         * @param meterRegistry the registry to publish the metrics to.
+         * @return {@code this}
+         */
+        public Builder meterRegistry(MeterRegistry meterRegistry) {
+            this.meterRegistry = meterRegistry;
+            return this;
+        }
+
+        /**
+         * @param publishPercentileHistogram whether timers publish a percentile histogram, so that percentiles
+         *                                   can be aggregated by the monitoring system. Default value: {@code true}.
+         * @return {@code this}
+         */
+        public Builder publishPercentileHistogram(Boolean publishPercentileHistogram) {
+            this.publishPercentileHistogram = publishPercentileHistogram;
+            return this;
+        }
+
+        public MicrometerMetricsRecorder build() {
+            return new MicrometerMetricsRecorder(this);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package dev.langchain4j.micrometer.metrics;
+
+import static dev.langchain4j.observability.metrics.MetricNames.CHAT_DURATION;
+import static dev.langchain4j.observability.metrics.MetricNames.CHAT_TOKENS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class MicrometerMetricsRecorderTest {
+
+    @Test
+    void should_publish_durations_and_counts() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MicrometerMetricsRecorder recorder = new MicrometerMetricsRecorder(registry);
+
+        recorder.recordDuration(CHAT_DURATION, 2_000_000, "model", "gpt-4o");
+        recorder.recordDuration(CHAT_DURATION, 4_000_000, "model", "gpt-4o");
+        recorder.recordDuration(CHAT_DURATION, 1_000_000, "model", "gpt-4o-mini");
+        recorder.increment(CHAT_TOKENS, 10, "model", "gpt-4o");
+        recorder.increment(CHAT_TOKENS, 5, "model", "gpt-4o");
+
+        Timer timer = registry.get(CHAT_DURATION).tag("model", "gpt-4o").timer();
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(6.0);
+        assertThat(registry.get(CHAT_DURATION).timers()).hasSize(2);
+        assertThat(registry.get(CHAT_TOKENS).tag("model", "gpt-4o").counter().count()).isEqualTo(15.0);
+    }
+}
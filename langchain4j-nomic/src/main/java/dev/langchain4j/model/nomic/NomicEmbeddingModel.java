@@ -3,12 +3,12 @@ package dev.langchain4j.model.nomic;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.DimensionAwareEmbeddingModel;
+import dev.langchain4j.model.embedding.EmbeddingBatcher;
 import dev.langchain4j.model.output.Response;
 import dev.langchain4j.model.output.TokenUsage;
 import org.slf4j.Logger;
 
 import java.time.Duration;
-import java.util.ArrayList;
 import java.util.List;
 
 import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptions;
@@ -28,7 +28,7 @@ public class NomicEmbeddingModel extends DimensionAwareEmbeddingModel {
     private final NomicClient client;
     private final String modelName;
     private final String taskType;
-    private final Integer maxSegmentsPerBatch;
+    private final EmbeddingBatcher batcher;
     private final Integer maxRetries;
 
     @Deprecated(forRemoval = true, since = "1.5.0")
@@ -52,7 +52,9 @@ public class NomicEmbeddingModel extends DimensionAwareEmbeddingModel {
                 .build();
         this.modelName = ensureNotBlank(modelName, "modelName");
         this.taskType = taskType;
-        this.maxSegmentsPerBatch = getOrDefault(maxSegmentsPerBatch, 500);
+        this.batcher = EmbeddingBatcher.builder()
+                .maxSegmentsPerBatch(getOrDefault(maxSegmentsPerBatch, 500))
+                .build();
         this.maxRetries = getOrDefault(maxRetries, 2);
     }
 
@@ -66,7 +68,10 @@ public class NomicEmbeddingModel extends DimensionAwareEmbeddingModel {
                 .build();
         this.modelName = ensureNotBlank(builder.modelName, "modelName");
         this.taskType = builder.taskType;
-        this.maxSegmentsPerBatch = getOrDefault(builder.maxSegmentsPerBatch, 500);
+        this.batcher = EmbeddingBatcher.builder()
+                .maxSegmentsPerBatch(getOrDefault(builder.maxSegmentsPerBatch, 500))
+                .maxConcurrentBatches(builder.maxConcurrentBatches)
+                .build();
         this.maxRetries = getOrDefault(builder.maxRetries, 2);
     }
 
@@ -76,35 +81,27 @@ public class NomicEmbeddingModel extends DimensionAwareEmbeddingModel {
 
     @Override
     public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+        if (textSegments.isEmpty()) {
+            return Response.from(List.of(), new TokenUsage(0, 0));
+        }
+        return batcher.embedAll(textSegments, this::embedBatch);
+    }
+
+    private Response<List<Embedding>> embedBatch(List<TextSegment> textSegments) {
 
         List<String> texts = textSegments.stream()
                 .map(TextSegment::text)
                 .collect(toList());
 
-        return embedTexts(texts);
-    }
-
-    private Response<List<Embedding>> embedTexts(List<String> texts) {
-
-        List<Embedding> embeddings = new ArrayList<>();
-        int inputTokenCount = 0;
-
-        for (int i = 0; i < texts.size(); i += maxSegmentsPerBatch) {
-            List<String> batch = texts.subList(i, Math.min(i + maxSegmentsPerBatch, texts.size()));
-
-            EmbeddingRequest request = EmbeddingRequest.builder()
-                    .model(modelName)
-                    .texts(batch)
-                    .taskType(taskType)
-                    .build();
-
-            EmbeddingResponse response = withRetryMappingExceptions(() -> this.client.embed(request), maxRetries);
+        EmbeddingRequest request = EmbeddingRequest.builder()
+                .model(modelName)
+                .texts(texts)
+                .taskType(taskType)
+                .build();
 
-            embeddings.addAll(getEmbeddings(response));
-            inputTokenCount += getTokenUsage(response);
-        }
+        EmbeddingResponse response = withRetryMappingExceptions(() -> this.client.embed(request), maxRetries);
 
-        return Response.from(embeddings, new TokenUsage(inputTokenCount, 0));
+        return Response.from(getEmbeddings(response), new TokenUsage(getTokenUsage(response), 0));
     }
 
     private List<Embedding> getEmbeddings(EmbeddingResponse response) {
@@ -126,6 +123,7 @@ public class NomicEmbeddingModel extends DimensionAwareEmbeddingModel {
         private String modelName;
         private String taskType;
         private Integer maxSegmentsPerBatch;
+        private Integer maxConcurrentBatches;
         private Duration timeout;
         private Integer maxRetries;
         private Boolean logRequests;
@@ -160,6 +158,17 @@ public class NomicEmbeddingModel extends DimensionAwareEmbeddingModel {
             return this;
         }
 
+        /**
+         * @param maxConcurrentBatches the maximum number of batches of {@code maxSegmentsPerBatch} segments
+         *                             sent concurrently by {@link NomicEmbeddingModel#embedAll(List)}.
+         *                             Default value: 1 (batches are sent one after another).
+         * @return {@code this}.
+         */
+        public NomicEmbeddingModelBuilder maxConcurrentBatches(Integer maxConcurrentBatches) {
+            this.maxConcurrentBatches = maxConcurrentBatches;
+            return this;
+        }
+
         public NomicEmbeddingModelBuilder timeout(Duration timeout) {
             this.timeout = timeout;
             return this;
@@ -194,7 +203,7 @@ public class NomicEmbeddingModel extends DimensionAwareEmbeddingModel {
         }
 
         public String toString() {
-            return "NomicEmbeddingModel.NomicEmbeddingModelBuilder(baseUrl=" + this.baseUrl + ", apiKey=" + this.apiKey + ", modelName=" + this.modelName + ", taskType=" + this.taskType + ", maxSegmentsPerBatch=" + this.maxSegmentsPerBatch + ", timeout=" + this.timeout + ", maxRetries=" + this.maxRetries + ", logRequests=" + this.logRequests + ", logResponses=" + this.logResponses + ")";
+            return "NomicEmbeddingModel.NomicEmbeddingModelBuilder(baseUrl=" + this.baseUrl + ", apiKey=" + this.apiKey + ", modelName=" + this.modelName + ", taskType=" + this.taskType + ", maxSegmentsPerBatch=" + this.maxSegmentsPerBatch + ", maxConcurrentBatches=" + this.maxConcurrentBatches + ", timeout=" + this.timeout + ", maxRetries=" + this.maxRetries + ", logRequests=" + this.logRequests + ", logResponses=" + this.logResponses + ")";
         }
     }
 }
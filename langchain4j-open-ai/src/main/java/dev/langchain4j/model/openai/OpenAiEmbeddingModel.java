@@ -2,7 +2,6 @@ package dev.langchain4j.model.openai;
 
 import static dev.langchain4j.internal.RetryUtils.withRetryMappingExceptions;
 import static dev.langchain4j.internal.Utils.getOrDefault;
-import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.model.openai.internal.OpenAiUtils.DEFAULT_OPENAI_URL;
 import static dev.langchain4j.model.openai.internal.OpenAiUtils.DEFAULT_USER_AGENT;
 import static dev.langchain4j.model.openai.internal.OpenAiUtils.tokenUsageFrom;
@@ -13,17 +12,15 @@ import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.http.client.HttpClientBuilder;
 import dev.langchain4j.model.embedding.DimensionAwareEmbeddingModel;
+import dev.langchain4j.model.embedding.EmbeddingBatcher;
 import dev.langchain4j.model.openai.internal.OpenAiClient;
 import dev.langchain4j.model.openai.internal.embedding.EmbeddingRequest;
 import dev.langchain4j.model.openai.internal.embedding.EmbeddingResponse;
 import dev.langchain4j.model.openai.spi.OpenAiEmbeddingModelBuilderFactory;
 import dev.langchain4j.model.output.Response;
-import dev.langchain4j.model.output.TokenUsage;
 import java.time.Duration;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import org.slf4j.Logger;
 
 /**
@@ -36,7 +33,7 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
     private final Integer dimensions;
     private final String user;
     private final Integer maxRetries;
-    private final Integer maxSegmentsPerBatch;
+    private final EmbeddingBatcher batcher;
     private final String encodingFormat;
 
     public OpenAiEmbeddingModel(OpenAiEmbeddingModelBuilder builder) {
@@ -59,9 +56,11 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
         this.dimensions = builder.dimensions;
         this.user = builder.user;
         this.maxRetries = getOrDefault(builder.maxRetries, 2);
-        this.maxSegmentsPerBatch = getOrDefault(builder.maxSegmentsPerBatch, 2048);
+        this.batcher = EmbeddingBatcher.builder()
+                .maxSegmentsPerBatch(getOrDefault(builder.maxSegmentsPerBatch, 2048))
+                .maxConcurrentBatches(builder.maxConcurrentBatches)
+                .build();
         this.encodingFormat = builder.encodingFormat;
-        ensureGreaterThanZero(this.maxSegmentsPerBatch, "maxSegmentsPerBatch");
     }
 
     @Override
@@ -79,39 +78,9 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
 
     @Override
     public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
-
-        List<String> texts = textSegments.stream().map(TextSegment::text).toList();
-
-        List<List<String>> textBatches = partition(texts, maxSegmentsPerBatch);
-
-        return embedBatchedTexts(textBatches);
-    }
-
-    private List<List<String>> partition(List<String> inputList, int size) {
-        List<List<String>> result = new ArrayList<>();
-        for (int i = 0; i < inputList.size(); i += size) {
-            int fromIndex = i;
-            int toIndex = Math.min(i + size, inputList.size());
-            result.add(inputList.subList(fromIndex, toIndex));
-        }
-        return result;
-    }
-
-    private Response<List<Embedding>> embedBatchedTexts(List<List<String>> textBatches) {
-        List<Response<List<Embedding>>> responses = new ArrayList<>();
-        for (List<String> batch : textBatches) {
-            Response<List<Embedding>> response = embedTexts(batch);
-            responses.add(response);
-        }
-        return Response.from(
-                responses.stream()
-                        .flatMap(response -> response.content().stream())
-                        .toList(),
-                responses.stream()
-                        .map(Response::tokenUsage)
-                        .filter(Objects::nonNull)
-                        .reduce(TokenUsage::add)
-                        .orElse(null));
+        return batcher.embedAll(
+                textSegments,
+                batch -> embedTexts(batch.stream().map(TextSegment::text).toList()));
     }
 
     private Response<List<Embedding>> embedTexts(List<String> texts) {
@@ -155,6 +124,7 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
         private Duration timeout;
         private Integer maxRetries;
         private Integer maxSegmentsPerBatch;
+        private Integer maxConcurrentBatches;
         private Boolean logRequests;
         private Boolean logResponses;
         private Logger logger;
@@ -249,6 +219,17 @@ public class OpenAiEmbeddingModel extends DimensionAwareEmbeddingModel {
             return this;
         }
 
+        /**
+         * @param maxConcurrentBatches the maximum number of batches of {@code maxSegmentsPerBatch} segments
+         *                             sent concurrently by {@link OpenAiEmbeddingModel#embedAll(List)}.
+         *                             Default value: 1 (batches are sent one after another).
+         * @return {@code this}.
+         */
+        public OpenAiEmbeddingModelBuilder maxConcurrentBatches(Integer maxConcurrentBatches) {
+            this.maxConcurrentBatches = maxConcurrentBatches;
+            return this;
+        }
+
         public OpenAiEmbeddingModelBuilder encodingFormat(String encodingFormat) {
             this.encodingFormat = encodingFormat;
             return this;
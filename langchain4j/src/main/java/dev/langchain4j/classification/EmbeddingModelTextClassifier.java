@@ -1,6 +1,8 @@
 package dev.langchain4j.classification;
 
+import static dev.langchain4j.internal.Utils.getOrDefault;
 import static dev.langchain4j.internal.ValidationUtils.ensureBetween;
+import static dev.langchain4j.internal.ValidationUtils.ensureEq;
 import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotBlank;
 import static dev.langchain4j.internal.ValidationUtils.ensureNotEmpty;
@@ -11,11 +13,10 @@ import static java.util.stream.Collectors.toList;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
-import dev.langchain4j.store.embedding.CosineSimilarity;
 import dev.langchain4j.store.embedding.RelevanceScore;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -44,16 +45,38 @@ import java.util.Map;
  * List<Sentiment> sentiments = classifier.classify("Awesome!");
  * System.out.println(sentiments); // [POSITIVE]
  * }</pre>
+ * <p>
+ * The embeddings of the examples are normalized once, when the classifier is created, so that the similarity
+ * with the text is a dot product. {@link #classifyAllWithScores(List)} embeds all the texts in a single call.
+ * <p>
+ * For many labels or examples, classification can be made cheaper (at the cost of some accuracy) with
+ * {@link Builder#useCentroids(Boolean)}, which compares the text only to the centroid of the examples of each label,
+ * or {@link Builder#maxCandidateLabels(Integer)}, which compares the text to the examples of the labels
+ * whose centroids are the most similar to it only.
  *
  * @param <L> The type of the label (e.g., String, Enum, etc.)
  */
 public class EmbeddingModelTextClassifier<L> implements TextClassifier<L> {
 
     private final EmbeddingModel embeddingModel;
-    private final Map<L, List<Embedding>> exampleEmbeddingsByLabel;
     private final int maxResults;
     private final double minScore;
     private final double meanToMaxScoreRatio;
+    private final boolean useCentroids;
+    private final Integer maxCandidateLabels;
+
+    private final List<L> labels;
+    private final int dimension;
+    /**
+     * The normalized embeddings of the examples, one row of {@link #dimension} values per example,
+     * the examples of label {@code i} being rows {@code exampleOffsets[i]} to {@code exampleOffsets[i + 1] - 1}.
+     */
+    private final float[] exampleMatrix;
+    private final int[] exampleOffsets;
+    /**
+     * The normalized centroids of the examples of each label, one row per label, or {@code null} if not used.
+     */
+    private final float[] centroidMatrix;
 
     /**
      * Creates a classifier with the default values for {@link #maxResults} (1), {@link #minScore} (0)
@@ -96,18 +119,51 @@ public class EmbeddingModelTextClassifier<L> implements TextClassifier<L> {
             int maxResults,
             double minScore,
             double meanToMaxScoreRatio) {
-        this.embeddingModel = ensureNotNull(embeddingModel, "embeddingModel");
-        ensureNotEmpty(examplesByLabel, "examplesByLabel");
-        this.maxResults = ensureGreaterThanZero(maxResults, "maxResults");
-        this.minScore = ensureBetween(minScore, 0.0, 1.0, "minScore");
-        this.meanToMaxScoreRatio = ensureBetween(meanToMaxScoreRatio, 0.0, 1.0, "meanToMaxScoreRatio");
-
-        this.exampleEmbeddingsByLabel = new HashMap<>();
-        examplesByLabel.forEach((label, examples) -> exampleEmbeddingsByLabel.put(
-                label,
-                embeddingModel
-                        .embedAll(examples.stream().map(TextSegment::from).collect(toList()))
-                        .content()));
+        this(EmbeddingModelTextClassifier.<L>builder()
+                .embeddingModel(embeddingModel)
+                .examplesByLabel(examplesByLabel)
+                .maxResults(maxResults)
+                .minScore(minScore)
+                .meanToMaxScoreRatio(meanToMaxScoreRatio));
+    }
+
+    public EmbeddingModelTextClassifier(Builder<L> builder) {
+        this.embeddingModel = ensureNotNull(builder.embeddingModel, "embeddingModel");
+        Map<L, ? extends Collection<String>> examplesByLabel = ensureNotEmpty(builder.examplesByLabel, "examplesByLabel");
+        this.maxResults = ensureGreaterThanZero(getOrDefault(builder.maxResults, 1), "maxResults");
+        this.minScore = ensureBetween(getOrDefault(builder.minScore, 0.0), 0.0, 1.0, "minScore");
+        this.meanToMaxScoreRatio =
+                ensureBetween(getOrDefault(builder.meanToMaxScoreRatio, 0.5), 0.0, 1.0, "meanToMaxScoreRatio");
+        this.useCentroids = getOrDefault(builder.useCentroids, false);
+        this.maxCandidateLabels = builder.maxCandidateLabels == null
+                ? null
+                : ensureGreaterThanZero(builder.maxCandidateLabels, "maxCandidateLabels");
+
+        // all examples are embedded at once
+        this.labels = new ArrayList<>(examplesByLabel.size());
+        this.exampleOffsets = new int[examplesByLabel.size() + 1];
+        List<TextSegment> exampleSegments = new ArrayList<>();
+        examplesByLabel.forEach((label, examples) -> {
+            labels.add(label);
+            examples.forEach(example -> exampleSegments.add(TextSegment.from(example)));
+            exampleOffsets[labels.size()] = exampleSegments.size();
+        });
+        List<Embedding> exampleEmbeddings = exampleSegments.isEmpty()
+                ? List.of()
+                : embeddingModel.embedAll(exampleSegments).content();
+        ensureEq(exampleEmbeddings.size(), exampleSegments.size(),
+                "Expected %d embeddings, but got %d", exampleSegments.size(), exampleEmbeddings.size());
+
+        this.dimension = exampleEmbeddings.isEmpty() ? 0 : exampleEmbeddings.get(0).dimension();
+        this.exampleMatrix = new float[exampleEmbeddings.size() * dimension];
+        for (int row = 0; row < exampleEmbeddings.size(); row++) {
+            float[] vector = exampleEmbeddings.get(row).vector();
+            ensureEq(vector.length, dimension, "All embeddings must have the same dimension");
+            normalizeInto(vector, exampleMatrix, row * dimension);
+        }
+
+        boolean needsCentroids = useCentroids || (maxCandidateLabels != null && maxCandidateLabels < labels.size());
+        this.centroidMatrix = needsCentroids ? centroids() : null;
     }
 
     @Override
@@ -116,23 +172,48 @@ public class EmbeddingModelTextClassifier<L> implements TextClassifier<L> {
 
         Embedding textEmbedding = embeddingModel.embed(text).content();
 
-        List<ScoredLabel<L>> scoredLabels = new ArrayList<>();
-        exampleEmbeddingsByLabel.forEach((label, exampleEmbeddings) -> {
-            double meanScore = 0;
-            double maxScore = 0;
-            for (Embedding exampleEmbedding : exampleEmbeddings) {
-                double cosineSimilarity = CosineSimilarity.between(textEmbedding, exampleEmbedding);
-                double score = RelevanceScore.fromCosineSimilarity(cosineSimilarity);
-                meanScore += score;
-                maxScore = Math.max(score, maxScore);
-            }
-            meanScore /= exampleEmbeddings.size();
+        return classify(textEmbedding);
+    }
+
+    /**
+     * Classifies the given texts, embedding them in a single call to the {@link EmbeddingModel}.
+     */
+    @Override
+    public List<ClassificationResult<L>> classifyAllWithScores(List<String> texts) {
+        ensureNotNull(texts, "texts");
+        if (texts.isEmpty()) {
+            return List.of();
+        }
+        List<TextSegment> segments = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            segments.add(TextSegment.from(ensureNotBlank(text, "text")));
+        }
+
+        List<Embedding> textEmbeddings = embeddingModel.embedAll(segments).content();
+        ensureEq(textEmbeddings.size(), texts.size(),
+                "Expected %d embeddings, but got %d", texts.size(), textEmbeddings.size());
+
+        List<ClassificationResult<L>> results = new ArrayList<>(texts.size());
+        for (Embedding textEmbedding : textEmbeddings) {
+            results.add(classify(textEmbedding));
+        }
+        return results;
+    }
 
-            double aggregateScore = aggregatedScore(meanScore, maxScore);
+    private ClassificationResult<L> classify(Embedding textEmbedding) {
+        float[] text = new float[dimension];
+        ensureEq(textEmbedding.dimension(), dimension, "All embeddings must have the same dimension");
+        normalizeInto(textEmbedding.vector(), text, 0);
+
+        List<ScoredLabel<L>> scoredLabels = new ArrayList<>();
+        for (int label : candidateLabels(text)) {
+            double aggregateScore = useCentroids
+                    ? score(text, centroidMatrix, label)
+                    : aggregatedScore(text, label);
             if (aggregateScore >= minScore) {
-                scoredLabels.add(new ScoredLabel<>(label, aggregateScore));
+                scoredLabels.add(new ScoredLabel<>(labels.get(label), aggregateScore));
             }
-        });
+        }
 
         return new ClassificationResult<>(scoredLabels.stream()
                 // sorting in descending order to return highest score first
@@ -141,7 +222,185 @@ public class EmbeddingModelTextClassifier<L> implements TextClassifier<L> {
                 .collect(toList()));
     }
 
+    /**
+     * @return the indexes of the labels to score: all of them, or the {@link #maxCandidateLabels}
+     * ones whose centroids are the most similar to the text.
+     */
+    private int[] candidateLabels(float[] text) {
+        int labelCount = labels.size();
+        if (maxCandidateLabels == null || maxCandidateLabels >= labelCount || useCentroids) {
+            int[] all = new int[labelCount];
+            for (int i = 0; i < labelCount; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+
+        double[] centroidScores = new double[labelCount];
+        List<Integer> indexes = new ArrayList<>(labelCount);
+        for (int i = 0; i < labelCount; i++) {
+            centroidScores[i] = score(text, centroidMatrix, i);
+            indexes.add(i);
+        }
+        indexes.sort(comparingDouble(i -> -centroidScores[i]));
+        int[] candidates = new int[maxCandidateLabels];
+        for (int i = 0; i < maxCandidateLabels; i++) {
+            candidates[i] = indexes.get(i);
+        }
+        return candidates;
+    }
+
+    private double aggregatedScore(float[] text, int label) {
+        int from = exampleOffsets[label];
+        int to = exampleOffsets[label + 1];
+        double meanScore = 0;
+        double maxScore = 0;
+        for (int row = from; row < to; row++) {
+            double score = score(text, exampleMatrix, row);
+            meanScore += score;
+            maxScore = Math.max(score, maxScore);
+        }
+        meanScore /= (to - from);
+
+        return aggregatedScore(meanScore, maxScore);
+    }
+
     private double aggregatedScore(double meanScore, double maxScore) {
         return (meanToMaxScoreRatio * meanScore) + ((1 - meanToMaxScoreRatio) * maxScore);
     }
+
+    /**
+     * @return the relevance score between the normalized text and a row of a matrix of normalized vectors.
+     */
+    private double score(float[] text, float[] matrix, int row) {
+        int offset = row * dimension;
+        double cosineSimilarity = 0;
+        for (int i = 0; i < dimension; i++) {
+            cosineSimilarity += text[i] * matrix[offset + i];
+        }
+        return RelevanceScore.fromCosineSimilarity(cosineSimilarity);
+    }
+
+    private float[] centroids() {
+        float[] centroids = new float[labels.size() * dimension];
+        double[] sum = new double[dimension];
+        for (int label = 0; label < labels.size(); label++) {
+            Arrays.fill(sum, 0);
+            for (int row = exampleOffsets[label]; row < exampleOffsets[label + 1]; row++) {
+                for (int i = 0; i < dimension; i++) {
+                    sum[i] += exampleMatrix[row * dimension + i];
+                }
+            }
+            float[] centroid = new float[dimension];
+            for (int i = 0; i < dimension; i++) {
+                centroid[i] = (float) sum[i];
+            }
+            normalizeInto(centroid, centroids, label * dimension);
+        }
+        return centroids;
+    }
+
+    /**
+     * Copies the vector into the target at the given offset, scaled to unit length.
+     * A zero vector is copied as is, so that its similarity with any vector is 0.
+     */
+    private static void normalizeInto(float[] vector, float[] target, int offset) {
+        double norm = 0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        norm = Math.sqrt(norm);
+        double scale = norm < 1e-10 ? 1 : 1 / norm;
+        for (int i = 0; i < vector.length; i++) {
+            target[offset + i] = (float) (vector[i] * scale);
+        }
+    }
+
+    public static <L> Builder<L> builder() {
+        return new Builder<>();
+    }
+
+    public static class Builder<L> {
+
+        private EmbeddingModel embeddingModel;
+        private Map<L, ? extends Collection<String>> examplesByLabel;
+        private Integer maxResults;
+        private Double minScore;
+        private Double meanToMaxScoreRatio;
+        private Boolean useCentroids;
+        private Integer maxCandidateLabels;
+
+        /**
+         * @param embeddingModel The embedding model used for embedding both the examples and the texts to be classified.
+         * @return {@code this}
+         */
+        public Builder<L> embeddingModel(EmbeddingModel embeddingModel) {
+            this.embeddingModel = embeddingModel;
+            return this;
+        }
+
+        /**
+         * @param examplesByLabel A map containing examples of texts for each label.
+         * @return {@code this}
+         */
+        public Builder<L> examplesByLabel(Map<L, ? extends Collection<String>> examplesByLabel) {
+            this.examplesByLabel = examplesByLabel;
+            return this;
+        }
+
+        /**
+         * @param maxResults The maximum number of labels to return for each classification. Default value: 1.
+         * @return {@code this}
+         */
+        public Builder<L> maxResults(Integer maxResults) {
+            this.maxResults = maxResults;
+            return this;
+        }
+
+        /**
+         * @param minScore The minimum score required for classification, in the range [0..1]. Default value: 0.
+         * @return {@code this}
+         */
+        public Builder<L> minScore(Double minScore) {
+            this.minScore = minScore;
+            return this;
+        }
+
+        /**
+         * @param meanToMaxScoreRatio A ratio, in the range [0..1], between the mean and max scores used for
+         *                            calculating the final score. Default value: 0.5.
+         *                            See {@link EmbeddingModelTextClassifier#EmbeddingModelTextClassifier(EmbeddingModel, Map, int, double, double)}.
+         * @return {@code this}
+         */
+        public Builder<L> meanToMaxScoreRatio(Double meanToMaxScoreRatio) {
+            this.meanToMaxScoreRatio = meanToMaxScoreRatio;
+            return this;
+        }
+
+        /**
+         * @param useCentroids Whether to score each label by the similarity between the text and the centroid
+         *                     (the normalized mean) of the embeddings of its examples, instead of each example.
+         *                     {@code meanToMaxScoreRatio} is then ignored. Default value: false.
+         * @return {@code this}
+         */
+        public Builder<L> useCentroids(Boolean useCentroids) {
+            this.useCentroids = useCentroids;
+            return this;
+        }
+
+        /**
+         * @param maxCandidateLabels The number of labels, whose centroids are the most similar to the text,
+         *                           for which the text is compared to each example. The other labels are not scored.
+         *                           By default, all labels are scored.
+         * @return {@code this}
+         */
+        public Builder<L> maxCandidateLabels(Integer maxCandidateLabels) {
+            this.maxCandidateLabels = maxCandidateLabels;
+            return this;
+        }
+
+        public EmbeddingModelTextClassifier<L> build() {
+            return new EmbeddingModelTextClassifier<>(this);
+        }
+    }
 }
@@ -47,6 +47,20 @@ public interface TextClassifier<L> {
         return classify(document.text());
     }
 
+    /**
+     * Classifies the given texts.
+     *
+     * @param texts Texts to classify.
+     * @return A list of labels for each text, in the same order as the texts.
+     */
+    default List<List<L>> classifyAll(List<String> texts) {
+        return classifyAllWithScores(texts).stream()
+                .map(result -> result.scoredLabels().stream()
+                        .map(ScoredLabel::label)
+                        .collect(toList()))
+                .collect(toList());
+    }
+
     /**
      * Classifies the given text and returns labels with scores.
      *
@@ -77,4 +91,17 @@ public interface TextClassifier<L> {
     default ClassificationResult<L> classifyWithScores(Document document) {
         return classifyWithScores(document.text());
     }
+
+    /**
+     * Classifies the given texts and returns labels with scores.
+     * Implementations may classify the texts together, e.g. to embed them in a single call.
+     *
+     * @param texts Texts to classify.
+     * @return a result object for each text, in the same order as the texts.
+     */
+    default List<ClassificationResult<L>> classifyAllWithScores(List<String> texts) {
+        return texts.stream()
+                .map(this::classifyWithScores)
+                .collect(toList());
+    }
 }
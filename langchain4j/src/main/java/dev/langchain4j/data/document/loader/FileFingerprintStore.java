@@ -0,0 +1,42 @@
+package dev.langchain4j.data.document.loader;
+
+import java.nio.file.Path;
+
+/**
+ * Remembers the state of the files loaded by a {@link StreamingFileSystemDocumentLoader},
+ * so that files that did not change since the previous run can be skipped.
+ *
+ * @see InMemoryFileFingerprintStore
+ */
+public interface FileFingerprintStore {
+
+    /**
+     * Returns the fingerprint recorded for the given file, or {@code null} if the file was never loaded.
+     *
+     * @param file the absolute path of the file.
+     * @return the fingerprint, or {@code null}.
+     */
+    FileFingerprint get(Path file);
+
+    /**
+     * Records the fingerprint of a file that was loaded successfully.
+     *
+     * @param file        the absolute path of the file.
+     * @param fingerprint the fingerprint of the file.
+     */
+    void put(Path file, FileFingerprint fingerprint);
+
+    /**
+     * The state of a file when it was loaded.
+     *
+     * @param size         the size of the file in bytes.
+     * @param lastModified the last modification time of the file, in milliseconds since the epoch.
+     * @param hash         the SHA-256 hash of the content of the file, or {@code null} if hashing was not enabled.
+     */
+    record FileFingerprint(long size, long lastModified, String hash) {
+
+        boolean hasSameSizeAndLastModified(FileFingerprint other) {
+            return other != null && size == other.size && lastModified == other.lastModified;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package dev.langchain4j.data.document.loader;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link FileFingerprintStore} that keeps the fingerprints in memory.
+ * <p>
+ * It can be persisted between runs using {@link #serializeToFile(Path)} and recreated using {@link #fromFile(Path)}.
+ */
+public class InMemoryFileFingerprintStore implements FileFingerprintStore {
+
+    private final Map<Path, FileFingerprint> fingerprints = new ConcurrentHashMap<>();
+
+    @Override
+    public FileFingerprint get(Path file) {
+        return fingerprints.get(file);
+    }
+
+    @Override
+    public void put(Path file, FileFingerprint fingerprint) {
+        fingerprints.put(file, fingerprint);
+    }
+
+    public int size() {
+        return fingerprints.size();
+    }
+
+    public void serializeToFile(Path filePath) {
+        try (BufferedWriter writer = Files.newBufferedWriter(filePath, UTF_8, CREATE, TRUNCATE_EXISTING)) {
+            for (Map.Entry<Path, FileFingerprint> entry : fingerprints.entrySet()) {
+                FileFingerprint fingerprint = entry.getValue();
+                writer.write(fingerprint.size() + "\t" + fingerprint.lastModified() + "\t"
+                        + (fingerprint.hash() == null ? "" : fingerprint.hash()) + "\t" + entry.getKey());
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public void serializeToFile(String filePath) {
+        serializeToFile(Paths.get(filePath));
+    }
+
+    public static InMemoryFileFingerprintStore fromFile(Path filePath) {
+        InMemoryFileFingerprintStore store = new InMemoryFileFingerprintStore();
+        try (BufferedReader reader = Files.newBufferedReader(filePath, UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                // the path is the last column, so that it can contain tabs
+                String[] columns = line.split("\t", 4);
+                String hash = columns[2].isEmpty() ? null : columns[2];
+                store.put(
+                        Paths.get(columns[3]),
+                        new FileFingerprint(Long.parseLong(columns[0]), Long.parseLong(columns[1]), hash));
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return store;
+    }
+
+    public static InMemoryFileFingerprintStore fromFile(String filePath) {
+        return fromFile(Paths.get(filePath));
+    }
+}
@@ -0,0 +1,371 @@
+package dev.langchain4j.data.document.loader;
+
+import static dev.langchain4j.internal.Exceptions.illegalArgument;
+import static dev.langchain4j.internal.Utils.getOrDefault;
+import static dev.langchain4j.internal.ValidationUtils.ensureGreaterThanZero;
+import static java.nio.file.Files.isDirectory;
+
+import dev.langchain4j.data.document.BlankDocumentException;
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.DocumentParser;
+import dev.langchain4j.data.document.loader.FileFingerprintStore.FileFingerprint;
+import dev.langchain4j.data.document.parser.TextDocumentParser;
+import dev.langchain4j.internal.DefaultExecutorProvider;
+import dev.langchain4j.spi.data.document.parser.DocumentParserFactory;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Loads {@link Document}s from a directory as a lazily populated {@link Stream}, parsing several files in parallel.
+ * <p>
+ * Unlike {@link FileSystemDocumentLoader}, which parses all the files sequentially and returns them as a list,
+ * this loader starts returning documents as soon as the first files are parsed, and never holds more than
+ * {@code maxDocumentsInFlight} parsed or being parsed documents in memory, however large the directory is.
+ * Documents are returned in the order in which the files are visited.
+ * <p>
+ * A file that fails to load does not interrupt the loading of the others: the failure is logged
+ * (and reported to the failure handler, if one is configured) and the file is skipped. Blank files are skipped too.
+ * <p>
+ * When a {@link FileFingerprintStore} is configured, files whose size and last modification time
+ * (or, when {@code hashContent} is enabled, whose content) did not change since they were last loaded are skipped.
+ * The fingerprint of a file is only recorded once its document has been handed to the consumer of the stream,
+ * so that the files parsed ahead but not consumed (e.g. because the stream was closed early) are loaded again
+ * on the next run.
+ * <p>
+ * The returned stream holds open directory handles and must be closed, preferably with a try-with-resources:
+ * <pre>{@code
+ * try (Stream<Document> documents = loader.load(directoryPath)) {
+ *     documents.forEach(ingestor::ingest);
+ * }
+ * }</pre>
+ */
+public class StreamingFileSystemDocumentLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(StreamingFileSystemDocumentLoader.class);
+
+    private static final DocumentParser DEFAULT_DOCUMENT_PARSER =
+            getOrDefault(DocumentParserLoader.loadDocumentParser(), TextDocumentParser::new);
+
+    private final DocumentParser documentParser;
+    private final PathMatcher pathMatcher;
+    private final boolean recursive;
+    private final Executor executor;
+    private final int maxDocumentsInFlight;
+    private final FileFingerprintStore fingerprintStore;
+    private final boolean hashContent;
+    private final BiConsumer<Path, Exception> failureHandler;
+
+    public StreamingFileSystemDocumentLoader(Builder builder) {
+        this.documentParser = getOrDefault(builder.documentParser, DEFAULT_DOCUMENT_PARSER);
+        this.pathMatcher = getOrDefault(builder.pathMatcher, path -> true);
+        this.recursive = getOrDefault(builder.recursive, true);
+        this.executor = getOrDefault(builder.executor, DefaultExecutorProvider::getDefaultExecutorService);
+        this.maxDocumentsInFlight = ensureGreaterThanZero(
+                getOrDefault(builder.maxDocumentsInFlight, Runtime.getRuntime().availableProcessors()),
+                "maxDocumentsInFlight");
+        this.fingerprintStore = builder.fingerprintStore;
+        this.hashContent = getOrDefault(builder.hashContent, false);
+        this.failureHandler = builder.failureHandler;
+    }
+
+    /**
+     * Loads the matching files of the specified directory.
+     *
+     * @param directoryPath The path to the directory with files.
+     * @return a stream of documents, which must be closed once consumed.
+     * @throws IllegalArgumentException If specified path is not a directory.
+     */
+    public Stream<Document> load(Path directoryPath) {
+        if (!isDirectory(directoryPath)) {
+            throw illegalArgument("'%s' is not a directory", directoryPath);
+        }
+
+        Stream<Path> pathStream;
+        try {
+            pathStream = recursive ? Files.walk(directoryPath) : Files.list(directoryPath);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        Iterator<Path> files = pathStream
+                .filter(Files::isRegularFile)
+                // patterns defined in pathMatcher are relative to directoryPath
+                .filter(file -> pathMatcher.matches(directoryPath.relativize(file)))
+                .iterator();
+
+        DocumentIterator documents = new DocumentIterator(files);
+        return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(documents, Spliterator.ORDERED | Spliterator.NONNULL),
+                        false)
+                .onClose(documents::cancel)
+                .onClose(pathStream::close);
+    }
+
+    /**
+     * Keeps up to {@code maxDocumentsInFlight} files being parsed ahead of the consumer.
+     */
+    private class DocumentIterator implements Iterator<Document> {
+
+        private final Iterator<Path> files;
+        private final Deque<CompletableFuture<LoadedFile>> inFlight = new ArrayDeque<>();
+        private LoadedFile next;
+
+        private DocumentIterator(Iterator<Path> files) {
+            this.files = files;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                fill();
+                CompletableFuture<LoadedFile> head = inFlight.poll();
+                if (head == null) {
+                    return false;
+                }
+                // failures are handled in the task itself, a skipped file completes with null
+                LoadedFile loaded = head.join();
+                if (loaded == null) {
+                    continue;
+                }
+                if (loaded.document() == null) {
+                    // a blank file has nothing to hand out, it is considered consumed as soon as it is reached
+                    recordFingerprint(loaded);
+                } else {
+                    next = loaded;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Document next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            LoadedFile loaded = next;
+            next = null;
+            recordFingerprint(loaded);
+            return loaded.document();
+        }
+
+        private void fill() {
+            while (inFlight.size() < maxDocumentsInFlight && files.hasNext()) {
+                Path file = files.next();
+                inFlight.add(CompletableFuture.supplyAsync(() -> loadIfChanged(file), executor));
+            }
+        }
+
+        private void cancel() {
+            inFlight.forEach(future -> future.cancel(false));
+            inFlight.clear();
+        }
+    }
+
+    /**
+     * A loaded file, together with the fingerprint to record once its document is consumed.
+     * The document is {@code null} for a blank file, and the fingerprint is {@code null} when no store is configured.
+     */
+    private record LoadedFile(Path file, Document document, FileFingerprint fingerprint) {}
+
+    private void recordFingerprint(LoadedFile loaded) {
+        if (loaded.fingerprint() != null) {
+            fingerprintStore.put(loaded.file(), loaded.fingerprint());
+        }
+    }
+
+    private LoadedFile loadIfChanged(Path file) {
+        try {
+            FileFingerprint fingerprint = null;
+            if (fingerprintStore != null) {
+                fingerprint = fingerprintIfChanged(file);
+                if (fingerprint == null) {
+                    log.debug("Skipping '{}' because it did not change since it was last loaded", file);
+                    return null;
+                }
+            }
+            return new LoadedFile(file, loadDocument(file), fingerprint);
+        } catch (Exception e) {
+            String message = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+            log.warn("Failed to load '{}': {}", file, message);
+            if (failureHandler != null) {
+                failureHandler.accept(file, e);
+            }
+            return null;
+        }
+    }
+
+    private Document loadDocument(Path file) {
+        try {
+            return FileSystemDocumentLoader.loadDocument(file, documentParser);
+        } catch (BlankDocumentException ignored) {
+            // blank/empty documents are ignored
+            return null;
+        }
+    }
+
+    /**
+     * Returns the new fingerprint of the file, or {@code null} if the file did not change.
+     */
+    private FileFingerprint fingerprintIfChanged(Path file) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        FileFingerprint previous = fingerprintStore.get(file);
+        FileFingerprint current =
+                new FileFingerprint(attributes.size(), attributes.lastModifiedTime().toMillis(), null);
+        if (current.hasSameSizeAndLastModified(previous)) {
+            return null;
+        }
+        if (!hashContent) {
+            return current;
+        }
+        current = new FileFingerprint(current.size(), current.lastModified(), sha256(file));
+        if (previous != null && current.hash().equals(previous.hash())) {
+            // touched but not modified, remember the new timestamp to avoid hashing it again next time
+            fingerprintStore.put(file, current);
+            return null;
+        }
+        return current;
+    }
+
+    private static String sha256(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+
+        private DocumentParser documentParser;
+        private PathMatcher pathMatcher;
+        private Boolean recursive;
+        private Executor executor;
+        private Integer maxDocumentsInFlight;
+        private FileFingerprintStore fingerprintStore;
+        private Boolean hashContent;
+        private BiConsumer<Path, Exception> failureHandler;
+
+        /**
+         * @param documentParser The parser to be used for parsing text from each file.
+         *                       If not specified, the default {@link DocumentParser} is loaded through SPI
+         *                       (see {@link DocumentParserFactory}). If no {@code DocumentParserFactory} is available
+         *                       in the classpath, a {@link TextDocumentParser} is used.
+         *                       It must be thread-safe, as it is used to parse several files concurrently.
+         * @return {@code this}
+         */
+        public Builder documentParser(DocumentParser documentParser) {
+            this.documentParser = documentParser;
+            return this;
+        }
+
+        /**
+         * @param pathMatcher Only files whose paths match the provided {@link PathMatcher} will be loaded.
+         *                    Each file path is converted from absolute to relative (relative to the loaded directory)
+         *                    before being matched, so {@code pathMatcher} should use relative patterns.
+         *                    By default, all files are loaded.
+         * @return {@code this}
+         */
+        public Builder pathMatcher(PathMatcher pathMatcher) {
+            this.pathMatcher = pathMatcher;
+            return this;
+        }
+
+        /**
+         * @param recursive Whether the subdirectories should be loaded too. Default value: {@code true}.
+         * @return {@code this}
+         */
+        public Builder recursive(Boolean recursive) {
+            this.recursive = recursive;
+            return this;
+        }
+
+        /**
+         * @param executor The executor on which the files are parsed.
+         *                 By default, a cached thread pool (or virtual threads, when available) is used.
+         * @return {@code this}
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * @param maxDocumentsInFlight The maximum number of files being parsed, or parsed but not yet consumed,
+         *                             at any time. It bounds both the parallelism and the memory used by the loader.
+         *                             Default value: the number of available processors.
+         * @return {@code this}
+         */
+        public Builder maxDocumentsInFlight(Integer maxDocumentsInFlight) {
+            this.maxDocumentsInFlight = maxDocumentsInFlight;
+            return this;
+        }
+
+        /**
+         * @param fingerprintStore When set, files that did not change since they were last loaded are skipped,
+         *                         and the fingerprints of the consumed files are recorded in this store.
+         * @return {@code this}
+         */
+        public Builder fingerprintStore(FileFingerprintStore fingerprintStore) {
+            this.fingerprintStore = fingerprintStore;
+            return this;
+        }
+
+        /**
+         * @param hashContent When a {@link FileFingerprintStore} is set, whether files whose size or last
+         *                    modification time changed should also be compared by the hash of their content,
+         *                    so that files that were only touched are skipped. Default value: {@code false}.
+         * @return {@code this}
+         */
+        public Builder hashContent(Boolean hashContent) {
+            this.hashContent = hashContent;
+            return this;
+        }
+
+        /**
+         * @param failureHandler Called with the path and the exception of each file that fails to load.
+         *                       It is called from the executor threads.
+         * @return {@code this}
+         */
+        public Builder failureHandler(BiConsumer<Path, Exception> failureHandler) {
+            this.failureHandler = failureHandler;
+            return this;
+        }
+
+        public StreamingFileSystemDocumentLoader build() {
+            return new StreamingFileSystemDocumentLoader(this);
+        }
+    }
+}
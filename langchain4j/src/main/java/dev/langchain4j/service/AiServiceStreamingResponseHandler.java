@@ -172,6 +172,7 @@ class AiServiceStreamingResponseHandler implements StreamingChatResponseHandler
                 .invocationContext(invocationContext)
                 .request(toolRequestResult.request())
                 .resultText(toolRequestResult.result().resultText())
+                .duration(toolRequestResult.result().duration())
                 .build());
     }
 
@@ -2,6 +2,7 @@ package dev.langchain4j.service.tool;
 
 import static dev.langchain4j.internal.ValidationUtils.ensureNotNull;
 
+import java.time.Duration;
 import java.util.Objects;
 
 /**
@@ -14,11 +15,13 @@ public class ToolExecutionResult {
     private final boolean isError;
     private final Object result;
     private final String resultText;
+    private final Duration duration;
 
     public ToolExecutionResult(Builder builder) {
         this.isError = builder.isError;
         this.result = builder.result;
         this.resultText = ensureNotNull(builder.resultText, "resultText");
+        this.duration = builder.duration;
     }
 
     /**
@@ -48,6 +51,14 @@ public class ToolExecutionResult {
         return resultText;
     }
 
+    /**
+     * Returns how long the tool took to execute, or {@code null} if it is unknown.
+     * It is not taken into account by {@link #equals(Object)}, as it varies from one execution to another.
+     */
+    public Duration duration() {
+        return duration;
+    }
+
     @Override
     public boolean equals(final Object object) {
         if (this == object) return true;
@@ -81,6 +92,7 @@ public class ToolExecutionResult {
         private boolean isError;
         private Object result;
         private String resultText;
+        private Duration duration;
 
         public Builder isError(boolean isError) {
             this.isError = isError;
@@ -97,6 +109,11 @@ public class ToolExecutionResult {
             return this;
         }
 
+        public Builder duration(Duration duration) {
+            this.duration = duration;
+            return this;
+        }
+
         public ToolExecutionResult build() {
             return new ToolExecutionResult(this);
         }
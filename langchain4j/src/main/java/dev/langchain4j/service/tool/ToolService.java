@@ -30,6 +30,7 @@ import dev.langchain4j.observability.api.event.AiServiceResponseReceivedEvent;
 import dev.langchain4j.observability.api.event.ToolExecutedEvent;
 import dev.langchain4j.service.IllegalConfigurationException;
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -256,6 +257,7 @@ public class ToolService {
                         .invocationContext(invocationContext)
                         .request(request)
                         .resultText(toolExecution.result())
+                        .duration(result.duration())
                         .build());
 
                 if (chatMemory != null) {
@@ -402,8 +404,10 @@ public class ToolService {
             InvocationContext invocationContext,
             ToolArgumentsErrorHandler argumentsErrorHandler,
             ToolExecutionErrorHandler executionErrorHandler) {
+        long start = System.nanoTime();
         try {
-            return toolExecutor.executeWithContext(toolRequest, invocationContext);
+            ToolExecutionResult result = toolExecutor.executeWithContext(toolRequest, invocationContext);
+            return result == null || result.duration() != null ? result : withDuration(result, start);
         } catch (Exception e) {
             ToolErrorContext errorContext = ToolErrorContext.builder()
                     .toolExecutionRequest(toolRequest)
@@ -420,10 +424,20 @@ public class ToolService {
             return ToolExecutionResult.builder()
                     .isError(true)
                     .resultText(errorHandlerResult.text())
+                    .duration(Duration.ofNanos(System.nanoTime() - start))
                     .build();
         }
     }
 
+    private static ToolExecutionResult withDuration(ToolExecutionResult result, long start) {
+        return ToolExecutionResult.builder()
+                .isError(result.isError())
+                .result(result.result())
+                .resultText(result.resultText())
+                .duration(Duration.ofNanos(System.nanoTime() - start))
+                .build();
+    }
+
     public ToolExecutionResult applyToolHallucinationStrategy(ToolExecutionRequest toolRequest) {
         ToolExecutionResultMessage toolResultMessage = toolHallucinationStrategy.apply(toolRequest);
         return ToolExecutionResult.builder()
@@ -1,9 +1,17 @@
 package dev.langchain4j.classification;
 
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.embedding.onnx.allminilml6v2q.AllMiniLmL6V2QuantizedEmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.store.embedding.CosineSimilarity;
+import dev.langchain4j.store.embedding.RelevanceScore;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -353,4 +361,127 @@ class EmbeddingModelTextClassifierTest {
             classifier.classifyWithScores("   ")
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_score_labels_like_cosine_similarity() {
+
+        HashingEmbeddingModel model = new HashingEmbeddingModel();
+        Map<String, List<String>> fruitsAndVehicles = fruitsAndVehicles();
+        EmbeddingModelTextClassifier<String> classifier = EmbeddingModelTextClassifier.<String>builder()
+            .embeddingModel(model)
+            .examplesByLabel(fruitsAndVehicles)
+            .maxResults(2)
+            .meanToMaxScoreRatio(0.3)
+            .build();
+
+        ClassificationResult<String> result = classifier.classifyWithScores("a red apple");
+
+        Embedding text = model.embed("a red apple").content();
+        for (ScoredLabel<String> scoredLabel : result.scoredLabels()) {
+            double mean = 0;
+            double max = 0;
+            for (String example : fruitsAndVehicles.get(scoredLabel.label())) {
+                double score = RelevanceScore.fromCosineSimilarity(
+                    CosineSimilarity.between(text, model.embed(example).content()));
+                mean += score / fruitsAndVehicles.get(scoredLabel.label()).size();
+                max = Math.max(max, score);
+            }
+            assertThat(scoredLabel.score()).isCloseTo(0.3 * mean + 0.7 * max, offset(1e-6));
+        }
+        assertThat(result.scoredLabels().get(0).label()).isEqualTo("fruit");
+    }
+
+    @Test
+    void should_classify_all_texts_with_one_embedding_call() {
+
+        HashingEmbeddingModel model = new HashingEmbeddingModel();
+        EmbeddingModelTextClassifier<String> classifier = new EmbeddingModelTextClassifier<>(model, fruitsAndVehicles());
+        model.calls = 0;
+
+        List<ClassificationResult<String>> results =
+            classifier.classifyAllWithScores(List.of("a red apple", "a fast car", "ripe banana"));
+
+        assertThat(model.calls).isEqualTo(1);
+        assertThat(results).containsExactly(
+            classifier.classifyWithScores("a red apple"),
+            classifier.classifyWithScores("a fast car"),
+            classifier.classifyWithScores("ripe banana"));
+        assertThat(classifier.classifyAll(List.of("a red apple", "a fast car")))
+            .containsExactly(List.of("fruit"), List.of("vehicle"));
+    }
+
+    @Test
+    void should_classify_with_centroids() {
+
+        HashingEmbeddingModel model = new HashingEmbeddingModel();
+        Map<String, List<String>> fruitsAndVehicles = fruitsAndVehicles();
+        EmbeddingModelTextClassifier<String> classifier = EmbeddingModelTextClassifier.<String>builder()
+            .embeddingModel(model)
+            .examplesByLabel(fruitsAndVehicles)
+            .useCentroids(true)
+            .build();
+
+        ClassificationResult<String> result = classifier.classifyWithScores("a fast car");
+
+        float[] centroid = new float[HashingEmbeddingModel.DIMENSION];
+        for (String example : fruitsAndVehicles.get("vehicle")) {
+            Embedding embedding = model.embed(example).content();
+            embedding.normalize();
+            for (int i = 0; i < centroid.length; i++) {
+                centroid[i] += embedding.vector()[i];
+            }
+        }
+        double expected = RelevanceScore.fromCosineSimilarity(
+            CosineSimilarity.between(model.embed("a fast car").content(), Embedding.from(centroid)));
+        assertThat(result.scoredLabels()).hasSize(1);
+        assertThat(result.scoredLabels().get(0).label()).isEqualTo("vehicle");
+        assertThat(result.scoredLabels().get(0).score()).isCloseTo(expected, offset(1e-6));
+    }
+
+    @Test
+    void should_only_score_candidate_labels() {
+
+        EmbeddingModelTextClassifier<String> classifier = EmbeddingModelTextClassifier.<String>builder()
+            .embeddingModel(new HashingEmbeddingModel())
+            .examplesByLabel(fruitsAndVehicles())
+            .maxResults(2)
+            .maxCandidateLabels(1)
+            .build();
+
+        ClassificationResult<String> result = classifier.classifyWithScores("a red apple");
+
+        assertThat(result.scoredLabels()).extracting(ScoredLabel::label).containsExactly("fruit");
+    }
+
+    private static Map<String, List<String>> fruitsAndVehicles() {
+        Map<String, List<String>> examples = new LinkedHashMap<>();
+        examples.put("fruit", List.of("an apple", "a ripe banana", "a red cherry", "a juicy orange"));
+        examples.put("vehicle", List.of("a fast car", "a bus", "a bicycle", "a red truck"));
+        return examples;
+    }
+
+    /**
+     * Embeds texts as the counts of their hashed character trigrams.
+     */
+    private static class HashingEmbeddingModel implements EmbeddingModel {
+
+        static final int DIMENSION = 64;
+
+        int calls;
+
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+            calls++;
+            List<Embedding> embeddings = new ArrayList<>();
+            for (TextSegment textSegment : textSegments) {
+                String text = " " + textSegment.text() + " ";
+                float[] vector = new float[DIMENSION];
+                for (int i = 0; i + 3 <= text.length(); i++) {
+                    vector[Math.floorMod(text.substring(i, i + 3).hashCode(), DIMENSION)]++;
+                }
+                embeddings.add(Embedding.from(vector));
+            }
+            return Response.from(embeddings);
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package dev.langchain4j.data.document.loader;
+
+import dev.langchain4j.data.document.Document;
+import dev.langchain4j.data.document.DocumentParser;
+import dev.langchain4j.data.document.parser.TextDocumentParser;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.assertj.core.api.WithAssertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class StreamingFileSystemDocumentLoaderTest implements WithAssertions {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void should_load_documents_recursively() throws IOException {
+        write("a.txt", "first");
+        write("sub/b.txt", "second");
+        write("sub/deeper/c.md", "third");
+
+        StreamingFileSystemDocumentLoader loader = StreamingFileSystemDocumentLoader.builder()
+                .documentParser(new TextDocumentParser())
+                .maxDocumentsInFlight(2)
+                .build();
+
+        List<String> texts;
+        try (Stream<Document> documents = loader.load(directory)) {
+            texts = documents.map(Document::text).toList();
+        }
+
+        assertThat(texts).containsExactlyInAnyOrder("first", "second", "third");
+    }
+
+    @Test
+    void should_load_only_matching_files_of_top_directory() throws IOException {
+        write("a.txt", "first");
+        write("b.md", "second");
+        write("sub/c.txt", "third");
+
+        StreamingFileSystemDocumentLoader loader = StreamingFileSystemDocumentLoader.builder()
+                .documentParser(new TextDocumentParser())
+                .pathMatcher(FileSystems.getDefault().getPathMatcher("glob:*.txt"))
+                .recursive(false)
+                .build();
+
+        try (Stream<Document> documents = loader.load(directory)) {
+            assertThat(documents.map(Document::text)).containsExactly("first");
+        }
+    }
+
+    @Test
+    void should_skip_failing_and_blank_files() throws IOException {
+        write("a.txt", "first");
+        write("blank.txt", "   ");
+        write("broken.txt", "broken");
+        write("c.txt", "third");
+
+        DocumentParser parser = inputStream -> {
+            Document document = new TextDocumentParser().parse(inputStream);
+            if (document.text().equals("broken")) {
+                throw new IllegalStateException("cannot parse");
+            }
+            return document;
+        };
+        List<Path> failures = new ArrayList<>();
+
+        StreamingFileSystemDocumentLoader loader = StreamingFileSystemDocumentLoader.builder()
+                .documentParser(parser)
+                .failureHandler((file, e) -> failures.add(file))
+                .maxDocumentsInFlight(1)
+                .build();
+
+        try (Stream<Document> documents = loader.load(directory)) {
+            assertThat(documents.map(Document::text)).containsExactlyInAnyOrder("first", "third");
+        }
+        assertThat(failures).containsExactly(directory.resolve("broken.txt"));
+    }
+
+    @Test
+    void should_bound_the_number_of_documents_in_flight() throws IOException {
+        for (int i = 0; i < 20; i++) {
+            write("file-" + i + ".txt", "content " + i);
+        }
+        AtomicInteger parsing = new AtomicInteger();
+        AtomicInteger maxParsing = new AtomicInteger();
+        DocumentParser parser = inputStream -> {
+            maxParsing.accumulateAndGet(parsing.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(5);
+                return new TextDocumentParser().parse(inputStream);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            } finally {
+                parsing.decrementAndGet();
+            }
+        };
+
+        StreamingFileSystemDocumentLoader loader = StreamingFileSystemDocumentLoader.builder()
+                .documentParser(parser)
+                .maxDocumentsInFlight(3)
+                .build();
+
+        try (Stream<Document> documents = loader.load(directory)) {
+            assertThat(documents.count()).isEqualTo(20);
+        }
+        assertThat(maxParsing.get()).isBetween(1, 3);
+    }
+
+    @Test
+    void should_skip_unchanged_files_on_next_run() throws IOException {
+        Path a = write("a.txt", "first");
+        Path b = write("b.txt", "second");
+        InMemoryFileFingerprintStore fingerprintStore = new InMemoryFileFingerprintStore();
+
+        StreamingFileSystemDocumentLoader loader = StreamingFileSystemDocumentLoader.builder()
+                .documentParser(new TextDocumentParser())
+                .fingerprintStore(fingerprintStore)
+                .build();
+
+        try (Stream<Document> documents = loader.load(directory)) {
+            assertThat(documents.map(Document::text)).containsExactlyInAnyOrder("first", "second");
+        }
+
+        Files.writeString(b, "second, modified");
+
+        try (Stream<Document> documents = loader.load(directory)) {
+            assertThat(documents.map(Document::text)).containsExactly("second, modified");
+        }
+        try (Stream<Document> documents = loader.load(directory)) {
+            assertThat(documents).isEmpty();
+        }
+        assertThat(fingerprintStore.get(a)).isNotNull();
+    }
+
+    @Test
+    void should_load_again_files_not_consumed_before_stream_was_closed() throws IOException {
+        for (int i = 0; i < 5; i++) {
+            write("file-" + i + ".txt", "content " + i);
+        }
+        InMemoryFileFingerprintStore fingerprintStore = new InMemoryFileFingerprintStore();
+
+        StreamingFileSystemDocumentLoader loader = StreamingFileSystemDocumentLoader.builder()
+                .documentParser(new TextDocumentParser())
+                .fingerprintStore(fingerprintStore)
+                .maxDocumentsInFlight(5)
+                .build();
+
+        String first;
+        try (Stream<Document> documents = loader.load(directory)) {
+            first = documents.findFirst().orElseThrow().text();
+        }
+        assertThat(fingerprintStore.size()).isEqualTo(1);
+
+        try (Stream<Document> documents = loader.load(directory)) {
+            assertThat(documents.map(Document::text)).hasSize(4).doesNotContain(first);
+        }
+    }
+
+    @Test
+    void should_skip_touched_but_unmodified_files_when_hashing_content() throws IOException {
+        Path a = write("a.txt", "first");
+        InMemoryFileFingerprintStore fingerprintStore = new InMemoryFileFingerprintStore();
+
+        StreamingFileSystemDocumentLoader loader = StreamingFileSystemDocumentLoader.builder()
+                .documentParser(new TextDocumentParser())
+                .fingerprintStore(fingerprintStore)
+                .hashContent(true)
+                .build();
+
+        try (Stream<Document> documents = loader.load(directory)) {
+            assertThat(documents).hasSize(1);
+        }
+
+        Files.setLastModifiedTime(a, FileTime.fromMillis(Files.getLastModifiedTime(a).toMillis() + 60_000));
+
+        try (Stream<Document> documents = loader.load(directory)) {
+            assertThat(documents).isEmpty();
+        }
+    }
+
+    @Test
+    void should_restore_fingerprints_from_file() throws IOException {
+        Path a = write("a.txt", "first");
+        InMemoryFileFingerprintStore fingerprintStore = new InMemoryFileFingerprintStore();
+        StreamingFileSystemDocumentLoader loader = StreamingFileSystemDocumentLoader.builder()
+                .documentParser(new TextDocumentParser())
+                .fingerprintStore(fingerprintStore)
+                .hashContent(true)
+                .build();
+        try (Stream<Document> documents = loader.load(directory)) {
+            assertThat(documents).hasSize(1);
+        }
+        Path file = directory.resolveSibling(directory.getFileName() + "-fingerprints.tsv");
+
+        fingerprintStore.serializeToFile(file);
+        InMemoryFileFingerprintStore restored = InMemoryFileFingerprintStore.fromFile(file);
+
+        assertThat(restored.size()).isEqualTo(1);
+        assertThat(restored.get(a)).isEqualTo(fingerprintStore.get(a));
+        assertThat(restored.get(a).hash()).hasSize(64);
+    }
+
+    @Test
+    void should_fail_on_bad_directory() {
+        StreamingFileSystemDocumentLoader loader =
+                StreamingFileSystemDocumentLoader.builder().build();
+
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> loader.load(Paths.get("bad_directory")))
+                .withMessageContaining("'bad_directory' is not a directory");
+    }
+
+    private Path write(String relativePath, String content) throws IOException {
+        Path file = directory.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        return Files.writeString(file, content);
+    }
+}
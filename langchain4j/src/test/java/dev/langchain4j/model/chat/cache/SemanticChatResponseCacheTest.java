@@ -0,0 +1,95 @@
+package dev.langchain4j.model.chat.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.SystemMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.model.chat.mock.ChatModelMock;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.embedding.EmbeddingModel;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.store.embedding.inmemory.InMemoryEmbeddingStore;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class SemanticChatResponseCacheTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final InMemoryEmbeddingStore<TextSegment> embeddingStore = new InMemoryEmbeddingStore<>();
+    private final CachingChatModel model = new CachingChatModel(
+            new ChatModelMock(request -> AiMessage.from("answer " + calls.incrementAndGet())),
+            ChatResponseCache.builder()
+                    .embeddingModel(new LetterFrequencyEmbeddingModel())
+                    .embeddingStore(embeddingStore)
+                    .minScore(0.99)
+                    .build());
+
+    @Test
+    void should_serve_near_duplicate_question_from_cache() {
+
+        String first = model.chat("How do I reset my password?");
+        String second = model.chat("how do I reset my password");
+        String other = model.chat("Where can I download my invoices?");
+
+        assertThat(first).isEqualTo("answer 1");
+        assertThat(second).isEqualTo("answer 1");
+        assertThat(other).isEqualTo("answer 2");
+    }
+
+    @Test
+    void should_not_share_responses_between_different_system_messages() {
+
+        model.chat(ChatRequest.builder()
+                .messages(SystemMessage.from("Answer in English"), UserMessage.from("How do I reset my password?"))
+                .build());
+        String french = model.chat(ChatRequest.builder()
+                        .messages(SystemMessage.from("Answer in French"), UserMessage.from("How do I reset my password?"))
+                        .build())
+                .aiMessage()
+                .text();
+
+        assertThat(french).isEqualTo("answer 2");
+    }
+
+    @Test
+    void should_remove_evicted_questions_from_embedding_store() {
+        CachingChatModel model = new CachingChatModel(
+                new ChatModelMock(request -> AiMessage.from("answer")),
+                ChatResponseCache.builder()
+                        .embeddingModel(new LetterFrequencyEmbeddingModel())
+                        .embeddingStore(embeddingStore)
+                        .maxSize(1)
+                        .build());
+
+        model.chat("How do I reset my password?");
+        model.chat("Where can I download my invoices?");
+
+        assertThat(embeddingStore.serializeToJson()).doesNotContain("password").contains("invoices");
+    }
+
+    /**
+     * Embeds a text as the frequencies of its letters, ignoring case and punctuation.
+     */
+    private static class LetterFrequencyEmbeddingModel implements EmbeddingModel {
+
+        @Override
+        public Response<List<Embedding>> embedAll(List<TextSegment> textSegments) {
+            return Response.from(textSegments.stream()
+                    .map(segment -> {
+                        float[] vector = new float[26];
+                        for (char c : segment.text().toLowerCase(Locale.ROOT).toCharArray()) {
+                            if (c >= 'a' && c <= 'z') {
+                                vector[c - 'a']++;
+                            }
+                        }
+                        return Embedding.from(vector);
+                    })
+                    .toList());
+        }
+    }
+}